@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.aop.framework;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.aop.support.DefaultPointcutAdvisor;
+import infra.aop.support.NameMatchMethodPointcut;
+
+/**
+ * Per-call cost of JDK dynamic and CGLIB proxies with one method-specific
+ * interceptor, for advised and unadvised methods, with a frozen or a
+ * mutable configuration.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AopProxyInvocationBenchmark {
+
+  @Param({ "jdk", "cglib" })
+  public String proxyType;
+
+  @Param({ "true", "false" })
+  public boolean frozen;
+
+  private OrderService proxy;
+
+  private OrderService target;
+
+  @Setup
+  public void setup() {
+    target = new DefaultOrderService();
+
+    NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
+    pointcut.setMappedName("placeOrder");
+    MethodInterceptor interceptor = invocation -> invocation.proceed();
+
+    ProxyFactory factory = new ProxyFactory(target);
+    factory.setInterfaces(OrderService.class);
+    factory.setProxyTargetClass("cglib".equals(proxyType));
+    factory.addAdvisor(new DefaultPointcutAdvisor(pointcut, interceptor));
+    factory.setFrozen(frozen);
+    proxy = (OrderService) factory.getProxy();
+  }
+
+  @Benchmark
+  public void advised(Blackhole bh) {
+    bh.consume(proxy.placeOrder("sku-42", 3));
+  }
+
+  @Benchmark
+  public void unadvised(Blackhole bh) {
+    bh.consume(proxy.findOrder(42L));
+  }
+
+  @Benchmark
+  public void direct(Blackhole bh) {
+    bh.consume(target.placeOrder("sku-42", 3));
+  }
+
+  public interface OrderService {
+
+    long placeOrder(String sku, int quantity);
+
+    String findOrder(long id);
+  }
+
+  public static class DefaultOrderService implements OrderService {
+
+    @Override
+    public long placeOrder(String sku, int quantity) {
+      return sku.length() * 31L + quantity;
+    }
+
+    @Override
+    public String findOrder(long id) {
+      return "order";
+    }
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.aop.framework.autoproxy;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.aop.Advisor;
+import infra.aop.support.DefaultPointcutAdvisor;
+import infra.aop.support.NameMatchMethodPointcut;
+import infra.beans.factory.support.RootBeanDefinition;
+import infra.beans.factory.support.StandardBeanFactory;
+
+/**
+ * Startup cost of auto-proxying 2,000 beans of a handful of classes against
+ * 50 advisors, with and without caching of advisor match results.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class AdvisorAutoProxyCreatorBenchmark {
+
+  private static final int BEAN_COUNT = 2000;
+
+  private static final int ADVISOR_COUNT = 50;
+
+  private static final Class<?>[] BEAN_CLASSES = {
+          OrderService.class, CustomerService.class, InventoryService.class, ReportService.class
+  };
+
+  @Param({ "true", "false" })
+  public boolean cacheAdvisorMatches;
+
+  private Advisor[] advisors;
+
+  @Setup
+  public void setup() {
+    MethodInterceptor interceptor = invocation -> invocation.proceed();
+    advisors = new Advisor[ADVISOR_COUNT];
+    for (int i = 0; i < ADVISOR_COUNT; i++) {
+      NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
+      // one advisor applies to OrderService, all others have to scan every method
+      pointcut.setMappedName(i == 0 ? "placeOrder" : "audit" + i);
+      advisors[i] = new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+  }
+
+  @Benchmark
+  public void startup(Blackhole bh) {
+    StandardBeanFactory beanFactory = new StandardBeanFactory();
+    DefaultAdvisorAutoProxyCreator creator = new DefaultAdvisorAutoProxyCreator();
+    creator.setCacheAdvisorMatches(cacheAdvisorMatches);
+    creator.setBeanFactory(beanFactory);
+    beanFactory.addBeanPostProcessor(creator);
+
+    for (int i = 0; i < ADVISOR_COUNT; i++) {
+      beanFactory.registerSingleton("advisor" + i, advisors[i]);
+    }
+    for (int i = 0; i < BEAN_COUNT; i++) {
+      beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(BEAN_CLASSES[i % BEAN_CLASSES.length]));
+    }
+    beanFactory.preInstantiateSingletons();
+    bh.consume(beanFactory.getBean("bean0"));
+  }
+
+  public static class BaseService {
+
+    public String describe() {
+      return getClass().getSimpleName();
+    }
+
+    public void refresh() {
+    }
+
+    public boolean isAvailable() {
+      return true;
+    }
+  }
+
+  public static class OrderService extends BaseService {
+
+    public long placeOrder(String sku, int quantity) {
+      return sku.length() * 31L + quantity;
+    }
+
+    public void cancelOrder(long id) {
+    }
+  }
+
+  public static class CustomerService extends BaseService {
+
+    public String findCustomer(long id) {
+      return "customer";
+    }
+
+    public void updateCustomer(long id, String name) {
+    }
+  }
+
+  public static class InventoryService extends BaseService {
+
+    public int stockLevel(String sku) {
+      return sku.length();
+    }
+
+    public void reserve(String sku, int quantity) {
+    }
+  }
+
+  public static class ReportService extends BaseService {
+
+    public String dailyReport() {
+      return "report";
+    }
+
+    public String monthlyReport(int month) {
+      return "report-" + month;
+    }
+  }
+
+}
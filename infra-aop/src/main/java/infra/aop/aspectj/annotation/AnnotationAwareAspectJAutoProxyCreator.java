@@ -99,6 +99,12 @@ public class AnnotationAwareAspectJAutoProxyCreator extends AspectJAwareAdvisorA
     return advisors;
   }
 
+  @Override
+  protected boolean isSingletonAdvisor(Advisor advisor) {
+    return super.isSingletonAdvisor(advisor)
+            || (aspectJAdvisorsBuilder != null && aspectJAdvisorsBuilder.isSingletonAdvisor(advisor));
+  }
+
   @Override
   protected boolean isInfrastructureClass(Class<?> beanClass) {
     // Previously we setProxyTargetClass(true) in the constructor, but that has too
@@ -23,8 +23,10 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import infra.aop.Advisor;
@@ -59,6 +61,8 @@ public class BeanFactoryAspectJAdvisorsBuilder {
 
   private final Map<String, MetadataAwareAspectInstanceFactory> aspectFactoryCache = new ConcurrentHashMap<>();
 
+  private final Set<Advisor> singletonAdvisors = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
   /**
    * Create a new BeanFactoryAspectJAdvisorsBuilder for the given BeanFactory.
    *
@@ -120,6 +124,7 @@ public class BeanFactoryAspectJAdvisorsBuilder {
                   List<Advisor> classAdvisors = this.advisorFactory.getAdvisors(factory);
                   if (this.beanFactory.isSingleton(beanName)) {
                     this.advisorsCache.put(beanName, classAdvisors);
+                    this.singletonAdvisors.addAll(classAdvisors);
                   }
                   else {
                     this.aspectFactoryCache.put(beanName, factory);
@@ -169,6 +174,18 @@ public class BeanFactoryAspectJAdvisorsBuilder {
     return advisors;
   }
 
+  /**
+   * Determine whether the given Advisor was built for a singleton aspect
+   * bean, and is therefore returned again by subsequent builds.
+   *
+   * @param advisor the Advisor to check
+   * @return whether the Advisor belongs to a singleton aspect
+   * @since 5.0
+   */
+  public boolean isSingletonAdvisor(Advisor advisor) {
+    return this.singletonAdvisors.contains(advisor);
+  }
+
   /**
    * Return whether the aspect bean with the given name is eligible.
    *
@@ -111,9 +111,13 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
    */
   ArrayList<Advisor> advisorKey = this.advisors;
 
-  /** Cache with Method as key and advisor chain List as value. */
+  /**
+   * Cache with Method as key and advisor chain as value. Proxies pass the
+   * same Method instance on every call, so lookups hit the identity check
+   * of the map and need no key allocation.
+   */
   @Nullable
-  private transient ConcurrentHashMap<MethodCacheKey, MethodInterceptor[]> methodCache;
+  private transient ConcurrentHashMap<Method, MethodInterceptor[]> methodCache;
 
   /**
    * Cache with shared interceptors which are not method-specific.
@@ -536,6 +540,7 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
    * @see RuntimeMethodInterceptor
    */
   public MethodInterceptor[] getInterceptors(Method method, @Nullable Class<?> targetClass) {
+    ConcurrentHashMap<Method, MethodInterceptor[]> methodCache = this.methodCache;
     if (methodCache == null) {
       // Shared cache since there are no method-specific advisors (see below).
       MethodInterceptor[] cachedInterceptors = this.cachedInterceptors;
@@ -546,14 +551,13 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
       return cachedInterceptors;
     }
 
-    MethodCacheKey cacheKey = new MethodCacheKey(method);
-    MethodInterceptor[] cached = methodCache.get(cacheKey);
+    MethodInterceptor[] cached = methodCache.get(method);
     if (cached == null) {
       synchronized(this) {
-        cached = methodCache.get(cacheKey);
+        cached = methodCache.get(method);
         if (cached == null) {
           cached = interceptorChainFactory.getInterceptors(this, method, targetClass);
-          methodCache.putIfAbsent(cacheKey, cached);
+          methodCache.putIfAbsent(method, cached);
         }
       }
     }
@@ -673,47 +677,6 @@ public class AdvisedSupport extends ProxyConfig implements Advised {
     return sb.toString();
   }
 
-  /**
-   * Simple wrapper class around a Method. Used as the key when
-   * caching methods, for efficient equals and hashCode comparisons.
-   */
-  static final class MethodCacheKey implements Comparable<MethodCacheKey> {
-
-    private final int hashCode;
-
-    private final Method method;
-
-    public MethodCacheKey(Method method) {
-      this.method = method;
-      this.hashCode = method.hashCode();
-    }
-
-    @Override
-    public boolean equals(Object other) {
-      return (this == other || (other instanceof MethodCacheKey that &&
-              (this.method == that.method || this.method.equals(that.method))));
-    }
-
-    @Override
-    public int hashCode() {
-      return this.hashCode;
-    }
-
-    @Override
-    public String toString() {
-      return this.method.toString();
-    }
-
-    @Override
-    public int compareTo(MethodCacheKey other) {
-      int result = this.method.getName().compareTo(other.method.getName());
-      if (result == 0) {
-        result = this.method.toString().compareTo(other.method.toString());
-      }
-      return result;
-    }
-  }
-
   /**
    * Stub for an Advisor instance that is just needed for key purposes,
    * allowing for efficient equals and hashCode comparisons against the
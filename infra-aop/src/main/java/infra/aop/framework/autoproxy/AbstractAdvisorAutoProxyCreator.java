@@ -20,9 +20,12 @@ package infra.aop.framework.autoproxy;
 
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import infra.aop.Advisor;
+import infra.aop.IntroductionAdvisor;
 import infra.aop.TargetSource;
 import infra.aop.framework.AopConfigException;
 import infra.aop.support.AopUtils;
@@ -33,6 +36,7 @@ import infra.core.Ordered;
 import infra.core.annotation.AnnotationAwareOrderComparator;
 import infra.core.annotation.Order;
 import infra.util.Assert;
+import infra.util.ConcurrentReferenceHashMap;
 
 /**
  * Generic auto proxy creator that builds AOP proxies for specific beans
@@ -51,6 +55,14 @@ import infra.util.Assert;
  * interface will be considered as unordered; they will appear at the end of the
  * advisor chain in an undefined order.
  *
+ * <p>Advisor match results are cached per bean class, so that beans sharing
+ * a class (including repeatedly created prototypes) do not evaluate every
+ * pointcut again. Results that depend on the name of the proxied bean, as
+ * obtained through {@link ProxyCreationContext#getCurrentProxiedBeanName()},
+ * are never cached, and neither are results for advisors that are not
+ * singletons, see {@link #isSingletonAdvisor}. Cached results are softly
+ * referenced, so they are reclaimed under memory pressure.
+ *
  * @author Rod Johnson
  * @author Juergen Hoeller
  * @author Harry Yang
@@ -63,6 +75,28 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
   @Nullable
   private BeanFactoryAdvisorRetriever advisorRetriever;
 
+  private boolean cacheAdvisorMatches = true;
+
+  /** Advisor match results per bean class, compared by Advisor identity. */
+  private final ConcurrentReferenceHashMap<Class<?>, IdentityHashMap<Advisor, Boolean>> advisorMatchCache =
+          new ConcurrentReferenceHashMap<>(256);
+
+  /**
+   * Set whether to cache the result of matching each candidate Advisor
+   * against a bean class. Default is "true".
+   * <p>Switch this off when custom pointcuts depend on state other than the
+   * bean class and the proxied bean name, and may therefore match differently
+   * for two beans of the same class.
+   *
+   * @since 5.0
+   */
+  public void setCacheAdvisorMatches(boolean cacheAdvisorMatches) {
+    this.cacheAdvisorMatches = cacheAdvisorMatches;
+    if (!cacheAdvisorMatches) {
+      this.advisorMatchCache.clear();
+    }
+  }
+
   @Override
   public void setBeanFactory(BeanFactory beanFactory) {
     super.setBeanFactory(beanFactory);
@@ -140,13 +174,83 @@ public abstract class AbstractAdvisorAutoProxyCreator extends AbstractAutoProxyC
 
     ProxyCreationContext.setCurrentProxiedBeanName(beanName);
     try {
-      return AopUtils.filterAdvisors(candidateAdvisors, beanClass);
+      if (!this.cacheAdvisorMatches) {
+        return AopUtils.filterAdvisors(candidateAdvisors, beanClass);
+      }
+      return filterAdvisors(candidateAdvisors, beanClass);
     }
     finally {
       ProxyCreationContext.setCurrentProxiedBeanName(null);
     }
   }
 
+  /**
+   * Variant of {@link AopUtils#filterAdvisors} that goes through the
+   * advisor match cache.
+   */
+  private List<Advisor> filterAdvisors(List<Advisor> candidateAdvisors, Class<?> beanClass) {
+    if (candidateAdvisors.isEmpty()) {
+      return candidateAdvisors;
+    }
+    IdentityHashMap<Advisor, Boolean> matches =
+            this.advisorMatchCache.computeIfAbsent(beanClass, key -> new IdentityHashMap<>());
+    ArrayList<Advisor> eligibleAdvisors = new ArrayList<>();
+    for (Advisor candidate : candidateAdvisors) {
+      if (candidate instanceof IntroductionAdvisor && canApply(matches, candidate, beanClass)) {
+        eligibleAdvisors.add(candidate);
+      }
+    }
+    boolean hasIntroductions = !eligibleAdvisors.isEmpty();
+    for (Advisor candidate : candidateAdvisors) {
+      if (candidate instanceof IntroductionAdvisor) {
+        // already processed
+        continue;
+      }
+      if (hasIntroductions
+              ? AopUtils.canApply(candidate, beanClass, true)
+              : canApply(matches, candidate, beanClass)) {
+        eligibleAdvisors.add(candidate);
+      }
+    }
+    return eligibleAdvisors;
+  }
+
+  private boolean canApply(IdentityHashMap<Advisor, Boolean> matches, Advisor candidate, Class<?> beanClass) {
+    if (!isSingletonAdvisor(candidate)) {
+      return AopUtils.canApply(candidate, beanClass, false);
+    }
+    Boolean cached;
+    synchronized(matches) {
+      cached = matches.get(candidate);
+    }
+    if (cached != null) {
+      return cached;
+    }
+    ProxyCreationContext.resetCurrentProxiedBeanNameAccess();
+    boolean canApply = AopUtils.canApply(candidate, beanClass, false);
+    if (!ProxyCreationContext.resetCurrentProxiedBeanNameAccess()) {
+      synchronized(matches) {
+        matches.put(candidate, canApply);
+      }
+    }
+    return canApply;
+  }
+
+  /**
+   * Return whether the given candidate Advisor keeps its identity across
+   * calls to {@link #findCandidateAdvisors()}, so that its match results
+   * may be cached per bean class.
+   * <p>The default implementation accepts Advisors retrieved from singleton
+   * beans. Subclasses that contribute further candidates may override this.
+   *
+   * @param advisor the candidate Advisor
+   * @return whether the Advisor is a singleton
+   * @since 5.0
+   */
+  protected boolean isSingletonAdvisor(Advisor advisor) {
+    return this.advisorRetriever != null && this.advisorRetriever.isSingletonAdvisor(advisor);
+  }
+
   /**
    * Return whether the Advisor bean with the given name is eligible
    * for proxying in the first place.
@@ -21,7 +21,10 @@ package infra.aop.framework.autoproxy;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import infra.aop.Advisor;
 import infra.beans.factory.BeanCreationException;
@@ -49,6 +52,8 @@ public class BeanFactoryAdvisorRetriever {
 
   private volatile String @Nullable [] cachedAdvisorBeanNames;
 
+  private final Set<Advisor> singletonAdvisors = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
   /**
    * Create a new BeanFactoryAdvisorRetrievalHelper for the given BeanFactory.
    *
@@ -90,7 +95,11 @@ public class BeanFactoryAdvisorRetriever {
         }
         else {
           try {
-            advisors.add(beanFactory.getBean(name, Advisor.class));
+            Advisor advisor = beanFactory.getBean(name, Advisor.class);
+            if (beanFactory.isSingleton(name)) {
+              singletonAdvisors.add(advisor);
+            }
+            advisors.add(advisor);
           }
           catch (BeanCreationException ex) {
             Throwable rootCause = ex.getMostSpecificCause();
@@ -114,6 +123,18 @@ public class BeanFactoryAdvisorRetriever {
     return advisors;
   }
 
+  /**
+   * Determine whether the given Advisor was retrieved from a singleton bean,
+   * and is therefore returned again by subsequent retrievals.
+   *
+   * @param advisor the Advisor to check
+   * @return whether the Advisor is a singleton bean
+   * @since 5.0
+   */
+  public boolean isSingletonAdvisor(Advisor advisor) {
+    return singletonAdvisors.contains(advisor);
+  }
+
   /**
    * Determine whether the aspect bean with the given name is eligible.
    * <p>The default implementation always returns {@code true}.
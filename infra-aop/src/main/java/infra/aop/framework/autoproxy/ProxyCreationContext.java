@@ -33,9 +33,9 @@ import infra.core.NamedThreadLocal;
  */
 public final class ProxyCreationContext {
 
-  /** ThreadLocal holding the current proxied bean name during Advisor matching. */
-  private static final ThreadLocal<String> currentProxiedBeanName =
-          new NamedThreadLocal<>("Name of currently proxied bean");
+  /** ThreadLocal holding the current proxied bean during Advisor matching. */
+  private static final ThreadLocal<ProxiedBean> currentProxiedBean =
+          new NamedThreadLocal<>("Currently proxied bean");
 
   private ProxyCreationContext() { }
 
@@ -46,7 +46,12 @@ public final class ProxyCreationContext {
    */
   @Nullable
   public static String getCurrentProxiedBeanName() {
-    return currentProxiedBeanName.get();
+    ProxiedBean proxiedBean = currentProxiedBean.get();
+    if (proxiedBean != null) {
+      proxiedBean.nameAccessed = true;
+      return proxiedBean.name;
+    }
+    return null;
   }
 
   /**
@@ -56,10 +61,39 @@ public final class ProxyCreationContext {
    */
   static void setCurrentProxiedBeanName(@Nullable String beanName) {
     if (beanName != null) {
-      currentProxiedBeanName.set(beanName);
+      currentProxiedBean.set(new ProxiedBean(beanName));
     }
     else {
-      currentProxiedBeanName.remove();
+      currentProxiedBean.remove();
+    }
+  }
+
+  /**
+   * Reset the access tracking for the name of the currently proxied bean.
+   *
+   * @return {@code true} if the name has been accessed since the last reset,
+   * or if there is no proxied bean at all; {@code false} if a match result
+   * obtained in the meantime does not depend on the bean name
+   * @since 5.0
+   */
+  static boolean resetCurrentProxiedBeanNameAccess() {
+    ProxiedBean proxiedBean = currentProxiedBean.get();
+    if (proxiedBean == null) {
+      return true;
+    }
+    boolean accessed = proxiedBean.nameAccessed;
+    proxiedBean.nameAccessed = false;
+    return accessed;
+  }
+
+  private static final class ProxiedBean {
+
+    final String name;
+
+    boolean nameAccessed;
+
+    ProxiedBean(String name) {
+      this.name = name;
     }
   }
 
@@ -16,12 +16,15 @@
 
 package infra.aop.framework;
 
+import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.jupiter.api.Test;
 
 import infra.aop.Advisor;
 import infra.aop.DefaultInterceptorChainFactory;
 import infra.aop.DynamicIntroductionAdvice;
 import infra.aop.IntroductionAdvisor;
+import infra.aop.support.DefaultPointcutAdvisor;
+import infra.aop.support.NameMatchMethodPointcut;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -114,4 +117,23 @@ class AdvisedSupportTests {
 
   }
 
+  @Test
+  void interceptorsCachedPerMethod() throws Exception {
+    NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
+    pointcut.setMappedName("length");
+    MethodInterceptor interceptor = invocation -> invocation.proceed();
+
+    AdvisedSupport support = new AdvisedSupport(CharSequence.class);
+    support.addAdvisor(new DefaultPointcutAdvisor(pointcut, interceptor));
+
+    MethodInterceptor[] chain = support.getInterceptors(CharSequence.class.getMethod("length"), String.class);
+    assertThat(chain).containsExactly(interceptor);
+    // equal Method copies share the cached chain
+    assertThat(support.getInterceptors(CharSequence.class.getMethod("length"), String.class)).isSameAs(chain);
+    assertThat(support.getInterceptors(CharSequence.class.getMethod("isEmpty"), String.class)).isEmpty();
+
+    support.addAdvice(interceptor);
+    assertThat(support.getInterceptors(CharSequence.class.getMethod("length"), String.class)).hasSize(2);
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.cache.interceptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.cache.CacheManager;
+import infra.cache.annotation.Cacheable;
+import infra.cache.annotation.EnableCaching;
+import infra.cache.concurrent.ConcurrentMapCacheManager;
+import infra.context.annotation.AnnotationConfigApplicationContext;
+import infra.context.annotation.Bean;
+import infra.context.annotation.Configuration;
+
+/**
+ * Per-call cost of a cache hit on a {@code @Cacheable} method with a SpEL
+ * key expression. Run with {@code -prof gc} to see the allocation per call.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CacheKeyEvaluationBenchmark {
+
+  private AnnotationConfigApplicationContext context;
+
+  private UserService service;
+
+  private User user;
+
+  @Setup
+  public void setup() {
+    context = new AnnotationConfigApplicationContext(CacheConfig.class);
+    service = context.getBean(UserService.class);
+    user = new User(42L);
+    service.profile(user, "eu-west");
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void cacheHit(Blackhole bh) {
+    bh.consume(service.profile(user, "eu-west"));
+  }
+
+  @Configuration
+  @EnableCaching
+  static class CacheConfig {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new ConcurrentMapCacheManager("profiles");
+    }
+
+    @Bean
+    UserService userService() {
+      return new UserService();
+    }
+  }
+
+  public static class UserService {
+
+    @Cacheable(cacheNames = "profiles", key = "#user.id + ':' + #region")
+    public String profile(User user, String region) {
+      return "profile-" + user.getId() + "-" + region;
+    }
+  }
+
+  public static class User {
+
+    private final long id;
+
+    public User(long id) {
+      this.id = id;
+    }
+
+    public long getId() {
+      return this.id;
+    }
+  }
+
+}
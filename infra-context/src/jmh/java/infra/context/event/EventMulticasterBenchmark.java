@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import infra.context.ApplicationEvent;
+import infra.context.ApplicationListener;
+import infra.context.PayloadApplicationEvent;
+
+/**
+ * Throughput of publishing events to four asynchronous listeners, with one
+ * executor task per listener invocation or with per-listener queues.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EventMulticasterBenchmark {
+
+  private static final int EVENTS = 10_000;
+
+  private static final int LISTENERS = 4;
+
+  @Param({ "simple", "partitioned" })
+  public String multicasterType;
+
+  private ExecutorService executor;
+
+  private SimpleApplicationEventMulticaster multicaster;
+
+  private final AtomicLong delivered = new AtomicLong();
+
+  private long expected;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newFixedThreadPool(4);
+    multicaster = "partitioned".equals(multicasterType)
+            ? new PartitionedApplicationEventMulticaster()
+            : new SimpleApplicationEventMulticaster();
+    multicaster.setTaskExecutor(executor);
+    for (int i = 0; i < LISTENERS; i++) {
+      multicaster.addApplicationListener(new CountingListener());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void publish() {
+    for (int i = 0; i < EVENTS; i++) {
+      multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+    }
+    expected += (long) EVENTS * LISTENERS;
+    while (delivered.get() < expected) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private final class CountingListener implements ApplicationListener<ApplicationEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+      delivered.incrementAndGet();
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.support;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of 64 threads resolving the same message code, with the
+ * thread-safe templates created by default or with plain
+ * {@code MessageFormat} instances that have to be synchronized on.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(64)
+@State(Scope.Benchmark)
+public class MessageSourceBenchmark {
+
+  @Param({ "template", "synchronized" })
+  public String formatType;
+
+  private StaticMessageSource messageSource;
+
+  private final Object[] args = { "name", 3 };
+
+  @Setup
+  public void setup() {
+    messageSource = "synchronized".equals(formatType) ? new PlainMessageFormatSource() : new StaticMessageSource();
+    messageSource.addMessage("field.invalid", Locale.US, "Field ''{0}'' must not exceed {1} characters");
+    messageSource.addMessage("field.count", Locale.US, "{1,choice,0#no errors|1#one error|1<{1,number,integer} errors} in {0}");
+  }
+
+  @Benchmark
+  public String simplePlaceholders() {
+    return messageSource.getMessage("field.invalid", args, Locale.US);
+  }
+
+  @Benchmark
+  public String choiceFormat() {
+    return messageSource.getMessage("field.count", args, Locale.US);
+  }
+
+  static class PlainMessageFormatSource extends StaticMessageSource {
+
+    @Override
+    protected MessageFormat createMessageFormat(String msg, @Nullable Locale locale) {
+      return new MessageFormat(msg, locale);
+    }
+  }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.scheduling.support;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of calculating the next fire time over a corpus of typical
+ * expressions, with the precomputed tables and field by field.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CronExpressionBenchmark {
+
+  private static final String[] CORPUS = {
+          "0 * * * * *",
+          "0 */5 * * * *",
+          "0 0 * * * *",
+          "0 0 */6 * * *",
+          "0 30 2 * * *",
+          "0 0 9 * * MON-FRI",
+          "0 */15 9-17 * * MON-FRI",
+          "0 0 0 * * SUN",
+          "0 0 0 1 * *",
+          "0 0 12 1,15 * *",
+          "0 0 0 1 1,4,7,10 *",
+          "0 0 0 13 * FRI",
+  };
+
+  private CronExpression[] expressions;
+
+  private LocalDateTime localSeed;
+
+  private ZonedDateTime zonedSeed;
+
+  @Setup
+  public void setup() {
+    expressions = new CronExpression[CORPUS.length];
+    for (int i = 0; i < CORPUS.length; i++) {
+      expressions[i] = CronExpression.parse(CORPUS[i]);
+    }
+    localSeed = LocalDateTime.of(2024, 5, 17, 13, 42, 7);
+    zonedSeed = localSeed.atZone(ZoneId.of("Europe/Berlin"));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(12)
+  public void nextLocal(Blackhole bh) {
+    for (CronExpression expression : expressions) {
+      bh.consume(expression.next(localSeed));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(12)
+  public void nextLocalByFields(Blackhole bh) {
+    for (CronExpression expression : expressions) {
+      bh.consume(expression.nextByFields(localSeed));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(12)
+  public void nextZoned(Blackhole bh) {
+    for (CronExpression expression : expressions) {
+      bh.consume(expression.next(zonedSeed));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(12)
+  public void nextZonedByFields(Blackhole bh) {
+    for (CronExpression expression : expressions) {
+      bh.consume(expression.nextByFields(zonedSeed));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(12)
+  public void next100(Blackhole bh) {
+    for (CronExpression expression : expressions) {
+      bh.consume(expression.next(zonedSeed, 100));
+    }
+  }
+
+}
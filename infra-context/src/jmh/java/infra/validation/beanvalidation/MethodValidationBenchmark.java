@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.validation.beanvalidation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.aop.framework.ProxyFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Per-call cost of {@link MethodValidationInterceptor} on a validated
+ * service, for a method without constraints and for one with constraints
+ * that pass. Run with {@code -prof gc} to see the allocation per call.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MethodValidationBenchmark {
+
+  private AccountService service;
+
+  @Setup
+  public void setup() {
+    ProxyFactory factory = new ProxyFactory(new DefaultAccountService());
+    factory.addAdvice(new MethodValidationInterceptor());
+    service = (AccountService) factory.getProxy();
+  }
+
+  @Benchmark
+  public void withoutConstraints(Blackhole bh) {
+    bh.consume(service.balance(42L));
+  }
+
+  @Benchmark
+  public void withConstraints(Blackhole bh) {
+    bh.consume(service.rename(42L, "savings"));
+  }
+
+  public interface AccountService {
+
+    long balance(long id);
+
+    String rename(@Min(1) long id, @NotBlank String name);
+  }
+
+  static class DefaultAccountService implements AccountService {
+
+    @Override
+    public long balance(long id) {
+      return id * 100;
+    }
+
+    @Override
+    public String rename(long id, String name) {
+      return id + ":" + name;
+    }
+  }
+
+}
@@ -48,7 +48,7 @@ import infra.expression.spel.support.StandardEvaluationContext;
  */
 final class CacheEvaluationContext extends MethodBasedEvaluationContext {
 
-  private final HashSet<String> unavailableVariables = new HashSet<>(1);
+  private @Nullable HashSet<String> unavailableVariables;
 
   CacheEvaluationContext(@Nullable Object rootObject, Method method, @Nullable Object @Nullable [] arguments,
           ParameterNameDiscoverer parameterNameDiscoverer, StandardEvaluationContext shared) {
@@ -64,7 +64,12 @@ final class CacheEvaluationContext extends MethodBasedEvaluationContext {
    * trying to use that variable should therefore fail to evaluate.
    */
   public void addUnavailableVariable(String name) {
-    this.unavailableVariables.add(name);
+    HashSet<String> unavailableVariables = this.unavailableVariables;
+    if (unavailableVariables == null) {
+      unavailableVariables = new HashSet<>(1);
+      this.unavailableVariables = unavailableVariables;
+    }
+    unavailableVariables.add(name);
   }
 
   /**
@@ -73,7 +78,8 @@ final class CacheEvaluationContext extends MethodBasedEvaluationContext {
   @Override
   @Nullable
   public Object lookupVariable(String name) {
-    if (this.unavailableVariables.contains(name)) {
+    HashSet<String> unavailableVariables = this.unavailableVariables;
+    if (unavailableVariables != null && unavailableVariables.contains(name)) {
       throw new VariableNotAvailableException(name);
     }
     return super.lookupVariable(name);
@@ -156,6 +156,9 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
   protected void init(ApplicationContext context, @Nullable EventExpressionEvaluator evaluator) {
     this.context = context;
     this.evaluator = evaluator;
+    if (evaluator != null && condition != null) {
+      evaluator.parseCondition(condition, methodKey);
+    }
   }
 
   private static List<ResolvableType> resolveDeclaredEventTypes(Method method, @Nullable MergedAnnotation<EventListener> ann) {
@@ -47,6 +47,17 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
     this.shared = shared;
   }
 
+  /**
+   * Parse the specified condition expression ahead of its first evaluation,
+   * so that the first matching event does not pay for it and invalid
+   * expressions are reported when the listener is registered.
+   *
+   * @since 5.0
+   */
+  public void parseCondition(String conditionExpression, AnnotatedElementKey methodKey) {
+    getExpression(conditionCache, methodKey, conditionExpression);
+  }
+
   /**
    * Determine if the condition defined by the specified expression evaluates
    * to {@code true}.
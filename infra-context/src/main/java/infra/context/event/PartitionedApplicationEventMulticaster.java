@@ -0,0 +1,381 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.event;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import infra.beans.factory.BeanFactory;
+import infra.context.ApplicationEvent;
+import infra.context.ApplicationListener;
+import infra.core.ResolvableType;
+import infra.logging.Logger;
+import infra.logging.LoggerFactory;
+import infra.util.Assert;
+
+/**
+ * {@link ApplicationEventMulticaster} that delivers events asynchronously
+ * through a bounded queue per listener, preserving the publication order
+ * for each listener.
+ *
+ * <p>In contrast to {@link SimpleApplicationEventMulticaster} with a task
+ * executor, which submits every listener invocation as a separate task, each
+ * listener is served by at most one task at a time per partition. That task
+ * drains up to {@link #setBatchSize batch size} queued events before giving
+ * the thread back to the executor, so slow listeners process events in
+ * batches and do not fan out over the whole pool.
+ *
+ * <p>By default, all events for a listener are delivered in order. With
+ * {@link #setPartitions partitions} and a {@link #setPartitionKeyExtractor
+ * partition key extractor}, events for the same listener are spread over
+ * several queues, and only events with the same key keep their order.
+ *
+ * <p>When a listener falls {@link #setCapacity capacity} events behind, the
+ * {@link OverflowPolicy} returned by {@link #determineOverflowPolicy} decides
+ * whether the publisher blocks, the event is dropped, or the listener is
+ * invoked in the publishing thread.
+ *
+ * <p>Listeners which do not {@link ApplicationListener#supportsAsyncExecution()
+ * support asynchronous execution}, as well as all listeners if no task executor
+ * has been set, are invoked in the publishing thread.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see #setTaskExecutor
+ * @since 5.0
+ */
+public class PartitionedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+  private static final Logger log = LoggerFactory.getLogger(PartitionedApplicationEventMulticaster.class);
+
+  private int partitions = 1;
+
+  private int capacity = 1024;
+
+  private int batchSize = 64;
+
+  private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+  @Nullable
+  private Function<ApplicationEvent, @Nullable Object> partitionKeyExtractor;
+
+  private final ConcurrentHashMap<ApplicationListener<?>, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new PartitionedApplicationEventMulticaster.
+   */
+  public PartitionedApplicationEventMulticaster() {
+  }
+
+  /**
+   * Create a new PartitionedApplicationEventMulticaster for the given BeanFactory.
+   */
+  public PartitionedApplicationEventMulticaster(BeanFactory beanFactory) {
+    super(beanFactory);
+  }
+
+  /**
+   * Set the number of queues per listener. Default is 1.
+   * <p>Only takes effect together with a
+   * {@link #setPartitionKeyExtractor partition key extractor}.
+   */
+  public void setPartitions(int partitions) {
+    Assert.isTrue(partitions > 0, "'partitions' must be positive");
+    this.partitions = partitions;
+  }
+
+  /**
+   * Set the function that determines the partition key of an event.
+   * Events with equal keys are delivered to each listener in order.
+   * <p>Default is none, delivering all events in order.
+   */
+  public void setPartitionKeyExtractor(@Nullable Function<ApplicationEvent, @Nullable Object> partitionKeyExtractor) {
+    this.partitionKeyExtractor = partitionKeyExtractor;
+  }
+
+  /**
+   * Set the maximum number of undelivered events per listener,
+   * across all of its partitions. Default is 1024.
+   */
+  public void setCapacity(int capacity) {
+    Assert.isTrue(capacity > 0, "'capacity' must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * Set the maximum number of events a single task delivers to a listener
+   * before releasing its thread. Default is 64.
+   */
+  public void setBatchSize(int batchSize) {
+    Assert.isTrue(batchSize > 0, "'batchSize' must be positive");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Set the default policy for listeners that have reached their capacity.
+   * Default is {@link OverflowPolicy#BLOCK}.
+   * <p>With {@code BLOCK}, a listener that publishes events to itself would
+   * wait for its own queue to drain, which never happens. Such events are
+   * therefore delivered in the publishing thread, as with
+   * {@link OverflowPolicy#CALLER_RUNS}. Listeners that publish to each other
+   * in a cycle may still block each other forever; use {@code DROP} or
+   * {@code CALLER_RUNS} for them.
+   *
+   * @see #determineOverflowPolicy
+   */
+  public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    Assert.notNull(overflowPolicy, "OverflowPolicy is required");
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Return the number of events accepted for the given listener that
+   * have not been delivered yet.
+   *
+   * @param listener the listener to check
+   */
+  public int getBacklog(ApplicationListener<?> listener) {
+    ListenerQueue queue = listenerQueues.get(listener);
+    return queue != null ? capacity - queue.permits.availablePermits() : 0;
+  }
+
+  /**
+   * Return the number of events dropped for the given listener because
+   * of {@link OverflowPolicy#DROP}.
+   *
+   * @param listener the listener to check
+   */
+  public long getDroppedCount(ApplicationListener<?> listener) {
+    ListenerQueue queue = listenerQueues.get(listener);
+    return queue != null ? queue.dropped.get() : 0;
+  }
+
+  @Override
+  public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+    Executor executor = taskExecutor;
+    if (executor == null) {
+      super.multicastEvent(event, eventType);
+      return;
+    }
+    if (eventType == null) {
+      eventType = ResolvableType.forInstance(event);
+    }
+    int partition = determinePartition(event);
+    for (ApplicationListener<?> listener : getApplicationListeners(event, eventType)) {
+      if (listener.supportsAsyncExecution()) {
+        listenerQueues.computeIfAbsent(listener, ListenerQueue::new)
+                .offer(event, partition, executor);
+      }
+      else {
+        invokeListener(listener, event);
+      }
+    }
+  }
+
+  /**
+   * Determine the policy for the given listener once it has reached its
+   * capacity. The default implementation returns the configured
+   * {@link #setOverflowPolicy overflow policy}.
+   *
+   * @param listener the listener that has fallen behind
+   */
+  protected OverflowPolicy determineOverflowPolicy(ApplicationListener<?> listener) {
+    return this.overflowPolicy;
+  }
+
+  @Override
+  public void removeApplicationListener(ApplicationListener<?> listener) {
+    super.removeApplicationListener(listener);
+    listenerQueues.remove(listener);
+  }
+
+  @Override
+  public void removeAllListeners() {
+    super.removeAllListeners();
+    listenerQueues.clear();
+  }
+
+  private int determinePartition(ApplicationEvent event) {
+    var extractor = this.partitionKeyExtractor;
+    if (extractor == null || partitions == 1) {
+      return 0;
+    }
+    Object key = extractor.apply(event);
+    return key != null ? Math.floorMod(key.hashCode(), partitions) : 0;
+  }
+
+  /**
+   * Policy for a listener that has reached its capacity.
+   */
+  public enum OverflowPolicy {
+
+    /**
+     * Block the publishing thread until the listener has caught up.
+     * Events a listener publishes to itself are delivered in the publishing
+     * thread instead.
+     */
+    BLOCK,
+
+    /**
+     * Drop the event for this listener.
+     */
+    DROP,
+
+    /**
+     * Invoke the listener in the publishing thread, which slows down the
+     * publisher; the event may overtake events still queued for the listener.
+     */
+    CALLER_RUNS
+  }
+
+  /**
+   * Queues of a single listener, sharing one capacity.
+   */
+  private final class ListenerQueue {
+
+    private final ApplicationListener<?> listener;
+
+    private final Partition[] partitions;
+
+    private final Semaphore permits;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final OverflowPolicy overflowPolicy;
+
+    ListenerQueue(ApplicationListener<?> listener) {
+      this.listener = listener;
+      this.permits = new Semaphore(capacity);
+      this.overflowPolicy = determineOverflowPolicy(listener);
+      this.partitions = new Partition[PartitionedApplicationEventMulticaster.this.partitions];
+      for (int i = 0; i < partitions.length; i++) {
+        partitions[i] = new Partition();
+      }
+    }
+
+    void offer(ApplicationEvent event, int partition, Executor executor) {
+      if (!permits.tryAcquire()) {
+        switch (overflowPolicy) {
+          case BLOCK -> {
+            if (isDrainingInCurrentThread()) {
+              // published from the listener itself, waiting for its own queue would deadlock
+              invokeListener(listener, event);
+              return;
+            }
+            permits.acquireUninterruptibly();
+          }
+          case DROP -> {
+            dropped.incrementAndGet();
+            return;
+          }
+          case CALLER_RUNS -> {
+            invokeListener(listener, event);
+            return;
+          }
+        }
+      }
+      Partition target = partitions[partition % partitions.length];
+      target.events.offer(event);
+      target.schedule(executor);
+    }
+
+    private boolean isDrainingInCurrentThread() {
+      Thread current = Thread.currentThread();
+      for (Partition partition : partitions) {
+        if (partition.drainer == current) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Serial lane of events, drained by at most one task at a time.
+     */
+    private final class Partition implements Runnable {
+
+      private final ConcurrentLinkedQueue<ApplicationEvent> events = new ConcurrentLinkedQueue<>();
+
+      private final AtomicBoolean scheduled = new AtomicBoolean();
+
+      @Nullable
+      private volatile Executor executor;
+
+      @Nullable
+      private volatile Thread drainer;
+
+      void schedule(Executor executor) {
+        while (scheduled.compareAndSet(false, true)) {
+          this.executor = executor;
+          try {
+            executor.execute(this);
+            return;
+          }
+          catch (RejectedExecutionException ex) {
+            // Probably on shutdown -> deliver locally instead, a batch at a time
+            drain();
+            if (events.isEmpty()) {
+              return;
+            }
+          }
+        }
+      }
+
+      @Override
+      public void run() {
+        drain();
+        Executor executor = this.executor;
+        if (executor != null && !events.isEmpty()) {
+          schedule(executor);
+        }
+      }
+
+      private void drain() {
+        drainer = Thread.currentThread();
+        try {
+          for (int i = 0; i < batchSize; i++) {
+            ApplicationEvent event = events.poll();
+            if (event == null) {
+              break;
+            }
+            try {
+              invokeListener(listener, event);
+            }
+            catch (Throwable ex) {
+              log.error("Unexpected error occurred invoking listener {} for event {}", listener, event, ex);
+            }
+            finally {
+              permits.release();
+            }
+          }
+        }
+        finally {
+          drainer = null;
+          scheduled.set(false);
+        }
+      }
+    }
+  }
+
+}
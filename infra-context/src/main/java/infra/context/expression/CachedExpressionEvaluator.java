@@ -24,6 +24,8 @@ import java.util.Map;
 
 import infra.core.ParameterNameDiscoverer;
 import infra.expression.Expression;
+import infra.expression.spel.SpelCompilerMode;
+import infra.expression.spel.SpelParserConfiguration;
 import infra.expression.spel.standard.SpelExpressionParser;
 import infra.util.Assert;
 
@@ -36,6 +38,14 @@ import infra.util.Assert;
  */
 public abstract class CachedExpressionEvaluator {
 
+  /**
+   * Annotation expressions are evaluated over and over with the same types,
+   * so they are compiled once warmed up, unless a compiler mode is configured
+   * explicitly.
+   */
+  private static final SpelExpressionParser defaultParser = new SpelExpressionParser(
+          new SpelParserConfiguration(SpelParserConfiguration.getConfiguredCompilerMode(SpelCompilerMode.MIXED), null));
+
   protected final SpelExpressionParser parser;
 
   /**
@@ -44,10 +54,11 @@ public abstract class CachedExpressionEvaluator {
   protected final ParameterNameDiscoverer parameterNameDiscoverer;
 
   /**
-   * Create a new instance with a default {@link SpelExpressionParser}.
+   * Create a new instance with a default {@link SpelExpressionParser}
+   * running in {@link SpelCompilerMode#MIXED mixed} compiler mode.
    */
   protected CachedExpressionEvaluator() {
-    this(SpelExpressionParser.INSTANCE);
+    this(defaultParser);
   }
 
   /**
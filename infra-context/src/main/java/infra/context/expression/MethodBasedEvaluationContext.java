@@ -27,6 +27,7 @@ import infra.core.ParameterNameDiscoverer;
 import infra.expression.EvaluationContext;
 import infra.expression.spel.support.StandardEvaluationContext;
 import infra.util.ObjectUtils;
+import infra.util.ReflectionUtils;
 
 /**
  * A method-based {@link EvaluationContext} that
@@ -46,12 +47,25 @@ import infra.util.ObjectUtils;
  */
 public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 
+  /** Whether a subclass still overrides the deprecated {@link #lazyLoadArguments()} hook. */
+  private static final ClassValue<Boolean> lazyLoadArgumentsOverridden = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      Method method = ReflectionUtils.findMethod(type, "lazyLoadArguments");
+      return method != null && method.getDeclaringClass() != MethodBasedEvaluationContext.class;
+    }
+  };
+
   private final Method method;
 
   private final @Nullable Object @Nullable [] arguments;
 
   private final ParameterNameDiscoverer parameterNameDiscoverer;
 
+  private @Nullable String @Nullable [] parameterNames;
+
+  private boolean parameterNamesDiscovered = false;
+
   private boolean argumentsLoaded = false;
 
   public MethodBasedEvaluationContext(@Nullable Object rootObject, Method method,
@@ -76,17 +90,76 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
     if (variable != null) {
       return variable;
     }
-    if (!this.argumentsLoaded) {
-      lazyLoadArguments();
+    if (!this.argumentsLoaded && lazyLoadArgumentsOverridden.get(getClass())) {
       this.argumentsLoaded = true;
+      lazyLoadArguments();
       variable = super.lookupVariable(name);
+      if (variable != null) {
+        return variable;
+      }
+    }
+    return resolveArgument(name);
+  }
+
+  /**
+   * Resolve the method argument exposed under the given name, if any.
+   * <p>Arguments are looked up by index on demand rather than copied into
+   * the variables of this context, so an evaluation that only refers to a
+   * few arguments does not pay for the others.
+   *
+   * @param name the variable name: {@code aX}, {@code pX} or a parameter name
+   * @return the argument value, or {@code null} if none
+   * @since 5.0
+   */
+  protected @Nullable Object resolveArgument(String name) {
+    // Shortcut if no args need to be resolved
+    if (ObjectUtils.isEmpty(this.arguments)) {
+      return null;
+    }
+
+    @Nullable String[] paramNames = null;
+    int index = parseIndexAlias(name);
+    if (index == -1) {
+      // Only discover parameter names if the variable is not an index alias
+      paramNames = getParameterNames();
+      if (paramNames == null) {
+        return null;
+      }
+      for (int i = 0; i < paramNames.length; i++) {
+        if (name.equals(paramNames[i])) {
+          index = i;
+          break;
+        }
+      }
+      if (index == -1) {
+        return null;
+      }
+    }
+
+    int paramCount = (paramNames != null ? paramNames.length : this.method.getParameterCount());
+    int argsCount = this.arguments.length;
+    if (index >= paramCount) {
+      return null;
+    }
+    if (argsCount > paramCount && index == paramCount - 1) {
+      // Expose remaining arguments as vararg array for last parameter
+      return Arrays.copyOfRange(this.arguments, index, argsCount);
+    }
+    if (argsCount > index) {
+      // Actual argument found - otherwise left as null
+      return this.arguments[index];
     }
-    return variable;
+    return null;
   }
 
   /**
    * Load the param information only when needed.
+   *
+   * @deprecated arguments are resolved on lookup through
+   * {@link #resolveArgument(String)}; this hook is only invoked for
+   * subclasses that override it
    */
+  @Deprecated(since = "5.0")
   protected void lazyLoadArguments() {
     // Shortcut if no args need to be loaded
     if (ObjectUtils.isEmpty(this.arguments)) {
@@ -94,20 +167,10 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
     }
 
     // Expose indexed variables as well as parameter names (if discoverable)
-    @Nullable String[] paramNames = this.parameterNameDiscoverer.getParameterNames(this.method);
+    @Nullable String[] paramNames = getParameterNames();
     int paramCount = (paramNames != null ? paramNames.length : this.method.getParameterCount());
-    int argsCount = this.arguments.length;
-
     for (int i = 0; i < paramCount; i++) {
-      Object value = null;
-      if (argsCount > paramCount && i == paramCount - 1) {
-        // Expose remaining arguments as vararg array for last parameter
-        value = Arrays.copyOfRange(this.arguments, i, argsCount);
-      }
-      else if (argsCount > i) {
-        // Actual argument found - otherwise left as null
-        value = this.arguments[i];
-      }
+      Object value = resolveArgument("a" + i);
       setVariable("a" + i, value);
       setVariable("p" + i, value);
       if (paramNames != null && paramNames[i] != null) {
@@ -116,4 +179,44 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
     }
   }
 
+  /**
+   * Discover the parameter names of the method once per context.
+   */
+  private @Nullable String @Nullable [] getParameterNames() {
+    if (!this.parameterNamesDiscovered) {
+      this.parameterNames = this.parameterNameDiscoverer.getParameterNames(this.method);
+      this.parameterNamesDiscovered = true;
+    }
+    return this.parameterNames;
+  }
+
+  /**
+   * Parse the index of an {@code aX} or {@code pX} alias.
+   *
+   * @return the index, or {@code -1} if the name is not such an alias
+   */
+  private static int parseIndexAlias(String name) {
+    int length = name.length();
+    if (length < 2 || length > 10) {
+      return -1;
+    }
+    char prefix = name.charAt(0);
+    if (prefix != 'a' && prefix != 'p') {
+      return -1;
+    }
+    if (name.charAt(1) == '0' && length > 2) {
+      // no leading zeros, same as "a" + index
+      return -1;
+    }
+    int index = 0;
+    for (int i = 1; i < length; i++) {
+      char c = name.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      index = index * 10 + (c - '0');
+    }
+    return index;
+  }
+
 }
@@ -240,9 +240,7 @@ public abstract class AbstractMessageSource extends MessageSourceSupport impleme
 
       MessageFormat messageFormat = resolveCode(code, locale);
       if (messageFormat != null) {
-        synchronized(messageFormat) {
-          return messageFormat.format(argsToUse);
-        }
+        return format(messageFormat, argsToUse);
       }
     }
 
@@ -387,9 +385,7 @@ public abstract class AbstractMessageSource extends MessageSourceSupport impleme
   protected String resolveCodeWithoutArguments(String code, Locale locale) {
     MessageFormat messageFormat = resolveCode(code, locale);
     if (messageFormat != null) {
-      synchronized(messageFormat) {
-        return messageFormat.format(new Object[0]);
-      }
+      return format(messageFormat, new Object[0]);
     }
     return null;
   }
@@ -141,8 +141,26 @@ public abstract class MessageSourceSupport {
     if (messageFormat == INVALID_MESSAGE_FORMAT) {
       return msg;
     }
+    return format(messageFormat, resolveArguments(args, locale));
+  }
+
+  /**
+   * Format the given arguments with the given {@code MessageFormat}.
+   * <p>Formats created by {@link #createMessageFormat} are thread-safe and
+   * render simple placeholders by string concatenation. Any other
+   * {@code MessageFormat} is synchronized on, since it may hold
+   * subformats that are not thread-safe.
+   *
+   * @param messageFormat the {@code MessageFormat} to apply
+   * @param args the resolved arguments
+   * @return the formatted message
+   */
+  protected String format(MessageFormat messageFormat, Object[] args) {
+    if (messageFormat instanceof MessageTemplate template) {
+      return template.render(args);
+    }
     synchronized(messageFormat) {
-      return messageFormat.format(resolveArguments(args, locale));
+      return messageFormat.format(args);
     }
   }
 
@@ -172,13 +190,15 @@ public abstract class MessageSourceSupport {
 
   /**
    * Create a {@code MessageFormat} for the given message and Locale.
+   * <p>The default implementation returns an immutable {@code MessageFormat}
+   * that may be shared between threads without locking.
    *
    * @param msg the message to create a {@code MessageFormat} for
    * @param locale the Locale to create a {@code MessageFormat} for
    * @return the {@code MessageFormat} instance
    */
   protected MessageFormat createMessageFormat(String msg, @Nullable Locale locale) {
-    return new MessageFormat(msg, locale);
+    return new MessageTemplate(msg, locale);
   }
 
   /**
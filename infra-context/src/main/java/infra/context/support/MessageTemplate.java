@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.support;
+
+import org.jspecify.annotations.Nullable;
+
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Immutable {@link MessageFormat} that {@link #render renders} messages for
+ * any number of threads without external synchronization.
+ *
+ * <p>A pattern that only contains plain argument placeholders such as
+ * {@code {0}} is compiled into literal segments and argument indexes, and
+ * rendered by string concatenation, applying the same argument conversion
+ * as {@code MessageFormat}. Patterns with number, date or choice subformats
+ * are formatted by {@code MessageFormat} instances taken from a small pool,
+ * since those subformats are not thread-safe.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see MessageSourceSupport#createMessageFormat
+ * @since 5.0
+ */
+@SuppressWarnings("serial")
+final class MessageTemplate extends MessageFormat {
+
+  private static final int POOL_SIZE = 16;
+
+  private final String pattern;
+
+  /**
+   * Literal segments around the argument placeholders, or {@code null}
+   * if the pattern is not compiled.
+   */
+  private final String @Nullable [] literals;
+
+  private final int @Nullable [] argumentIndexes;
+
+  /**
+   * Formats for patterns with subformats, or {@code null} if this
+   * instance can format by itself.
+   */
+  private final @Nullable ArrayBlockingQueue<MessageFormat> formats;
+
+  private final boolean initialized;
+
+  MessageTemplate(String pattern, @Nullable Locale locale) {
+    super(pattern, locale);
+    this.pattern = pattern;
+    if (hasSubformats()) {
+      this.literals = null;
+      this.argumentIndexes = null;
+      this.formats = new ArrayBlockingQueue<>(POOL_SIZE);
+    }
+    else {
+      ArrayList<String> literals = new ArrayList<>();
+      ArrayList<Integer> argumentIndexes = new ArrayList<>();
+      if (compile(toPattern(), literals, argumentIndexes)) {
+        this.literals = literals.toArray(new String[0]);
+        this.argumentIndexes = argumentIndexes.stream().mapToInt(Integer::intValue).toArray();
+      }
+      else {
+        this.literals = null;
+        this.argumentIndexes = null;
+      }
+      this.formats = null;
+    }
+    this.initialized = true;
+  }
+
+  /**
+   * Format the given arguments into a String. In contrast to the
+   * {@code format} methods inherited from {@code MessageFormat}, this
+   * method is safe to call concurrently for patterns with subformats.
+   *
+   * @param args the arguments to fill in for the placeholders
+   * @return the formatted message
+   */
+  String render(Object[] args) {
+    String[] literals = this.literals;
+    int[] argumentIndexes = this.argumentIndexes;
+    if (literals == null || argumentIndexes == null) {
+      var formats = this.formats;
+      if (formats == null) {
+        // no subformats: MessageFormat only reads its own state
+        return format(args);
+      }
+      MessageFormat format = acquire(formats);
+      try {
+        return format.format(args);
+      }
+      finally {
+        formats.offer(format);
+      }
+    }
+    if (argumentIndexes.length == 0) {
+      return literals[0];
+    }
+    StringBuilder result = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+    for (int i = 0; i < argumentIndexes.length; i++) {
+      result.append(literals[i]);
+      int index = argumentIndexes[i];
+      if (index < args.length) {
+        result.append(formatArgument(args[index]));
+      }
+      else {
+        result.append('{').append(index).append('}');
+      }
+    }
+    return result.append(literals[argumentIndexes.length]).toString();
+  }
+
+  /**
+   * Convert an argument without subformat the way {@code MessageFormat} does.
+   */
+  private String formatArgument(@Nullable Object arg) {
+    if (arg == null) {
+      return "null";
+    }
+    if (arg instanceof String string) {
+      return string;
+    }
+    if (arg instanceof Number) {
+      return NumberFormat.getInstance(getLocale()).format(arg);
+    }
+    if (arg instanceof Date) {
+      return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, getLocale()).format(arg);
+    }
+    String string = arg.toString();
+    return string != null ? string : "null";
+  }
+
+  private MessageFormat acquire(ArrayBlockingQueue<MessageFormat> formats) {
+    MessageFormat format = formats.poll();
+    return format != null ? format : new MessageFormat(pattern, getLocale());
+  }
+
+  private boolean hasSubformats() {
+    for (Format format : getFormats()) {
+      if (format != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void applyPattern(String pattern) {
+    assertNotInitialized();
+    super.applyPattern(pattern);
+  }
+
+  @Override
+  public void setLocale(Locale locale) {
+    assertNotInitialized();
+    super.setLocale(locale);
+  }
+
+  @Override
+  public void setFormat(int formatElementIndex, Format newFormat) {
+    assertNotInitialized();
+    super.setFormat(formatElementIndex, newFormat);
+  }
+
+  @Override
+  public void setFormats(Format[] newFormats) {
+    assertNotInitialized();
+    super.setFormats(newFormats);
+  }
+
+  @Override
+  public void setFormatByArgumentIndex(int argumentIndex, Format newFormat) {
+    assertNotInitialized();
+    super.setFormatByArgumentIndex(argumentIndex, newFormat);
+  }
+
+  @Override
+  public void setFormatsByArgumentIndex(Format[] newFormats) {
+    assertNotInitialized();
+    super.setFormatsByArgumentIndex(newFormats);
+  }
+
+  private void assertNotInitialized() {
+    if (initialized) {
+      throw new UnsupportedOperationException("MessageTemplate is immutable");
+    }
+  }
+
+  /**
+   * Split a pattern without subformats, as rendered by {@link #toPattern()},
+   * into literal segments and argument indexes.
+   *
+   * @return {@code false} if the pattern could not be compiled
+   */
+  static boolean compile(String pattern, ArrayList<String> literals, ArrayList<Integer> argumentIndexes) {
+    StringBuilder literal = new StringBuilder(pattern.length());
+    boolean quoted = false;
+    int length = pattern.length();
+    for (int i = 0; i < length; i++) {
+      char c = pattern.charAt(i);
+      if (c == '\'') {
+        if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+          literal.append('\'');
+          i++;
+        }
+        else {
+          quoted = !quoted;
+        }
+      }
+      else if (quoted || c != '{') {
+        literal.append(c);
+      }
+      else {
+        int end = pattern.indexOf('}', i + 1);
+        if (end == -1) {
+          return false;
+        }
+        int index;
+        try {
+          index = Integer.parseInt(pattern, i + 1, end, 10);
+        }
+        catch (NumberFormatException ex) {
+          return false;
+        }
+        literals.add(literal.toString());
+        argumentIndexes.add(index);
+        literal.setLength(0);
+        i = end;
+      }
+    }
+    literals.add(literal.toString());
+    return true;
+  }
+
+}
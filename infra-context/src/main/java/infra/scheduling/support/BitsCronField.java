@@ -209,6 +209,10 @@ final class BitsCronField extends CronField {
     }
   }
 
+  long bits() {
+    return this.bits;
+  }
+
   boolean getBit(int index) {
     return (this.bits & (1L << index)) != 0;
   }
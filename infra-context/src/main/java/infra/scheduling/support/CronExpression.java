@@ -20,9 +20,14 @@ package infra.scheduling.support;
 
 import org.jspecify.annotations.Nullable;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import infra.util.Assert;
 import infra.util.StringUtils;
@@ -64,6 +69,9 @@ public final class CronExpression {
 
   private final String expression;
 
+  @Nullable
+  private final CronTable table;
+
   private CronExpression(CronField seconds, CronField minutes, CronField hours,
           CronField daysOfMonth, CronField months, CronField daysOfWeek, String expression) {
 
@@ -73,6 +81,7 @@ public final class CronExpression {
             daysOfWeek, months, daysOfMonth, hours, minutes, seconds, CronField.zeroNanos()
     };
     this.expression = expression;
+    this.table = CronTable.compile(seconds, minutes, hours, daysOfMonth, months, daysOfWeek);
   }
 
   /**
@@ -241,9 +250,83 @@ public final class CronExpression {
    */
   @Nullable
   public <T extends Temporal & Comparable<? super T>> T next(T temporal) {
+    CronTable table = this.table;
+    if (table != null) {
+      if (temporal instanceof LocalDateTime localDateTime) {
+        return cast(table.next(localDateTime));
+      }
+      else if (temporal instanceof OffsetDateTime offsetDateTime) {
+        return cast(table.next(offsetDateTime));
+      }
+      else if (temporal instanceof ZonedDateTime zonedDateTime) {
+        ZonedDateTime result = table.next(zonedDateTime);
+        if (result != null) {
+          return cast(result);
+        }
+      }
+    }
+    return nextByFields(temporal);
+  }
+
+  /**
+   * Calculate the next {@code count} temporals that match this expression.
+   * <p>Useful for previews, and cheaper than repeated calls to
+   * {@link #next(Temporal)} when rescheduling many expressions at once.
+   *
+   * @param temporal the seed value, exclusive
+   * @param count the maximum number of temporals to return
+   * @param <T> the type of temporal
+   * @return the matching temporals in ascending order, fewer than
+   * {@code count} if this expression stops matching
+   */
+  public <T extends Temporal & Comparable<? super T>> List<T> next(T temporal, int count) {
+    Assert.isTrue(count >= 0, "count must not be negative");
+    ArrayList<T> result = new ArrayList<>(Math.min(count, 1024));
+    T current = temporal;
+    while (result.size() < count && (current = next(current)) != null) {
+      result.add(current);
+    }
+    return result;
+  }
+
+  /**
+   * Calculate all temporals that match this expression within the
+   * given window, for instance to render a calendar. Adjacent windows
+   * such as {@code (a, b]} and {@code (b, c]} do not overlap.
+   * <p>Note that a frequent expression can produce a large number of
+   * results for a long window; "every second" matches 86400 times a day.
+   *
+   * @param start the start of the window, exclusive
+   * @param end the end of the window, inclusive
+   * @param <T> the type of temporal
+   * @return the matching temporals in ascending order
+   */
+  public <T extends Temporal & Comparable<? super T>> List<T> between(T start, T end) {
+    Assert.notNull(start, "start is required");
+    Assert.notNull(end, "end is required");
+    ArrayList<T> result = new ArrayList<>();
+    T current = start;
+    while ((current = next(current)) != null && current.compareTo(end) <= 0) {
+      result.add(current);
+    }
+    return result;
+  }
+
+  /**
+   * Calculate the next match by walking the fields one by one,
+   * supporting all fields and temporal types.
+   */
+  @Nullable
+  <T extends Temporal & Comparable<? super T>> T nextByFields(T temporal) {
     return nextOrSame(ChronoUnit.NANOS.addTo(temporal, 1));
   }
 
+  @SuppressWarnings("unchecked")
+  @Nullable
+  private static <T> T cast(@Nullable Temporal temporal) {
+    return (T) temporal;
+  }
+
   @Nullable
   private <T extends Temporal & Comparable<? super T>> T nextOrSame(T temporal) {
     for (int i = 0; i < MAX_ATTEMPTS; i++) {
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.scheduling.support;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Precomputed bit tables for a {@link CronExpression} that consists of
+ * {@link BitsCronField bit fields} only, i.e. without Quartz-specific
+ * L/W/# expressions.
+ *
+ * <p>Finds the next matching date with one bit scan per candidate month and
+ * the next matching time of day with at most three bit scans, instead of
+ * walking the fields with {@link java.time.temporal.Temporal} arithmetic.
+ * Only local date-times are computed directly; zoned date-times are
+ * supported as long as no offset transition lies between the seed value and
+ * the result, otherwise the caller falls back to the field-by-field path.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+final class CronTable {
+
+  private static final long MASK = 0xFFFFFFFFFFFFFFFFL;
+
+  // a calendar repeats itself every 400 years
+  private static final int MAX_MONTHS = 400 * 12;
+
+  private final long seconds;
+
+  private final long minutes;
+
+  private final long hours;
+
+  private final long daysOfMonth;
+
+  private final long months;
+
+  private final long daysOfWeek;
+
+  private final LocalTime firstTimeOfDay;
+
+  private CronTable(long seconds, long minutes, long hours, long daysOfMonth, long months, long daysOfWeek) {
+    this.seconds = seconds;
+    this.minutes = minutes;
+    this.hours = hours;
+    this.daysOfMonth = daysOfMonth;
+    this.months = months;
+    this.daysOfWeek = daysOfWeek;
+    this.firstTimeOfDay = LocalTime.of(nextSetBit(hours, 0), nextSetBit(minutes, 0), nextSetBit(seconds, 0));
+  }
+
+  /**
+   * Compile the given fields, or return {@code null} if any of them is not a
+   * {@link BitsCronField}.
+   */
+  @Nullable
+  static CronTable compile(CronField seconds, CronField minutes, CronField hours,
+          CronField daysOfMonth, CronField months, CronField daysOfWeek) {
+
+    if (seconds instanceof BitsCronField s && minutes instanceof BitsCronField m
+            && hours instanceof BitsCronField h && daysOfMonth instanceof BitsCronField dom
+            && months instanceof BitsCronField mon && daysOfWeek instanceof BitsCronField dow
+            && s.bits() != 0 && m.bits() != 0 && h.bits() != 0) {
+      return new CronTable(s.bits(), m.bits(), h.bits(), dom.bits(), mon.bits(), dow.bits());
+    }
+    return null;
+  }
+
+  /**
+   * Return the first matching date-time after the given one,
+   * or {@code null} if there is none.
+   */
+  @Nullable
+  LocalDateTime next(LocalDateTime dateTime) {
+    LocalDateTime start = dateTime.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+    LocalDate date = start.toLocalDate();
+    if (matches(date)) {
+      LocalTime time = nextOrSameTime(start.getHour(), start.getMinute(), start.getSecond());
+      if (time != null) {
+        return LocalDateTime.of(date, time);
+      }
+    }
+    if (date.equals(LocalDate.MAX)) {
+      return null;
+    }
+    date = nextOrSameDate(date.plusDays(1));
+    return date != null ? LocalDateTime.of(date, firstTimeOfDay) : null;
+  }
+
+  /**
+   * Return the first matching date-time after the given one,
+   * or {@code null} if there is none.
+   */
+  @Nullable
+  OffsetDateTime next(OffsetDateTime dateTime) {
+    LocalDateTime next = next(dateTime.toLocalDateTime());
+    return next != null ? OffsetDateTime.of(next, dateTime.getOffset()) : null;
+  }
+
+  /**
+   * Return the first matching date-time after the given one, or
+   * {@code null} if the result cannot be determined from local time alone
+   * because a daylight saving transition lies in between.
+   */
+  @Nullable
+  ZonedDateTime next(ZonedDateTime dateTime) {
+    LocalDateTime next = next(dateTime.toLocalDateTime());
+    if (next == null) {
+      return null;
+    }
+    ZoneOffset offset = dateTime.getOffset();
+    ZoneRules rules = dateTime.getZone().getRules();
+    if (!rules.isFixedOffset()) {
+      ZoneOffsetTransition transition = rules.nextTransition(dateTime.toInstant());
+      if (transition != null && next.toEpochSecond(offset) >= transition.getInstant().getEpochSecond()) {
+        return null;
+      }
+    }
+    return ZonedDateTime.ofLocal(next, dateTime.getZone(), offset);
+  }
+
+  private boolean matches(LocalDate date) {
+    return isSet(months, date.getMonthValue())
+            && isSet(daysOfMonth, date.getDayOfMonth())
+            && isSet(daysOfWeek, date.getDayOfWeek().getValue());
+  }
+
+  @Nullable
+  private LocalTime nextOrSameTime(int hour, int minute, int second) {
+    int nextHour = nextSetBit(hours, hour);
+    if (nextHour == hour) {
+      int nextMinute = nextSetBit(minutes, minute);
+      if (nextMinute == minute) {
+        int nextSecond = nextSetBit(seconds, second);
+        if (nextSecond != -1) {
+          return LocalTime.of(hour, minute, nextSecond);
+        }
+        nextMinute = nextSetBit(minutes, minute + 1);
+      }
+      if (nextMinute != -1) {
+        return LocalTime.of(hour, nextMinute, nextSetBit(seconds, 0));
+      }
+      nextHour = nextSetBit(hours, hour + 1);
+    }
+    if (nextHour != -1) {
+      return LocalTime.of(nextHour, nextSetBit(minutes, 0), nextSetBit(seconds, 0));
+    }
+    return null;
+  }
+
+  @Nullable
+  private LocalDate nextOrSameDate(LocalDate date) {
+    int year = date.getYear();
+    int month = date.getMonthValue();
+    int day = date.getDayOfMonth();
+    for (int i = 0; i < MAX_MONTHS; i++) {
+      if (isSet(months, month)) {
+        int length = Month.of(month).length(Year.isLeap(year));
+        long candidates = daysOfMonth & (MASK << day) & (MASK >>> (63 - length));
+        if (candidates != 0) {
+          // day of week of the 0th day of the month, 1 (Monday) to 7 (Sunday)
+          int base = LocalDate.of(year, month, 1).getDayOfWeek().getValue() - 1;
+          while (candidates != 0) {
+            int candidate = Long.numberOfTrailingZeros(candidates);
+            if (isSet(daysOfWeek, (base + candidate - 1) % 7 + 1)) {
+              return LocalDate.of(year, month, candidate);
+            }
+            candidates &= candidates - 1;
+          }
+        }
+      }
+      day = 1;
+      if (++month > 12) {
+        month = 1;
+        if (++year > Year.MAX_VALUE) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isSet(long bits, int index) {
+    return (bits & (1L << index)) != 0;
+  }
+
+  private static int nextSetBit(long bits, int fromIndex) {
+    if (fromIndex > 63) {
+      return -1;
+    }
+    long result = bits & (MASK << fromIndex);
+    return result != 0 ? Long.numberOfTrailingZeros(result) : -1;
+  }
+
+}
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -43,6 +44,7 @@ import infra.core.GenericTypeResolver;
 import infra.core.MethodParameter;
 import infra.core.ParameterNameDiscoverer;
 import infra.util.Assert;
+import infra.util.MethodClassKey;
 import infra.validation.BeanPropertyBindingResult;
 import infra.validation.BindingResult;
 import infra.validation.DefaultMessageCodesResolver;
@@ -61,13 +63,20 @@ import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
 import jakarta.validation.executable.ExecutableValidator;
+import jakarta.validation.metadata.BeanDescriptor;
 import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.MethodDescriptor;
 
 /**
  * {@link MethodValidator} that uses a Bean Validation
  * {@link jakarta.validation.Validator} for validation, and adapts
  * {@link ConstraintViolation}s to {@link MethodValidationResult}.
  *
+ * <p>Whether a method declares any parameter or return value constraints,
+ * including cascades and cross-parameter constraints, is looked up once
+ * per method and target class. Calls to methods without constraints skip
+ * the validator entirely.
+ *
  * @author Rossen Stoyanchev
  * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
  * @since 4.0 2023/6/15 22:23
@@ -90,6 +99,12 @@ public class MethodValidationAdapter implements MethodValidator {
 
   private ObjectNameResolver objectNameResolver = defaultObjectNameResolver;
 
+  private boolean failFast;
+
+  private final ConcurrentHashMap<MethodClassKey, ExecutableConstraints> constraintsCache = new ConcurrentHashMap<>(256);
+
+  private final ConcurrentHashMap<MethodClassKey, Class<?>[]> validationGroupsCache = new ConcurrentHashMap<>(256);
+
   /**
    * Create an instance using a default JSR-303 validator underneath.
    */
@@ -183,6 +198,31 @@ public class MethodValidationAdapter implements MethodValidator {
     this.objectNameResolver = nameResolver;
   }
 
+  /**
+   * Set whether to adapt only the first of the violations reported by the
+   * validator into the returned {@link MethodValidationResult}, rather than
+   * building a result for all of them.
+   * <p>Useful when the caller only needs to know that validation failed,
+   * as the message codes and arguments of the remaining violations are
+   * not resolved. To stop the provider itself at the first violation, also
+   * enable its own fail-fast mode, e.g. {@code hibernate.validator.fail_fast}.
+   * <p>Default is {@code false}.
+   *
+   * @since 5.0
+   */
+  public void setFailFast(boolean failFast) {
+    this.failFast = failFast;
+  }
+
+  /**
+   * Return whether only the first violation is adapted.
+   *
+   * @since 5.0
+   */
+  public boolean isFailFast() {
+    return this.failFast;
+  }
+
   /**
    * Return the {@link InfraValidatorAdapter} configured for use.
    *
@@ -198,10 +238,53 @@ public class MethodValidationAdapter implements MethodValidator {
    * annotation on the method, or on the containing target class of the method,
    * or for an AOP proxy without a target (with all behavior in advisors), also
    * check on proxied interfaces.
+   * <p>The groups are determined once per method and target class.
    */
   @Override
   public Class<?>[] determineValidationGroups(Object target, Method method) {
-    return ValidationAnnotationUtils.determineValidationGroups(target, method);
+    var key = new MethodClassKey(method, target.getClass());
+    Class<?>[] groups = validationGroupsCache.get(key);
+    if (groups == null) {
+      groups = ValidationAnnotationUtils.determineValidationGroups(target, method);
+      validationGroupsCache.put(key, groups);
+    }
+    return groups;
+  }
+
+  /**
+   * Determine whether the given method declares any constraints on its
+   * parameters, including cascaded and cross-parameter constraints, as
+   * seen by the validator for the class of the given target.
+   *
+   * @param target the target Object
+   * @param method the target method
+   * @since 5.0
+   */
+  public boolean hasConstrainedParameters(Object target, Method method) {
+    return getConstraints(target, method).parameters;
+  }
+
+  /**
+   * Determine whether the given method declares any constraints or a
+   * cascade on its return value, as seen by the validator for the class
+   * of the given target.
+   *
+   * @param target the target Object
+   * @param method the target method
+   * @since 5.0
+   */
+  public boolean hasConstrainedReturnValue(Object target, Method method) {
+    return getConstraints(target, method).returnValue;
+  }
+
+  private ExecutableConstraints getConstraints(Object target, Method method) {
+    var key = new MethodClassKey(method, target.getClass());
+    ExecutableConstraints constraints = constraintsCache.get(key);
+    if (constraints == null) {
+      constraints = ExecutableConstraints.forMethod(validator, target.getClass(), method);
+      constraintsCache.put(key, constraints);
+    }
+    return constraints;
   }
 
   @Override
@@ -215,17 +298,22 @@ public class MethodValidationAdapter implements MethodValidator {
       return emptyValidationResult;
     }
 
-    return adaptViolations(target, method, violations,
+    return adaptViolations(target, method, firstIfFailFast(violations),
             i -> parameters != null ? parameters[i] : initMethodParameter(method, i),
             i -> arguments[i]);
   }
 
   /**
    * Invoke the validator, and return the resulting violations.
+   * <p>Returns an empty set without invoking the validator if the
+   * method has no {@link #hasConstrainedParameters constrained parameters}.
    */
   public final Set<ConstraintViolation<Object>> invokeValidatorForArguments(
           Object target, Method method, @Nullable Object[] arguments, Class<?>[] groups) {
 
+    if (!hasConstrainedParameters(target, method)) {
+      return Collections.emptySet();
+    }
     ExecutableValidator execVal = validator.forExecutables();
     Set<ConstraintViolation<Object>> violations;
     try {
@@ -250,21 +338,33 @@ public class MethodValidationAdapter implements MethodValidator {
       return emptyValidationResult;
     }
 
-    return adaptViolations(target, method, violations,
+    return adaptViolations(target, method, firstIfFailFast(violations),
             i -> returnType != null ? returnType : initMethodParameter(method, -1),
             i -> returnValue);
   }
 
   /**
    * Invoke the validator, and return the resulting violations.
+   * <p>Returns an empty set without invoking the validator if the
+   * method has no {@link #hasConstrainedReturnValue constrained return value}.
    */
   public final Set<ConstraintViolation<Object>> invokeValidatorForReturnValue(
           Object target, Method method, @Nullable Object returnValue, Class<?>[] groups) {
 
+    if (!hasConstrainedReturnValue(target, method)) {
+      return Collections.emptySet();
+    }
     ExecutableValidator execVal = validator.forExecutables();
     return execVal.validateReturnValue(target, method, returnValue, groups);
   }
 
+  private Set<ConstraintViolation<Object>> firstIfFailFast(Set<ConstraintViolation<Object>> violations) {
+    if (failFast && violations.size() > 1) {
+      return Collections.singleton(violations.iterator().next());
+    }
+    return violations;
+  }
+
   private MethodValidationResult adaptViolations(Object target, Method method, Set<ConstraintViolation<Object>> violations,
           Function<Integer, MethodParameter> parameterFunction, Function<Integer, @Nullable Object> argumentFunction) {
 
@@ -414,6 +514,41 @@ public class MethodValidationAdapter implements MethodValidator {
 
   }
 
+  /**
+   * Which parts of a method are constrained.
+   */
+  private record ExecutableConstraints(boolean parameters, boolean returnValue) {
+
+    static final ExecutableConstraints NONE = new ExecutableConstraints(false, false);
+
+    static final ExecutableConstraints ALL = new ExecutableConstraints(true, true);
+
+    static ExecutableConstraints forMethod(Validator validator, Class<?> targetClass, Method method) {
+      try {
+        BeanDescriptor beanDescriptor = validator.getConstraintsForClass(targetClass);
+        if (beanDescriptor == null) {
+          return ALL;
+        }
+        @Nullable MethodDescriptor descriptor = beanDescriptor.getConstraintsForMethod(method.getName(), method.getParameterTypes());
+        if (descriptor == null) {
+          // constraints may be declared on the implementation of a bridged method
+          Method specificMethod = BridgeMethodResolver.getMostSpecificMethod(method, targetClass);
+          if (specificMethod != method) {
+            descriptor = beanDescriptor.getConstraintsForMethod(specificMethod.getName(), specificMethod.getParameterTypes());
+          }
+        }
+        if (descriptor == null) {
+          return NONE;
+        }
+        return new ExecutableConstraints(descriptor.hasConstrainedParameters(), descriptor.hasConstrainedReturnValue());
+      }
+      catch (RuntimeException ex) {
+        // metadata not available: let the validator decide on every call
+        return ALL;
+      }
+    }
+  }
+
   /**
    * Builds a validation result for a value method parameter with constraints
    * declared directly on it.
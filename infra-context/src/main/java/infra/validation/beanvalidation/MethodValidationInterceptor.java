@@ -27,6 +27,7 @@ import java.lang.reflect.Parameter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import infra.aop.ProxyMethodInvocation;
@@ -73,6 +74,10 @@ import static infra.util.FeatureDetector.isPresent;
  * at the type level of the containing target class, applying to all public service methods
  * of that class. By default, JSR-303 will validate against its default group only.
  *
+ * <p>Methods without any parameter or return value constraints are detected
+ * once per method and target class, and then invoked without going through
+ * the validator at all.
+ *
  * <p>this functionality requires a Bean Validation 1.1+ provider.
  *
  * @author Juergen Hoeller
@@ -88,6 +93,10 @@ public class MethodValidationInterceptor extends OrderedSupport implements Metho
   @VisibleForTesting
   final boolean adaptViolations;
 
+  private boolean failFast;
+
+  private final ConcurrentHashMap<Method, Boolean> asyncValidationCache = new ConcurrentHashMap<>(64);
+
   /**
    * Create a new MethodValidationInterceptor using a default JSR-303 validator underneath.
    */
@@ -161,6 +170,23 @@ public class MethodValidationInterceptor extends OrderedSupport implements Metho
     this.adaptViolations = adaptViolations;
   }
 
+  /**
+   * Whether to report only the first violation, rather than all of them.
+   * <p>With {@code adaptViolations}, the {@link MethodValidationResult} of the
+   * raised {@link MethodValidationException} is built from that violation
+   * only; otherwise the raised {@link ConstraintViolationException} contains
+   * just that violation. The validator itself still reports all violations,
+   * unless the provider is configured to fail fast as well, e.g. through
+   * {@code hibernate.validator.fail_fast}.
+   * <p>Default is {@code false}.
+   *
+   * @since 5.0
+   */
+  public void setFailFast(boolean failFast) {
+    this.failFast = failFast;
+    this.delegate.setFailFast(failFast);
+  }
+
   @Override
   @SuppressWarnings("NullAway")
   public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
@@ -172,40 +198,61 @@ public class MethodValidationInterceptor extends OrderedSupport implements Metho
     Object target = getTarget(invocation);
     Method method = invocation.getMethod();
     @Nullable Object[] arguments = invocation.getArguments();
+    boolean validateArguments = delegate.hasConstrainedParameters(target, method);
+    boolean validateReturnValue = delegate.hasConstrainedReturnValue(target, method);
+    boolean asyncValidation = isPresent(Feature.REACTOR) && hasAsyncValidation(method);
+    if (!validateArguments && !validateReturnValue && !asyncValidation) {
+      return invocation.proceed();
+    }
+
     Class<?>[] groups = determineValidationGroups(invocation);
 
-    if (isPresent(Feature.REACTOR)) {
+    if (asyncValidation) {
       arguments = ReactorValidationHelper.insertAsyncValidation(
               delegate.getValidatorAdapter(), this.adaptViolations, target, method, arguments);
     }
 
-    Set<ConstraintViolation<Object>> violations;
-
-    if (this.adaptViolations) {
-      this.delegate.applyArgumentValidation(target, method, null, arguments, groups);
-    }
-    else {
-      violations = this.delegate.invokeValidatorForArguments(target, method, arguments, groups);
-      if (!violations.isEmpty()) {
-        throw new ConstraintViolationException(violations);
+    if (validateArguments) {
+      if (this.adaptViolations) {
+        this.delegate.applyArgumentValidation(target, method, null, arguments, groups);
+      }
+      else {
+        handleViolations(this.delegate.invokeValidatorForArguments(target, method, arguments, groups));
       }
     }
 
     Object returnValue = invocation.proceed();
 
-    if (this.adaptViolations) {
-      this.delegate.applyReturnValueValidation(target, method, null, returnValue, groups);
-    }
-    else {
-      violations = this.delegate.invokeValidatorForReturnValue(target, method, returnValue, groups);
-      if (!violations.isEmpty()) {
-        throw new ConstraintViolationException(violations);
+    if (validateReturnValue) {
+      if (this.adaptViolations) {
+        this.delegate.applyReturnValueValidation(target, method, null, returnValue, groups);
+      }
+      else {
+        handleViolations(this.delegate.invokeValidatorForReturnValue(target, method, returnValue, groups));
       }
     }
 
     return returnValue;
   }
 
+  private void handleViolations(Set<ConstraintViolation<Object>> violations) {
+    if (!violations.isEmpty()) {
+      if (failFast && violations.size() > 1) {
+        violations = Collections.singleton(violations.iterator().next());
+      }
+      throw new ConstraintViolationException(violations);
+    }
+  }
+
+  private boolean hasAsyncValidation(Method method) {
+    Boolean asyncValidation = asyncValidationCache.get(method);
+    if (asyncValidation == null) {
+      asyncValidation = ReactorValidationHelper.hasAsyncValidation(method);
+      asyncValidationCache.put(method, asyncValidation);
+    }
+    return asyncValidation;
+  }
+
   private static Object getTarget(MethodInvocation invocation) {
     Object target = invocation.getThis();
     if (target == null && invocation instanceof ProxyMethodInvocation methodInvocation) {
@@ -260,6 +307,18 @@ public class MethodValidationInterceptor extends OrderedSupport implements Metho
     private static final ReactiveAdapterRegistry reactiveAdapterRegistry =
             ReactiveAdapterRegistry.getSharedInstance();
 
+    static boolean hasAsyncValidation(Method method) {
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      for (int i = 0; i < parameterTypes.length; i++) {
+        ReactiveAdapter reactiveAdapter = reactiveAdapterRegistry.getAdapter(parameterTypes[i]);
+        if (reactiveAdapter != null && !reactiveAdapter.isNoValue()
+                && determineValidationGroups(method.getParameters()[i]) != null) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     static @Nullable Object[] insertAsyncValidation(InfraValidatorAdapter validatorAdapter,
             boolean adaptViolations, Object target, Method method, @Nullable Object[] arguments) {
 
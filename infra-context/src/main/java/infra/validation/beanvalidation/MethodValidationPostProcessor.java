@@ -81,6 +81,8 @@ public class MethodValidationPostProcessor extends AbstractBeanFactoryAwareAdvis
 
   private boolean adaptConstraintViolations;
 
+  private boolean failFast;
+
   /**
    * Set the 'validated' annotation type.
    * The default validated annotation type is the {@link Validated} annotation.
@@ -144,6 +146,17 @@ public class MethodValidationPostProcessor extends AbstractBeanFactoryAwareAdvis
     this.adaptConstraintViolations = adaptViolations;
   }
 
+  /**
+   * Whether to report only the first constraint violation of a method call.
+   * <p>Default is {@code false}.
+   *
+   * @see MethodValidationInterceptor#setFailFast
+   * @since 5.0
+   */
+  public void setFailFast(boolean failFast) {
+    this.failFast = failFast;
+  }
+
   @Override
   public void afterPropertiesSet() {
     Pointcut pointcut = new AnnotationMatchingPointcut(validatedAnnotationType, true);
@@ -159,9 +172,11 @@ public class MethodValidationPostProcessor extends AbstractBeanFactoryAwareAdvis
    * a {@link MethodValidationInterceptor} or subclass thereof)
    */
   protected Advice createMethodValidationAdvice(@Nullable Validator validator) {
-    return validator != null
+    var interceptor = validator != null
             ? new MethodValidationInterceptor(validator, adaptConstraintViolations)
             : new MethodValidationInterceptor(adaptConstraintViolations);
+    interceptor.setFailFast(failFast);
+    return interceptor;
   }
 
 }
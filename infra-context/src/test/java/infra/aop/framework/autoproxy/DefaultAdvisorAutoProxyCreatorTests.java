@@ -22,11 +22,16 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
+import infra.aop.Advisor;
+import infra.aop.ClassFilter;
 import infra.aop.Pointcut;
 import infra.aop.support.AbstractPointcutAdvisor;
+import infra.aop.support.AopUtils;
 import infra.aop.support.RootClassFilter;
 import infra.aop.support.StaticMethodMatcherPointcut;
+import infra.beans.factory.config.BeanDefinition;
 import infra.context.annotation.AnnotationConfigApplicationContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +63,51 @@ class DefaultAdvisorAutoProxyCreatorTests {
     context.close();
   }
 
+  @Test
+  void advisorMatchesAreCachedPerBeanClassUnlessBeanNameDependent() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean("demoBean1", DemoBean.class);
+    context.registerBean("demoBean2", DemoBean.class);
+    context.registerBean("demoBean3", DemoBean.class);
+    context.registerBean(CountingPointcutAdvisor.class);
+    context.registerBean(BeanNamePointcutAdvisor.class);
+    context.registerBean(DefaultAdvisorAutoProxyCreator.class);
+    context.refresh();
+
+    assertThat(context.getBean(CountingPointcutAdvisor.class).classFilterInvocationCount).isEqualTo(1);
+    assertThat(context.getBean(BeanNamePointcutAdvisor.class).classFilterInvocationCount).isEqualTo(3);
+    assertThat(context.getBean("demoBean1", DemoBean.class).sayHello()).isEqualTo("Advised: Hello!");
+    assertThat(context.getBean("demoBean2", DemoBean.class).sayHello()).isEqualTo("Named: Advised: Hello!");
+    assertThat(AopUtils.isAopProxy(context.getBean("demoBean3"))).isTrue();
+
+    context.close();
+  }
+
+  @Test
+  void advisorMatchesAreNotCachedForPrototypeAdvisors() {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean("demoBean1", DemoBean.class);
+    context.registerBean("demoBean2", DemoBean.class);
+    context.registerBean("singletonAdvisor", CountingPointcutAdvisor.class);
+    context.registerBean("prototypeAdvisor", CountingPointcutAdvisor.class,
+            definition -> definition.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+    context.registerBean(DefaultAdvisorAutoProxyCreator.class);
+    context.refresh();
+
+    DefaultAdvisorAutoProxyCreator creator = context.getBean(DefaultAdvisorAutoProxyCreator.class);
+    Object singletonAdvisor = context.getBean("singletonAdvisor");
+    List<Advisor> candidates = creator.findCandidateAdvisors();
+
+    assertThat(candidates).hasSize(2).contains((Advisor) singletonAdvisor);
+    assertThat(candidates).filteredOn(advisor -> advisor != singletonAdvisor)
+            .singleElement().satisfies(advisor -> assertThat(creator.isSingletonAdvisor(advisor)).isFalse());
+    assertThat(creator.isSingletonAdvisor((Advisor) singletonAdvisor)).isTrue();
+    assertThat(context.getBean("demoBean1", DemoBean.class).sayHello()).isEqualTo("Advised: Advised: Hello!");
+    assertThat(context.getBean("demoBean2", DemoBean.class).sayHello()).isEqualTo("Advised: Advised: Hello!");
+
+    context.close();
+  }
+
   static class DemoBean {
 
     public String sayHello() {
@@ -92,4 +142,77 @@ class DefaultAdvisorAutoProxyCreatorTests {
     }
   }
 
+  static class CountingPointcutAdvisor extends AbstractPointcutAdvisor {
+
+    int classFilterInvocationCount = 0;
+
+    private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+
+      @Override
+      public ClassFilter getClassFilter() {
+        return clazz -> {
+          if (clazz == DemoBean.class) {
+            classFilterInvocationCount++;
+            return true;
+          }
+          return false;
+        };
+      }
+
+      @Override
+      public boolean matches(Method method, Class<?> targetClass) {
+        return method.getName().equals("sayHello");
+      }
+    };
+
+    @Override
+    public Pointcut getPointcut() {
+      return this.pointcut;
+    }
+
+    @Override
+    public MethodInterceptor getAdvice() {
+      return invocation -> "Advised: " + invocation.proceed();
+    }
+  }
+
+  static class BeanNamePointcutAdvisor extends AbstractPointcutAdvisor {
+
+    int classFilterInvocationCount = 0;
+
+    private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+
+      @Override
+      public ClassFilter getClassFilter() {
+        return clazz -> {
+          if (clazz == DemoBean.class) {
+            classFilterInvocationCount++;
+            return "demoBean2".equals(ProxyCreationContext.getCurrentProxiedBeanName());
+          }
+          return false;
+        };
+      }
+
+      @Override
+      public boolean matches(Method method, Class<?> targetClass) {
+        return method.getName().equals("sayHello");
+      }
+    };
+
+    @Override
+    public Pointcut getPointcut() {
+      return this.pointcut;
+    }
+
+    @Override
+    public MethodInterceptor getAdvice() {
+      return invocation -> "Named: " + invocation.proceed();
+    }
+
+    @Override
+    public int getOrder() {
+      return 0;
+    }
+  }
+
 }
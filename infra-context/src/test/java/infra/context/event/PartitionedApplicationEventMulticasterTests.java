@@ -0,0 +1,227 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.event;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import infra.context.ApplicationEvent;
+import infra.context.ApplicationListener;
+import infra.context.PayloadApplicationEvent;
+import infra.context.event.PartitionedApplicationEventMulticaster.OverflowPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class PartitionedApplicationEventMulticasterTests {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final PartitionedApplicationEventMulticaster multicaster = new PartitionedApplicationEventMulticaster();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void deliversEventsInOrderPerListener() throws Exception {
+    multicaster.setTaskExecutor(executor);
+    multicaster.setBatchSize(8);
+    CollectingListener first = new CollectingListener(1000);
+    CollectingListener second = new CollectingListener(1000);
+    multicaster.addApplicationListener(first);
+    multicaster.addApplicationListener(second);
+
+    for (int i = 0; i < 1000; i++) {
+      multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+    }
+
+    assertThat(first.await()).isTrue();
+    assertThat(second.await()).isTrue();
+    assertThat(first.payloads).isSorted().hasSize(1000);
+    assertThat(second.payloads).isSorted().hasSize(1000);
+    // permits are released after the listener returned
+    Awaitility.await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(multicaster.getBacklog(first)).isZero());
+  }
+
+  @Test
+  void keepsOrderPerPartitionKey() throws Exception {
+    multicaster.setTaskExecutor(executor);
+    multicaster.setPartitions(4);
+    multicaster.setPartitionKeyExtractor(event -> ((PayloadApplicationEvent<?>) event).getPayload().hashCode() % 4);
+    CollectingListener listener = new CollectingListener(1000);
+    multicaster.addApplicationListener(listener);
+
+    for (int i = 0; i < 1000; i++) {
+      multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+    }
+
+    assertThat(listener.await()).isTrue();
+    assertThat(listener.payloads).hasSize(1000);
+    for (int key = 0; key < 4; key++) {
+      int partitionKey = key;
+      assertThat(listener.payloads.stream().filter(payload -> payload % 4 == partitionKey).toList()).isSorted();
+    }
+  }
+
+  @Test
+  void dropsEventsWhenListenerFallsBehind() throws Exception {
+    multicaster.setTaskExecutor(executor);
+    multicaster.setCapacity(1);
+    multicaster.setOverflowPolicy(OverflowPolicy.DROP);
+    CountDownLatch release = new CountDownLatch(1);
+    CollectingListener listener = new CollectingListener(1) {
+
+      @Override
+      public void onApplicationEvent(ApplicationEvent event) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        super.onApplicationEvent(event);
+      }
+    };
+    multicaster.addApplicationListener(listener);
+
+    for (int i = 0; i < 3; i++) {
+      multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+    }
+    assertThat(multicaster.getBacklog(listener)).isEqualTo(1);
+    assertThat(multicaster.getDroppedCount(listener)).isEqualTo(2);
+
+    release.countDown();
+    assertThat(listener.await()).isTrue();
+    assertThat(listener.payloads).containsExactly(0);
+  }
+
+  @Test
+  void runsInCallerThreadWhenListenerFallsBehind() {
+    multicaster.setTaskExecutor(task -> { });
+    multicaster.setCapacity(1);
+    multicaster.setOverflowPolicy(OverflowPolicy.CALLER_RUNS);
+    CollectingListener listener = new CollectingListener(2);
+    multicaster.addApplicationListener(listener);
+
+    multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 0));
+    multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+
+    // first event is queued on an executor that never runs it
+    assertThat(listener.payloads).containsExactly(1);
+    assertThat(multicaster.getBacklog(listener)).isEqualTo(1);
+  }
+
+  @Test
+  void listenerPublishingToItselfDoesNotBlockOnItsOwnQueue() throws Exception {
+    multicaster.setTaskExecutor(executor);
+    multicaster.setCapacity(1);
+    multicaster.setOverflowPolicy(OverflowPolicy.BLOCK);
+    CollectingListener listener = new CollectingListener(2) {
+
+      @Override
+      public void onApplicationEvent(ApplicationEvent event) {
+        super.onApplicationEvent(event);
+        if (((PayloadApplicationEvent<?>) event).getPayload().equals(0)) {
+          multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+        }
+      }
+    };
+    multicaster.addApplicationListener(listener);
+
+    multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 0));
+
+    assertThat(listener.await()).isTrue();
+    assertThat(listener.payloads).containsExactly(0, 1);
+  }
+
+  @Test
+  void drainsLocallyWithoutRecursionWhenExecutorRejects() {
+    int count = 20_000;
+    AtomicBoolean rejecting = new AtomicBoolean();
+    AtomicReference<Runnable> pending = new AtomicReference<>();
+    multicaster.setTaskExecutor(task -> {
+      if (rejecting.get()) {
+        throw new RejectedExecutionException("shut down");
+      }
+      pending.set(task);
+    });
+    multicaster.setCapacity(count);
+    multicaster.setBatchSize(1);
+    CollectingListener listener = new CollectingListener(count);
+    multicaster.addApplicationListener(listener);
+
+    for (int i = 0; i < count; i++) {
+      multicaster.multicastEvent(new PayloadApplicationEvent<>(this, i));
+    }
+    rejecting.set(true);
+    pending.get().run();
+
+    assertThat(listener.payloads).hasSize(count).isSorted();
+    assertThat(multicaster.getBacklog(listener)).isZero();
+  }
+
+  @Test
+  void invokesListenersInCallerThreadWithoutExecutor() {
+    CollectingListener listener = new CollectingListener(1);
+    multicaster.addApplicationListener(listener);
+
+    multicaster.multicastEvent(new PayloadApplicationEvent<>(this, 42));
+
+    assertThat(listener.payloads).containsExactly(42);
+    assertThat(multicaster.getBacklog(listener)).isZero();
+  }
+
+  static class CollectingListener implements ApplicationListener<ApplicationEvent> {
+
+    final List<Integer> payloads = Collections.synchronizedList(new ArrayList<>());
+
+    final CountDownLatch latch;
+
+    CollectingListener(int expected) {
+      this.latch = new CountDownLatch(expected);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+      payloads.add((Integer) ((PayloadApplicationEvent<?>) event).getPayload());
+      latch.countDown();
+    }
+
+    boolean await() throws InterruptedException {
+      return latch.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+}
@@ -20,7 +20,9 @@ package infra.context.expression;
 
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import infra.core.DefaultParameterNameDiscoverer;
 import infra.core.ParameterNameDiscoverer;
@@ -124,6 +126,63 @@ class MethodBasedEvaluationContextTests {
     assertThat(context.lookupVariable("vararg")).isEqualTo(new Object[] { "hello", "hi" });
   }
 
+  @Test
+  void argumentsResolvedOnDemand() {
+    Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+    MethodBasedEvaluationContext context = createEvaluationContext(method, "test", true);
+    context.setVariable("foo", "override");
+
+    assertThat(context.lookupVariable("foo")).isEqualTo("override");
+    assertThat(context.lookupVariable("a0")).isEqualTo("test");
+    assertThat(context.lookupVariable("p1")).asInstanceOf(BOOLEAN).isTrue();
+
+    assertThat(context.lookupVariable("a00")).isNull();
+    assertThat(context.lookupVariable("p01")).isNull();
+    assertThat(context.lookupVariable("ax")).isNull();
+    assertThat(context.lookupVariable("a12345678901")).isNull();
+    assertThat(context.lookupVariable("bar")).isNull();
+  }
+
+  @Test
+  void parameterNamesDiscoveredOncePerContext() {
+    Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+    AtomicInteger discoveries = new AtomicInteger();
+    ParameterNameDiscoverer discoverer = new ParameterNameDiscoverer() {
+      @Override
+      protected String[] doGet(Executable executable) {
+        discoveries.incrementAndGet();
+        return paramDiscover.getParameterNames(executable);
+      }
+    };
+    MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(this, method, new Object[] { "test", true }, discoverer);
+
+    assertThat(context.lookupVariable("foo")).isEqualTo("test");
+    assertThat(context.lookupVariable("flag")).asInstanceOf(BOOLEAN).isTrue();
+    assertThat(context.lookupVariable("bar")).isNull();
+    assertThat(discoveries).hasValue(1);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void lazyLoadArgumentsOverrideStillInvoked() {
+    Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+    AtomicInteger loads = new AtomicInteger();
+    MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(this, method, new Object[] { "test", true }, paramDiscover) {
+      @Override
+      protected void lazyLoadArguments() {
+        loads.incrementAndGet();
+        super.lazyLoadArguments();
+        setVariable("extra", "value");
+      }
+    };
+
+    assertThat(context.lookupVariable("extra")).isEqualTo("value");
+    assertThat(context.lookupVariable("p0")).isEqualTo("test");
+    assertThat(context.lookupVariable("flag")).asInstanceOf(BOOLEAN).isTrue();
+    assertThat(context.lookupVariable("missing")).isNull();
+    assertThat(loads).hasValue(1);
+  }
+
   private MethodBasedEvaluationContext createEvaluationContext(Method method, Object... args) {
     return new MethodBasedEvaluationContext(this, method, args, this.paramDiscover);
   }
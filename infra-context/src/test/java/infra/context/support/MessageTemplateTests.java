@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.context.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class MessageTemplateTests {
+
+  @Test
+  void rendersLikeMessageFormat() {
+    assertRendersLikeMessageFormat("Hello {0}, today is {1}!", Locale.US, "World", "Monday");
+    assertRendersLikeMessageFormat("It''s '{0}' {0} and {1} {2}", Locale.US, 1234.5, new Date(0));
+    assertRendersLikeMessageFormat("It''s '{0}' {0} and {1} {2}", Locale.GERMANY, 1234.5, new Date(0));
+    assertRendersLikeMessageFormat("{1}{0}", Locale.US, "a", null);
+    assertRendersLikeMessageFormat("no placeholders", Locale.US);
+    assertRendersLikeMessageFormat("{0,number,#.##} and {1,choice,0#none|1#one|1<many}", Locale.GERMANY, 3.14159, 2);
+    assertRendersLikeMessageFormat("{0,date,short} ''{1}''", Locale.US, new Date(0), "quoted");
+  }
+
+  @Test
+  void rendersSubformatsConcurrently() throws Exception {
+    MessageTemplate template = new MessageTemplate("{0,number,#.##} items", Locale.US);
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 2000; i++) {
+        double value = i + 0.125;
+        results.add(executor.submit(() -> template.render(new Object[] { value })));
+      }
+      for (int i = 0; i < results.size(); i++) {
+        assertThat(results.get(i).get())
+                .isEqualTo(new MessageFormat("{0,number,#.##} items", Locale.US).format(new Object[] { i + 0.125 }));
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void immutable() {
+    MessageTemplate template = new MessageTemplate("{0}", Locale.US);
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> template.applyPattern("{1}"));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> template.setLocale(Locale.GERMAN));
+    assertThat(template.render(new Object[] { "value" })).isEqualTo("value");
+  }
+
+  @Test
+  void messageSourceCreatesTemplates() {
+    StaticMessageSource messageSource = new StaticMessageSource();
+    messageSource.addMessage("greeting", Locale.US, "Hello {0}");
+    assertThat(messageSource.resolveCode("greeting", Locale.US)).isInstanceOf(MessageTemplate.class);
+    assertThat(messageSource.getMessage("greeting", new Object[] { "World" }, Locale.US)).isEqualTo("Hello World");
+  }
+
+  private static void assertRendersLikeMessageFormat(String pattern, Locale locale, Object... args) {
+    String expected = new MessageFormat(pattern, locale).format(args);
+    assertThat(new MessageTemplate(pattern, locale).render(args)).isEqualTo(expected);
+  }
+
+}
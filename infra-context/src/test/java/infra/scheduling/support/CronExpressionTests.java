@@ -29,6 +29,8 @@ import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.List;
+import java.util.Random;
 
 import static java.time.DayOfWeek.FRIDAY;
 import static java.time.DayOfWeek.MONDAY;
@@ -1394,4 +1396,57 @@ class CronExpressionTests {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void compiledTableMatchesFieldByFieldEvaluation() {
+    String[] expressions = {
+            "* * * * * *", "0 0 * * * *", "0 */15 9-17 * * MON-FRI", "0 0 0 1 * *",
+            "0 0 0 29 2 *", "30 45 23 L * *", "0 0 12 * * SUN", "0 0 0 13 * FRI",
+            "*/28 56 22 */6 * *", "0 0 0 31 * *", "15,45 5 3,15 1-7 * MON", "0 0 0 29 2 MON",
+            "0 0 0 * JAN,JUL *", "59 59 23 31 12 *"
+    };
+    Random random = new Random(42);
+    for (String value : expressions) {
+      CronExpression expression = CronExpression.parse(value);
+      for (int i = 0; i < 200; i++) {
+        LocalDateTime seed = LocalDateTime.of(2000 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(2) * 500_000_000);
+        assertThat(expression.next(seed)).as("%s after %s", value, seed)
+                .isEqualTo(expression.nextByFields(seed));
+
+        ZonedDateTime zoned = seed.atZone(ZoneId.of("Europe/Amsterdam"));
+        assertThat(expression.next(zoned)).as("%s after %s", value, zoned)
+                .isEqualTo(expression.nextByFields(zoned));
+      }
+    }
+  }
+
+  @Test
+  void nextCount() {
+    CronExpression expression = CronExpression.parse("0 0 9 * * MON-FRI");
+    LocalDateTime last = LocalDateTime.of(2024, 5, 3, 10, 0);
+
+    List<LocalDateTime> next = expression.next(last, 3);
+    assertThat(next).containsExactly(LocalDateTime.of(2024, 5, 6, 9, 0),
+            LocalDateTime.of(2024, 5, 7, 9, 0), LocalDateTime.of(2024, 5, 8, 9, 0));
+
+    assertThat(expression.next(last, 0)).isEmpty();
+    assertThat(CronExpression.parse("0 0 0 31 6 *").next(last, 3)).isEmpty();
+  }
+
+  @Test
+  void between() {
+    CronExpression expression = CronExpression.parse("0 0 */6 * * *");
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    List<LocalDateTime> firstDay = expression.between(start, start.plusDays(1));
+    assertThat(firstDay).containsExactly(start.withHour(6), start.withHour(12),
+            start.withHour(18), start.plusDays(1));
+
+    ZonedDateTime zonedStart = ZonedDateTime.parse("2021-03-27T00:00:00+01:00[Europe/Amsterdam]");
+    List<ZonedDateTime> acrossTransition = expression.between(zonedStart, zonedStart.plusDays(2));
+    assertThat(acrossTransition).hasSize(8).isSorted();
+    assertThat(acrossTransition.get(3)).isEqualTo(ZonedDateTime.parse("2021-03-28T00:00:00+01:00[Europe/Amsterdam]"));
+    assertThat(acrossTransition.get(4)).isEqualTo(ZonedDateTime.parse("2021-03-28T06:00:00+02:00[Europe/Amsterdam]"));
+  }
+
 }
@@ -279,6 +279,33 @@ class MethodValidationAdapterTests {
             .containsExactlyInAnyOrderElementsOf(fieldErrors);
   }
 
+  @Test
+  void failFastAdaptsFirstViolationOnly() {
+    MyService target = new MyService();
+    Method method = getMethod(target, "addStudent");
+    this.validationAdapter.setFailFast(true);
+
+    MethodValidationResult result = this.validationAdapter.validateArguments(
+            target, method, null, new Object[] { faustino1234, cayetana6789, 3 }, new Class<?>[0]);
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getParameterValidationResults()).hasSize(1);
+  }
+
+  @Test
+  void constraintMetadata() {
+    MyService target = new MyService();
+    Method addStudent = getMethod(target, "addStudent");
+    Method getIntValue = getMethod(target, "getIntValue");
+    Method addRange = getMethod(target, "addRange");
+
+    assertThat(this.validationAdapter.hasConstrainedParameters(target, addStudent)).isTrue();
+    assertThat(this.validationAdapter.hasConstrainedReturnValue(target, addStudent)).isFalse();
+    assertThat(this.validationAdapter.hasConstrainedParameters(target, getIntValue)).isFalse();
+    assertThat(this.validationAdapter.hasConstrainedReturnValue(target, getIntValue)).isTrue();
+    assertThat(this.validationAdapter.hasConstrainedParameters(target, addRange)).isTrue();
+  }
+
   private static void assertValueResult(
           ParameterValidationResult result, int parameterIndex, Object argument, List<String> errors) {
 
@@ -29,13 +29,20 @@ import infra.aop.ProxyMethodInvocation;
 import infra.beans.factory.FactoryBean;
 import infra.beans.factory.SmartFactoryBean;
 import infra.validation.annotation.Validated;
+import infra.validation.method.MethodValidationException;
+import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import reactor.core.publisher.Mono;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -227,6 +234,78 @@ class MethodValidationInterceptorTests {
     assertThat(result).isEqualTo("result");
   }
 
+  @Test
+  void skipsValidatorForMethodWithoutConstraints() throws Throwable {
+    Validator validator = spy(Validation.buildDefaultValidatorFactory().getValidator());
+    MethodValidationInterceptor interceptor = new MethodValidationInterceptor(validator);
+    Method method = PlainService.class.getMethod("echo", String.class);
+
+    when(methodInvocation.getThis()).thenReturn(new PlainService());
+    when(methodInvocation.getMethod()).thenReturn(method);
+    when(methodInvocation.getArguments()).thenReturn(new Object[] { null });
+    when(methodInvocation.proceed()).thenReturn("result");
+
+    assertThat(interceptor.invoke(methodInvocation)).isEqualTo("result");
+    assertThat(interceptor.invoke(methodInvocation)).isEqualTo("result");
+    verify(validator, never()).forExecutables();
+  }
+
+  @Test
+  void validatesConstrainedMethodOfTargetClass() throws Throwable {
+    Method method = ConstrainedService.class.getMethod("update", String.class, Integer.class);
+
+    when(methodInvocation.getThis()).thenReturn(new ConstrainedService());
+    when(methodInvocation.getMethod()).thenReturn(method);
+    when(methodInvocation.getArguments()).thenReturn(new Object[] { null, 11 });
+
+    assertThatExceptionOfType(ConstraintViolationException.class)
+            .isThrownBy(() -> interceptor.invoke(methodInvocation))
+            .satisfies(ex -> assertThat(ex.getConstraintViolations()).hasSize(2));
+  }
+
+  @Test
+  void failFastReportsSingleViolation() throws Throwable {
+    interceptor.setFailFast(true);
+    Method method = ConstrainedService.class.getMethod("update", String.class, Integer.class);
+
+    when(methodInvocation.getThis()).thenReturn(new ConstrainedService());
+    when(methodInvocation.getMethod()).thenReturn(method);
+    when(methodInvocation.getArguments()).thenReturn(new Object[] { null, 11 });
+
+    assertThatExceptionOfType(ConstraintViolationException.class)
+            .isThrownBy(() -> interceptor.invoke(methodInvocation))
+            .satisfies(ex -> assertThat(ex.getConstraintViolations()).hasSize(1));
+  }
+
+  @Test
+  void failFastAdaptsSingleViolation() throws Throwable {
+    MethodValidationInterceptor interceptor = new MethodValidationInterceptor(true);
+    interceptor.setFailFast(true);
+    Method method = ConstrainedService.class.getMethod("update", String.class, Integer.class);
+
+    when(methodInvocation.getThis()).thenReturn(new ConstrainedService());
+    when(methodInvocation.getMethod()).thenReturn(method);
+    when(methodInvocation.getArguments()).thenReturn(new Object[] { null, 11 });
+
+    assertThatExceptionOfType(MethodValidationException.class)
+            .isThrownBy(() -> interceptor.invoke(methodInvocation))
+            .satisfies(ex -> assertThat(ex.getParameterValidationResults()).hasSize(1));
+  }
+
+  public static class PlainService {
+
+    public String echo(String value) {
+      return value;
+    }
+  }
+
+  public static class ConstrainedService {
+
+    public String update(@NotNull String name, @Max(10) Integer count) {
+      return name + count;
+    }
+  }
+
   @Validated
   interface TestService {
 
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.util.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of scheduling a timeout and cancelling it before it fires,
+ * the common case for request timeouts, on a timing wheel and on a
+ * {@link ScheduledThreadPoolExecutor}.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SchedulerBenchmark {
+
+  private static final Runnable NOOP = () -> { };
+
+  @Param({ "wheel", "pool" })
+  public String schedulerType;
+
+  private HashedWheelScheduler wheel;
+
+  private ScheduledThreadPoolExecutor pool;
+
+  @Setup
+  public void setup() {
+    if ("wheel".equals(schedulerType)) {
+      wheel = new HashedWheelScheduler();
+    }
+    else {
+      pool = new ScheduledThreadPoolExecutor(1);
+      pool.setRemoveOnCancelPolicy(true);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (wheel != null) {
+      wheel.shutdown();
+    }
+    if (pool != null) {
+      pool.shutdownNow();
+    }
+  }
+
+  @Benchmark
+  public boolean scheduleAndCancel() {
+    ScheduledFuture<?> timeout = wheel != null
+            ? wheel.schedule(NOOP, 30, TimeUnit.SECONDS)
+            : pool.schedule(NOOP, 30, TimeUnit.SECONDS);
+    return timeout.cancel(false);
+  }
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.util.concurrent;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import infra.util.Assert;
+
+/**
+ * A {@link Scheduler} backed by a hashed timing wheel, optimized for large
+ * numbers of short one-shot timeouts that are mostly cancelled before they
+ * expire, such as request timeouts and retry delays.
+ *
+ * <p>Scheduling and cancelling a task are O(1) and lock-free: new tasks and
+ * cancellations are handed to a single worker thread through queues, and the
+ * worker moves them in and out of the wheel on its next tick. Cancelled
+ * tasks are therefore released after one tick at the latest, rather than
+ * staying in a heap until their original deadline.
+ *
+ * <p>The price is precision: a task runs on the first tick at or after its
+ * deadline, so the configured tick duration bounds the lateness. Delays
+ * longer than one turn of the wheel are counted down in rounds.
+ *
+ * <p>Expired tasks are not run on the worker thread but handed to an
+ * {@link Executor}, by default the common {@link ForkJoinPool}. Pass a
+ * virtual thread executor for tasks that block.
+ *
+ * <pre>{@code
+ * HashedWheelScheduler scheduler = new HashedWheelScheduler(10, TimeUnit.MILLISECONDS, 512,
+ *         Executors.newVirtualThreadPerTaskExecutor());
+ * ScheduledFuture<?> timeout = scheduler.schedule(() -> request.abort(), 30, TimeUnit.SECONDS);
+ * // request completed in time
+ * timeout.cancel(false);
+ * }</pre>
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see DefaultScheduler
+ * @since 5.0
+ */
+public class HashedWheelScheduler implements Scheduler {
+
+  private final Executor executor;
+
+  private final long tickDuration;
+
+  private final Bucket[] wheel;
+
+  private final int mask;
+
+  private final long startTime;
+
+  private final ConcurrentLinkedQueue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+
+  private final ConcurrentLinkedQueue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+
+  private final Thread workerThread;
+
+  private volatile boolean running = true;
+
+  /**
+   * Create a scheduler with a tick duration of 10 milliseconds and 512
+   * buckets, running expired tasks in the common {@link ForkJoinPool}.
+   */
+  public HashedWheelScheduler() {
+    this(10, TimeUnit.MILLISECONDS, 512, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Create a scheduler.
+   *
+   * @param tickDuration the duration between ticks, which bounds how late
+   * a task may run
+   * @param unit the time unit of the tick duration
+   * @param ticksPerWheel the number of buckets, rounded up to a power of two
+   * @param executor the executor to run expired tasks and
+   * {@link #execute(Runnable) immediate} tasks in
+   */
+  public HashedWheelScheduler(long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor) {
+    Assert.isTrue(tickDuration > 0, "tickDuration must be positive");
+    Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "ticksPerWheel must be between 1 and 2^30");
+    Assert.notNull(unit, "TimeUnit is required");
+    Assert.notNull(executor, "Executor is required");
+    this.executor = executor;
+    this.tickDuration = Math.max(unit.toNanos(tickDuration), TimeUnit.MICROSECONDS.toNanos(100));
+
+    int buckets = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    this.wheel = new Bucket[Math.max(buckets, 1)];
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = wheel.length - 1;
+
+    var threadFactory = new CustomizableThreadFactory("infra-wheel-scheduler-");
+    threadFactory.setDaemon(true);
+    this.startTime = System.nanoTime();
+    this.workerThread = threadFactory.newThread(new Worker());
+    this.workerThread.start();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(command);
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    Assert.notNull(command, "Runnable command is required");
+    Assert.notNull(unit, "TimeUnit is required");
+    if (!running) {
+      throw new RejectedExecutionException("Scheduler has been shut down");
+    }
+    long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+    if (delay > 0 && deadline < 0) {
+      // guard against overflow
+      deadline = Long.MAX_VALUE;
+    }
+    Timeout timeout = new Timeout(command, deadline);
+    pendingTimeouts.add(timeout);
+    if (!running) {
+      // shut down concurrently, the worker may have drained the queue already
+      pendingTimeouts.remove(timeout);
+      timeout.cancel(false);
+    }
+    return timeout;
+  }
+
+  /**
+   * Stop the worker thread. Tasks that have not expired yet are cancelled,
+   * including tasks scheduled concurrently with the shutdown; tasks already
+   * handed to the executor keep running.
+   */
+  public void shutdown() {
+    running = false;
+    LockSupport.unpark(workerThread);
+  }
+
+  /**
+   * Return whether {@link #shutdown()} has been called.
+   */
+  public boolean isShutdown() {
+    return !running;
+  }
+
+  /**
+   * The worker thread loop, the only code that touches the wheel.
+   */
+  private final class Worker implements Runnable {
+
+    private long tick;
+
+    @Override
+    public void run() {
+      while (running) {
+        long deadline = waitForNextTick();
+        if (deadline > 0) {
+          removeCancelledTimeouts();
+          transferPendingTimeouts();
+          wheel[(int) (tick & mask)].expireTimeouts(deadline);
+          tick++;
+        }
+      }
+
+      for (Bucket bucket : wheel) {
+        bucket.cancelAll();
+      }
+      Timeout timeout;
+      while ((timeout = pendingTimeouts.poll()) != null) {
+        timeout.cancel(false);
+      }
+      cancelledTimeouts.clear();
+    }
+
+    /**
+     * Wait until the start of the next tick.
+     *
+     * @return the current time relative to the start time, or {@code -1}
+     * if the scheduler has been shut down
+     */
+    private long waitForNextTick() {
+      long deadline = tickDuration * (tick + 1);
+      for (; ; ) {
+        long currentTime = System.nanoTime() - startTime;
+        long sleepTime = deadline - currentTime;
+        if (sleepTime <= 0) {
+          return currentTime;
+        }
+        if (!running) {
+          return -1;
+        }
+        LockSupport.parkNanos(this, sleepTime);
+      }
+    }
+
+    private void transferPendingTimeouts() {
+      // bound the work per tick, so that a flood of new timeouts
+      // cannot delay the expiration of existing ones indefinitely
+      for (int i = 0; i < 100_000; i++) {
+        Timeout timeout = pendingTimeouts.poll();
+        if (timeout == null) {
+          break;
+        }
+        if (timeout.isCancelled()) {
+          continue;
+        }
+        long calculated = timeout.deadline / tickDuration;
+        timeout.remainingRounds = (calculated - tick) / wheel.length;
+
+        // schedule tasks that are already overdue for the current tick
+        long ticks = Math.max(calculated, tick);
+        wheel[(int) (ticks & mask)].add(timeout);
+      }
+    }
+
+    private void removeCancelledTimeouts() {
+      Timeout timeout;
+      while ((timeout = cancelledTimeouts.poll()) != null) {
+        Bucket bucket = timeout.bucket;
+        if (bucket != null) {
+          bucket.remove(timeout);
+        }
+      }
+    }
+  }
+
+  /**
+   * A doubly linked list of timeouts, only accessed by the worker thread.
+   */
+  private final class Bucket {
+
+    @Nullable
+    private Timeout head;
+
+    @Nullable
+    private Timeout tail;
+
+    void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      }
+      else {
+        Timeout last = tail;
+        if (last != null) {
+          last.next = timeout;
+        }
+        timeout.prev = last;
+        tail = timeout;
+      }
+    }
+
+    void expireTimeouts(long deadline) {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.isCancelled()) {
+          remove(timeout);
+        }
+        else if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          if (timeout.deadline <= deadline) {
+            timeout.expire();
+          }
+          else {
+            // the timeout was placed into a wrong slot, should never happen
+            throw new IllegalStateException(
+                    "timeout.deadline (%d) > deadline (%d)".formatted(timeout.deadline, deadline));
+          }
+        }
+        else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(Timeout timeout) {
+      if (timeout.bucket != this) {
+        // already removed
+        return;
+      }
+      Timeout prev = timeout.prev;
+      Timeout next = timeout.next;
+      if (prev != null) {
+        prev.next = next;
+      }
+      if (next != null) {
+        next.prev = prev;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    void cancelAll() {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        remove(timeout);
+        timeout.cancel(false);
+        timeout = next;
+      }
+    }
+  }
+
+  /**
+   * A scheduled task. The wheel fields are only accessed by the worker thread.
+   */
+  private final class Timeout extends FutureTask<@Nullable Object> implements ScheduledFuture<@Nullable Object> {
+
+    private final long deadline;
+
+    private long remainingRounds;
+
+    @Nullable
+    private Bucket bucket;
+
+    @Nullable
+    private Timeout prev;
+
+    @Nullable
+    private Timeout next;
+
+    Timeout(Runnable command, long deadline) {
+      super(command, null);
+      this.deadline = deadline;
+    }
+
+    void expire() {
+      try {
+        executor.execute(this);
+      }
+      catch (RejectedExecutionException ex) {
+        setException(ex);
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled && running) {
+        cancelledTimeouts.add(this);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      if (other == this) {
+        return 0;
+      }
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+
+}
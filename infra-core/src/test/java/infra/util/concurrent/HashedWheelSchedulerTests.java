@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.util.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class HashedWheelSchedulerTests {
+
+  private final HashedWheelScheduler scheduler =
+          new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 8, ForkJoinPool.commonPool());
+
+  @AfterEach
+  void shutdown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void runsTaskAfterDelay() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = System.nanoTime();
+    ScheduledFuture<?> future = scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    future.get(5, TimeUnit.SECONDS);
+    assertThat(future.isDone()).isTrue();
+  }
+
+  @Test
+  void runsTasksLongerThanOneRound() throws Exception {
+    // 8 ticks of 1ms per round
+    CountDownLatch latch = new CountDownLatch(3);
+    scheduler.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+    scheduler.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+    scheduler.schedule(latch::countDown, 100, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void cancelledTaskDoesNotRun() throws Exception {
+    AtomicInteger counter = new AtomicInteger();
+    ScheduledFuture<?> cancelled = scheduler.schedule(counter::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+    CountDownLatch latch = new CountDownLatch(1);
+    scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+    assertThat(cancelled.cancel(false)).isTrue();
+    assertThat(cancelled.isCancelled()).isTrue();
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(counter).hasValue(0);
+    assertThatExceptionOfType(CancellationException.class).isThrownBy(cancelled::get);
+  }
+
+  @Test
+  void reportsRemainingDelay() {
+    ScheduledFuture<?> future = scheduler.schedule(() -> { }, 1, TimeUnit.HOURS);
+    ScheduledFuture<?> sooner = scheduler.schedule(() -> { }, 1, TimeUnit.MINUTES);
+
+    assertThat(future.getDelay(TimeUnit.MINUTES)).isBetween(58L, 60L);
+    assertThat(sooner).isLessThan(future);
+    future.cancel(false);
+    sooner.cancel(false);
+  }
+
+  @Test
+  void rejectsTasksAfterShutdown() throws Exception {
+    ScheduledFuture<?> pending = scheduler.schedule(() -> { }, 1, TimeUnit.HOURS);
+    scheduler.shutdown();
+
+    assertThat(scheduler.isShutdown()).isTrue();
+    assertThatExceptionOfType(RejectedExecutionException.class)
+            .isThrownBy(() -> scheduler.schedule(() -> { }, 1, TimeUnit.SECONDS));
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!pending.isCancelled() && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(pending.isCancelled()).isTrue();
+  }
+
+  @Test
+  void cancelsTasksScheduledConcurrentlyWithShutdown() throws Exception {
+    ConcurrentLinkedQueue<ScheduledFuture<?>> futures = new ConcurrentLinkedQueue<>();
+    CountDownLatch started = new CountDownLatch(4);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread thread = new Thread(() -> {
+        started.countDown();
+        try {
+          while (true) {
+            futures.add(scheduler.schedule(() -> { }, 1, TimeUnit.HOURS));
+          }
+        }
+        catch (RejectedExecutionException ex) {
+          // shut down
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(10);
+    scheduler.shutdown();
+    for (Thread thread : threads) {
+      thread.join(5000);
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!futures.stream().allMatch(ScheduledFuture::isCancelled) && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(futures).isNotEmpty().allMatch(ScheduledFuture::isCancelled);
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.expression.spel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import infra.expression.Expression;
+import infra.expression.spel.standard.SpelExpressionParser;
+import infra.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Evaluation cost of a typical cache key expression and a typical message
+ * selector expression in interpreted, immediately compiled and mixed mode.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SpelCompilationBenchmark {
+
+  @Param({ "OFF", "IMMEDIATE", "MIXED" })
+  public SpelCompilerMode compilerMode;
+
+  private Expression cacheKey;
+
+  private Expression selector;
+
+  private StandardEvaluationContext cacheKeyContext;
+
+  private StandardEvaluationContext selectorContext;
+
+  @Setup
+  public void setup() {
+    SpelExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(compilerMode, null));
+    cacheKey = parser.parseExpression("#user.id + ':' + #region");
+    selector = parser.parseExpression("headers['type'] == 'order' and payload.length() > 10");
+
+    cacheKeyContext = new StandardEvaluationContext();
+    cacheKeyContext.setVariable("user", new User(42L));
+    cacheKeyContext.setVariable("region", "eu-west");
+
+    selectorContext = new StandardEvaluationContext(
+            new Message(Map.of("type", "order", "priority", "high"), "order placed for customer 42"));
+  }
+
+  @Benchmark
+  public void cacheKey(Blackhole bh) {
+    bh.consume(cacheKey.getValue(cacheKeyContext));
+  }
+
+  @Benchmark
+  public void selector(Blackhole bh) {
+    bh.consume(selector.getValue(selectorContext, Boolean.class));
+  }
+
+  public static class User {
+
+    private final long id;
+
+    public User(long id) {
+      this.id = id;
+    }
+
+    public long getId() {
+      return this.id;
+    }
+  }
+
+  public static class Message {
+
+    private final Map<String, Object> headers;
+
+    private final String payload;
+
+    public Message(Map<String, Object> headers, String payload) {
+      this.headers = headers;
+      this.payload = payload;
+    }
+
+    public Map<String, Object> getHeaders() {
+      return this.headers;
+    }
+
+    public String getPayload() {
+      return this.payload;
+    }
+  }
+
+}
@@ -52,6 +52,9 @@ public class SpelParserConfiguration {
    */
   public static final String MAX_SPEL_EXPRESSION_LENGTH_PROPERTY_NAME = "spel.default.max-length";
 
+  @Nullable
+  private static final SpelCompilerMode configuredCompilerMode;
+
   private static final SpelCompilerMode defaultCompilerMode;
 
   /**
@@ -61,7 +64,8 @@ public class SpelParserConfiguration {
 
   static {
     String compilerMode = TodayStrategies.getProperty(EXPRESSION_COMPILER_MODE_PROPERTY_NAME);
-    defaultCompilerMode = compilerMode != null ? SpelCompilerMode.valueOf(compilerMode.toUpperCase(Locale.ROOT)) : SpelCompilerMode.OFF;
+    configuredCompilerMode = compilerMode != null ? SpelCompilerMode.valueOf(compilerMode.toUpperCase(Locale.ROOT)) : null;
+    defaultCompilerMode = configuredCompilerMode != null ? configuredCompilerMode : SpelCompilerMode.OFF;
     DEFAULT_MAX_EXPRESSION_LENGTH = TodayStrategies.getInt(MAX_SPEL_EXPRESSION_LENGTH_PROPERTY_NAME, 10_000);
   }
 
@@ -155,6 +159,21 @@ public class SpelParserConfiguration {
     this.maximumExpressionLength = maximumExpressionLength;
   }
 
+  /**
+   * Return the compiler mode configured through the
+   * {@value #EXPRESSION_COMPILER_MODE_PROPERTY_NAME} property, or the given
+   * mode if that property has not been set.
+   * <p>Intended for framework components that evaluate the same expressions
+   * many times and prefer a different default than {@link SpelCompilerMode#OFF},
+   * while still honoring an explicitly configured mode.
+   *
+   * @param defaultMode the mode to use if none has been configured
+   * @since 5.0
+   */
+  public static SpelCompilerMode getConfiguredCompilerMode(SpelCompilerMode defaultMode) {
+    return configuredCompilerMode != null ? configuredCompilerMode : defaultMode;
+  }
+
   /**
    * Return the compiler mode for parsers using this configuration object.
    */
@@ -91,6 +91,13 @@ public class SpelExpression implements Expression {
   // give up trying to compile it when it just doesn't seem to be possible.
   private final AtomicInteger failedAttempts = new AtomicInteger();
 
+  // The number of times the expression has been successfully compiled
+  private final AtomicInteger compilationCount = new AtomicInteger();
+
+  // The number of times a compiled form failed at runtime and was discarded - an
+  // expression that keeps seeing new types eventually stays interpreted
+  private final AtomicInteger deoptimizationCount = new AtomicInteger();
+
   /**
    * Construct an expression, only used by the parser.
    */
@@ -139,8 +146,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -174,8 +180,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -201,8 +206,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -236,8 +240,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -266,8 +269,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -301,8 +303,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -329,8 +330,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -366,8 +366,7 @@ public class SpelExpression implements Expression {
       catch (Throwable ex) {
         // If running in mixed mode, revert to interpreted
         if (this.configuration.getCompilerMode() == SpelCompilerMode.MIXED) {
-          this.compiledAst = null;
-          this.interpretedCount.set(0);
+          deoptimize();
         }
         else {
           // Running in SpelCompilerMode.immediate mode - propagate exception to caller
@@ -526,6 +525,7 @@ public class SpelExpression implements Expression {
         if (compiledAst != null) {
           // Successfully compiled
           this.compiledAst = compiledAst;
+          this.compilationCount.incrementAndGet();
           return true;
         }
         else {
@@ -563,6 +563,67 @@ public class SpelExpression implements Expression {
     this.failedAttempts.set(0);
   }
 
+  /**
+   * Discard the compiled form after it failed at runtime, typically because the
+   * expression now sees different types than the ones it was compiled for. The
+   * expression is interpreted again and recompiled for the new types once it
+   * reaches the threshold. Each discarded compilation counts as a failed attempt.
+   */
+  private void deoptimize() {
+    this.compiledAst = null;
+    this.interpretedCount.set(0);
+    this.failedAttempts.incrementAndGet();
+    this.deoptimizationCount.incrementAndGet();
+  }
+
+  /**
+   * Return whether this expression is currently evaluated through its compiled form.
+   *
+   * @since 5.0
+   */
+  public boolean isCompiled() {
+    return this.compiledAst != null;
+  }
+
+  /**
+   * Return how many times this expression has been interpreted since it was
+   * last compiled or reverted to interpreted mode.
+   *
+   * @since 5.0
+   */
+  public int getInterpretedCount() {
+    return this.interpretedCount.get();
+  }
+
+  /**
+   * Return how many times this expression has been successfully compiled.
+   *
+   * @since 5.0
+   */
+  public int getCompilationCount() {
+    return this.compilationCount.get();
+  }
+
+  /**
+   * Return how many times the compiled form of this expression failed at
+   * runtime and was discarded in {@link SpelCompilerMode#MIXED mixed} mode.
+   *
+   * @since 5.0
+   */
+  public int getDeoptimizationCount() {
+    return this.deoptimizationCount.get();
+  }
+
+  /**
+   * Return how many compilation attempts have failed, including compiled forms
+   * discarded at runtime. Compilation is no longer attempted after 100 failures.
+   *
+   * @since 5.0
+   */
+  public int getFailedCompilationCount() {
+    return this.failedAttempts.get();
+  }
+
   /**
    * Return the Abstract Syntax Tree for the expression.
    */
@@ -95,6 +95,35 @@ class SpelCompilerTests {
     });
   }
 
+  @Test
+  void mixedModeRecompilesForNewTypesAndTracksStatistics() {
+    SpelParserConfiguration config = new SpelParserConfiguration(SpelCompilerMode.MIXED, null);
+    SpelExpressionParser parser = new SpelExpressionParser(config);
+    SpelExpression expression = (SpelExpression) parser.parseExpression("#bean.value");
+    StandardEvaluationContext context = new StandardEvaluationContext();
+
+    context.setVariable("bean", new Bean1());
+    IntStream.rangeClosed(1, 100).forEach(i -> assertThat(expression.getValue(context)).isEqualTo("11"));
+    assertThat(expression.isCompiled()).isFalse();
+    assertThat(expression.getInterpretedCount()).isEqualTo(100);
+
+    assertThat(expression.getValue(context)).isEqualTo("11");
+    assertThat(expression.isCompiled()).isTrue();
+    assertThat(expression.getCompilationCount()).isEqualTo(1);
+
+    // compiled for Bean1, falls back to the interpreter for Bean2
+    context.setVariable("bean", new Bean2());
+    assertThat(expression.getValue(context)).isEqualTo(111);
+    assertThat(expression.isCompiled()).isFalse();
+    assertThat(expression.getDeoptimizationCount()).isEqualTo(1);
+    assertThat(expression.getFailedCompilationCount()).isEqualTo(1);
+
+    IntStream.rangeClosed(1, 100).forEach(i -> assertThat(expression.getValue(context)).isEqualTo(111));
+    assertThat(expression.isCompiled()).isTrue();
+    assertThat(expression.getCompilationCount()).isEqualTo(2);
+    assertThat(expression.getValue(context)).isEqualTo(111);
+  }
+
   static class OrderedComponent implements Ordered {
 
     @Override
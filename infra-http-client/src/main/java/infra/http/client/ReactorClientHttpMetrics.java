@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.http.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientState;
+
+/**
+ * Connection and exchange statistics for a {@link ReactorClientHttpRequestFactory},
+ * exposing what the Reactor Netty connection pool otherwise keeps to itself:
+ * how long requests wait for a connection, how often pooled connections are
+ * reused, and how many exchanges are in flight at once.
+ *
+ * <p>With HTTP/2 enabled through
+ * {@code HttpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)}, several
+ * exchanges share one connection as separate streams; the number of
+ * {@linkplain #getStreamsOpened() streams opened} compared to the number of
+ * {@linkplain #getConnectionsOpened() connections opened} shows the degree of
+ * multiplexing. Per-host pool limits are configured on the
+ * {@link reactor.netty.resources.ConnectionProvider ConnectionProvider}
+ * that the {@link HttpClient} is created with.
+ *
+ * <p>All counters are cumulative since creation and safe to read at any time.
+ * A single instance may be shared by several request factories.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ReactorClientHttpRequestFactory#setMetrics
+ * @since 5.0
+ */
+public class ReactorClientHttpMetrics {
+
+  private final LongAdder connectionsOpened = new LongAdder();
+
+  private final LongAdder connectionsReused = new LongAdder();
+
+  private final LongAdder streamsOpened = new LongAdder();
+
+  private final LongAdder acquireCount = new LongAdder();
+
+  private final LongAdder acquireTimeNanos = new LongAdder();
+
+  private volatile long maxAcquireTimeNanos;
+
+  private final AtomicInteger activeExchanges = new AtomicInteger();
+
+  private volatile int peakActiveExchanges;
+
+  /**
+   * Return the given client with an observer registered that updates
+   * the connection statistics of this instance.
+   *
+   * @param httpClient the client to instrument
+   * @return the instrumented client
+   */
+  public HttpClient instrument(HttpClient httpClient) {
+    return httpClient.observe(this::onStateChange);
+  }
+
+  private void onStateChange(Connection connection, ConnectionObserver.State newState) {
+    if (newState == ConnectionObserver.State.CONNECTED) {
+      connectionsOpened.increment();
+    }
+    else if (newState == ConnectionObserver.State.ACQUIRED) {
+      connectionsReused.increment();
+    }
+    else if (newState == HttpClientState.STREAM_CONFIGURED) {
+      streamsOpened.increment();
+    }
+  }
+
+  /**
+   * Record the start of an exchange.
+   *
+   * @return the start time to pass to {@link #connectionAcquired(long)}
+   */
+  long exchangeStarted() {
+    int active = activeExchanges.incrementAndGet();
+    if (active > peakActiveExchanges) {
+      synchronized(this) {
+        if (active > peakActiveExchanges) {
+          peakActiveExchanges = active;
+        }
+      }
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Record that a connection or stream for an exchange has been acquired
+   * and the request is about to be sent.
+   *
+   * @param startTime the start time of the exchange
+   */
+  void connectionAcquired(long startTime) {
+    long elapsed = System.nanoTime() - startTime;
+    acquireCount.increment();
+    acquireTimeNanos.add(elapsed);
+    if (elapsed > maxAcquireTimeNanos) {
+      synchronized(this) {
+        if (elapsed > maxAcquireTimeNanos) {
+          maxAcquireTimeNanos = elapsed;
+        }
+      }
+    }
+  }
+
+  /**
+   * Record the end of an exchange, when the response status and headers
+   * have been received or the exchange failed.
+   */
+  void exchangeCompleted() {
+    activeExchanges.decrementAndGet();
+  }
+
+  /**
+   * Return the number of new connections established.
+   */
+  public long getConnectionsOpened() {
+    return connectionsOpened.sum();
+  }
+
+  /**
+   * Return the number of times an idle pooled connection was reused
+   * for an exchange.
+   */
+  public long getConnectionsReused() {
+    return connectionsReused.sum();
+  }
+
+  /**
+   * Return the number of HTTP/2 streams opened on multiplexed connections.
+   */
+  public long getStreamsOpened() {
+    return streamsOpened.sum();
+  }
+
+  /**
+   * Return the number of exchanges that acquired a connection.
+   */
+  public long getAcquireCount() {
+    return acquireCount.sum();
+  }
+
+  /**
+   * Return the total time exchanges waited for a connection, including
+   * the time to establish new connections.
+   *
+   * @param unit the unit to return the time in
+   */
+  public long getTotalAcquireTime(TimeUnit unit) {
+    return unit.convert(acquireTimeNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Return the longest time a single exchange waited for a connection.
+   *
+   * @param unit the unit to return the time in
+   */
+  public long getMaxAcquireTime(TimeUnit unit) {
+    return unit.convert(maxAcquireTimeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Return the number of exchanges currently waiting for a connection
+   * or for a response.
+   */
+  public int getActiveExchanges() {
+    return activeExchanges.get();
+  }
+
+  /**
+   * Return the highest number of concurrently active exchanges.
+   */
+  public int getPeakActiveExchanges() {
+    return peakActiveExchanges;
+  }
+
+  @Override
+  public String toString() {
+    return "ReactorClientHttpMetrics{connectionsOpened=%d, connectionsReused=%d, streamsOpened=%d, acquireCount=%d, maxAcquireTime=%dms, activeExchanges=%d, peakActiveExchanges=%d}"
+            .formatted(getConnectionsOpened(), getConnectionsReused(), getStreamsOpened(), getAcquireCount(),
+                    getMaxAcquireTime(TimeUnit.MILLISECONDS), getActiveExchanges(), getPeakActiveExchanges());
+  }
+
+}
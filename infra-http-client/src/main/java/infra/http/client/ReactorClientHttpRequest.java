@@ -66,6 +66,9 @@ final class ReactorClientHttpRequest extends AbstractStreamingClientHttpRequest
 
   private final Executor executor;
 
+  @Nullable
+  private final ReactorClientHttpMetrics metrics;
+
   /**
    * Create an instance.
    *
@@ -95,11 +98,17 @@ final class ReactorClientHttpRequest extends AbstractStreamingClientHttpRequest
    * Package private constructor for use until exchangeTimeout is removed.
    */
   ReactorClientHttpRequest(HttpClient httpClient, HttpMethod method, URI uri, @Nullable Executor executor, @Nullable Duration exchangeTimeout) {
+    this(httpClient, method, uri, executor, exchangeTimeout, null);
+  }
+
+  ReactorClientHttpRequest(HttpClient httpClient, HttpMethod method, URI uri, @Nullable Executor executor,
+          @Nullable Duration exchangeTimeout, @Nullable ReactorClientHttpMetrics metrics) {
     this.httpClient = httpClient;
     this.method = method;
     this.uri = uri;
     this.executor = (executor != null) ? executor : Schedulers.boundedElastic()::schedule;
     this.exchangeTimeout = exchangeTimeout;
+    this.metrics = metrics;
   }
 
   @Override
@@ -120,9 +129,7 @@ final class ReactorClientHttpRequest extends AbstractStreamingClientHttpRequest
     sender = uri.isAbsolute() ? sender.uri(uri) : sender.uri(uri.toString());
 
     try {
-      Mono<ReactorClientHttpResponse> mono = sender.send((request, outbound) -> send(headers, body, request, outbound))
-              .responseConnection((response, conn) -> Mono.just(new ReactorClientHttpResponse(response, conn)))
-              .next();
+      Mono<ReactorClientHttpResponse> mono = exchange(sender, headers, body);
 
       ReactorClientHttpResponse clientResponse =
               exchangeTimeout != null ? mono.block(exchangeTimeout) : mono.block();
@@ -137,6 +144,25 @@ final class ReactorClientHttpRequest extends AbstractStreamingClientHttpRequest
     }
   }
 
+  private Mono<ReactorClientHttpResponse> exchange(HttpClient.RequestSender sender, HttpHeaders headers, @Nullable Body body) {
+    ReactorClientHttpMetrics metrics = this.metrics;
+    if (metrics == null) {
+      return sender.send((request, outbound) -> send(headers, body, request, outbound))
+              .responseConnection((response, conn) -> Mono.just(new ReactorClientHttpResponse(response, conn)))
+              .next();
+    }
+    return Mono.defer(() -> {
+      long startTime = metrics.exchangeStarted();
+      return sender.send((request, outbound) -> {
+                metrics.connectionAcquired(startTime);
+                return send(headers, body, request, outbound);
+              })
+              .responseConnection((response, conn) -> Mono.just(new ReactorClientHttpResponse(response, conn)))
+              .next()
+              .doFinally(signal -> metrics.exchangeCompleted());
+    });
+  }
+
   private Publisher<Void> send(HttpHeaders headers, @Nullable Body body,
           HttpClientRequest reactorRequest, NettyOutbound nettyOutbound) {
 
@@ -179,9 +205,7 @@ final class ReactorClientHttpRequest extends AbstractStreamingClientHttpRequest
     requestSender = uri.isAbsolute() ? requestSender.uri(uri) : requestSender.uri(uri.toString());
 
     Promise<ClientHttpResponse> promise = Future.forPromise(executor);
-    requestSender.send((request, nettyOutbound) -> send(headers, body, request, nettyOutbound))
-            .responseConnection((reactorResponse, connection) -> Mono.just(new ReactorClientHttpResponse(reactorResponse, connection)))
-            .next()
+    exchange(requestSender, headers, body)
             .subscribe(new CoreSubscriber<>() {
 
               @SuppressWarnings("NullAway")
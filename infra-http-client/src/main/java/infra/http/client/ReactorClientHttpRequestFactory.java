@@ -70,6 +70,8 @@ public class ReactorClientHttpRequestFactory implements ClientHttpRequestFactory
 
   private @Nullable Duration exchangeTimeout;
 
+  private @Nullable ReactorClientHttpMetrics metrics;
+
   private volatile @Nullable HttpClient httpClient;
 
   private final Object lifecycleMonitor = new Object();
@@ -128,6 +130,9 @@ public class ReactorClientHttpRequestFactory implements ClientHttpRequestFactory
     if (this.readTimeout != null) {
       client = client.responseTimeout(this.readTimeout);
     }
+    if (this.metrics != null) {
+      client = this.metrics.instrument(client);
+    }
     return client;
   }
 
@@ -216,6 +221,33 @@ public class ReactorClientHttpRequestFactory implements ClientHttpRequestFactory
     this.exchangeTimeout = exchangeTimeout;
   }
 
+  /**
+   * Set the metrics to record connection reuse, connection wait times and
+   * concurrent exchanges of this factory in.
+   * <p>By default, no metrics are recorded.
+   *
+   * @param metrics the metrics to record in
+   * @since 5.0
+   */
+  public void setMetrics(ReactorClientHttpMetrics metrics) {
+    Assert.notNull(metrics, "ReactorClientHttpMetrics is required");
+    Assert.state(this.metrics == null, "ReactorClientHttpMetrics already set");
+    this.metrics = metrics;
+    HttpClient httpClient = this.httpClient;
+    if (httpClient != null) {
+      this.httpClient = metrics.instrument(httpClient);
+    }
+  }
+
+  /**
+   * Return the metrics this factory records in, if any.
+   *
+   * @since 5.0
+   */
+  public @Nullable ReactorClientHttpMetrics getMetrics() {
+    return this.metrics;
+  }
+
   @Override
   public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
     HttpClient client = this.httpClient;
@@ -224,7 +256,7 @@ public class ReactorClientHttpRequestFactory implements ClientHttpRequestFactory
               "Expected HttpClient or ResourceFactory and mapper");
       client = createHttpClient(this.resourceFactory, this.mapper);
     }
-    return new ReactorClientHttpRequest(client, httpMethod, uri, this.executor, this.exchangeTimeout);
+    return new ReactorClientHttpRequest(client, httpMethod, uri, this.executor, this.exchangeTimeout, this.metrics);
   }
 
   @Override
@@ -101,6 +101,19 @@ public final class ReactorClientHttpRequestFactoryBuilder extends AbstractClient
             this.httpClientBuilder.withHttpClientCustomizer(operator));
   }
 
+  /**
+   * Return a new {@link ReactorClientHttpRequestFactoryBuilder} that records
+   * connection and exchange statistics in the given metrics.
+   *
+   * @param metrics the metrics to record in
+   * @return a new {@link ReactorClientHttpRequestFactoryBuilder} instance
+   * @see ReactorClientHttpRequestFactory#setMetrics
+   */
+  public ReactorClientHttpRequestFactoryBuilder withMetrics(ReactorClientHttpMetrics metrics) {
+    Assert.notNull(metrics, "'metrics' is required");
+    return withCustomizer(factory -> factory.setMetrics(metrics));
+  }
+
   /**
    * Return a new {@link ReactorClientHttpRequestFactoryBuilder} that applies the given
    * customizer. This can be useful for applying pre-packaged customizations.
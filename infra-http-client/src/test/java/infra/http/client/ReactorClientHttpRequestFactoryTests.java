@@ -22,11 +22,14 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import infra.http.HttpMethod;
+import infra.http.HttpStatus;
 import infra.http.support.ReactorResourceFactory;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -49,6 +52,36 @@ class ReactorClientHttpRequestFactoryTests extends AbstractHttpRequestFactoryTes
     assertHttpMethod("patch", HttpMethod.PATCH);
   }
 
+  @Test
+  void metricsRecordConnectionReuse() throws Exception {
+    ConnectionProvider connectionProvider = ConnectionProvider.create("metrics-test", 1);
+    try {
+      ReactorClientHttpRequestFactory requestFactory =
+              new ReactorClientHttpRequestFactory(HttpClient.create(connectionProvider));
+      ReactorClientHttpMetrics metrics = new ReactorClientHttpMetrics();
+      requestFactory.setMetrics(metrics);
+
+      for (int i = 0; i < 3; i++) {
+        ClientHttpRequest request = requestFactory.createRequest(URI.create(baseUrl + "/status/ok"), HttpMethod.GET);
+        try (ClientHttpResponse response = request.execute()) {
+          assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+      }
+
+      assertThat(requestFactory.getMetrics()).isSameAs(metrics);
+      assertThat(metrics.getAcquireCount()).isEqualTo(3);
+      assertThat(metrics.getConnectionsOpened()).isEqualTo(1);
+      assertThat(metrics.getConnectionsReused()).isEqualTo(2);
+      assertThat(metrics.getActiveExchanges()).isZero();
+      assertThat(metrics.getPeakActiveExchanges()).isEqualTo(1);
+      assertThat(metrics.getMaxAcquireTime(TimeUnit.NANOSECONDS)).isPositive()
+              .isLessThanOrEqualTo(metrics.getTotalAcquireTime(TimeUnit.NANOSECONDS));
+    }
+    finally {
+      connectionProvider.disposeLater().block(Duration.ofSeconds(5));
+    }
+  }
+
   @Test
   void restartWithDefaultConstructor() {
     ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory();
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.http.converter.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import infra.core.ResolvableType;
+import infra.http.HttpHeaders;
+import infra.http.HttpInputMessage;
+import infra.http.HttpOutputMessage;
+import infra.http.MediaType;
+
+/**
+ * Round trip of a typical REST DTO through the Jackson converter:
+ * writing a response body and reading a request body.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JacksonJsonHttpMessageConverterBenchmark {
+
+  private static final ResolvableType ORDER_TYPE = ResolvableType.forClass(Order.class);
+
+  private static final ResolvableType ORDER_LIST_TYPE = ResolvableType.forClassWithGenerics(List.class, Order.class);
+
+  private final JacksonJsonHttpMessageConverter converter = new JacksonJsonHttpMessageConverter();
+
+  private final BufferOutputMessage outputMessage = new BufferOutputMessage();
+
+  private Order order;
+
+  private List<Order> orders;
+
+  private byte[] orderJson;
+
+  @Setup
+  public void setup() throws Exception {
+    order = new Order(1042L, "ACME-7", List.of(new Line("sku-1", 2, 1999), new Line("sku-2", 1, 4999)),
+            Instant.parse("2024-05-17T13:42:07Z"));
+    orders = List.of(order, order, order, order, order);
+    converter.write(order, ORDER_TYPE, MediaType.APPLICATION_JSON, outputMessage, null);
+    orderJson = outputMessage.body.toByteArray();
+  }
+
+  @Benchmark
+  public int writeObject() throws Exception {
+    outputMessage.body.reset();
+    converter.write(order, ORDER_TYPE, MediaType.APPLICATION_JSON, outputMessage, null);
+    return outputMessage.body.size();
+  }
+
+  @Benchmark
+  public int writeList() throws Exception {
+    outputMessage.body.reset();
+    converter.write(orders, ORDER_LIST_TYPE, MediaType.APPLICATION_JSON, outputMessage, null);
+    return outputMessage.body.size();
+  }
+
+  @Benchmark
+  public Object readObject() throws Exception {
+    return converter.read(ORDER_TYPE, new BufferInputMessage(orderJson), null);
+  }
+
+  public record Order(long id, String customer, List<Line> lines, Instant created) {
+
+  }
+
+  public record Line(String sku, int quantity, long priceInCents) {
+
+  }
+
+  static final class BufferOutputMessage implements HttpOutputMessage {
+
+    final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+    final HttpHeaders headers = HttpHeaders.forWritable();
+
+    @Override
+    public OutputStream getBody() {
+      return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+
+  static final class BufferInputMessage implements HttpInputMessage {
+
+    final InputStream body;
+
+    final HttpHeaders headers = HttpHeaders.forWritable();
+
+    BufferInputMessage(byte[] body) {
+      this.body = new ByteArrayInputStream(body);
+      this.headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    public InputStream getBody() {
+      return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+
+}
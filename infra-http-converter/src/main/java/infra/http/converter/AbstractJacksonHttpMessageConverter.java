@@ -49,6 +49,7 @@ import infra.http.ProblemDetail;
 import infra.http.converter.json.JacksonJsonHttpMessageConverter;
 import infra.http.converter.json.MappingJacksonValue;
 import infra.util.CollectionUtils;
+import infra.util.ConcurrentLruCache;
 import infra.util.StreamUtils;
 import infra.util.TypeUtils;
 import tools.jackson.core.JacksonException;
@@ -94,6 +95,8 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 
   private static final Map<String, JsonEncoding> ENCODINGS;
 
+  private static final int READER_WRITER_CACHE_LIMIT = 256;
+
   private static volatile @Nullable List<JacksonModule> modules = null;
 
   static {
@@ -110,6 +113,16 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 
   private final @Nullable PrettyPrinter ssePrettyPrinter;
 
+  /**
+   * Readers and writers are immutable and resolve their root (de)serializer
+   * once, so they are cached per mapper, target type and view.
+   */
+  private final ConcurrentLruCache<ReaderKey, ObjectReader> readerCache =
+          new ConcurrentLruCache<>(READER_WRITER_CACHE_LIMIT, this::createReader);
+
+  private final ConcurrentLruCache<WriterKey, ObjectWriter> writerCache =
+          new ConcurrentLruCache<>(READER_WRITER_CACHE_LIMIT, this::createWriter);
+
   /**
    * Construct a new instance with the provided {@link MapperBuilder builder}
    * customized with the {@link tools.jackson.databind.JacksonModule}s found
@@ -334,10 +347,8 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
             "UTF-32".equals(charset.name());
     try {
       InputStream inputStream = StreamUtils.nonClosing(inputMessage.getBody());
-      ObjectReader objectReader = mapper.readerFor(javaType);
-      if (hints != null && hints.containsKey(JSON_VIEW_HINT)) {
-        objectReader = objectReader.withView((Class<?>) hints.get(JSON_VIEW_HINT));
-      }
+      Class<?> jsonView = hints != null ? (Class<?>) hints.get(JSON_VIEW_HINT) : null;
+      ObjectReader objectReader = readerCache.get(new ReaderKey(mapper, javaType, jsonView));
       objectReader = customizeReader(objectReader, javaType);
       if (isUnicode) {
         return objectReader.readValue(inputStream);
@@ -421,18 +432,14 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
       filters = (FilterProvider) hints.get(FILTER_PROVIDER_HINT);
     }
 
-    ObjectWriter objectWriter = jsonView != null ? mapper.writerWithView(jsonView) : mapper.writer();
-
-    if (filters != null) {
-      objectWriter = objectWriter.with(filters);
-    }
+    JavaType rootType = null;
     if (javaType != null && (javaType.isContainerType() || javaType.isTypeOrSubTypeOf(Optional.class))) {
-      objectWriter = objectWriter.forType(javaType);
+      rootType = javaType;
     }
-    SerializationConfig config = objectWriter.getConfig();
-    if (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM)
-            && config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
-      objectWriter = objectWriter.with(this.ssePrettyPrinter);
+    boolean eventStream = contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM);
+    ObjectWriter objectWriter = writerCache.get(new WriterKey(mapper, rootType, jsonView, eventStream));
+    if (filters != null) {
+      objectWriter = objectWriter.with(filters);
     }
     objectWriter = customizeWriter(objectWriter, javaType, contentType);
     OutputStream outputStream = StreamUtils.nonClosing(outputMessage.getBody());
@@ -450,6 +457,26 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
     }
   }
 
+  private ObjectReader createReader(ReaderKey key) {
+    ObjectReader objectReader = key.mapper.readerFor(key.type);
+    if (key.view != null) {
+      objectReader = objectReader.withView(key.view);
+    }
+    return objectReader;
+  }
+
+  private ObjectWriter createWriter(WriterKey key) {
+    ObjectWriter objectWriter = key.view != null ? key.mapper.writerWithView(key.view) : key.mapper.writer();
+    if (key.type != null) {
+      objectWriter = objectWriter.forType(key.type);
+    }
+    SerializationConfig config = objectWriter.getConfig();
+    if (key.eventStream && config.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+      objectWriter = objectWriter.with(this.ssePrettyPrinter);
+    }
+    return objectWriter;
+  }
+
   /**
    * Subclasses can use this method to customize the {@link ObjectWriter} used
    * for writing values.
@@ -515,4 +542,12 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
     return true;
   }
 
+  private record ReaderKey(ObjectMapper mapper, JavaType type, @Nullable Class<?> view) {
+
+  }
+
+  private record WriterKey(ObjectMapper mapper, @Nullable JavaType type, @Nullable Class<?> view, boolean eventStream) {
+
+  }
+
 }
@@ -475,6 +475,28 @@ class JacksonJsonHttpMessageConverterTests {
     assertThat(result).contains("\"withoutView\":\"without\"");
   }
 
+  @Test
+  void cachedWritersAreSelectedPerJsonView() throws Exception {
+    JacksonViewBean bean = new JacksonViewBean();
+    bean.setWithView1("with");
+    bean.setWithView2("with");
+    bean.setWithoutView("without");
+
+    for (int i = 0; i < 2; i++) {
+      MockHttpOutputMessage view1Message = new MockHttpOutputMessage();
+      this.converter.write(bean, ResolvableType.forType(JacksonViewBean.class), MediaType.APPLICATION_JSON,
+              view1Message, Collections.singletonMap(JsonView.class.getName(), MyJacksonView1.class));
+      assertThat(view1Message.getBodyAsString(StandardCharsets.UTF_8))
+              .contains("\"withView1\":\"with\"").doesNotContain("withoutView");
+
+      MockHttpOutputMessage noViewMessage = new MockHttpOutputMessage();
+      this.converter.write(bean, ResolvableType.forType(JacksonViewBean.class), MediaType.APPLICATION_JSON,
+              noViewMessage, null);
+      assertThat(noViewMessage.getBodyAsString(StandardCharsets.UTF_8))
+              .contains("\"withView1\":\"with\"").contains("\"withoutView\":\"without\"");
+    }
+  }
+
   @Test
   void filters() throws Exception {
     MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
@@ -233,10 +233,10 @@ public abstract class AbstractServerHttpResponse implements ServerHttpResponse {
    * @return a completion publisher
    */
   protected Mono<Void> doCommit(@Nullable Supplier<? extends Mono<Void>> writeAction) {
-    Flux<Void> allActions = Flux.empty();
+    Flux<Void> preCommit = null;
     if (this.state.compareAndSet(State.NEW, State.COMMITTING)) {
       if (!this.commitActions.isEmpty()) {
-        allActions = Flux.concat(Flux.fromIterable(this.commitActions).map(Supplier::get)).doOnError(ex -> {
+        preCommit = Flux.concat(Flux.fromIterable(this.commitActions).map(Supplier::get)).doOnError(ex -> {
           if (this.state.compareAndSet(State.COMMITTING, State.COMMIT_ACTION_FAILED)) {
             getHeaders().clearContentHeaders();
           }
@@ -250,18 +250,20 @@ public abstract class AbstractServerHttpResponse implements ServerHttpResponse {
       return Mono.empty();
     }
 
-    allActions = allActions.concatWith(Mono.fromRunnable(() -> {
+    Mono<Void> applyCommit = Mono.fromRunnable(() -> {
       applyStatusCode();
       applyHeaders();
       applyCookies();
       this.state.set(State.COMMITTED);
-    }));
+    });
 
+    // Mono#then calls are fused into a single operator, which keeps the
+    // common case of a response without commit actions to one layer
+    Mono<Void> allActions = preCommit != null ? preCommit.then(applyCommit) : applyCommit;
     if (writeAction != null) {
-      allActions = allActions.concatWith(writeAction.get());
+      allActions = allActions.then(writeAction.get());
     }
-
-    return allActions.then();
+    return allActions;
   }
 
   /**
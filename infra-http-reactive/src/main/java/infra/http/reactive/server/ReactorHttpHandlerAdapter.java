@@ -18,6 +18,8 @@
 
 package infra.http.reactive.server;
 
+import org.jspecify.annotations.Nullable;
+
 import java.net.URISyntaxException;
 import java.util.function.BiFunction;
 
@@ -26,6 +28,7 @@ import infra.http.HttpLogging;
 import infra.http.HttpMethod;
 import infra.util.Assert;
 import infra.logging.Logger;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.server.HttpServerRequest;
@@ -44,6 +47,9 @@ public class ReactorHttpHandlerAdapter implements BiFunction<HttpServerRequest,
 
   private final HttpHandler httpHandler;
 
+  @Nullable
+  private volatile NettyDataBufferFactory bufferFactory;
+
   public ReactorHttpHandlerAdapter(HttpHandler httpHandler) {
     Assert.notNull(httpHandler, "HttpHandler is required");
     this.httpHandler = httpHandler;
@@ -51,7 +57,7 @@ public class ReactorHttpHandlerAdapter implements BiFunction<HttpServerRequest,
 
   @Override
   public Mono<Void> apply(HttpServerRequest reactorRequest, HttpServerResponse reactorResponse) {
-    NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(reactorResponse.alloc());
+    NettyDataBufferFactory bufferFactory = getBufferFactory(reactorResponse.alloc());
     try {
       ServerHttpResponse response = new ReactorServerHttpResponse(reactorResponse, bufferFactory);
       ReactorServerHttpRequest request = new ReactorServerHttpRequest(reactorRequest, bufferFactory);
@@ -76,4 +82,18 @@ public class ReactorHttpHandlerAdapter implements BiFunction<HttpServerRequest,
     }
   }
 
+  /**
+   * Return a buffer factory for the given allocator. All connections
+   * usually share the same allocator, so the factory is reused rather
+   * than created for every request.
+   */
+  private NettyDataBufferFactory getBufferFactory(ByteBufAllocator allocator) {
+    NettyDataBufferFactory bufferFactory = this.bufferFactory;
+    if (bufferFactory == null || bufferFactory.getByteBufAllocator() != allocator) {
+      bufferFactory = new NettyDataBufferFactory(allocator);
+      this.bufferFactory = bufferFactory;
+    }
+    return bufferFactory;
+  }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.http.service.invoker;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.core.ParameterizedTypeReference;
+import infra.http.HttpHeaders;
+import infra.http.ResponseEntity;
+import infra.http.service.annotation.GetExchange;
+import infra.util.concurrent.Future;
+import infra.web.annotation.PathVariable;
+import infra.web.annotation.RequestHeader;
+import infra.web.annotation.RequestParam;
+
+/**
+ * Client-side overhead of invoking a five-argument HTTP interface method,
+ * from the proxy call up to the {@link HttpRequestValues} handed to the
+ * exchange adapter, without any I/O.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HttpServiceInvocationBenchmark {
+
+  private final CapturingExchangeAdapter adapter = new CapturingExchangeAdapter();
+
+  private OrderService service;
+
+  @Setup
+  public void setup() {
+    service = HttpServiceProxyFactory.builder()
+            .exchangeAdapter(adapter)
+            .build()
+            .createClient(OrderService.class);
+  }
+
+  @Benchmark
+  public @Nullable HttpRequestValues invoke() {
+    service.findOrders("acme", "4711", "OPEN", 50, "trace-123");
+    return adapter.requestValues;
+  }
+
+  public interface OrderService {
+
+    @GetExchange("/tenants/{tenant}/customers/{customer}/orders")
+    void findOrders(@PathVariable String tenant, @PathVariable String customer,
+            @RequestParam String status, @RequestParam int limit, @RequestHeader("X-Trace-Id") String traceId);
+
+  }
+
+  static final class CapturingExchangeAdapter implements HttpExchangeAdapter {
+
+    @Nullable
+    HttpRequestValues requestValues;
+
+    @Override
+    public boolean supportsRequestAttributes() {
+      return true;
+    }
+
+    @Override
+    public void exchange(HttpRequestValues requestValues) {
+      this.requestValues = requestValues;
+    }
+
+    @Override
+    public <T> Future<T> exchangeAsyncBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyTypeRef) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<Void> exchangeAsyncVoid(HttpRequestValues requestValues) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public HttpHeaders exchangeForHeaders(HttpRequestValues requestValues) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> @Nullable T exchangeForBody(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues requestValues) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<ResponseEntity<Void>> exchangeForBodilessEntityAsync(HttpRequestValues requestValues) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> Future<ResponseEntity<T>> exchangeForEntityAsync(HttpRequestValues requestValues, ParameterizedTypeReference<T> bodyType) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+}
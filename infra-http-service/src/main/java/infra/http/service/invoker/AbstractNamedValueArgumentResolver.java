@@ -99,6 +99,11 @@ public abstract class AbstractNamedValueArgumentResolver implements HttpServiceA
     return true;
   }
 
+  @Override
+  public boolean isParameterBased() {
+    return true;
+  }
+
   private @Nullable NamedValueInfo getNamedValueInfo(MethodParameter parameter, HttpRequestValues.Builder requestValues) {
     NamedValueInfo info = this.namedValueInfoCache.get(parameter);
     if (info == null) {
@@ -55,4 +55,9 @@ public class HttpMethodArgumentResolver implements HttpServiceArgumentResolver {
     return true;
   }
 
+  @Override
+  public boolean isParameterBased() {
+    return true;
+  }
+
 }
@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -39,6 +40,7 @@ import infra.http.MediaType;
 import infra.http.service.annotation.HttpExchange;
 import infra.util.Assert;
 import infra.util.CollectionUtils;
+import infra.util.ConcurrentLruCache;
 import infra.util.LinkedMultiValueMap;
 import infra.util.MultiValueMap;
 import infra.web.util.UriBuilderFactory;
@@ -59,6 +61,13 @@ public class HttpRequestValues {
 
   private static final MultiValueMap<String, String> EMPTY_COOKIES_MAP = MultiValueMap.empty();
 
+  /**
+   * URI templates with query parameter placeholders appended, keyed by the
+   * original template and the names and value counts of the parameters.
+   */
+  private static final ConcurrentLruCache<QueryTemplateKey, String> queryTemplateCache =
+          new ConcurrentLruCache<>(256, QueryTemplateKey::createTemplate);
+
   @Nullable
   private final HttpMethod httpMethod;
 
@@ -601,18 +610,22 @@ public class HttpRequestValues {
     }
 
     private String appendQueryParams(String uriTemplate, Map<String, String> uriVars, MultiValueMap<String, String> requestParams) {
-      UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.forURIString(uriTemplate);
-
+      int size = requestParams.size();
+      String[] names = new String[size];
+      int[] counts = new int[size];
+      int i = 0;
       for (Map.Entry<String, List<String>> entry : requestParams.entrySet()) {
         String nameVar = entry.getKey().replace(":", "%3A"); // suppress treatment as regex
         uriVars.put(nameVar, entry.getKey());
-        for (int j = 0; j < entry.getValue().size(); j++) {
-          String valueVar = nameVar + "[" + j + "]";
-          uriVars.put(valueVar, entry.getValue().get(j));
-          uriComponentsBuilder.queryParam("{" + nameVar + "}", "{" + valueVar + "}");
+        List<String> values = entry.getValue();
+        for (int j = 0; j < values.size(); j++) {
+          uriVars.put(nameVar + "[" + j + "]", values.get(j));
         }
+        names[i] = nameVar;
+        counts[i++] = values.size();
       }
-      return uriComponentsBuilder.build().toUriString();
+      // the template only depends on the parameter names and value counts
+      return queryTemplateCache.get(new QueryTemplateKey(uriTemplate, names, counts));
     }
 
     /**
@@ -628,4 +641,36 @@ public class HttpRequestValues {
     }
   }
 
+  private record QueryTemplateKey(String uriTemplate, String[] names, int[] counts) {
+
+    String createTemplate() {
+      UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.forURIString(uriTemplate);
+      for (int i = 0; i < names.length; i++) {
+        String nameVar = names[i];
+        for (int j = 0; j < counts[i]; j++) {
+          uriComponentsBuilder.queryParam("{" + nameVar + "}", "{" + nameVar + "[" + j + "]}");
+        }
+      }
+      return uriComponentsBuilder.build().toUriString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return this == other || (other instanceof QueryTemplateKey that
+              && uriTemplate.equals(that.uriTemplate)
+              && Arrays.equals(names, that.names)
+              && Arrays.equals(counts, that.counts));
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * uriTemplate.hashCode() + Arrays.hashCode(names)) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+      return uriTemplate + " " + Arrays.toString(names) + " " + Arrays.toString(counts);
+    }
+  }
+
 }
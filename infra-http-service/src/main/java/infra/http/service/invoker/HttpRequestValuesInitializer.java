@@ -66,11 +66,9 @@ final class HttpRequestValuesInitializer {
   @Nullable
   private final List<MediaType> acceptMediaTypes;
 
-  @Nullable
-  private final MultiValueMap<String, String> otherHeaders;
+  private final NameValues[] otherHeaders;
 
-  @Nullable
-  private final MultiValueMap<String, String> params;
+  private final NameValues[] params;
 
   private final HttpRequestValuesCreator<HttpRequestValues> requestValuesCreator;
 
@@ -81,10 +79,10 @@ final class HttpRequestValuesInitializer {
           @Nullable List<MediaType> acceptMediaTypes, @Nullable MultiValueMap<String, String> otherHeaders,
           @Nullable MultiValueMap<String, String> params, HttpRequestValuesCreator<HttpRequestValues> requestValuesCreator, @Nullable String version) {
     this.uri = uri;
-    this.params = params;
+    this.params = NameValues.from(params);
     this.httpMethod = method;
     this.contentType = contentType;
-    this.otherHeaders = otherHeaders;
+    this.otherHeaders = NameValues.from(otherHeaders);
     this.acceptMediaTypes = acceptMediaTypes;
     this.requestValuesCreator = requestValuesCreator;
     this.version = version;
@@ -104,23 +102,12 @@ final class HttpRequestValuesInitializer {
     if (acceptMediaTypes != null) {
       requestValues.setAccept(acceptMediaTypes);
     }
-    if (params != null) {
-      for (var entry : params.entrySet()) {
-        requestValues.addRequestParameter(entry.getKey(), StringUtils.toStringArray(entry.getValue()));
-      }
+    for (NameValues param : params) {
+      requestValues.addRequestParameter(param.name, param.values);
     }
 
-    if (otherHeaders != null) {
-      for (var entry : otherHeaders.entrySet()) {
-        var name = entry.getKey();
-        var values = entry.getValue();
-        if (values.size() == 1) {
-          requestValues.addHeader(name, values.get(0));
-        }
-        else {
-          requestValues.addHeader(name, StringUtils.toStringArray(values));
-        }
-      }
+    for (NameValues header : otherHeaders) {
+      requestValues.addHeader(header.name, header.values);
     }
 
     if (version != null) {
@@ -395,4 +382,24 @@ final class HttpRequestValuesInitializer {
     }
   }
 
+  /**
+   * Header or parameter values, converted to arrays once.
+   */
+  private record NameValues(String name, String[] values) {
+
+    private static final NameValues[] EMPTY = new NameValues[0];
+
+    static NameValues[] from(@Nullable MultiValueMap<String, String> map) {
+      if (map == null || map.isEmpty()) {
+        return EMPTY;
+      }
+      NameValues[] result = new NameValues[map.size()];
+      int i = 0;
+      for (var entry : map.entrySet()) {
+        result[i++] = new NameValues(entry.getKey(), StringUtils.toStringArray(entry.getValue()));
+      }
+      return result;
+    }
+  }
+
 }
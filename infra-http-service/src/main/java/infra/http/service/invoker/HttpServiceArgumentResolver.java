@@ -44,4 +44,19 @@ public interface HttpServiceArgumentResolver {
   boolean resolve(@Nullable Object argument,
           MethodParameter parameter, HttpRequestValues.Builder requestValues);
 
+  /**
+   * Whether {@link #resolve} accepts or declines an argument based on the
+   * method parameter and the {@code @HttpExchange} metadata alone,
+   * regardless of the argument value.
+   * <p>If this and all resolvers ahead of it in order decide by the
+   * parameter, a parameter it accepted once is bound to it, and subsequent
+   * invocations skip the other resolvers. The default is {@code false},
+   * which keeps the resolver consulted in order on every invocation.
+   *
+   * @since 5.0
+   */
+  default boolean isParameterBased() {
+    return false;
+  }
+
 }
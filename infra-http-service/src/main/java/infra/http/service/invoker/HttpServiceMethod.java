@@ -49,6 +49,12 @@ final class HttpServiceMethod {
 
   private final List<HttpServiceArgumentResolver> argumentResolvers;
 
+  /**
+   * The resolver bound to each parameter, once the first resolver in order to
+   * accept it turned out to decide by the parameter, as did all before it.
+   */
+  private final @Nullable HttpServiceArgumentResolver[] boundResolvers;
+
   private final HttpRequestValuesInitializer requestValuesInitializer;
 
   private final RequestExecution<HttpRequestValues> requestExecution;
@@ -63,6 +69,7 @@ final class HttpServiceMethod {
     this.method = method;
     this.parameters = initMethodParameters(method);
     this.argumentResolvers = argumentResolvers;
+    this.boundResolvers = new HttpServiceArgumentResolver[this.parameters.length];
     this.requestValuesProcessor = requestValuesProcessor;
     this.requestExecution = factory.createRequestExecution(serviceType, method);
     this.requestValuesInitializer = HttpRequestValuesInitializer.create(method, serviceType, embeddedValueResolver, factory);
@@ -100,12 +107,21 @@ final class HttpServiceMethod {
     Assert.isTrue(arguments.length == parameters.length, "Method argument mismatch");
     for (int i = 0; i < arguments.length; i++) {
       Object value = arguments[i];
+      HttpServiceArgumentResolver bound = boundResolvers[i];
+      if (bound != null && bound.resolve(value, parameters[i], requestValues)) {
+        continue;
+      }
       boolean resolved = false;
+      boolean parameterBased = true;
       for (HttpServiceArgumentResolver resolver : this.argumentResolvers) {
         if (resolver.resolve(value, parameters[i], requestValues)) {
+          if (parameterBased && resolver.isParameterBased()) {
+            boundResolvers[i] = resolver;
+          }
           resolved = true;
           break;
         }
+        parameterBased &= resolver.isParameterBased();
       }
       if (!resolved) {
         throw new IllegalStateException("Could not resolve parameter [%d] in %s: No suitable resolver"
@@ -89,6 +89,11 @@ public class RequestBodyArgumentResolver implements HttpServiceArgumentResolver
     return true;
   }
 
+  @Override
+  public boolean isParameterBased() {
+    return true;
+  }
+
   private static ParameterizedTypeReference<Object> asParameterizedTypeRef(MethodParameter nestedParam) {
     return ParameterizedTypeReference.forType(nestedParam.getNestedGenericParameterType());
   }
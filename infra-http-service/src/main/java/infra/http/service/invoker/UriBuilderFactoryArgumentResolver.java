@@ -55,4 +55,9 @@ public class UriBuilderFactoryArgumentResolver implements HttpServiceArgumentRes
 
     return true;
   }
+
+  @Override
+  public boolean isParameterBased() {
+    return true;
+  }
 }
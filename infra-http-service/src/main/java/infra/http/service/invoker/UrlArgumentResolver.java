@@ -48,4 +48,9 @@ public class UrlArgumentResolver implements HttpServiceArgumentResolver {
     return true;
   }
 
+  @Override
+  public boolean isParameterBased() {
+    return true;
+  }
+
 }
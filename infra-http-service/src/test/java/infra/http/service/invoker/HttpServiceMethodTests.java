@@ -31,7 +31,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import infra.core.MethodParameter;
 import infra.core.ParameterizedTypeReference;
 import infra.http.HttpEntity;
 import infra.http.HttpHeaders;
@@ -44,6 +46,9 @@ import infra.http.service.annotation.PostExchange;
 import infra.http.service.annotation.PutExchange;
 import infra.util.concurrent.Future;
 import infra.web.annotation.GET;
+import infra.web.annotation.PathVariable;
+import infra.web.annotation.RequestHeader;
+import infra.web.annotation.RequestParam;
 import infra.web.client.ClientResponse;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
@@ -301,11 +306,74 @@ class HttpServiceMethodTests {
 
   }
 
+  @Test
+  void argumentResolversAreBoundPerParameter() {
+    AtomicInteger declined = new AtomicInteger();
+    HttpServiceProxyFactory factory = HttpServiceProxyFactory.builder()
+            .customArgumentResolver(new HttpServiceArgumentResolver() {
+
+              @Override
+              public boolean resolve(@Nullable Object argument, MethodParameter parameter, HttpRequestValues.Builder requestValues) {
+                declined.incrementAndGet();
+                return false;
+              }
+
+              @Override
+              public boolean isParameterBased() {
+                return true;
+              }
+            })
+            .exchangeAdapter(this.client)
+            .build();
+    SearchService service = factory.createClient(SearchService.class);
+
+    service.search("books", "java", "t1");
+    HttpRequestValues first = this.client.getRequestValues();
+    service.search("music", "jazz", "t2");
+    HttpRequestValues second = this.client.getRequestValues();
+
+    assertThat(declined).hasValue(3);
+    assertThat(first.getUriTemplate()).isEqualTo(second.getUriTemplate()).isEqualTo("/search/{category}?{q}={q[0]}");
+    assertThat(first.getUriVariables()).containsEntry("category", "books").containsEntry("q[0]", "java");
+    assertThat(second.getUriVariables()).containsEntry("category", "music").containsEntry("q[0]", "jazz");
+    assertThat(second.getHeaders().getFirst("X-Tenant")).isEqualTo("t2");
+  }
+
+  @Test
+  void valueDependentArgumentResolverIsConsultedFirstOnEveryInvocation() {
+    AtomicInteger invocations = new AtomicInteger();
+    HttpServiceProxyFactory factory = HttpServiceProxyFactory.builder()
+            .customArgumentResolver((argument, parameter, requestValues) -> {
+              invocations.incrementAndGet();
+              return "custom".equals(argument);
+            })
+            .exchangeAdapter(this.client)
+            .build();
+    SearchService service = factory.createClient(SearchService.class);
+
+    service.search("books", "java", "t1");
+    HttpRequestValues first = this.client.getRequestValues();
+    service.search("music", "jazz", "custom");
+    HttpRequestValues second = this.client.getRequestValues();
+
+    assertThat(invocations).hasValue(6);
+    assertThat(first.getHeaders().getFirst("X-Tenant")).isEqualTo("t1");
+    assertThat(second.getHeaders().getFirst("X-Tenant")).isNull();
+    assertThat(second.getUriVariables()).containsEntry("category", "music").containsEntry("q[0]", "jazz");
+  }
+
   protected void verifyReactorClientInvocation(String methodName, @Nullable ParameterizedTypeReference<?> expectedBodyType) {
     assertThat(this.reactorClient.getInvokedMethodName()).isEqualTo(methodName);
     assertThat(this.reactorClient.getBodyType()).isEqualTo(expectedBodyType);
   }
 
+  private interface SearchService {
+
+    @GetExchange("/search/{category}")
+    void search(@PathVariable String category, @RequestParam String q, @RequestHeader("X-Tenant") String tenant);
+
+  }
+
   @SuppressWarnings("unused")
   private interface Service {
 
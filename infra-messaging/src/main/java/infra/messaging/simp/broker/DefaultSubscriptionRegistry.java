@@ -37,7 +37,9 @@ import infra.expression.Expression;
 import infra.expression.ExpressionParser;
 import infra.expression.PropertyAccessor;
 import infra.expression.TypedValue;
+import infra.expression.spel.SpelCompilerMode;
 import infra.expression.spel.SpelEvaluationException;
+import infra.expression.spel.SpelParserConfiguration;
 import infra.expression.spel.standard.SpelExpressionParser;
 import infra.expression.spel.support.SimpleEvaluationContext;
 import infra.util.Assert;
@@ -87,7 +89,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
   private volatile boolean selectorHeaderInUse;
 
-  private final ExpressionParser expressionParser = new SpelExpressionParser();
+  private final ExpressionParser expressionParser = new SpelExpressionParser(
+          new SpelParserConfiguration(SpelParserConfiguration.getConfiguredCompilerMode(SpelCompilerMode.MIXED), null));
 
   private final DestinationCache destinationCache = new DestinationCache();
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of expanding a URI template with four variables, parsing the template
+ * on every call ({@code templateCacheLimit=0}) or expanding a compiled template.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UriTemplateExpansionBenchmark {
+
+  private static final String TEMPLATE = "/users/{userId}/orders/{orderId}?expand={expand}&page={page}";
+
+  @Param({ "0", "256" })
+  public int templateCacheLimit;
+
+  @Param({ "TEMPLATE_AND_VALUES", "URI_COMPONENT" })
+  public DefaultUriBuilderFactory.EncodingMode encodingMode;
+
+  private DefaultUriBuilderFactory factory;
+
+  private Map<String, Object> uriVariables;
+
+  @Setup
+  public void setup() {
+    factory = new DefaultUriBuilderFactory("https://api.example.com/v1");
+    factory.setEncodingMode(encodingMode);
+    factory.setTemplateCacheLimit(templateCacheLimit);
+    uriVariables = Map.of("userId", 42, "orderId", "A-1001", "expand", "items lines", "page", 3);
+  }
+
+  @Benchmark
+  public URI expandMap() {
+    return factory.expand(TEMPLATE, uriVariables);
+  }
+
+  @Benchmark
+  public URI expandVarArgs() {
+    return factory.expand(TEMPLATE, 42, "A-1001", "items lines", 3);
+  }
+
+}
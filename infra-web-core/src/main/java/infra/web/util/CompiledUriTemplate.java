@@ -0,0 +1,478 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import infra.util.Assert;
+import infra.util.CollectionUtils;
+import infra.util.MultiValueMap;
+import infra.util.ObjectUtils;
+import infra.util.StringUtils;
+import infra.web.util.HierarchicalUriComponents.FullPathComponent;
+import infra.web.util.HierarchicalUriComponents.PathComponent;
+import infra.web.util.HierarchicalUriComponents.PathComponentComposite;
+import infra.web.util.HierarchicalUriComponents.PathSegmentComponent;
+import infra.web.util.HierarchicalUriComponents.Type;
+import infra.web.util.UriComponents.UriTemplateVariables;
+
+/**
+ * URI template compiled once into alternating literals and variable slots,
+ * for repeated expansion into a single {@link StringBuilder}.
+ *
+ * <p>Literals are encoded at compile time, and each slot records how its
+ * value is encoded, so expanding produces the same String as expanding
+ * the {@link UriComponents} the template was compiled from, encoding them
+ * according to the {@link Encoding}, and calling {@link UriComponents#toUriString()},
+ * without creating intermediate components.
+ *
+ * <p>Templates that depend on the expanded values for more than a plain
+ * substitution, such as variables in the scheme or port, variables with a
+ * regular expression, or a path starting with a variable, are not compiled.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+final class CompiledUriTemplate implements Serializable {
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private final Encoding encoding;
+
+  private final String[] literals;
+
+  private final Slot[] slots;
+
+  private final int estimatedLength;
+
+  private CompiledUriTemplate(Encoding encoding, String[] literals, Slot[] slots) {
+    this.encoding = encoding;
+    this.literals = literals;
+    this.slots = slots;
+    int length = slots.length * 16;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.estimatedLength = length;
+  }
+
+  /**
+   * Expand the template with the given map of variables.
+   *
+   * @param uriVariables the map of URI variables
+   * @return the expanded URI String
+   * @throws IllegalArgumentException if the map has no value for a variable
+   */
+  public String expand(Map<String, ?> uriVariables) {
+    Assert.notNull(uriVariables, "'uriVariables' is required");
+    return expand(new UriComponents.MapTemplateVariables(uriVariables));
+  }
+
+  /**
+   * Expand the template with the given variable values, in order.
+   *
+   * @param uriVariableValues the URI variable values
+   * @return the expanded URI String
+   * @throws IllegalArgumentException if there are not enough values
+   */
+  public String expand(@Nullable Object... uriVariableValues) {
+    Assert.notNull(uriVariableValues, "'uriVariableValues' is required");
+    return expand(new UriComponents.VarArgsTemplateVariables(uriVariableValues));
+  }
+
+  /**
+   * Expand the template with the given variables.
+   *
+   * @param uriVariables the URI template values
+   * @return the expanded URI String
+   */
+  public String expand(UriTemplateVariables uriVariables) {
+    StringBuilder uri = new StringBuilder(estimatedLength);
+    Slot[] slots = this.slots;
+    for (int i = 0; i < slots.length; i++) {
+      uri.append(literals[i]);
+      Slot slot = slots[i];
+      Object value = uriVariables.getValue(slot.name);
+      if (UriTemplateVariables.SKIP_VALUE.equals(value)) {
+        appendSkipped(uri, slot);
+        continue;
+      }
+      if (slot.query) {
+        if (ObjectUtils.isArray(value)) {
+          value = StringUtils.arrayToCommaDelimitedString(ObjectUtils.toObjectArray(value));
+        }
+        else if (value instanceof Collection<?> collection) {
+          value = StringUtils.collectionToCommaDelimitedString(collection);
+        }
+      }
+      String formatted = value != null ? value.toString() : "";
+      if (slot.type != null) {
+        encode(uri, formatted, slot.type);
+      }
+      else {
+        uri.append(formatted);
+      }
+    }
+    uri.append(literals[slots.length]);
+    return uri.toString();
+  }
+
+  private void appendSkipped(StringBuilder uri, Slot slot) {
+    // the placeholder stays, and is only encoded along with its component
+    if (encoding == Encoding.URI_COMPONENT && slot.type != null) {
+      encode(uri, '{' + slot.name + '}', slot.type);
+    }
+    else {
+      uri.append('{').append(slot.name).append('}');
+    }
+  }
+
+  /**
+   * Append the given value, replacing characters not allowed in the given
+   * component type with escaped UTF-8 octets, equivalent to
+   * {@link HierarchicalUriComponents#encodeUriComponent(String, java.nio.charset.Charset, Type)}.
+   */
+  static void encode(StringBuilder uri, String source, Type type) {
+    int length = source.length();
+    for (int i = 0; i < length; i++) {
+      char c = source.charAt(i);
+      if (c < 0x80) {
+        if (type.isAllowed(c)) {
+          uri.append(c);
+        }
+        else {
+          appendEscaped(uri, c);
+        }
+      }
+      else {
+        // encode the run of non-ASCII chars at once, for surrogate pairs
+        int start = i;
+        while (i + 1 < length && source.charAt(i + 1) >= 0x80) {
+          i++;
+        }
+        for (byte b : source.substring(start, i + 1).getBytes(StandardCharsets.UTF_8)) {
+          if (b >= 0 && type.isAllowed(b)) {
+            uri.append((char) b);
+          }
+          else {
+            appendEscaped(uri, b);
+          }
+        }
+      }
+    }
+  }
+
+  private static void appendEscaped(StringBuilder uri, int b) {
+    uri.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+  }
+
+  /**
+   * Compile the given URI components.
+   *
+   * @param uriComponents the URI components with URI variables, encoded
+   * as required by the given encoding
+   * @param encoding how literals and variable values are encoded
+   * @return the compiled template, or {@code null} if the template cannot
+   * be compiled and must be expanded through {@link UriComponents#expand}
+   */
+  @Nullable
+  static CompiledUriTemplate compile(UriComponents uriComponents, Encoding encoding) {
+    if (uriComponents instanceof HierarchicalUriComponents components) {
+      Compiler compiler = new Compiler(encoding);
+      if (compiler.compile(components)) {
+        return compiler.build();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * How the URI components of a template are encoded.
+   */
+  enum Encoding {
+
+    /**
+     * The components are template encoded, variable values are strictly
+     * encoded when expanded.
+     *
+     * @see UriComponentsBuilder#encode()
+     */
+    TEMPLATE_AND_VALUES,
+
+    /**
+     * The components are raw, literals and values are encoded by the rules
+     * of their URI component after expanding.
+     *
+     * @see UriComponents#encode()
+     */
+    URI_COMPONENT,
+
+    /**
+     * Neither literals nor values are encoded.
+     */
+    NONE
+  }
+
+  /**
+   * A variable in the template.
+   *
+   * @param name the variable name
+   * @param type the component type to encode the value with, or {@code null}
+   * to insert it as is
+   * @param query whether the variable is in a query parameter value, where
+   * arrays and collections are expanded as comma-delimited lists
+   */
+  private record Slot(String name, @Nullable Type type, boolean query) implements Serializable {
+
+  }
+
+  private static final class Compiler {
+
+    private final Encoding encoding;
+
+    private final StringBuilder literal = new StringBuilder();
+
+    private final List<String> literals = new ArrayList<>();
+
+    private final List<Slot> slots = new ArrayList<>();
+
+    Compiler(Encoding encoding) {
+      this.encoding = encoding;
+    }
+
+    /**
+     * Walk the components in the order of {@link HierarchicalUriComponents#toUriString()},
+     * which is also the order in which they are expanded.
+     */
+    boolean compile(HierarchicalUriComponents components) {
+      String scheme = components.getScheme();
+      if (scheme != null) {
+        if (!appendLiteral(scheme, Type.SCHEME)) {
+          return false;
+        }
+        literal.append(':');
+      }
+      String userInfo = components.getUserInfo();
+      String host = components.getHost();
+      if (userInfo != null || host != null) {
+        literal.append("//");
+        if (userInfo != null) {
+          if (!appendTemplate(userInfo, Type.USER_INFO, false)) {
+            return false;
+          }
+          literal.append('@');
+        }
+        if (host != null) {
+          // the host type depends on the expanded host
+          Type hostType = host.startsWith("[") ? Type.HOST_IPV6 : Type.HOST_IPV4;
+          if (encoding == Encoding.URI_COMPONENT ? !appendLiteral(host, hostType) : !appendTemplate(host, hostType, false)) {
+            return false;
+          }
+        }
+        String port = components.getRawPort();
+        if (StringUtils.hasText(port) && !port.equals("-1")) {
+          if (port.indexOf('{') != -1) {
+            return false;
+          }
+          literal.append(':').append(port);
+        }
+      }
+
+      String path = components.getPath();
+      if (StringUtils.isNotEmpty(path)) {
+        if (path.charAt(0) != '/' && (scheme != null || userInfo != null || host != null)) {
+          // whether a delimiter is needed depends on the expanded path
+          if (path.charAt(0) == '{') {
+            return false;
+          }
+          literal.append('/');
+        }
+        if (!appendPath(components.getPathComponent())) {
+          return false;
+        }
+      }
+
+      MultiValueMap<String, String> queryParams = components.getQueryParams();
+      if (!queryParams.isEmpty()) {
+        literal.append('?');
+        boolean empty = true;
+        for (Entry<String, List<String>> entry : queryParams.entrySet()) {
+          String name = entry.getKey();
+          List<String> values = entry.getValue();
+          if (CollectionUtils.isEmpty(values)) {
+            if (!empty) {
+              literal.append('&');
+            }
+            if (!appendLiteral(name, Type.QUERY_PARAM)) {
+              return false;
+            }
+            empty = empty && name.isEmpty();
+          }
+          else {
+            for (String value : values) {
+              if (!empty) {
+                literal.append('&');
+              }
+              if (!appendLiteral(name, Type.QUERY_PARAM)) {
+                return false;
+              }
+              empty = empty && name.isEmpty();
+              if (value != null) {
+                literal.append('=');
+                empty = false;
+                if (!appendTemplate(value, Type.QUERY_PARAM, true)) {
+                  return false;
+                }
+              }
+            }
+          }
+        }
+      }
+
+      String fragment = components.getFragment();
+      if (fragment != null) {
+        literal.append('#');
+        return appendTemplate(fragment, Type.FRAGMENT, false);
+      }
+      return true;
+    }
+
+    /**
+     * Append the path, expanded and encoded per path component.
+     */
+    private boolean appendPath(PathComponent path) {
+      if (path instanceof FullPathComponent) {
+        return appendTemplate(path.getPath(), Type.PATH, false);
+      }
+      else if (path instanceof PathSegmentComponent) {
+        for (String pathSegment : path.getPathSegments()) {
+          literal.append('/');
+          if (!appendTemplate(pathSegment, Type.PATH_SEGMENT, false)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      else if (path instanceof PathComponentComposite composite) {
+        for (PathComponent pathComponent : composite.getPathComponents()) {
+          if (!appendPath(pathComponent)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return path.getPath().isEmpty();
+    }
+
+    CompiledUriTemplate build() {
+      literals.add(literal.toString());
+      return new CompiledUriTemplate(encoding,
+              literals.toArray(new String[0]), slots.toArray(new Slot[0]));
+    }
+
+    /**
+     * Append a component that must not contain URI variables.
+     */
+    private boolean appendLiteral(String source, Type type) {
+      if (source.indexOf('{') != -1) {
+        return false;
+      }
+      appendEncoded(source, type);
+      return true;
+    }
+
+    /**
+     * Append a component with URI variables, matching placeholders like
+     * {@link UriComponents#expandUriComponent} does.
+     */
+    private boolean appendTemplate(String source, Type type, boolean query) {
+      int start = source.indexOf('{');
+      if (start == -1) {
+        appendEncoded(source, type);
+        return true;
+      }
+      if (source.indexOf(':') != -1) {
+        // possibly variables with regular expressions
+        return false;
+      }
+      int literalStart = 0;
+      while (start != -1) {
+        int end = findVariableEnd(source, start);
+        if (end == -1) {
+          start = source.indexOf('{', start + 1);
+          continue;
+        }
+        String name = source.substring(start + 1, end);
+        if (name.indexOf('{') != -1 || name.indexOf('}') != -1) {
+          return false;
+        }
+        appendEncoded(source.substring(literalStart, start), type);
+        literals.add(literal.toString());
+        literal.setLength(0);
+        slots.add(new Slot(name, slotType(type), query));
+        literalStart = end + 1;
+        start = source.indexOf('{', literalStart);
+      }
+      appendEncoded(source.substring(literalStart), type);
+      return true;
+    }
+
+    @Nullable
+    private Type slotType(Type componentType) {
+      return switch (encoding) {
+        case TEMPLATE_AND_VALUES -> Type.URI;
+        case URI_COMPONENT -> componentType;
+        case NONE -> null;
+      };
+    }
+
+    private void appendEncoded(String source, Type type) {
+      if (encoding == Encoding.URI_COMPONENT) {
+        encode(literal, source, type);
+      }
+      else {
+        literal.append(source);
+      }
+    }
+
+    /**
+     * Find the closing brace of a placeholder with at least one character
+     * and no '/', like the pattern {@code \{([^/]+?)\}}.
+     */
+    private static int findVariableEnd(String source, int start) {
+      for (int i = start + 1; i < source.length(); i++) {
+        char c = source.charAt(i);
+        if (c == '/') {
+          return -1;
+        }
+        if (c == '}' && i > start + 1) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+
+}
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import infra.util.CollectionUtils;
+import infra.util.ConcurrentLruCache;
 import infra.util.MultiValueMap;
 import infra.util.ObjectUtils;
 import infra.util.StringUtils;
@@ -46,6 +47,13 @@ import infra.util.StringUtils;
  */
 public class DefaultUriBuilderFactory implements UriBuilderFactory {
 
+  /**
+   * Default maximum number of compiled URI templates.
+   *
+   * @see #setTemplateCacheLimit
+   */
+  public static final int DEFAULT_TEMPLATE_CACHE_LIMIT = 256;
+
   @Nullable
   private final UriComponentsBuilder baseUri;
 
@@ -58,6 +66,9 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
 
   private boolean parsePath = true;
 
+  private ConcurrentLruCache<String, Optional<CompiledUriTemplate>> templateCache =
+          new ConcurrentLruCache<>(DEFAULT_TEMPLATE_CACHE_LIMIT, this::compileTemplate);
+
   /**
    * Default constructor without a base URI.
    * <p>The target address must be specified on each UriBuilder.
@@ -109,6 +120,7 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
    */
   public void setParserType(UriComponentsBuilder.ParserType parserType) {
     this.parserType = parserType;
+    this.templateCache.clear();
   }
 
   /**
@@ -133,6 +145,7 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
    */
   public void setEncodingMode(EncodingMode encodingMode) {
     this.encodingMode = encodingMode;
+    this.templateCache.clear();
   }
 
   /**
@@ -187,6 +200,7 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
    */
   public void setParsePath(boolean parsePath) {
     this.parsePath = parsePath;
+    this.templateCache.clear();
   }
 
   /**
@@ -197,18 +211,92 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
     return this.parsePath;
   }
 
+  /**
+   * Set the maximum number of URI templates that {@link #expand(String, Map)}
+   * and {@link #expand(String, Object...)} keep compiled, so that repeated
+   * expansions of the same template skip parsing it. Templates are compiled
+   * together with the base URI, which must not be modified afterwards.
+   * <p>By default this is set to {@link #DEFAULT_TEMPLATE_CACHE_LIMIT}.
+   * A limit of 0 expands every template through {@link UriComponentsBuilder}.
+   *
+   * @param templateCacheLimit the maximum number of compiled templates
+   * @since 5.0
+   */
+  public void setTemplateCacheLimit(int templateCacheLimit) {
+    this.templateCache = new ConcurrentLruCache<>(templateCacheLimit, this::compileTemplate);
+  }
+
+  /**
+   * Return the maximum number of compiled URI templates.
+   *
+   * @since 5.0
+   */
+  public int getTemplateCacheLimit() {
+    return this.templateCache.capacity();
+  }
+
   // UriTemplateHandler
 
   @Override
   public URI expand(String uriTemplate, Map<String, ?> uriVars) {
+    CompiledUriTemplate template = getCompiledTemplate(uriTemplate);
+    if (template != null) {
+      return URI.create(template.expand(prepareUriVariables(uriVars)));
+    }
     return uriString(uriTemplate).build(uriVars);
   }
 
   @Override
   public URI expand(String uriTemplate, @Nullable Object... uriVars) {
+    CompiledUriTemplate template = getCompiledTemplate(uriTemplate);
+    if (template != null) {
+      if (ObjectUtils.isEmpty(uriVars) && CollectionUtils.isNotEmpty(defaultUriVariables)) {
+        return URI.create(template.expand(prepareUriVariables(Collections.emptyMap())));
+      }
+      return URI.create(template.expand(prepareUriVariables(uriVars)));
+    }
     return uriString(uriTemplate).build(uriVars);
   }
 
+  @Nullable
+  private CompiledUriTemplate getCompiledTemplate(String uriTemplate) {
+    if (templateCache.capacity() == 0) {
+      return null;
+    }
+    return templateCache.get(uriTemplate).orElse(null);
+  }
+
+  private Optional<CompiledUriTemplate> compileTemplate(String uriTemplate) {
+    UriComponents uriComponents = new DefaultUriBuilder(uriTemplate).uriComponentsBuilder.build();
+    CompiledUriTemplate.Encoding encoding = switch (encodingMode) {
+      case TEMPLATE_AND_VALUES -> CompiledUriTemplate.Encoding.TEMPLATE_AND_VALUES;
+      case URI_COMPONENT -> CompiledUriTemplate.Encoding.URI_COMPONENT;
+      // values are encoded up front, or not at all
+      case VALUES_ONLY, NONE -> CompiledUriTemplate.Encoding.NONE;
+    };
+    return Optional.ofNullable(CompiledUriTemplate.compile(uriComponents, encoding));
+  }
+
+  private Map<String, ?> prepareUriVariables(Map<String, ?> uriVars) {
+    if (CollectionUtils.isNotEmpty(defaultUriVariables)) {
+      Map<String, Object> map = CollectionUtils.newHashMap(defaultUriVariables.size() + uriVars.size());
+      map.putAll(defaultUriVariables);
+      map.putAll(uriVars);
+      uriVars = map;
+    }
+    if (encodingMode.equals(EncodingMode.VALUES_ONLY)) {
+      uriVars = UriUtils.encodeUriVariables(uriVars);
+    }
+    return uriVars;
+  }
+
+  private Object[] prepareUriVariables(Object[] uriVars) {
+    if (encodingMode.equals(EncodingMode.VALUES_ONLY)) {
+      uriVars = UriUtils.encodeUriVariables(uriVars);
+    }
+    return uriVars;
+  }
+
   // UriBuilderFactory
 
   @Override
@@ -440,16 +528,7 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
 
     @Override
     public URI build(Map<String, ?> uriVars) {
-      if (CollectionUtils.isNotEmpty(defaultUriVariables)) {
-        Map<String, Object> map = CollectionUtils.newHashMap(defaultUriVariables.size() + uriVars.size());
-        map.putAll(defaultUriVariables);
-        map.putAll(uriVars);
-        uriVars = map;
-      }
-      if (encodingMode.equals(EncodingMode.VALUES_ONLY)) {
-        uriVars = UriUtils.encodeUriVariables(uriVars);
-      }
-      UriComponents uric = this.uriComponentsBuilder.build().expand(uriVars);
+      UriComponents uric = this.uriComponentsBuilder.build().expand(prepareUriVariables(uriVars));
       return createUri(uric);
     }
 
@@ -458,10 +537,7 @@ public class DefaultUriBuilderFactory implements UriBuilderFactory {
       if (ObjectUtils.isEmpty(uriVars) && CollectionUtils.isNotEmpty(defaultUriVariables)) {
         return build(Collections.emptyMap());
       }
-      if (encodingMode.equals(EncodingMode.VALUES_ONLY)) {
-        uriVars = UriUtils.encodeUriVariables(uriVars);
-      }
-      UriComponents uric = this.uriComponentsBuilder.build().expand(uriVars);
+      UriComponents uric = this.uriComponentsBuilder.build().expand(prepareUriVariables(uriVars));
       return createUri(uric);
     }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.jspecify.annotations.Nullable;
+
+import infra.http.HttpHeaders;
+import infra.util.Assert;
+import infra.util.ConcurrentLruCache;
+
+/**
+ * A bounded cache of recently seen forwarded header values, mapped to the
+ * {@link ForwardedValues} parsed from them.
+ *
+ * <p>Behind a proxy, most requests carry one of a few combinations of
+ * forwarded headers, typically differing only in the client address. The
+ * cache is keyed by the raw values of the headers that are used for the
+ * configured format, so a hit skips parsing entirely, while unseen or
+ * malformed values are parsed as before, with parse failures not cached.
+ *
+ * <p>"X-Forwarded-For" is not part of the key, and is read on demand by
+ * {@link ForwardedValues#getForAddress}. The standard "Forwarded" header
+ * carries the client address in its "for" parameter though, so with that
+ * format the cache pays off when the proxy sends a fixed or obfuscated
+ * identifier rather than the actual client address.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ForwardedHeaderUtils#parseForwardedValues(HttpHeaders, boolean)
+ * @since 5.0
+ */
+public class ForwardedHeaderCache {
+
+  /**
+   * The default number of header combinations to keep.
+   */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private final boolean useStandardHeader;
+
+  private final ConcurrentLruCache<HeaderValues, ForwardedValues> cache;
+
+  /**
+   * Create a cache with the {@link #DEFAULT_CAPACITY default capacity}.
+   *
+   * @param useStandardHeader whether to use the standard "Forwarded" header
+   * (true), or the "X-Forwarded-*" alternative headers (false)
+   */
+  public ForwardedHeaderCache(boolean useStandardHeader) {
+    this(useStandardHeader, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a cache with the given capacity.
+   *
+   * @param useStandardHeader whether to use the standard "Forwarded" header
+   * (true), or the "X-Forwarded-*" alternative headers (false)
+   * @param capacity the maximum number of header combinations to keep
+   * (0 disables caching)
+   */
+  public ForwardedHeaderCache(boolean useStandardHeader, int capacity) {
+    Assert.isTrue(capacity >= 0, "capacity must not be negative");
+    this.useStandardHeader = useStandardHeader;
+    this.cache = new ConcurrentLruCache<>(capacity, HeaderValues::parse);
+  }
+
+  /**
+   * Whether the standard "Forwarded" header is used.
+   */
+  public boolean isUseStandardHeader() {
+    return this.useStandardHeader;
+  }
+
+  /**
+   * Return the values for the forwarded headers of a request, parsing them
+   * only if this combination has not been seen recently.
+   *
+   * @param headers the request headers
+   * @throws IllegalArgumentException if a header value cannot be parsed
+   */
+  public ForwardedValues get(HttpHeaders headers) {
+    String prefix = headers.getFirst("X-Forwarded-Prefix");
+    HeaderValues key;
+    if (this.useStandardHeader) {
+      key = new HeaderValues(true, headers.getFirst("Forwarded"), null, null, null, prefix);
+    }
+    else {
+      key = new HeaderValues(false, headers.getFirst("X-Forwarded-Proto"), headers.getFirst("X-Forwarded-Ssl"),
+              headers.getFirst("X-Forwarded-Host"), headers.getFirst("X-Forwarded-Port"), prefix);
+    }
+    return this.cache.get(key);
+  }
+
+  /**
+   * Return the current number of cached header combinations.
+   */
+  public int size() {
+    return this.cache.size();
+  }
+
+  /**
+   * Remove all cached header combinations.
+   */
+  public void clear() {
+    this.cache.clear();
+  }
+
+  /**
+   * Raw header values of a request, with {@code first} holding the "Forwarded"
+   * header in standard mode, and "X-Forwarded-Proto" otherwise.
+   */
+  private record HeaderValues(boolean standard, @Nullable String first, @Nullable String ssl,
+          @Nullable String host, @Nullable String port, @Nullable String prefix) {
+
+    ForwardedValues parse() {
+      if (this.standard) {
+        return ForwardedValues.parseStandard(this.first, this.prefix);
+      }
+      return ForwardedValues.parseXForwarded(this.first, this.ssl, this.host, this.port, this.prefix);
+    }
+  }
+
+}
@@ -75,37 +75,7 @@ public abstract class ForwardedHeaderUtils {
    */
   public static ForwardedInfo parseStandardHeader(URI uri, HttpHeaders headers,
           @Nullable InetSocketAddress remoteAddress, @Nullable InetSocketAddress localAddress) {
-
-    UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.forURI(uri);
-    InetSocketAddress forAddress = null;
-    InetSocketAddress byAddress = null;
-
-    String forwardedHeader = headers.getFirst("Forwarded");
-    if (StringUtils.hasText(forwardedHeader)) {
-      Map<String, String> pairs = parseFirstElement(forwardedHeader);
-
-      String proto = pairs.get("proto");
-      if (proto != null) {
-        uriComponentsBuilder.scheme(proto);
-        uriComponentsBuilder.port(null);
-      }
-      String host = pairs.get("host");
-      if (host != null) {
-        adaptForwardedHost(uriComponentsBuilder, host);
-      }
-      uriComponentsBuilder.resetPortIfDefaultForScheme();
-
-      String forValue = pairs.get("for");
-      if (forValue != null) {
-        forAddress = parseInetSocketAddress(forValue, getPortToUse(remoteAddress, uri));
-      }
-      String byValue = pairs.get("by");
-      if (byValue != null) {
-        byAddress = parseInetSocketAddress(byValue, getPortToUse(localAddress, uri));
-      }
-    }
-
-    return new ForwardedInfo(uriComponentsBuilder, forAddress, byAddress);
+    return parseForwardedValues(headers, true).toForwardedInfo(uri, headers, remoteAddress, localAddress);
   }
 
   /**
@@ -116,7 +86,7 @@ public abstract class ForwardedHeaderUtils {
    * production, allowing any character up to the next delimiter to
    * accept an unquoted host:port or IPv6 "node" value.
    */
-  private static Map<String, String> parseFirstElement(String header) {
+  static Map<String, String> parseFirstElement(String header) {
     Map<String, String> pairs = new LinkedHashMap<>(4);
     int index = 0;
     int length = header.length();
@@ -196,21 +166,10 @@ public abstract class ForwardedHeaderUtils {
   }
 
   private static void adaptForwardedHost(UriComponentsBuilder uriComponentsBuilder, String rawValue) {
-    int portSeparatorIdx = rawValue.lastIndexOf(':');
-    int squareBracketIdx = rawValue.lastIndexOf(']');
-    if (portSeparatorIdx > squareBracketIdx) {
-      if (squareBracketIdx == -1 && rawValue.indexOf(':') != portSeparatorIdx) {
-        throw new IllegalArgumentException("Invalid IPv4 address: " + rawValue);
-      }
+    int portSeparatorIdx = findPortSeparator(rawValue);
+    if (portSeparatorIdx != -1) {
       uriComponentsBuilder.host(rawValue.substring(0, portSeparatorIdx));
-      try {
-        uriComponentsBuilder.port(
-                Integer.parseInt(rawValue, portSeparatorIdx + 1, rawValue.length(), 10));
-      }
-      catch (NumberFormatException ex) {
-        throw new IllegalArgumentException(
-                "Failed to parse port in forwarded host value: " + rawValue + "\"");
-      }
+      uriComponentsBuilder.port(parseForwardedHostPort(rawValue, portSeparatorIdx));
     }
     else {
       uriComponentsBuilder.host(rawValue);
@@ -218,30 +177,56 @@ public abstract class ForwardedHeaderUtils {
     }
   }
 
-  private static int getPortToUse(@Nullable InetSocketAddress address, URI uri) {
-    return (address != null ? address.getPort() : "https".equals(uri.getScheme()) ? 443 : 80);
-  }
-
-  private static InetSocketAddress parseInetSocketAddress(String value, int port) {
-    String host = value;
+  /**
+   * Return the index of the ':' that separates the port in a forwarded host
+   * or address value, or -1 if the value has no port.
+   */
+  static int findPortSeparator(String value) {
     int portSeparatorIdx = value.lastIndexOf(':');
     int squareBracketIdx = value.lastIndexOf(']');
     if (portSeparatorIdx > squareBracketIdx) {
       if (squareBracketIdx == -1 && value.indexOf(':') != portSeparatorIdx) {
         throw new IllegalArgumentException("Invalid IPv4 address: " + value);
       }
+      return portSeparatorIdx;
+    }
+    return -1;
+  }
+
+  static int parseForwardedHostPort(String value, int portSeparatorIdx) {
+    try {
+      return Integer.parseInt(value, portSeparatorIdx + 1, value.length(), 10);
+    }
+    catch (NumberFormatException ex) {
+      throw new IllegalArgumentException(
+              "Failed to parse port in forwarded host value: " + value + "\"");
+    }
+  }
+
+  private static int getPortToUse(@Nullable InetSocketAddress address, URI uri) {
+    return (address != null ? address.getPort() : "https".equals(uri.getScheme()) ? 443 : 80);
+  }
+
+  private static InetSocketAddress parseInetSocketAddress(String value, int port) {
+    String host = value;
+    int portSeparatorIdx = findPortSeparator(value);
+    if (portSeparatorIdx != -1) {
       host = value.substring(0, portSeparatorIdx);
-      try {
-        port = Integer.parseInt(value, portSeparatorIdx + 1, value.length(), 10);
-      }
-      catch (NumberFormatException ex) {
-        throw new IllegalArgumentException(
-                "Failed to parse port in forwarded address value: " + value);
-      }
+      port = parseForwardedAddressPort(value, portSeparatorIdx);
     }
     return InetSocketAddress.createUnresolved(host, port);
   }
 
+  static int parseForwardedAddressPort(String value, int portSeparatorIdx) {
+    try {
+      return Integer.parseInt(value, portSeparatorIdx + 1, value.length(), 10);
+    }
+    catch (NumberFormatException ex) {
+      throw new IllegalArgumentException(
+              "Failed to parse port in forwarded address value: " + value);
+    }
+  }
+
   /**
    * Parse the "X-Forwarded-Proto", "X-Forwarded-Host", "X-Forwarded-Port", and
    * "X-Forwarded-For" headers, the alternative to the "Forwarded" header.
@@ -259,47 +244,34 @@ public abstract class ForwardedHeaderUtils {
    */
   public static ForwardedInfo parseXForwardedHeaders(URI uri, HttpHeaders headers,
           @Nullable InetSocketAddress remoteAddress, @Nullable InetSocketAddress localAddress) {
+    return parseForwardedValues(headers, false).toForwardedInfo(uri, headers, remoteAddress, localAddress);
+  }
 
-    UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.forURI(uri);
-
-    String protocolHeader = headers.getFirst("X-Forwarded-Proto");
-    if (StringUtils.hasText(protocolHeader)) {
-      uriComponentsBuilder.scheme(getLeftMostValue(protocolHeader));
-      uriComponentsBuilder.port(null);
-    }
-    else if (isForwardedSslOn(headers)) {
-      uriComponentsBuilder.scheme("https");
-      uriComponentsBuilder.port(null);
-    }
-    String hostHeader = headers.getFirst("X-Forwarded-Host");
-    if (StringUtils.hasText(hostHeader)) {
-      adaptForwardedHost(uriComponentsBuilder, getLeftMostValue(hostHeader));
-    }
-    String portHeader = headers.getFirst("X-Forwarded-Port");
-    if (StringUtils.hasText(portHeader)) {
-      try {
-        uriComponentsBuilder.port(Integer.parseInt(getLeftMostValue(portHeader)));
-      }
-      catch (NumberFormatException ex) {
-        throw new IllegalArgumentException("Failed to parse \"X-Forwarded-Port: " + portHeader + "\"");
-      }
-    }
-    uriComponentsBuilder.resetPortIfDefaultForScheme();
-
-    InetSocketAddress forAddress = null;
-    String forHeader = headers.getFirst("X-Forwarded-For");
-    if (StringUtils.hasText(forHeader)) {
-      String host = getLeftMostValue(forHeader);
-      boolean ipv6 = (host.indexOf(':') != -1);
-      host = (ipv6 && !host.startsWith("[") && !host.endsWith("]") ? "[" + host + "]" : host);
-      int port = getPortToUse(remoteAddress, uri);
-      forAddress = InetSocketAddress.createUnresolved(host, port);
+  /**
+   * Parse either the "Forwarded" header or the "X-Forwarded-*" alternative
+   * headers, along with "X-Forwarded-Prefix", into {@link ForwardedValues}
+   * that are independent of the request URI and addresses.
+   * <p>Use a {@link ForwardedHeaderCache} to reuse the result across
+   * requests that carry the same header values.
+   *
+   * @param headers the HTTP headers to get the forwarded headers from
+   * @param useStandardHeader whether to use the standard "Forwarded" header
+   * (true), or the "X-Forwarded-*" alternative headers (false)
+   * @return the parsed values
+   * @throws IllegalArgumentException if a header value cannot be parsed
+   * @since 5.0
+   */
+  public static ForwardedValues parseForwardedValues(HttpHeaders headers, boolean useStandardHeader) {
+    String prefixHeader = headers.getFirst("X-Forwarded-Prefix");
+    if (useStandardHeader) {
+      return ForwardedValues.parseStandard(headers.getFirst("Forwarded"), prefixHeader);
     }
-
-    return new ForwardedInfo(uriComponentsBuilder, forAddress, null);
+    return ForwardedValues.parseXForwarded(headers.getFirst("X-Forwarded-Proto"),
+            headers.getFirst("X-Forwarded-Ssl"), headers.getFirst("X-Forwarded-Host"),
+            headers.getFirst("X-Forwarded-Port"), prefixHeader);
   }
 
-  private static String getLeftMostValue(String headerValue) {
+  static String getLeftMostValue(String headerValue) {
     return StringUtils.tokenizeToStringArray(headerValue, ",")[0];
   }
 
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+
+import infra.http.HttpHeaders;
+import infra.util.StringUtils;
+import infra.web.util.ForwardedHeaderUtils.ForwardedInfo;
+
+/**
+ * The scheme, host, port, prefix, and "for" and "by" addresses parsed from
+ * the forwarded headers of a request, kept apart from the request itself.
+ *
+ * <p>Instances are immutable and can be applied to any request that carries
+ * the same header values, which allows {@link ForwardedHeaderCache} to share
+ * them. Parts that depend on the request, such as the default port of the
+ * "for" address or the "X-Forwarded-For" header, are resolved by the
+ * accessors on demand, so that a request wrapper only computes what a
+ * handler actually reads.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ForwardedHeaderUtils#parseForwardedValues(HttpHeaders, boolean)
+ * @since 5.0
+ */
+public final class ForwardedValues {
+
+  private final @Nullable String scheme;
+
+  private final @Nullable String host;
+
+  private final boolean portOverridden;
+
+  private final int port;
+
+  private final @Nullable String forHost;
+
+  private final int forPort;
+
+  private final @Nullable String byHost;
+
+  private final int byPort;
+
+  private final boolean useXForwardedFor;
+
+  private final @Nullable String prefix;
+
+  private ForwardedValues(@Nullable String scheme, @Nullable String host, boolean portOverridden, int port,
+          @Nullable String forHost, int forPort, @Nullable String byHost, int byPort,
+          boolean useXForwardedFor, @Nullable String prefix) {
+    this.scheme = scheme;
+    this.host = host;
+    this.portOverridden = portOverridden;
+    this.port = port;
+    this.forHost = forHost;
+    this.forPort = forPort;
+    this.byHost = byHost;
+    this.byPort = byPort;
+    this.useXForwardedFor = useXForwardedFor;
+    this.prefix = prefix;
+  }
+
+  /**
+   * Return the forwarded scheme, or {@code null} to keep the scheme of the request.
+   */
+  public @Nullable String getScheme() {
+    return this.scheme;
+  }
+
+  /**
+   * Return the forwarded host, or {@code null} to keep the host of the request.
+   */
+  public @Nullable String getHost() {
+    return this.host;
+  }
+
+  /**
+   * Return the port to use for a request with the given scheme and port,
+   * or -1 if that is the default port of the scheme.
+   *
+   * @param scheme the scheme in effect, i.e. the forwarded one if present
+   * @param requestPort the port of the request, or -1 if not specified
+   */
+  public int getPort(@Nullable String scheme, int requestPort) {
+    int port = (this.portOverridden ? this.port : requestPort);
+    if (scheme != null &&
+            (((scheme.equals("http") || scheme.equals("ws")) && port == 80) ||
+                    ((scheme.equals("https") || scheme.equals("wss")) && port == 443))) {
+      return -1;
+    }
+    return port;
+  }
+
+  /**
+   * Return the "X-Forwarded-Prefix" with trailing slashes removed from each
+   * of its comma-separated values, or {@code null} if not present.
+   */
+  public @Nullable String getPrefix() {
+    return this.prefix;
+  }
+
+  /**
+   * Return the address of the client from the "for" value, or {@code null}
+   * if not present.
+   * <p>The "X-Forwarded-For" header usually differs for every client, so it
+   * is not part of these values but read from the given headers instead.
+   *
+   * @param headers the request headers
+   * @param defaultPort the port to use if the value does not specify one
+   */
+  public @Nullable InetSocketAddress getForAddress(HttpHeaders headers, int defaultPort) {
+    if (this.useXForwardedFor) {
+      String forHeader = headers.getFirst("X-Forwarded-For");
+      if (StringUtils.hasText(forHeader)) {
+        String host = ForwardedHeaderUtils.getLeftMostValue(forHeader);
+        boolean ipv6 = (host.indexOf(':') != -1);
+        host = (ipv6 && !host.startsWith("[") && !host.endsWith("]") ? "[" + host + "]" : host);
+        return InetSocketAddress.createUnresolved(host, defaultPort);
+      }
+      return null;
+    }
+    return (this.forHost != null ?
+            InetSocketAddress.createUnresolved(this.forHost, this.forPort != -1 ? this.forPort : defaultPort) : null);
+  }
+
+  /**
+   * Return the address of the server from the "by" value, or {@code null}
+   * if not present.
+   *
+   * @param defaultPort the port to use if the value does not specify one
+   */
+  public @Nullable InetSocketAddress getByAddress(int defaultPort) {
+    return (this.byHost != null ?
+            InetSocketAddress.createUnresolved(this.byHost, this.byPort != -1 ? this.byPort : defaultPort) : null);
+  }
+
+  /**
+   * Apply the forwarded scheme, host, and port to the given builder.
+   *
+   * @param builder a builder initialized with the request URI
+   * @return the same builder
+   */
+  public UriComponentsBuilder applyTo(UriComponentsBuilder builder) {
+    if (this.scheme != null) {
+      builder.scheme(this.scheme);
+    }
+    if (this.host != null) {
+      builder.host(this.host);
+    }
+    if (this.portOverridden) {
+      if (this.port == -1) {
+        builder.port(null);
+      }
+      else {
+        builder.port(this.port);
+      }
+    }
+    builder.resetPortIfDefaultForScheme();
+    return builder;
+  }
+
+  /**
+   * Resolve these values against the given request into a {@link ForwardedInfo}.
+   *
+   * @param uri the request {@code URI}
+   * @param headers the request headers
+   * @param remoteAddress for a default port for the "for" value
+   * @param localAddress for a default port for the "by" value
+   */
+  public ForwardedInfo toForwardedInfo(URI uri, HttpHeaders headers,
+          @Nullable InetSocketAddress remoteAddress, @Nullable InetSocketAddress localAddress) {
+    return new ForwardedInfo(applyTo(UriComponentsBuilder.forURI(uri)),
+            getForAddress(headers, getPortToUse(remoteAddress, uri.getScheme())),
+            getByAddress(getPortToUse(localAddress, uri.getScheme())));
+  }
+
+  /**
+   * Return the port of the given address, or the default port for the given
+   * scheme, for use as the default port of "for" and "by" addresses.
+   */
+  public static int getPortToUse(@Nullable InetSocketAddress address, @Nullable String scheme) {
+    return (address != null ? address.getPort() : "https".equals(scheme) ? 443 : 80);
+  }
+
+  /**
+   * Create values from a {@link ForwardedInfo} that was already resolved
+   * against a request, for header formats that cannot be parsed apart from
+   * the request.
+   *
+   * @param info the resolved forwarded info
+   * @param prefixHeader the "X-Forwarded-Prefix" header value, if any
+   */
+  public static ForwardedValues forInfo(ForwardedInfo info, @Nullable String prefixHeader) {
+    UriComponents components = info.uriComponentsBuilder().build();
+    InetSocketAddress forAddress = info.forAddress();
+    InetSocketAddress byAddress = info.byAddress();
+    return new ForwardedValues(components.getScheme(), components.getHost(), true, components.getPort(),
+            forAddress != null ? forAddress.getHostString() : null, forAddress != null ? forAddress.getPort() : -1,
+            byAddress != null ? byAddress.getHostString() : null, byAddress != null ? byAddress.getPort() : -1,
+            false, parsePrefix(prefixHeader));
+  }
+
+  /**
+   * Parse the first element of the "Forwarded" header.
+   *
+   * @see ForwardedHeaderUtils#parseStandardHeader
+   */
+  static ForwardedValues parseStandard(@Nullable String forwardedHeader, @Nullable String prefixHeader) {
+    String scheme = null;
+    String host = null;
+    boolean portOverridden = false;
+    int port = -1;
+    String forHost = null;
+    int forPort = -1;
+    String byHost = null;
+    int byPort = -1;
+
+    if (StringUtils.hasText(forwardedHeader)) {
+      Map<String, String> pairs = ForwardedHeaderUtils.parseFirstElement(forwardedHeader);
+      String proto = pairs.get("proto");
+      if (proto != null) {
+        scheme = proto;
+        portOverridden = true;
+      }
+      String hostValue = pairs.get("host");
+      if (hostValue != null) {
+        int portSeparatorIdx = ForwardedHeaderUtils.findPortSeparator(hostValue);
+        if (portSeparatorIdx != -1) {
+          host = hostValue.substring(0, portSeparatorIdx);
+          port = ForwardedHeaderUtils.parseForwardedHostPort(hostValue, portSeparatorIdx);
+        }
+        else {
+          host = hostValue;
+          port = -1;
+        }
+        portOverridden = true;
+      }
+      String forValue = pairs.get("for");
+      if (forValue != null) {
+        int portSeparatorIdx = ForwardedHeaderUtils.findPortSeparator(forValue);
+        if (portSeparatorIdx != -1) {
+          forHost = forValue.substring(0, portSeparatorIdx);
+          forPort = ForwardedHeaderUtils.parseForwardedAddressPort(forValue, portSeparatorIdx);
+        }
+        else {
+          forHost = forValue;
+        }
+      }
+      String byValue = pairs.get("by");
+      if (byValue != null) {
+        int portSeparatorIdx = ForwardedHeaderUtils.findPortSeparator(byValue);
+        if (portSeparatorIdx != -1) {
+          byHost = byValue.substring(0, portSeparatorIdx);
+          byPort = ForwardedHeaderUtils.parseForwardedAddressPort(byValue, portSeparatorIdx);
+        }
+        else {
+          byHost = byValue;
+        }
+      }
+    }
+    return new ForwardedValues(scheme, host, portOverridden, port,
+            forHost, forPort, byHost, byPort, false, parsePrefix(prefixHeader));
+  }
+
+  /**
+   * Parse the left-most values of the "X-Forwarded-*" headers, except for
+   * "X-Forwarded-For" which is read on demand.
+   *
+   * @see ForwardedHeaderUtils#parseXForwardedHeaders
+   */
+  static ForwardedValues parseXForwarded(@Nullable String protoHeader, @Nullable String sslHeader,
+          @Nullable String hostHeader, @Nullable String portHeader, @Nullable String prefixHeader) {
+    String scheme = null;
+    String host = null;
+    boolean portOverridden = false;
+    int port = -1;
+
+    if (StringUtils.hasText(protoHeader)) {
+      scheme = ForwardedHeaderUtils.getLeftMostValue(protoHeader);
+      portOverridden = true;
+    }
+    else if (StringUtils.hasText(sslHeader) && sslHeader.equalsIgnoreCase("on")) {
+      scheme = "https";
+      portOverridden = true;
+    }
+    if (StringUtils.hasText(hostHeader)) {
+      String hostValue = ForwardedHeaderUtils.getLeftMostValue(hostHeader);
+      int portSeparatorIdx = ForwardedHeaderUtils.findPortSeparator(hostValue);
+      if (portSeparatorIdx != -1) {
+        host = hostValue.substring(0, portSeparatorIdx);
+        port = ForwardedHeaderUtils.parseForwardedHostPort(hostValue, portSeparatorIdx);
+      }
+      else {
+        host = hostValue;
+        port = -1;
+      }
+      portOverridden = true;
+    }
+    if (StringUtils.hasText(portHeader)) {
+      try {
+        port = Integer.parseInt(ForwardedHeaderUtils.getLeftMostValue(portHeader));
+      }
+      catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Failed to parse \"X-Forwarded-Port: " + portHeader + "\"");
+      }
+      if (port < -1) {
+        throw new IllegalArgumentException("Port must be >= -1");
+      }
+      portOverridden = true;
+    }
+    return new ForwardedValues(scheme, host, portOverridden, port,
+            null, -1, null, -1, true, parsePrefix(prefixHeader));
+  }
+
+  private static @Nullable String parsePrefix(@Nullable String prefixHeader) {
+    if (prefixHeader == null) {
+      return null;
+    }
+    StringBuilder prefix = new StringBuilder(prefixHeader.length());
+    String[] rawPrefixes = StringUtils.tokenizeToStringArray(prefixHeader, ",");
+    for (String rawPrefix : rawPrefixes) {
+      int endIndex = rawPrefix.length();
+      while (endIndex > 0 && rawPrefix.charAt(endIndex - 1) == '/') {
+        endIndex--;
+      }
+      prefix.append((endIndex != rawPrefix.length() ? rawPrefix.substring(0, endIndex) : rawPrefix));
+    }
+    return prefix.toString();
+  }
+
+}
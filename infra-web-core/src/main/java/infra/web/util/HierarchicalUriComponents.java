@@ -207,11 +207,26 @@ final class HierarchicalUriComponents extends UriComponents {
     }
   }
 
+  /**
+   * Return the port as given, possibly containing a URI variable.
+   */
+  @Nullable
+  String getRawPort() {
+    return this.port;
+  }
+
   @Override
   public String getPath() {
     return this.path.getPath();
   }
 
+  /**
+   * Return the component backing {@link #getPath()}.
+   */
+  PathComponent getPathComponent() {
+    return this.path;
+  }
+
   @Override
   public List<String> getPathSegments() {
     return this.path.getPathSegments();
@@ -1024,6 +1039,10 @@ final class HierarchicalUriComponents extends UriComponents {
       this.pathComponents = pathComponents;
     }
 
+    List<PathComponent> getPathComponents() {
+      return this.pathComponents;
+    }
+
     @Override
     public String getPath() {
       StringBuilder pathBuilder = new StringBuilder();
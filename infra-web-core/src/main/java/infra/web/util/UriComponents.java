@@ -337,7 +337,7 @@ public abstract class UriComponents implements Serializable {
   /**
    * URI template variables backed by a map.
    */
-  private record MapTemplateVariables(Map<String, ?> uriVariables) implements UriTemplateVariables {
+  record MapTemplateVariables(Map<String, ?> uriVariables) implements UriTemplateVariables {
 
     @Override
     @Nullable
@@ -352,7 +352,7 @@ public abstract class UriComponents implements Serializable {
   /**
    * URI template variables backed by a variable argument array.
    */
-  private static class VarArgsTemplateVariables implements UriTemplateVariables {
+  static class VarArgsTemplateVariables implements UriTemplateVariables {
 
     private final Iterator<Object> valueIterator;
 
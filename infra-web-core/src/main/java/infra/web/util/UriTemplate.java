@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.Serializable;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -60,6 +61,9 @@ public class UriTemplate implements Serializable {
 
   private final UriComponents uriComponents;
 
+  @Nullable
+  private final CompiledUriTemplate compiledTemplate;
+
   private final List<String> variableNames;
 
   private final Pattern matchPattern;
@@ -73,6 +77,7 @@ public class UriTemplate implements Serializable {
     Assert.notNull(uriTemplate, "'uriTemplate' is required");
     this.uriTemplate = uriTemplate;
     this.uriComponents = UriComponentsBuilder.forURIString(uriTemplate).build();
+    this.compiledTemplate = CompiledUriTemplate.compile(this.uriComponents, CompiledUriTemplate.Encoding.URI_COMPONENT);
 
     TemplateInfo info = TemplateInfo.parse(uriTemplate);
     this.variableNames = Collections.unmodifiableList(info.getVariableNames());
@@ -107,6 +112,9 @@ public class UriTemplate implements Serializable {
    * or if it does not contain values for all the variable names
    */
   public URI expand(Map<String, ?> uriVariables) {
+    if (this.compiledTemplate != null) {
+      return createUri(this.compiledTemplate.expand(uriVariables));
+    }
     UriComponents expandedComponents = this.uriComponents.expand(uriVariables);
     UriComponents encodedComponents = expandedComponents.encode();
     return encodedComponents.toURI();
@@ -128,11 +136,23 @@ public class UriTemplate implements Serializable {
    * or if it does not contain sufficient variables
    */
   public URI expand(Object... uriVariableValues) {
+    if (this.compiledTemplate != null) {
+      return createUri(this.compiledTemplate.expand(uriVariableValues));
+    }
     UriComponents expandedComponents = this.uriComponents.expand(uriVariableValues);
     UriComponents encodedComponents = expandedComponents.encode();
     return encodedComponents.toURI();
   }
 
+  private static URI createUri(String uri) {
+    try {
+      return new URI(uri);
+    }
+    catch (URISyntaxException ex) {
+      throw new IllegalStateException("Could not create URI object: " + ex.getMessage(), ex);
+    }
+  }
+
   /**
    * Indicate whether the given URI matches this template.
    *
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import infra.web.util.CompiledUriTemplate.Encoding;
+import infra.web.util.UriComponents.UriTemplateVariables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class CompiledUriTemplateTests {
+
+  private static final String TEMPLATE = "https://{host}/hotels/{hotel}/bookings/{booking}?q={q}&flag#{fragment}";
+
+  @Test
+  void templateAndValues() {
+    UriComponents uric = UriComponentsBuilder.forURIString(TEMPLATE).encode().build();
+    Map<String, Object> vars = Map.of("host", "example.com", "hotel", "Rest & Relax",
+            "booking", 42, "q", "a/b c", "fragment", "ü");
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.TEMPLATE_AND_VALUES);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand(vars)).isEqualTo(uric.expand(vars).toUriString())
+            .isEqualTo("https://example.com/hotels/Rest%20%26%20Relax/bookings/42?q=a%2Fb%20c&flag#%C3%BC");
+  }
+
+  @Test
+  void uriComponent() {
+    UriComponents uric = UriComponentsBuilder.forURIString(TEMPLATE.replace("{host}", "example.com")).build();
+    Object[] vars = { "Rest & Relax", "a/b", "x=y&z", "ü" };
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.URI_COMPONENT);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand(vars)).isEqualTo(uric.expand(vars).encode().toUriString())
+            .isEqualTo("https://example.com/hotels/Rest%20&%20Relax/bookings/a/b?q=x%3Dy%26z&flag#%C3%BC");
+  }
+
+  @Test
+  void uriComponentWithPathSegments() {
+    UriComponents uric = UriComponentsBuilder.forURIString("https://example.com")
+            .pathSegment("hotels", "{hotel}").path("/").build();
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.URI_COMPONENT);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand("a/b")).isEqualTo(uric.expand("a/b").encode().toUriString())
+            .isEqualTo("https://example.com/hotels/a%2Fb/");
+  }
+
+  @Test
+  void none() {
+    UriComponents uric = UriComponentsBuilder.forURIString("/hotels/{hotel}?q={q}").build();
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.NONE);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand("a%20b", "c")).isEqualTo("/hotels/a%20b?q=c");
+  }
+
+  @Test
+  void queryValuesJoinArraysAndCollections() {
+    UriComponents uric = UriComponentsBuilder.forURIString("/hotels/{hotel}?ids={ids}&tags={tags}").encode().build();
+    Map<String, Object> vars = Map.of("hotel", List.of("a", "b"), "ids", new int[] { 1, 2 }, "tags", List.of("x", "y z"));
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.TEMPLATE_AND_VALUES);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand(vars)).isEqualTo(uric.expand(vars).toUriString())
+            .isEqualTo("/hotels/%5Ba%2C%20b%5D?ids=1%2C2&tags=x%2Cy%20z");
+  }
+
+  @Test
+  void nullAndSkippedValues() {
+    UriComponents uric = UriComponentsBuilder.forURIString("/hotels/{hotel}/{booking}").build();
+    Map<String, Object> vars = new HashMap<>();
+    vars.put("hotel", null);
+    vars.put("booking", UriTemplateVariables.SKIP_VALUE);
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.URI_COMPONENT);
+
+    assertThat(template).isNotNull();
+    assertThat(template.expand(vars)).isEqualTo(uric.expand(vars).encode().toUriString())
+            .isEqualTo("/hotels//%7Bbooking%7D");
+  }
+
+  @Test
+  void missingValues() {
+    UriComponents uric = UriComponentsBuilder.forURIString("/hotels/{hotel}/bookings/{booking}").encode().build();
+
+    CompiledUriTemplate template = CompiledUriTemplate.compile(uric, Encoding.TEMPLATE_AND_VALUES);
+
+    assertThat(template).isNotNull();
+    assertThatIllegalArgumentException().isThrownBy(() -> template.expand(Map.of("hotel", 1)))
+            .withMessage("Map has no value for 'booking'");
+    assertThatIllegalArgumentException().isThrownBy(() -> template.expand(1))
+            .withMessage("Not enough variable values available to expand 'booking'");
+  }
+
+  @Test
+  void notCompiled() {
+    assertThat(compile("{scheme}://example.com/{path}")).isNull();
+    assertThat(compile("https://example.com:{port}/path")).isNull();
+    assertThat(compile("https://example.com/{id:\\d+}")).isNull();
+    assertThat(compile("https://example.com/path?{name}=value")).isNull();
+    assertThat(compile("mailto:{user}@example.com")).isNull();
+    assertThat(compile("https://example.com/path")).isNotNull();
+  }
+
+  private static CompiledUriTemplate compile(String uriTemplate) {
+    UriComponents uric = UriComponentsBuilder.forURIString(uriTemplate).encode().build();
+    return CompiledUriTemplate.compile(uric, Encoding.TEMPLATE_AND_VALUES);
+  }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.server.netty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import infra.web.server.Compression;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Cost of a 200KB JavaScript response through the {@link CompressionHandler}:
+ * compressed, skipped by content type and passed through without a
+ * compressor in the pipeline.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CompressionHandlerBenchmark {
+
+  @Param({ "compress", "skip", "none" })
+  public String mode;
+
+  private EmbeddedChannel channel;
+
+  private ByteBuf body;
+
+  private String contentType;
+
+  @Setup
+  public void setup() {
+    StringBuilder script = new StringBuilder(200 * 1024);
+    int i = 0;
+    while (script.length() < 200 * 1024) {
+      script.append("function handler").append(i).append("(event) { return render(event.target, ")
+              .append(i++).append("); }\n");
+    }
+    body = Unpooled.unreleasableBuffer(Unpooled.directBuffer(script.length())
+            .writeBytes(script.toString().getBytes(StandardCharsets.UTF_8)));
+
+    contentType = "skip".equals(mode) ? "image/png" : "text/javascript";
+    channel = "none".equals(mode) ? new EmbeddedChannel()
+            : new EmbeddedChannel(new CompressionHandler(new CompressionHandler.Policy(new Compression())));
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  public void exchange(Blackhole bh) {
+    DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/app.js");
+    request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate");
+    channel.writeInbound(request);
+    ReferenceCountUtil.release(channel.readInbound());
+
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers()
+            .set(HttpHeaderNames.CONTENT_TYPE, contentType)
+            .set(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+
+    channel.writeOutbound(response, new DefaultHttpContent(body.duplicate()), LastHttpContent.EMPTY_LAST_CONTENT);
+
+    Object msg;
+    while ((msg = channel.readOutbound()) != null) {
+      bh.consume(msg);
+      ReferenceCountUtil.release(msg);
+    }
+  }
+
+}
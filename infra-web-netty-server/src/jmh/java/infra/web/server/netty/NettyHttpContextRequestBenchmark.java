@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.server.netty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import infra.web.multipart.parsing.DefaultMultipartParser;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+
+/**
+ * Request-side cost of a typical GET with ten headers and five query
+ * parameters. Run with {@code -prof gc} to report the bytes allocated
+ * per request.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NettyHttpContextRequestBenchmark {
+
+  private EmbeddedChannel channel;
+
+  private NettyRequestConfig config;
+
+  private HttpRequest request;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel();
+    config = NettyRequestConfig.forBuilder(false)
+            .sendErrorHandler((request, message) -> { })
+            .multipartParser(new DefaultMultipartParser())
+            .build();
+
+    request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET,
+            "/api/users?q=infra&page=3&size=20&sort=name%2Casc&filter=active+users");
+    request.headers()
+            .set("Host", "api.example.com")
+            .set("User-Agent", "Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/128.0")
+            .set("Accept", "application/json")
+            .set("Accept-Encoding", "gzip, deflate, br")
+            .set("Accept-Language", "en-US,en;q=0.5")
+            .set("Connection", "keep-alive")
+            .set("Cookie", "SESSION=5c2f1b3e; theme=dark")
+            .set("X-Request-Id", "4bf92f3577b34da6a3ce929d0e0e4736")
+            .set("X-Forwarded-For", "203.0.113.195")
+            .set("Cache-Control", "no-cache");
+  }
+
+  @Benchmark
+  public void readSingleParameterAndHeader(Blackhole bh) {
+    RequestContext context = new RequestContext(channel, request, config);
+    bh.consume(context.getParameter("q"));
+    bh.consume(context.getHeader("Accept"));
+  }
+
+  @Benchmark
+  public void readAllParameters(Blackhole bh) {
+    RequestContext context = new RequestContext(channel, request, config);
+    bh.consume(context.getParameters());
+  }
+
+  @Benchmark
+  public void readCookie(Blackhole bh) {
+    RequestContext context = new RequestContext(channel, request, config);
+    bh.consume(context.getCookie("SESSION"));
+  }
+
+  static class RequestContext extends NettyHttpContext {
+
+    RequestContext(EmbeddedChannel channel, HttpRequest request, NettyRequestConfig config) {
+      super(null, channel, request, config, null);
+    }
+
+    @Override
+    public long getContentLength() {
+      return 0;
+    }
+
+    @Override
+    protected InputStream createInputStream() {
+      return InputStream.nullInputStream();
+    }
+
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.server.netty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+import infra.web.multipart.parsing.DefaultMultipartParser;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Rendering a 500 KB page through {@code getWriter()} in small writes, as a
+ * template engine does. {@code timeToFirstByte} measures how many writes it
+ * takes until the first bytes leave the context, {@code renderPage} the cost
+ * of the whole page.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NettyHttpContextWriterBenchmark {
+
+  private static final int PAGE_SIZE = 500 * 1024;
+
+  @Param({ "0", "65536" })
+  public int flushThreshold;
+
+  private EmbeddedChannel channel;
+
+  private NettyRequestConfig config;
+
+  private HttpRequest request;
+
+  private String[] fragments;
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel();
+    config = NettyRequestConfig.forBuilder(false)
+            .sendErrorHandler((request, message) -> { })
+            .multipartParser(new DefaultMultipartParser())
+            .writerFlushThreshold(flushThreshold)
+            .build();
+    request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/page");
+    fragments = new String[] {
+            "<tr><td class=\"name\">", "Jürgen Müller", "</td><td class=\"mail\">",
+            "juergen@example.com", "</td><td class=\"amount\">", "1,234.56 €", "</td></tr>\n"
+    };
+  }
+
+  @Benchmark
+  public int timeToFirstByte() throws IOException {
+    RequestContext context = new RequestContext(channel, request, config);
+    PrintWriter writer = context.getWriter();
+    int written = 0;
+    while (channel.outboundMessages().isEmpty() && written < PAGE_SIZE) {
+      for (String fragment : fragments) {
+        writer.write(fragment);
+        written += fragment.length();
+      }
+    }
+    context.requestCompletedInternal(null);
+    releaseOutbound();
+    return written;
+  }
+
+  @Benchmark
+  public void renderPage() throws IOException {
+    RequestContext context = new RequestContext(channel, request, config);
+    PrintWriter writer = context.getWriter();
+    int written = 0;
+    while (written < PAGE_SIZE) {
+      for (String fragment : fragments) {
+        writer.write(fragment);
+        written += fragment.length();
+      }
+    }
+    context.requestCompletedInternal(null);
+    releaseOutbound();
+  }
+
+  private void releaseOutbound() {
+    Object message;
+    while ((message = channel.readOutbound()) != null) {
+      ReferenceCountUtil.release(message);
+    }
+  }
+
+  static class RequestContext extends NettyHttpContext {
+
+    RequestContext(EmbeddedChannel channel, HttpRequest request, NettyRequestConfig config) {
+      super(null, channel, request, config, null);
+    }
+
+    @Override
+    public long getContentLength() {
+      return 0;
+    }
+
+    @Override
+    protected InputStream createInputStream() {
+      return InputStream.nullInputStream();
+    }
+
+  }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.server.netty;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+import infra.util.InvalidMimeTypeException;
+import infra.util.MimeType;
+import infra.util.MimeTypeUtils;
+import infra.util.ObjectUtils;
+import infra.util.StringUtils;
+import infra.web.server.Compression;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+
+/**
+ * {@link HttpContentCompressor} that applies the {@link Compression} settings
+ * of the server.
+ *
+ * <p>Whether a response gets compressed is decided from its headers only,
+ * before any body content has been buffered: responses with a declared
+ * {@code Content-Length} below the minimum size, with a content type that is
+ * not one of the configured MIME types, for an excluded user agent, or that
+ * are sent with zero-copy file transfer pass through untouched. Responses that
+ * already carry a {@code Content-Encoding}, such as pre-compressed static
+ * resources, are never compressed again.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see Compression
+ * @since 5.0 2026/10/18 10:12
+ */
+final class CompressionHandler extends HttpContentCompressor {
+
+  private final Policy policy;
+
+  /**
+   * Excluded user agent flags of pipelined requests, in request order.
+   */
+  private final @Nullable ArrayDeque<Boolean> excludedRequests;
+
+  private boolean excludedUserAgent;
+
+  CompressionHandler(Policy policy) {
+    // the size threshold is checked against the Content-Length header in beginEncode,
+    // null options select the default gzip/deflate (and brotli/zstd when available) encoders
+    super(0, (CompressionOptions[]) null);
+    this.policy = policy;
+    this.excludedRequests = policy.excludedUserAgents != null ? new ArrayDeque<>(2) : null;
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out) throws Exception {
+    ArrayDeque<Boolean> excludedRequests = this.excludedRequests;
+    if (excludedRequests != null) {
+      excludedRequests.add(policy.isExcludedUserAgent(msg.headers()));
+    }
+    super.decode(ctx, msg, out);
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+    ArrayDeque<Boolean> excludedRequests = this.excludedRequests;
+    if (excludedRequests != null && msg instanceof HttpResponse response
+            && response.status().code() != HttpResponseStatus.CONTINUE.code()) {
+      // same rule as the accept-encoding queue of HttpContentEncoder, which
+      // keeps the entry only for '100 Continue', not for other 1xx responses
+      excludedUserAgent = Boolean.TRUE.equals(excludedRequests.poll());
+    }
+    super.encode(ctx, msg, out);
+  }
+
+  @Override
+  protected @Nullable Result beginEncode(HttpResponse response, String acceptEncoding) throws Exception {
+    if (excludedUserAgent
+            || response instanceof ZeroCopyResponse
+            || !policy.isCompressible(response)) {
+      return null;
+    }
+    return super.beginEncode(response, acceptEncoding);
+  }
+
+  /**
+   * Response headers of a body that is written with zero-copy file transfer,
+   * which bypasses the content encoder and therefore must not be compressed.
+   */
+  static final class ZeroCopyResponse extends DefaultHttpResponse {
+
+    ZeroCopyResponse(HttpVersion version, HttpResponseStatus status, HttpHeaders headers) {
+      super(version, status, headers);
+    }
+  }
+
+  /**
+   * Immutable compression settings, resolved once and shared by the handlers
+   * of all channels.
+   */
+  static final class Policy {
+
+    private final long minResponseSize;
+
+    private final @Nullable List<MimeType> mimeTypes;
+
+    private final String @Nullable [] excludedUserAgents;
+
+    Policy(Compression compression) {
+      this.minResponseSize = compression.getMinResponseSize().toBytes();
+      this.mimeTypes = ObjectUtils.isEmpty(compression.getMimeTypes()) ? null
+              : MimeTypeUtils.parseMimeTypes(StringUtils.arrayToCommaDelimitedString(compression.getMimeTypes()));
+      this.excludedUserAgents = ObjectUtils.isEmpty(compression.getExcludedUserAgents())
+              ? null : compression.getExcludedUserAgents();
+    }
+
+    boolean isCompressible(HttpResponse response) {
+      long contentLength = HttpUtil.getContentLength(response, -1L);
+      if (contentLength >= 0 && contentLength < minResponseSize) {
+        return false;
+      }
+      List<MimeType> mimeTypes = this.mimeTypes;
+      if (mimeTypes == null) {
+        return true;
+      }
+      String contentType = response.headers().get(HttpHeaderNames.CONTENT_TYPE);
+      if (StringUtils.isEmpty(contentType)) {
+        return false;
+      }
+      try {
+        MimeType contentMimeType = MimeTypeUtils.parseMimeType(contentType);
+        for (MimeType candidate : mimeTypes) {
+          if (candidate.isCompatibleWith(contentMimeType)) {
+            return true;
+          }
+        }
+        return false;
+      }
+      catch (InvalidMimeTypeException ex) {
+        return false;
+      }
+    }
+
+    boolean isExcludedUserAgent(HttpHeaders requestHeaders) {
+      String[] excludedUserAgents = this.excludedUserAgents;
+      if (excludedUserAgents != null) {
+        for (String candidate : excludedUserAgents) {
+          if (requestHeaders.contains(HttpHeaderNames.USER_AGENT, candidate, true)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+  }
+
+}
@@ -18,6 +18,7 @@ package infra.web.server.netty;
 
 import org.jspecify.annotations.Nullable;
 
+import infra.web.server.Compression;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerAdapter;
@@ -49,6 +50,7 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
   protected static final String H2CUpgradeHandler = "H2CUpgradeHandler";
   protected static final String H2ToHttp11Codec = "H2ToHttp11Codec";
   protected static final String H2MultiplexHandler = "H2MultiplexHandler";
+  protected static final String HttpCompressor = "HttpCompressor";
 
   private static final Http2StreamFrameToHttpObjectCodec HTTP2_STREAM_FRAME_TO_HTTP_OBJECT =
           new Http2StreamFrameToHttpObjectCodec(true, false) {
@@ -73,10 +75,16 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
 
   private final @Nullable ChannelConfigurer channelConfigurer;
 
+  /**
+   * Response compression settings, {@code null} if compression is disabled.
+   */
+  private final CompressionHandler.@Nullable Policy compression;
+
   protected HttpChannelInitializer(ChannelHandler httpTrafficHandler, boolean http2Enabled,
           @Nullable ChannelConfigurer channelConfigurer, HttpDecoderConfig httpDecoderConfig,
-          Http2FrameCodecFactory http2FrameCodecFactory) {
+          Http2FrameCodecFactory http2FrameCodecFactory, @Nullable Compression compression) {
     this.http2Enabled = http2Enabled;
+    this.compression = Compression.isEnabled(compression) ? new CompressionHandler.Policy(compression) : null;
     this.channelConfigurer = channelConfigurer;
     this.httpDecoderConfig = httpDecoderConfig;
     this.httpTrafficHandler = httpTrafficHandler;
@@ -102,8 +110,9 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
 
   protected void configureHttp11Channel(Channel ch) {
     ch.pipeline()
-            .addLast(HttpCodec, new HttpServerCodec(httpDecoderConfig))
-            .addLast(HttpTrafficHandler, httpTrafficHandler);
+            .addLast(HttpCodec, new HttpServerCodec(httpDecoderConfig));
+    addCompressionHandler(ch);
+    ch.pipeline().addLast(HttpTrafficHandler, httpTrafficHandler);
   }
 
   protected void configureHttp11OrH2Channel(Channel channel) {
@@ -114,9 +123,9 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
     CleartextHttp2ServerUpgradeHandler h2cUpgradeHandler = new CleartextHttp2ServerUpgradeHandler(
             httpServerCodec, new HttpServerUpgradeHandler(httpServerCodec, upgrader), http2ServerHandler);
 
-    channel.pipeline()
-            .addLast(H2CUpgradeHandler, h2cUpgradeHandler)
-            .addLast(HttpTrafficHandler, httpTrafficHandler);
+    channel.pipeline().addLast(H2CUpgradeHandler, h2cUpgradeHandler);
+    addCompressionHandler(channel);
+    channel.pipeline().addLast(HttpTrafficHandler, httpTrafficHandler);
   }
 
   protected final Http2FrameCodec createHttp2FrameCodec() {
@@ -124,9 +133,17 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
   }
 
   protected final void addH2StreamHandlers(Channel ch) {
-    ch.pipeline()
-            .addLast(H2ToHttp11Codec, HTTP2_STREAM_FRAME_TO_HTTP_OBJECT)
-            .addLast(HttpTrafficHandler, httpTrafficHandler);
+    ch.pipeline().addLast(H2ToHttp11Codec, HTTP2_STREAM_FRAME_TO_HTTP_OBJECT);
+    addCompressionHandler(ch);
+    ch.pipeline().addLast(HttpTrafficHandler, httpTrafficHandler);
+  }
+
+  private void addCompressionHandler(Channel ch) {
+    CompressionHandler.Policy policy = this.compression;
+    if (policy != null) {
+      // HttpContentEncoder keeps per-request state, one instance per channel (stream)
+      ch.pipeline().addLast(HttpCompressor, new CompressionHandler(policy));
+    }
   }
 
   @Override
@@ -178,6 +195,11 @@ sealed class HttpChannelInitializer extends ChannelInitializer<Channel> permits
       pipeline.addLast(H2MultiplexHandler, new Http2MultiplexHandler(upgrader))
               .remove(this)
               .remove(HttpTrafficHandler);
+
+      if (pipeline.get(HttpCompressor) != null) {
+        // streams get their own compressor in addH2StreamHandlers
+        pipeline.remove(HttpCompressor);
+      }
     }
   }
 
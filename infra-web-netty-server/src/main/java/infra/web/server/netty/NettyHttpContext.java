@@ -22,12 +22,16 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -58,6 +62,7 @@ import infra.web.async.WebAsyncManager;
 import infra.web.multipart.MultipartRequest;
 import infra.web.server.error.SendErrorHandler;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelPipeline;
@@ -65,6 +70,7 @@ import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpRequest;
@@ -173,6 +179,11 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
 
   private final boolean http2;
 
+  /**
+   * response content passes through the {@link CompressionHandler}
+   */
+  private final boolean compression;
+
   private HttpResponseStatus status = HttpResponseStatus.OK;
 
   private @Nullable String remoteAddress;
@@ -191,6 +202,7 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
           HttpRequest request, NettyRequestConfig config, DispatcherHandler dispatcherHandler) {
     super(context, dispatcherHandler);
     this.http2 = channel.pipeline().context(HttpChannelInitializer.H2ToHttp11Codec) != null;
+    this.compression = channel.pipeline().context(HttpChannelInitializer.HttpCompressor) != null;
     this.config = config;
     this.request = request;
     this.channel = channel;
@@ -342,9 +354,19 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     return request.method().name();
   }
 
+  /**
+   * Create a writer that encodes characters straight into the pooled
+   * response body {@link ByteBuf}, without intermediate char and byte
+   * buffers. With a {@link NettyRequestConfig#writerFlushThreshold flush
+   * threshold}, the body is sent in chunks as soon as it exceeds the
+   * threshold.
+   */
   @Override
   protected PrintWriter createWriter() throws IOException {
-    return new PrintWriter(getOutputStream(), config.writerAutoFlush, config.writerCharset);
+    if (getMethod() == HttpMethod.HEAD) {
+      return new PrintWriter(getOutputStream(), config.writerAutoFlush, config.writerCharset);
+    }
+    return new PrintWriter(new ResponseBodyWriter(config.writerCharset, config.writerFlushThreshold), config.writerAutoFlush);
   }
 
   @Override
@@ -498,6 +520,38 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     }
   }
 
+  /**
+   * Look up a single parameter in the raw query string as long as the
+   * parameter map has not been materialized and no form body has to be
+   * merged, avoiding the full map for handlers that read a few values.
+   */
+  @Override
+  public @Nullable String getParameter(String name) {
+    if (isQueryStringOnly()) {
+      List<String> values = findParameters(getQueryString(), name);
+      return values != null ? values.get(0) : null;
+    }
+    return super.getParameter(name);
+  }
+
+  @Override
+  public String @Nullable [] getParameters(String name) {
+    if (isQueryStringOnly()) {
+      List<String> values = findParameters(getQueryString(), name);
+      return values != null ? StringUtils.toStringArray(values) : null;
+    }
+    return super.getParameters(name);
+  }
+
+  private boolean isQueryStringOnly() {
+    return parameters == null && getAttribute(FORM_URLENCODED_ATTRIBUTE) == null && !hasFormBody();
+  }
+
+  private boolean hasFormBody() {
+    return getContentLength() > 0 && getMethod() != HttpMethod.GET && getMethod() != HttpMethod.HEAD
+            && StringUtils.startsWithIgnoreCase(getContentTypeAsString(), MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+  }
+
   @Override
   @SuppressWarnings({ "unchecked", "rawtypes" })
   protected MultiValueMap<String, String> readParameters() {
@@ -510,8 +564,7 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     if (getAttribute(FORM_URLENCODED_ATTRIBUTE) instanceof MultiValueMap cached) {
       params.addAll(cached);
     }
-    else if (getContentLength() > 0 && getMethod() != HttpMethod.GET && getMethod() != HttpMethod.HEAD
-            && StringUtils.startsWithIgnoreCase(getContentTypeAsString(), MediaType.APPLICATION_FORM_URLENCODED_VALUE)) {
+    else if (hasFormBody()) {
 
       try {
         String s = new String(getInputStream().readAllBytes(), StandardCharsets.ISO_8859_1);
@@ -588,7 +641,8 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     ByteBuf responseBody = this.responseBody;
     if (responseBody != null) {
       this.responseBody = null;
-      channel.writeAndFlush(http2 ? new DefaultHttpContent(responseBody) : responseBody);
+      // the content encoder only handles HttpContent
+      channel.writeAndFlush(http2 || compression ? new DefaultHttpContent(responseBody) : responseBody);
     }
     else if ((fileToSend = this.fileToSend) != null) {
       channel.writeAndFlush(fileToSend);
@@ -679,7 +733,13 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
         }
       }
 
-      channel.write(new DefaultHttpResponse(version(), status, headers));
+      if (compression && fileToSend != null) {
+        // zero-copy file content bypasses the content encoder
+        channel.write(new CompressionHandler.ZeroCopyResponse(version(), status, headers));
+      }
+      else {
+        channel.write(new DefaultHttpResponse(version(), status, headers));
+      }
       onCommitted();
     }
   }
@@ -844,8 +904,43 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     parseParameters(params, s, semicolonAsNormalChar);
   }
 
-  @SuppressWarnings("fallthrough")
   static void parseParameters(MultiValueMap<String, String> params, String s, boolean semicolonAsNormalChar) {
+    scanParameters(s, semicolonAsNormalChar, (nameStart, valueStart, valueEnd) -> {
+      String name = decodeComponent(s, nameStart, valueStart - 1, htmlQueryDecoding);
+      String value = decodeComponent(s, valueStart, valueEnd, htmlQueryDecoding);
+      params.add(name, value);
+    });
+  }
+
+  /**
+   * Find the values of the given parameter in the query string without
+   * materializing the full parameter map. Only the values of the matching
+   * parameter get decoded.
+   *
+   * @param s the raw query string
+   * @param name the decoded parameter name
+   * @return the decoded values, or {@code null} if the parameter is not present
+   */
+  static @Nullable List<String> findParameters(String s, String name) {
+    return findParameters(s, name, semicolonAsNormalChar);
+  }
+
+  static @Nullable List<String> findParameters(String s, String name, boolean semicolonAsNormalChar) {
+    var values = new ArrayList<String>(1);
+    scanParameters(s, semicolonAsNormalChar, (nameStart, valueStart, valueEnd) -> {
+      if (nameMatches(s, nameStart, valueStart - 1, name)) {
+        values.add(decodeComponent(s, valueStart, valueEnd, htmlQueryDecoding));
+      }
+    });
+    return values.isEmpty() ? null : values;
+  }
+
+  /**
+   * Split the query string into parameters and report the boundaries of
+   * each one, honoring the {@link #maxQueryParams} limit.
+   */
+  @SuppressWarnings("fallthrough")
+  private static void scanParameters(String s, boolean semicolonAsNormalChar, ParameterBoundaries consumer) {
     int paramsLimit = maxQueryParams;
     int nameStart = 0;
     int valueStart = -1;
@@ -868,7 +963,7 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
           }
           // fall through
         case '&':
-          if (addParam(s, nameStart, valueStart, i, params)) {
+          if (acceptParam(nameStart, valueStart, i, consumer)) {
             paramsLimit--;
             if (paramsLimit == 0) {
               return;
@@ -882,22 +977,31 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
           // continue
       }
     }
-    addParam(s, nameStart, valueStart, i, params);
+    acceptParam(nameStart, valueStart, i, consumer);
   }
 
-  private static boolean addParam(String s, int nameStart, int valueStart, int valueEnd, MultiValueMap<String, String> params) {
+  private static boolean acceptParam(int nameStart, int valueStart, int valueEnd, ParameterBoundaries consumer) {
     if (nameStart >= valueEnd) {
       return false;
     }
     if (valueStart <= nameStart) {
       valueStart = valueEnd + 1;
     }
-    String name = decodeComponent(s, nameStart, valueStart - 1, htmlQueryDecoding);
-    String value = decodeComponent(s, valueStart, valueEnd, htmlQueryDecoding);
-    params.add(name, value);
+    consumer.accept(nameStart, valueStart, valueEnd);
     return true;
   }
 
+  private static boolean nameMatches(String s, int from, int toExcluded, String name) {
+    for (int i = from; i < toExcluded; i++) {
+      char c = s.charAt(i);
+      if (c == '%' || (c == '+' && htmlQueryDecoding)) {
+        return name.equals(decodeComponent(s, from, toExcluded, htmlQueryDecoding));
+      }
+    }
+    int len = Math.max(toExcluded - from, 0);
+    return len == name.length() && s.regionMatches(from, name, 0, len);
+  }
+
   private static String decodeComponent(String s, int from, int toExcluded, boolean plusToSpace) {
     int len = toExcluded - from;
     if (len <= 0) {
@@ -946,6 +1050,17 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
     return strBuf.toString();
   }
 
+  @FunctionalInterface
+  private interface ParameterBoundaries {
+
+    /**
+     * @param nameStart start index of the raw name
+     * @param valueStart start index of the raw value, the raw name ends at {@code valueStart - 1}
+     * @param valueEnd end index (exclusive) of the raw value
+     */
+    void accept(int nameStart, int valueStart, int valueEnd);
+  }
+
   static final class NoBodyOutputStream extends OutputStream {
 
     public int contentLength = 0;
@@ -988,6 +1103,126 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
 
   }
 
+  /**
+   * Writer encoding characters directly into the response body.
+   */
+  final class ResponseBodyWriter extends Writer {
+
+    private final Charset charset;
+
+    private final boolean utf8;
+
+    private final int flushThreshold;
+
+    /**
+     * High surrogate of a pair split across two writes, or {@code 0}.
+     */
+    private char pendingSurrogate;
+
+    ResponseBodyWriter(Charset charset, int flushThreshold) {
+      this.charset = charset;
+      this.utf8 = StandardCharsets.UTF_8.equals(charset);
+      this.flushThreshold = flushThreshold;
+    }
+
+    @Override
+    public void write(int c) {
+      write(String.valueOf((char) c), 0, 1);
+    }
+
+    @Override
+    public void write(char[] chars, int off, int len) {
+      write(CharBuffer.wrap(chars, off, len));
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      write(off == 0 && len == str.length() ? str : CharBuffer.wrap(str, off, off + len));
+    }
+
+    @Override
+    public Writer append(@Nullable CharSequence csq) {
+      write(csq != null ? csq : "null");
+      return this;
+    }
+
+    @Override
+    public Writer append(@Nullable CharSequence csq, int start, int end) {
+      write(CharBuffer.wrap(csq != null ? csq : "null", start, end));
+      return this;
+    }
+
+    private void write(CharSequence chars) {
+      int length = chars.length();
+      if (length == 0) {
+        return;
+      }
+      ByteBuf body = responseBody();
+      int start = 0;
+      if (pendingSurrogate != 0) {
+        encode(body, new String(new char[] { pendingSurrogate, chars.charAt(0) }));
+        pendingSurrogate = 0;
+        start = 1;
+      }
+      int end = length;
+      if (Character.isHighSurrogate(chars.charAt(length - 1)) && start < length) {
+        // keep it until the low surrogate arrives
+        pendingSurrogate = chars.charAt(length - 1);
+        end--;
+      }
+      if (start < end) {
+        encode(body, start == 0 && end == length ? chars : chars.subSequence(start, end));
+      }
+      if (flushThreshold > 0 && body.readableBytes() >= flushThreshold) {
+        flushChunk();
+      }
+    }
+
+    private void encode(ByteBuf body, CharSequence chars) {
+      if (utf8) {
+        ByteBufUtil.writeUtf8(body, chars);
+      }
+      else {
+        body.writeCharSequence(chars, charset);
+      }
+    }
+
+    /**
+     * Send the buffered body, switching to chunked transfer encoding
+     * if the response is not committed and has no content length.
+     */
+    private void flushChunk() {
+      if (!isCommitted()) {
+        HttpHeaders headers = nettyResponseHeaders;
+        if (!headers.contains(HttpHeaderNames.CONTENT_LENGTH)) {
+          if (!http2 && HttpVersion.HTTP_1_0.equals(request.protocolVersion())) {
+            // no chunked encoding: keep buffering
+            return;
+          }
+          // keeps writeHeaders() from declaring the length of the first chunk,
+          // the HTTP/2 codec strips it and frames the body by itself
+          headers.set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+        }
+      }
+      NettyHttpContext.this.flush();
+    }
+
+    @Override
+    public void flush() {
+      NettyHttpContext.this.flush();
+    }
+
+    @Override
+    public void close() {
+      if (pendingSurrogate != 0) {
+        // unpaired surrogate, encoded as a replacement
+        encode(responseBody(), String.valueOf(pendingSurrogate));
+        pendingSurrogate = 0;
+      }
+    }
+
+  }
+
   private final class NettyHttpOutputMessage implements ServerHttpResponse {
 
     private @Nullable MediaType contentType;
@@ -1120,7 +1355,8 @@ public abstract class NettyHttpContext extends AbstractHttpContext {
 
     @Override
     public boolean supportsZeroCopy() {
-      return true;
+      // once committed as a compressed response, the file must go through the encoder
+      return !compression || !isCommitted();
     }
 
     @Override
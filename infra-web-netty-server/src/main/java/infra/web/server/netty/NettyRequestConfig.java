@@ -113,6 +113,14 @@ public final class NettyRequestConfig {
 
   public final boolean writerAutoFlush;
 
+  /**
+   * Number of buffered writer bytes after which the response is sent
+   * in chunks, {@code 0} to buffer the whole body.
+   *
+   * @since 5.0
+   */
+  public final int writerFlushThreshold;
+
   /**
    * Response headers factory
    */
@@ -165,6 +173,7 @@ public final class NettyRequestConfig {
     this.multipartParser = builder.multipartParser;
     this.maxContentLength = builder.maxContentLength;
     this.writerAutoFlush = builder.writerAutoFlush;
+    this.writerFlushThreshold = builder.writerFlushThreshold;
     this.sendErrorHandler = builder.sendErrorHandler;
     this.httpHeadersFactory = builder.httpHeadersFactory;
     this.responseBodyFactory = builder.responseBodyFactory;
@@ -224,6 +233,8 @@ public final class NettyRequestConfig {
 
     private boolean writerAutoFlush = false;
 
+    private int writerFlushThreshold = 0;
+
     private long maxContentLength = DataSize.BYTES_PER_GB;
 
     private HttpHeadersFactory httpHeadersFactory = DefaultHttpHeadersFactory.headersFactory();
@@ -427,6 +438,28 @@ public final class NettyRequestConfig {
       return this;
     }
 
+    /**
+     * Sets the number of bytes written through {@link HttpContext#getWriter()}
+     * after which the buffered body is sent to the client as a chunk.
+     * <p>
+     * With a positive threshold, a large rendered page, such as a template
+     * view, is sent progressively with {@code Transfer-Encoding: chunked}
+     * once it exceeds the threshold, instead of being buffered completely
+     * to compute its {@code Content-Length}. Smaller bodies are unaffected.
+     * Defaults to {@code 0}, which buffers the whole body.
+     *
+     * @param writerFlushThreshold the threshold in bytes, or {@code 0}
+     * to disable progressive sending
+     * @return the current {@link Builder} instance, enabling method chaining
+     * @see HttpContext#getWriter()
+     * @since 5.0
+     */
+    public Builder writerFlushThreshold(int writerFlushThreshold) {
+      Assert.isTrue(writerFlushThreshold >= 0, "writerFlushThreshold must not be negative");
+      this.writerFlushThreshold = writerFlushThreshold;
+      return this;
+    }
+
     /**
      * A builder of {@link HttpHeadersFactory} instances, that itself implements {@link HttpHeadersFactory}.
      * The builder is immutable, and every {@code with-} method produce a new, modified instance.
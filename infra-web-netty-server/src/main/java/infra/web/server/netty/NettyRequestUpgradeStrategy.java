@@ -18,7 +18,6 @@ package infra.web.server.netty;
 
 import org.jspecify.annotations.Nullable;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -27,15 +26,18 @@ import infra.util.Assert;
 import infra.util.DataSize;
 import infra.util.ExceptionUtils;
 import infra.web.HttpContext;
+import infra.web.socket.PerMessageDeflate;
 import infra.web.socket.WebSocketExtension;
 import infra.web.socket.WebSocketHandler;
 import infra.web.socket.WebSocketSession;
 import infra.web.socket.server.HandshakeFailureException;
 import infra.web.socket.server.RequestUpgradeStrategy;
 import infra.web.socket.server.support.NettyWebSocketSession;
+import infra.web.socket.server.support.PerMessageDeflateHandler;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
@@ -43,6 +45,7 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.websocketx.WebSocketDecoderConfig;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameDecoder;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 
 /**
@@ -55,8 +58,17 @@ public class NettyRequestUpgradeStrategy implements RequestUpgradeStrategy {
 
   private static final String[] SUPPORTED_VERSIONS = new String[] { "13" };
 
+  private static final List<WebSocketExtension> SUPPORTED_EXTENSIONS =
+          List.of(new WebSocketExtension(PerMessageDeflate.EXTENSION_NAME));
+
   private final WebSocketDecoderConfig decoderConfig;
 
+  private boolean writeCoalescing;
+
+  private int flushThreshold = 64 * 1024;
+
+  private long outboundHighWaterMark = -1;
+
   public NettyRequestUpgradeStrategy() {
     this(WebSocketDecoderConfig.newBuilder()
             .maxFramePayloadLength(DataSize.ofKilobytes(512).bytes().intValue())
@@ -79,14 +91,52 @@ public class NettyRequestUpgradeStrategy implements RequestUpgradeStrategy {
     this.decoderConfig = decoderConfig;
   }
 
+  /**
+   * Set whether sessions coalesce flushes of consecutive messages.
+   * Default is {@code false}.
+   *
+   * @see NettyWebSocketSession#setWriteCoalescing
+   * @since 5.0
+   */
+  public void setWriteCoalescing(boolean writeCoalescing) {
+    this.writeCoalescing = writeCoalescing;
+  }
+
+  /**
+   * Set the number of unflushed bytes that triggers an immediate flush
+   * when write coalescing is enabled. Default is 64K.
+   *
+   * @see NettyWebSocketSession#setFlushThreshold
+   * @since 5.0
+   */
+  public void setFlushThreshold(int flushThreshold) {
+    Assert.isTrue(flushThreshold > 0, "flushThreshold must be positive");
+    this.flushThreshold = flushThreshold;
+  }
+
+  /**
+   * Set the maximum number of bytes a session accepts but has not yet
+   * written. Default is -1, meaning no limit.
+   *
+   * @see NettyWebSocketSession#setOutboundHighWaterMark
+   * @since 5.0
+   */
+  public void setOutboundHighWaterMark(long outboundHighWaterMark) {
+    this.outboundHighWaterMark = outboundHighWaterMark;
+  }
+
   @Override
   public String[] getSupportedVersions() {
     return SUPPORTED_VERSIONS;
   }
 
+  /**
+   * Returns {@code permessage-deflate}, which is applied if negotiated
+   * through {@link PerMessageDeflate}.
+   */
   @Override
   public List<WebSocketExtension> getSupportedExtensions(HttpContext context) {
-    return Collections.emptyList();
+    return SUPPORTED_EXTENSIONS;
   }
 
   @Override
@@ -108,6 +158,9 @@ public class NettyRequestUpgradeStrategy implements RequestUpgradeStrategy {
     NettyDataBufferFactory allocator = new NettyDataBufferFactory(channel.alloc());
     NettyWebSocketSession session = createSession(selectedProtocol, nettyContext, allocator);
     session.setAttributes(attributes);
+    session.setWriteCoalescing(writeCoalescing);
+    session.setFlushThreshold(flushThreshold);
+    session.setOutboundHighWaterMark(outboundHighWaterMark);
 
     WebSocketAttribute.bind(channel, wsHandler, session);
     ChannelPromise writePromise = channel.newPromise();
@@ -131,6 +184,16 @@ public class NettyRequestUpgradeStrategy implements RequestUpgradeStrategy {
       nettyContext.nettyResponseHeaders.set(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL, selectedProtocol);
     }
 
+    PerMessageDeflate.Negotiated deflate = findPerMessageDeflate(selectedExtensions);
+    if (deflate != null) {
+      ChannelHandlerContext decoder = channel.pipeline().context(WebSocketFrameDecoder.class);
+      if (decoder != null) {
+        channel.pipeline().addAfter(decoder.name(), PerMessageDeflate.EXTENSION_NAME,
+                new PerMessageDeflateHandler(deflate, decoderConfig.maxFramePayloadLength()));
+        nettyContext.nettyResponseHeaders.set(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, deflate.toString());
+      }
+    }
+
     handshakeChannel.release();
 
     writePromise.addListener(future -> {
@@ -156,7 +219,21 @@ public class NettyRequestUpgradeStrategy implements RequestUpgradeStrategy {
   }
 
   protected WebSocketServerHandshakerFactory createHandshakeFactory(HttpRequest request, List<WebSocketExtension> selectedExtensions) {
+    WebSocketDecoderConfig decoderConfig = this.decoderConfig;
+    if (findPerMessageDeflate(selectedExtensions) != null && !decoderConfig.allowExtensions()) {
+      // compressed messages are flagged with RSV1
+      decoderConfig = decoderConfig.toBuilder().allowExtensions(true).build();
+    }
     return new WebSocketServerHandshakerFactory(request.uri(), null, decoderConfig);
   }
 
+  private static PerMessageDeflate.@Nullable Negotiated findPerMessageDeflate(List<WebSocketExtension> selectedExtensions) {
+    for (WebSocketExtension extension : selectedExtensions) {
+      if (extension instanceof PerMessageDeflate.Negotiated negotiated) {
+        return negotiated;
+      }
+    }
+    return null;
+  }
+
 }
@@ -183,6 +183,18 @@ public class NettyServerProperties {
    */
   public boolean writerAutoFlush = false;
 
+  /**
+   * Size of the body written through {@link HttpContext#getWriter()} after
+   * which the response is sent progressively in chunks, for example for
+   * large template views.
+   * <p>
+   * Defaults to {@code 0}, meaning the whole body is buffered and sent
+   * with a {@code Content-Length}.
+   *
+   * @since 5.0
+   */
+  public DataSize writerFlushThreshold = DataSize.ofBytes(0);
+
   /**
    * The capacity of the queue used to store received data chunks.
    * <p>
@@ -554,11 +554,12 @@ public class NettyWebServerFactory extends AbstractConfigurableWebServerFactory
     Ssl ssl = getSsl();
     if (Ssl.isEnabled(ssl)) {
       SecuredHttpChannelInitializer initializer = new SecuredHttpChannelInitializer(httpTrafficHandler, config,
-              channelConfigurer, isHttp2Enabled(), ssl, getSslBundle(), getServerNameSslBundles(), http2FrameCodecFactory);
+              channelConfigurer, isHttp2Enabled(), ssl, getSslBundle(), getServerNameSslBundles(), http2FrameCodecFactory, getCompression());
       addBundleUpdateHandler(ssl, initializer::updateSSLBundle);
       return initializer;
     }
-    return new HttpChannelInitializer(httpTrafficHandler, isHttp2Enabled(), channelConfigurer, config, http2FrameCodecFactory);
+    return new HttpChannelInitializer(httpTrafficHandler, isHttp2Enabled(), channelConfigurer, config,
+            http2FrameCodecFactory, getCompression());
   }
 
   private final class DefaultHttp2FrameCodecFactory implements Http2FrameCodecFactory {
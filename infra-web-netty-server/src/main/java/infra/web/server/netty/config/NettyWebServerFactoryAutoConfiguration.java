@@ -165,6 +165,7 @@ public final class NettyWebServerFactoryAutoConfiguration {
     var builder = NettyRequestConfig.forBuilder(Ssl.isEnabled(server.ssl))
             .multipartParser(multipartParser)
             .writerAutoFlush(netty.writerAutoFlush)
+            .writerFlushThreshold(Math.toIntExact(netty.writerFlushThreshold.toBytes()))
             .headersFactory(DefaultHttpHeadersFactory.headersFactory()
                     .withValidation(netty.validateHeaders))
             .sendErrorHandler(sendErrorHandler)
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.server.netty;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import infra.util.DataSize;
+import infra.web.server.Compression;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+class CompressionHandlerTests {
+
+  private static final String BODY = "x".repeat(4096);
+
+  @Test
+  void compressCompatibleContentType() {
+    HttpResponse response = exchange(new Compression(), null, "text/html;charset=UTF-8", BODY.length(), false);
+    assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+  }
+
+  @Test
+  void skipIncompatibleContentType() {
+    HttpResponse response = exchange(new Compression(), null, "image/png", BODY.length(), false);
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+  }
+
+  @Test
+  void skipMissingContentType() {
+    HttpResponse response = exchange(new Compression(), null, null, BODY.length(), false);
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+  }
+
+  @Test
+  void skipContentLengthBelowMinResponseSize() {
+    Compression compression = new Compression();
+    compression.setMinResponseSize(DataSize.ofBytes(BODY.length() + 1));
+    HttpResponse response = exchange(compression, null, "text/html", BODY.length(), false);
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+    assertThat(response.headers().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(BODY.length());
+  }
+
+  @Test
+  void compressChunkedResponseWithoutContentLength() {
+    HttpResponse response = exchange(new Compression(), null, "application/json", -1, false);
+    assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+  }
+
+  @Test
+  void skipExcludedUserAgent() {
+    Compression compression = new Compression();
+    compression.setExcludedUserAgents(new String[] { "legacy-client" });
+    HttpResponse response = exchange(compression, "legacy-client", "text/html", BODY.length(), false);
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+
+    response = exchange(compression, "modern-client", "text/html", BODY.length(), false);
+    assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+  }
+
+  @Test
+  void earlyHintsResponseConsumesPipelinedRequest() {
+    Compression compression = new Compression();
+    compression.setExcludedUserAgents(new String[] { "legacy-client" });
+    EmbeddedChannel channel = new EmbeddedChannel(new CompressionHandler(new CompressionHandler.Policy(compression)));
+    for (String userAgent : new String[] { "legacy-client", "modern-client" }) {
+      DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+      request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip");
+      request.headers().set(HttpHeaderNames.USER_AGENT, userAgent);
+      assertThat(channel.writeInbound(request)).isTrue();
+      ReferenceCountUtil.release(channel.readInbound());
+    }
+
+    // like the accept-encoding queue of HttpContentEncoder, '103 Early Hints'
+    // takes the entry of the first request, the final response gets the second one
+    channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(103)));
+    ReferenceCountUtil.release(channel.readOutbound());
+
+    HttpHeaders headers = new DefaultHttpHeaders();
+    headers.set(HttpHeaderNames.CONTENT_TYPE, "text/html");
+    channel.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers),
+            new DefaultHttpContent(Unpooled.copiedBuffer(BODY, StandardCharsets.UTF_8)),
+            LastHttpContent.EMPTY_LAST_CONTENT);
+
+    HttpResponse written = channel.readOutbound();
+    channel.finishAndReleaseAll();
+    assertThat(written.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+  }
+
+  @Test
+  void skipZeroCopyResponse() {
+    HttpResponse response = exchange(new Compression(), null, "text/html", BODY.length(), true);
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_ENCODING)).isFalse();
+  }
+
+  private static HttpResponse exchange(Compression compression, @Nullable String userAgent,
+          @Nullable String contentType, int contentLength, boolean zeroCopy) {
+    EmbeddedChannel channel = new EmbeddedChannel(new CompressionHandler(new CompressionHandler.Policy(compression)));
+
+    DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+    request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip");
+    if (userAgent != null) {
+      request.headers().set(HttpHeaderNames.USER_AGENT, userAgent);
+    }
+    assertThat(channel.writeInbound(request)).isTrue();
+    ReferenceCountUtil.release(channel.readInbound());
+
+    HttpHeaders headers = new DefaultHttpHeaders();
+    if (contentType != null) {
+      headers.set(HttpHeaderNames.CONTENT_TYPE, contentType);
+    }
+    if (contentLength >= 0) {
+      headers.setInt(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+    }
+    HttpResponse response = zeroCopy
+            ? new CompressionHandler.ZeroCopyResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers)
+            : new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, headers);
+
+    channel.writeOutbound(response,
+            new DefaultHttpContent(Unpooled.copiedBuffer(BODY, StandardCharsets.UTF_8)),
+            LastHttpContent.EMPTY_LAST_CONTENT);
+
+    HttpResponse written = channel.readOutbound();
+    channel.finishAndReleaseAll();
+    return written;
+  }
+
+}
@@ -20,18 +20,28 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PrintWriter;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import infra.context.ApplicationContext;
 import infra.util.MultiValueMap;
 import infra.web.DispatcherHandler;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringEncoder;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -402,6 +412,44 @@ class NettyHttpContextTests {
 
   }
 
+  @Test
+  void findParameters() {
+    assertThat(NettyHttpContext.findParameters("a=1&b=2&a=3", "a")).containsExactly("1", "3");
+    assertThat(NettyHttpContext.findParameters("a=1&b=2&a=3", "b")).containsExactly("2");
+    assertThat(NettyHttpContext.findParameters("a=1&b=2&a=3", "c")).isNull();
+    assertThat(NettyHttpContext.findParameters("", "a")).isNull();
+    assertThat(NettyHttpContext.findParameters("flag&b=2", "flag")).containsExactly("");
+    assertThat(NettyHttpContext.findParameters("key1=value1#key2=value2", "key2")).isNull();
+    assertThat(NettyHttpContext.findParameters("a=1;b=2", "b")).containsExactly("2");
+    assertThat(NettyHttpContext.findParameters("a=1;b=2", "a", true)).containsExactly("1;b=2");
+  }
+
+  @Test
+  void findParametersDecodesNamesAndValues() {
+    assertThat(NettyHttpContext.findParameters("first+name=John+Doe&q=Java%2BSpring", "first name"))
+            .containsExactly("John Doe");
+    assertThat(NettyHttpContext.findParameters("first+name=John+Doe&q=Java%2BSpring", "q"))
+            .containsExactly("Java+Spring");
+    assertThat(NettyHttpContext.findParameters("%E5%90%8D=%E5%BC%A0%E4%B8%89", "名"))
+            .containsExactly("张三");
+  }
+
+  @Test
+  void getParameterFromQueryStringWithoutParameterMap() {
+    var request = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+            io.netty.handler.codec.http.HttpMethod.GET, "/users?name=john&role=admin&role=dev");
+
+    var ctx = new NettyHttpContextStub(request, null);
+    assertThat(ctx.getParameter("name")).isEqualTo("john");
+    assertThat(ctx.getParameters("role")).containsExactly("admin", "dev");
+    assertThat(ctx.getParameter("missing")).isNull();
+    assertThat(ctx.getParameters("missing")).isNull();
+
+    // once materialized, the parameter map is the source of truth
+    ctx.getParameters().add("name", "doe");
+    assertThat(ctx.getParameters("name")).containsExactly("john", "doe");
+  }
+
   // -- getServerName tests --
 
   @Test
@@ -680,6 +728,120 @@ class NettyHttpContextTests {
     assertThat(committed[0]).isTrue();
   }
 
+  @Test
+  void writer_EncodesIntoResponseBody() throws IOException {
+    var channel = new EmbeddedChannel();
+    var request = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+            io.netty.handler.codec.http.HttpMethod.GET, "/page");
+    var ctx = new NettyHttpContextStub(request, channel);
+
+    PrintWriter writer = ctx.getWriter();
+    writer.write("h\u00e9llo ");
+    // surrogate pair split across two writes
+    writer.write("a\uD83D");
+    writer.write("\uDE00b".toCharArray());
+    writer.append('!');
+    ctx.requestCompletedInternal(null);
+
+    HttpResponse response = channel.readOutbound();
+    assertThat(response.headers().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(14);
+    ByteBuf body = channel.readOutbound();
+    assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("h\u00e9llo a\uD83D\uDE00b!");
+    body.release();
+    assertThat((Object) channel.readOutbound()).isInstanceOf(LastHttpContent.class);
+  }
+
+  @Test
+  void writer_SendsChunksAboveFlushThreshold() throws IOException {
+    var channel = new EmbeddedChannel();
+    var request = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+            io.netty.handler.codec.http.HttpMethod.GET, "/page");
+    var ctx = new NettyHttpContextStub(request, channel,
+            NettyRequestConfig.forBuilder(false).writerFlushThreshold(1024));
+
+    PrintWriter writer = ctx.getWriter();
+    String line = "x".repeat(99) + "\n";
+    for (int i = 0; i < 10; i++) {
+      writer.write(line);
+    }
+    // below the threshold: nothing sent yet
+    assertThat(ctx.isCommitted()).isFalse();
+    assertThat(channel.outboundMessages()).isEmpty();
+
+    for (int i = 0; i < 20; i++) {
+      writer.write(line);
+    }
+    assertThat(ctx.isCommitted()).isTrue();
+    HttpResponse response = channel.readOutbound();
+    assertThat(HttpUtil.isTransferEncodingChunked(response)).isTrue();
+    assertThat(response.headers().contains(HttpHeaderNames.CONTENT_LENGTH)).isFalse();
+
+    ctx.requestCompletedInternal(null);
+    int chunks = 0;
+    int bytes = 0;
+    Object message;
+    while (!((message = channel.readOutbound()) instanceof LastHttpContent)) {
+      ByteBuf chunk = (ByteBuf) message;
+      chunks++;
+      bytes += chunk.readableBytes();
+      chunk.release();
+    }
+    assertThat(bytes).isEqualTo(3000);
+    assertThat(chunks).isEqualTo(3);
+  }
+
+  @Test
+  void writer_KeepsBufferingForHttp10() throws IOException {
+    var channel = new EmbeddedChannel();
+    var request = new DefaultHttpRequest(HttpVersion.HTTP_1_0,
+            io.netty.handler.codec.http.HttpMethod.GET, "/page");
+    var ctx = new NettyHttpContextStub(request, channel,
+            NettyRequestConfig.forBuilder(false).writerFlushThreshold(16));
+
+    ctx.getWriter().write("x".repeat(100));
+    assertThat(ctx.isCommitted()).isFalse();
+
+    ctx.requestCompletedInternal(null);
+    HttpResponse response = channel.readOutbound();
+    assertThat(response.headers().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(100);
+    assertThat(HttpUtil.isTransferEncodingChunked(response)).isFalse();
+    ByteBuf body = channel.readOutbound();
+    body.release();
+  }
+
+  @Test
+  void writer_SendsDataFramesWithoutContentLengthForHttp2() throws IOException {
+    var channel = new EmbeddedChannel();
+    channel.pipeline().addLast(HttpChannelInitializer.H2ToHttp11Codec, new Http2StreamFrameToHttpObjectCodec(true));
+    var request = new DefaultHttpRequest(HttpVersion.HTTP_1_1,
+            io.netty.handler.codec.http.HttpMethod.GET, "/page");
+    var ctx = new NettyHttpContextStub(request, channel,
+            NettyRequestConfig.forBuilder(false).writerFlushThreshold(1024));
+
+    PrintWriter writer = ctx.getWriter();
+    String line = "x".repeat(99) + "\n";
+    for (int i = 0; i < 30; i++) {
+      writer.write(line);
+    }
+    assertThat(ctx.isCommitted()).isTrue();
+    ctx.requestCompletedInternal(null);
+
+    Http2HeadersFrame headersFrame = channel.readOutbound();
+    assertThat(headersFrame.isEndStream()).isFalse();
+    assertThat(headersFrame.headers().contains(HttpHeaderNames.CONTENT_LENGTH)).isFalse();
+    assertThat(headersFrame.headers().contains(HttpHeaderNames.TRANSFER_ENCODING)).isFalse();
+
+    int bytes = 0;
+    Http2DataFrame dataFrame;
+    do {
+      dataFrame = channel.readOutbound();
+      bytes += dataFrame.content().readableBytes();
+      dataFrame.release();
+    }
+    while (!dataFrame.isEndStream());
+    assertThat(bytes).isEqualTo(3000);
+  }
+
   // -- stub --
 
   private static Channel mockChannel() {
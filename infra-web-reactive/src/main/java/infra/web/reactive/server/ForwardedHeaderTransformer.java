@@ -22,16 +22,22 @@ import org.jspecify.annotations.Nullable;
 
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 
 import infra.http.HttpHeaders;
+import infra.http.reactive.server.DecoratingServerHttpRequest;
 import infra.http.reactive.server.ServerHttpRequest;
+import infra.http.server.RequestPath;
 import infra.util.LinkedCaseInsensitiveMap;
-import infra.util.StringUtils;
+import infra.web.util.ForwardedHeaderCache;
 import infra.web.util.ForwardedHeaderUtils;
+import infra.web.util.ForwardedValues;
+import infra.web.util.UriComponentsBuilder;
 
 /**
  * Extract values from "Forwarded" and "X-Forwarded-*" headers to override
@@ -46,6 +52,12 @@ import infra.web.util.ForwardedHeaderUtils;
  * <p>You can also configure the ForwardedHeaderFilter with {@link #setRemoveOnly removeOnly},
  * in which case it removes but does not use the headers.
  *
+ * <p>The request is not copied but wrapped, and the wrapper computes the
+ * URI, path, headers, and addresses only when they are first accessed. When
+ * the header format is specified explicitly, the parsed header values are
+ * kept in a {@link ForwardedHeaderCache} and shared by all requests that
+ * carry the same values.
+ *
  * @author Rossen Stoyanchev
  * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
  * @see <a href="https://tools.ietf.org/html/rfc7239">https://tools.ietf.org/html/rfc7239</a>
@@ -68,6 +80,8 @@ public class ForwardedHeaderTransformer implements Function<ServerHttpRequest, S
 
   private final @Nullable Boolean useStandardHeader;
 
+  private @Nullable ForwardedHeaderCache headerCache;
+
   private boolean useForwardedPrefix;
 
   private boolean removeOnly;
@@ -97,6 +111,22 @@ public class ForwardedHeaderTransformer implements Function<ServerHttpRequest, S
    */
   public ForwardedHeaderTransformer(boolean useStandardHeader) {
     this.useStandardHeader = useStandardHeader;
+    this.headerCache = new ForwardedHeaderCache(useStandardHeader);
+  }
+
+  /**
+   * Set the number of forwarded header combinations for which to keep the
+   * parsed values, or 0 to parse the headers of every request.
+   * <p>By default, {@link ForwardedHeaderCache#DEFAULT_CAPACITY} combinations
+   * are kept. Only applies if the header format was specified explicitly.
+   *
+   * @param cacheCapacity the maximum number of cached header combinations
+   * @since 5.0
+   */
+  public void setCacheCapacity(int cacheCapacity) {
+    if (this.useStandardHeader != null) {
+      this.headerCache = new ForwardedHeaderCache(this.useStandardHeader, cacheCapacity);
+    }
   }
 
   /**
@@ -136,36 +166,14 @@ public class ForwardedHeaderTransformer implements Function<ServerHttpRequest, S
   @Override
   public ServerHttpRequest apply(ServerHttpRequest request) {
     if (hasForwardedHeaders(request)) {
-      ServerHttpRequest.Builder builder = request.mutate();
-      if (!this.removeOnly) {
-        URI originalUri = request.getURI();
-        HttpHeaders headers = request.getHeaders();
-        InetSocketAddress remoteAddress = request.getRemoteAddress();
-        InetSocketAddress localAddress = request.getLocalAddress();
-
-        var info = getForwardedInfo(
-                this.useStandardHeader, originalUri, headers, remoteAddress, localAddress);
-
-        URI uri = info.uri();
-        builder.uri(uri);
-        if (this.useForwardedPrefix) {
-          String prefix = getForwardedPrefix(request);
-          if (prefix != null) {
-            builder.path(prefix + uri.getRawPath());
-            builder.contextPath(prefix);
-          }
-        }
-        remoteAddress = info.forAddress();
-        if (remoteAddress != null) {
-          builder.remoteAddress(remoteAddress);
-        }
-        localAddress = info.byAddress();
-        if (localAddress != null) {
-          builder.localAddress(localAddress);
-        }
+      if (this.removeOnly) {
+        ServerHttpRequest.Builder builder = request.mutate();
+        removeForwardedHeaders(builder);
+        request = builder.build();
+      }
+      else {
+        request = new ForwardedHeaderRequest(request, getForwardedValues(request), this.useForwardedPrefix);
       }
-      removeForwardedHeaders(builder);
-      request = builder.build();
     }
     return request;
   }
@@ -184,6 +192,17 @@ public class ForwardedHeaderTransformer implements Function<ServerHttpRequest, S
     return false;
   }
 
+  private ForwardedValues getForwardedValues(ServerHttpRequest request) {
+    HttpHeaders headers = request.getHeaders();
+    ForwardedHeaderCache headerCache = this.headerCache;
+    if (headerCache != null) {
+      return headerCache.get(headers);
+    }
+    var info = getForwardedInfo(this.useStandardHeader, request.getURI(), headers,
+            request.getRemoteAddress(), request.getLocalAddress());
+    return ForwardedValues.forInfo(info, headers.getFirst("X-Forwarded-Prefix"));
+  }
+
   @SuppressWarnings("removal")
   private static ForwardedHeaderUtils.ForwardedInfo getForwardedInfo(
           @Nullable Boolean useStandardHeader, URI uri, HttpHeaders headers,
@@ -206,21 +225,132 @@ public class ForwardedHeaderTransformer implements Function<ServerHttpRequest, S
     builder.headers(map -> FORWARDED_HEADER_NAMES.forEach(map::remove));
   }
 
-  private static @Nullable String getForwardedPrefix(ServerHttpRequest request) {
-    String header = request.getHeader("X-Forwarded-Prefix");
-    if (header == null) {
-      return null;
-    }
-    StringBuilder prefix = new StringBuilder(header.length());
-    String[] rawPrefixes = StringUtils.tokenizeToStringArray(header, ",");
-    for (String rawPrefix : rawPrefixes) {
-      int endIndex = rawPrefix.length();
-      while (endIndex > 0 && rawPrefix.charAt(endIndex - 1) == '/') {
-        endIndex--;
+  /**
+   * Request that reflects forwarded values and hides the forwarded headers,
+   * computing each of them on first access.
+   */
+  private static final class ForwardedHeaderRequest extends DecoratingServerHttpRequest {
+
+    private final ForwardedValues values;
+
+    private final @Nullable String prefix;
+
+    private @Nullable URI uri;
+
+    private @Nullable RequestPath path;
+
+    private @Nullable HttpHeaders headers;
+
+    private @Nullable InetSocketAddress remoteAddress;
+
+    private @Nullable InetSocketAddress localAddress;
+
+    ForwardedHeaderRequest(ServerHttpRequest delegate, ForwardedValues values, boolean useForwardedPrefix) {
+      super(delegate);
+      this.values = values;
+      this.prefix = (useForwardedPrefix ? values.getPrefix() : null);
+    }
+
+    @Override
+    public URI getURI() {
+      URI uri = this.uri;
+      if (uri == null) {
+        URI originalUri = delegate().getURI();
+        UriComponentsBuilder builder = this.values.applyTo(UriComponentsBuilder.forURI(originalUri));
+        if (this.prefix != null) {
+          builder.replacePath(this.prefix + originalUri.getRawPath());
+        }
+        uri = new ForwardedHeaderUtils.ForwardedInfo(builder, null, null).uri();
+        this.uri = uri;
+      }
+      return uri;
+    }
+
+    @Override
+    public RequestPath getPath() {
+      if (this.prefix == null) {
+        // only scheme, host, and port differ from the original URI
+        return delegate().getPath();
+      }
+      RequestPath path = this.path;
+      if (path == null) {
+        path = RequestPath.parse(getURI(), this.prefix);
+        this.path = path;
+      }
+      return path;
+    }
+
+    @Override
+    public @Nullable InetSocketAddress getRemoteAddress() {
+      InetSocketAddress remoteAddress = this.remoteAddress;
+      if (remoteAddress == null) {
+        ServerHttpRequest delegate = delegate();
+        InetSocketAddress original = delegate.getRemoteAddress();
+        remoteAddress = this.values.getForAddress(delegate.getHeaders(),
+                ForwardedValues.getPortToUse(original, delegate.getURI().getScheme()));
+        if (remoteAddress == null) {
+          return original;
+        }
+        this.remoteAddress = remoteAddress;
+      }
+      return remoteAddress;
+    }
+
+    @Override
+    public @Nullable InetSocketAddress getLocalAddress() {
+      InetSocketAddress localAddress = this.localAddress;
+      if (localAddress == null) {
+        ServerHttpRequest delegate = delegate();
+        InetSocketAddress original = delegate.getLocalAddress();
+        localAddress = this.values.getByAddress(
+                ForwardedValues.getPortToUse(original, delegate.getURI().getScheme()));
+        if (localAddress == null) {
+          return original;
+        }
+        this.localAddress = localAddress;
+      }
+      return localAddress;
+    }
+
+    // Hide forwarded headers
+
+    @Override
+    public HttpHeaders getHeaders() {
+      HttpHeaders headers = this.headers;
+      if (headers == null) {
+        headers = HttpHeaders.copyOf(delegate().getHeaders());
+        FORWARDED_HEADER_NAMES.forEach(headers::remove);
+        headers = headers.asReadOnly();
+        this.headers = headers;
       }
-      prefix.append((endIndex != rawPrefix.length() ? rawPrefix.substring(0, endIndex) : rawPrefix));
+      return headers;
+    }
+
+    @Override
+    public @Nullable String getHeader(String name) {
+      return FORWARDED_HEADER_NAMES.contains(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+      return !FORWARDED_HEADER_NAMES.contains(name) && super.containsHeader(name);
     }
-    return prefix.toString();
+
+    @Override
+    public boolean containsHeaderValue(String headerName, String value) {
+      return !FORWARDED_HEADER_NAMES.contains(headerName) && super.containsHeaderValue(headerName, value);
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+      return FORWARDED_HEADER_NAMES.contains(name) ? Collections.emptyList() : super.getHeaders(name);
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+      return getHeaders().names();
+    }
+
   }
 
 }
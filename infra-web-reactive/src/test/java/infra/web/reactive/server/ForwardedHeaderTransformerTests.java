@@ -264,6 +264,46 @@ class ForwardedHeaderTransformerTests {
     assertThat(request.getLocalAddress().getPort()).isEqualTo(4711);
   }
 
+  @Test
+  void explicitHeaderFormatSharesParsedValues() {
+    ForwardedHeaderTransformer transformer = new ForwardedHeaderTransformer(false);
+    transformer.setUseForwardedPrefix(true);
+
+    for (String client : new String[] { "203.0.113.195", "70.41.3.18" }) {
+      HttpHeaders headers = HttpHeaders.forWritable();
+      headers.add("X-Forwarded-Proto", "https");
+      headers.add("X-Forwarded-Host", "example.com");
+      headers.add("X-Forwarded-Prefix", "/prefix/");
+      headers.add("X-Forwarded-For", client);
+
+      ServerHttpRequest request = transformer.apply(MockServerHttpRequest
+              .method(HttpMethod.GET, URI.create("http://localhost:8080/a%20b?q=a%2Bb"))
+              .headers(headers)
+              .build());
+
+      assertThat(request.getURI()).isEqualTo(URI.create("https://example.com/prefix/a%20b?q=a%2Bb"));
+      assertThat(request.getPath().value()).isEqualTo("/prefix/a%20b");
+      assertThat(request.getPath().contextPath().value()).isEqualTo("/prefix");
+      assertThat(request.getRemoteAddress()).isNotNull();
+      assertThat(request.getRemoteAddress().getHostString()).isEqualTo(client);
+      assertThat(request.getHeaders().contains("X-Forwarded-For")).isFalse();
+      assertThat(request.getHeaderNames()).doesNotContain("X-Forwarded-Host");
+      assertForwardedHeadersRemoved(request);
+    }
+  }
+
+  @Test
+  void keepsPathOfRequestWithoutPrefix() {
+    HttpHeaders headers = HttpHeaders.forWritable();
+    headers.add("Forwarded", "host=84.198.58.199;proto=https");
+    MockServerHttpRequest original = getRequest(headers);
+
+    ServerHttpRequest request = new ForwardedHeaderTransformer(true).apply(original);
+
+    assertThat(request.getPath()).isSameAs(original.getPath());
+    assertThat(request.getURI()).isEqualTo(URI.create("https://84.198.58.199/path"));
+  }
+
   private MockServerHttpRequest getRequest(HttpHeaders headers) {
     return MockServerHttpRequest.get(BASE_URL).headers(headers).build();
   }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.reactor.netty;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import infra.context.support.StaticApplicationContext;
+import infra.http.HttpHeaders;
+import infra.http.MediaType;
+import infra.http.reactive.server.HttpHandler;
+import infra.web.DispatcherHandler;
+import infra.web.HttpContext;
+import infra.web.multipart.parsing.DefaultMultipartParser;
+import infra.web.server.SimpleServiceExecutor;
+import infra.web.server.WebServer;
+import infra.web.server.netty.HttpTrafficHandler;
+import infra.web.server.netty.NettyRequestConfig;
+import infra.web.server.netty.NettyWebServerFactory;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import reactor.core.publisher.Mono;
+
+/**
+ * wrk-style throughput of the plaintext and JSON endpoints over keep-alive
+ * connections, one connection per benchmark thread, for
+ * <ul>
+ * <li>{@code reactor}: Reactor Netty through the reactive {@link HttpHandler}
+ * <li>{@code reactor-fixed}: Reactor Netty through a {@link FixedPathRouteProvider}
+ * <li>{@code netty}: the infra-web-netty-server {@link HttpTrafficHandler}
+ * </ul>
+ * Each request is written as raw bytes and its response is read up to its
+ * {@code Content-Length}, so the client adds as little work as possible.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ServerThroughputBenchmark {
+
+  private static final byte[] PLAINTEXT = "Hello, World!".getBytes(StandardCharsets.US_ASCII);
+
+  @Param({ "reactor", "reactor-fixed", "netty" })
+  public String server;
+
+  @Param({ "/plaintext", "/json" })
+  public String path;
+
+  private WebServer webServer;
+
+  private StaticApplicationContext context;
+
+  @Setup
+  public void startServer() {
+    webServer = switch (server) {
+      case "reactor" -> new ReactorNettyReactiveWebServerFactory(0).createWebServer(reactiveHandler());
+      case "reactor-fixed" -> {
+        var factory = new ReactorNettyReactiveWebServerFactory(0);
+        factory.addRouteProviders(new FixedPathRouteProvider()
+                .get("/plaintext", (request, response) -> response
+                        .header(HttpHeaderNames.CONTENT_TYPE, MediaType.TEXT_PLAIN_VALUE)
+                        .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(PLAINTEXT.length))
+                        .sendByteArray(Mono.just(PLAINTEXT)))
+                .get("/json", (request, response) -> {
+                  byte[] json = json();
+                  return response
+                          .header(HttpHeaderNames.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                          .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(json.length))
+                          .sendByteArray(Mono.just(json));
+                }));
+        yield factory.createWebServer(reactiveHandler());
+      }
+      case "netty" -> nettyServer();
+      default -> throw new IllegalArgumentException(server);
+    };
+    webServer.start();
+  }
+
+  @TearDown
+  public void stopServer() {
+    webServer.stop();
+    if (context != null) {
+      context.close();
+    }
+  }
+
+  @Benchmark
+  public int request(Connection connection) throws IOException {
+    return connection.exchange();
+  }
+
+  private static HttpHandler reactiveHandler() {
+    return (request, response) -> {
+      boolean json = request.getPath().value().equals("/json");
+      byte[] body = json ? json() : PLAINTEXT;
+      HttpHeaders headers = response.getHeaders();
+      headers.setContentType(json ? MediaType.APPLICATION_JSON : MediaType.TEXT_PLAIN);
+      headers.setContentLength(body.length);
+      return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    };
+  }
+
+  private WebServer nettyServer() {
+    context = new StaticApplicationContext();
+    context.refresh();
+    DispatcherHandler dispatcherHandler = new DispatcherHandler(context) {
+
+      @Override
+      public void handleRequest(HttpContext request) throws Exception {
+        boolean json = request.getRequestURI().equals("/json");
+        byte[] body = json ? json() : PLAINTEXT;
+        request.setContentType(json ? MediaType.APPLICATION_JSON_VALUE : MediaType.TEXT_PLAIN_VALUE);
+        request.getOutputStream().write(body);
+        requestCompleted(request, null);
+      }
+    };
+
+    NettyRequestConfig config = NettyRequestConfig.forBuilder(false)
+            .sendErrorHandler((request, message) -> { })
+            .multipartParser(new DefaultMultipartParser())
+            .build();
+    NettyWebServerFactory factory = new NettyWebServerFactory();
+    factory.setPort(0);
+    factory.setHttpTrafficHandler(new HttpTrafficHandler(config, context,
+            dispatcherHandler, new SimpleServiceExecutor(Runnable::run)));
+    return factory.createWebServer();
+  }
+
+  /**
+   * Serialize the JSON test object, per request as in the TechEmpower JSON test.
+   */
+  private static byte[] json() {
+    return new StringBuilder(32)
+            .append("{\"message\":\"")
+            .append("Hello, World!")
+            .append("\"}")
+            .toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A keep-alive connection of one benchmark thread.
+   */
+  @State(Scope.Thread)
+  public static class Connection {
+
+    private Socket socket;
+
+    private InputStream in;
+
+    private OutputStream out;
+
+    private byte[] request;
+
+    private final ByteArrayOutputStream headers = new ByteArrayOutputStream(256);
+
+    private final byte[] buffer = new byte[8192];
+
+    @Setup
+    public void connect(ServerThroughputBenchmark benchmark) throws IOException {
+      socket = new Socket();
+      socket.setTcpNoDelay(true);
+      socket.connect(new InetSocketAddress("localhost", benchmark.webServer.getPort()));
+      in = socket.getInputStream();
+      out = socket.getOutputStream();
+      request = ("GET " + benchmark.path + " HTTP/1.1\r\n"
+              + "Host: localhost\r\n"
+              + "Accept: */*\r\n"
+              + "Connection: keep-alive\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @TearDown
+    public void close() throws IOException {
+      socket.close();
+    }
+
+    /**
+     * Send the request and read the complete response.
+     *
+     * @return the length of the response body
+     */
+    int exchange() throws IOException {
+      out.write(request);
+      out.flush();
+
+      headers.reset();
+      int state = 0;
+      while (state < 4) {
+        int b = in.read();
+        if (b == -1) {
+          throw new IOException("Connection closed");
+        }
+        headers.write(b);
+        state = (b == (state % 2 == 0 ? '\r' : '\n')) ? state + 1 : (b == '\r' ? 1 : 0);
+      }
+
+      int contentLength = contentLength(headers.toString(StandardCharsets.US_ASCII));
+      int remaining = contentLength;
+      while (remaining > 0) {
+        int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+        if (read == -1) {
+          throw new IOException("Connection closed");
+        }
+        remaining -= read;
+      }
+      return contentLength;
+    }
+
+    private static int contentLength(String headers) {
+      for (String line : headers.split("\r\n")) {
+        int colon = line.indexOf(':');
+        if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("content-length")) {
+          return Integer.parseInt(line.substring(colon + 1).trim());
+        }
+      }
+      throw new IllegalStateException("Response without Content-Length:\n" + headers);
+    }
+  }
+
+}
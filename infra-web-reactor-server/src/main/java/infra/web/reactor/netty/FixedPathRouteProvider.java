@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.reactor.netty;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+
+import java.util.HashMap;
+import java.util.function.BiFunction;
+
+import infra.util.Assert;
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+/**
+ * {@link NettyRouteProvider} for routes with a fixed path, such as health
+ * checks or other hot endpoints, that are served directly on the Reactor
+ * Netty request and response.
+ *
+ * <p>All routes are registered as a single route, matched with one hash
+ * lookup by method and path instead of a predicate per route. Matched
+ * requests do not go through the {@link infra.http.reactive.server.HttpHandler
+ * HttpHandler} adaptation, so their body is read and written as plain
+ * {@code ByteBuf}s. Other requests fall through to the application.
+ *
+ * <pre>{@code
+ * factory.addRouteProviders(new FixedPathRouteProvider()
+ *         .get("/plaintext", (request, response) -> response.sendString(Mono.just("Hello, World!"))));
+ * }</pre>
+ *
+ * <p>Paths are compared with the decoded {@link HttpServerRequest#path()},
+ * which has no query string and ignores a leading and trailing slash.
+ * Routes must be registered before the server is started.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ReactorNettyReactiveWebServerFactory#addRouteProviders
+ * @since 5.0
+ */
+public class FixedPathRouteProvider implements NettyRouteProvider {
+
+  private final HashMap<String, HashMap<HttpMethod, BiFunction<? super HttpServerRequest,
+          ? super HttpServerResponse, ? extends Publisher<Void>>>> routes = new HashMap<>();
+
+  /**
+   * Register a handler for {@code GET} requests to the given path.
+   *
+   * @param path the request path
+   * @param handler the handler to invoke
+   * @return this provider
+   */
+  public FixedPathRouteProvider get(String path,
+          BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
+    return route(HttpMethod.GET, path, handler);
+  }
+
+  /**
+   * Register a handler for {@code POST} requests to the given path.
+   *
+   * @param path the request path
+   * @param handler the handler to invoke
+   * @return this provider
+   */
+  public FixedPathRouteProvider post(String path,
+          BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
+    return route(HttpMethod.POST, path, handler);
+  }
+
+  /**
+   * Register a handler for requests with the given method and path.
+   *
+   * @param method the request method
+   * @param path the request path
+   * @param handler the handler to invoke
+   * @return this provider
+   */
+  public FixedPathRouteProvider route(HttpMethod method, String path,
+          BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
+    Assert.notNull(method, "HttpMethod is required");
+    Assert.notNull(path, "Path is required");
+    Assert.notNull(handler, "Handler is required");
+    routes.computeIfAbsent(normalize(path), key -> new HashMap<>(4)).put(method, handler);
+    return this;
+  }
+
+  @Override
+  public HttpServerRoutes apply(HttpServerRoutes routes) {
+    if (this.routes.isEmpty()) {
+      return routes;
+    }
+    return routes.route(request -> findHandler(request) != null, this::handle);
+  }
+
+  private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+    var handler = findHandler(request);
+    Assert.state(handler != null, "No route");
+    return handler.apply(request, response);
+  }
+
+  @Nullable
+  BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> findHandler(HttpServerRequest request) {
+    var handlers = routes.get(request.path());
+    return handlers != null ? handlers.get(request.method()) : null;
+  }
+
+  private static String normalize(String path) {
+    // same as HttpInfos#path()
+    int start = path.startsWith("/") ? 1 : 0;
+    int end = path.length() > start && path.endsWith("/") ? path.length() - 1 : path.length();
+    return path.substring(start, end);
+  }
+
+}
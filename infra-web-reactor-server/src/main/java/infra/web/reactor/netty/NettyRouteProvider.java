@@ -28,6 +28,7 @@ import reactor.netty.http.server.HttpServerRoutes;
  * @author Brian Clozel
  * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
  * @see ReactorNettyReactiveWebServerFactory
+ * @see FixedPathRouteProvider
  * @since 4.0
  */
 @FunctionalInterface
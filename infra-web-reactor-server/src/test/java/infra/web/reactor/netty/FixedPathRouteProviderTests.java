@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.reactor.netty;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.function.BiFunction;
+
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class FixedPathRouteProviderTests {
+
+  private final BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> plaintext =
+          (request, response) -> Mono.empty();
+
+  private final BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> json =
+          (request, response) -> Mono.empty();
+
+  private final FixedPathRouteProvider provider = new FixedPathRouteProvider()
+          .get("/plaintext", plaintext)
+          .post("/api/json/", json);
+
+  @Test
+  void findsHandlerByMethodAndPath() {
+    assertThat(provider.findHandler(request(HttpMethod.GET, "plaintext"))).isSameAs(plaintext);
+    assertThat(provider.findHandler(request(HttpMethod.POST, "api/json"))).isSameAs(json);
+  }
+
+  @Test
+  void doesNotMatchOtherMethodsOrPaths() {
+    assertThat(provider.findHandler(request(HttpMethod.POST, "plaintext"))).isNull();
+    assertThat(provider.findHandler(request(HttpMethod.GET, "plaintext/more"))).isNull();
+    assertThat(provider.findHandler(request(HttpMethod.GET, "json"))).isNull();
+  }
+
+  @Test
+  void registersSingleRoute() {
+    HttpServerRoutes routes = mock(HttpServerRoutes.class);
+    when(routes.route(any(), any())).thenReturn(routes);
+
+    assertThat(provider.apply(routes)).isSameAs(routes);
+  }
+
+  @Test
+  void noRoutesLeavesRoutesUntouched() {
+    HttpServerRoutes routes = mock(HttpServerRoutes.class);
+
+    assertThat(new FixedPathRouteProvider().apply(routes)).isSameAs(routes);
+    verifyNoInteractions(routes);
+  }
+
+  private static HttpServerRequest request(HttpMethod method, String path) {
+    HttpServerRequest request = mock(HttpServerRequest.class);
+    when(request.method()).thenReturn(method);
+    when(request.path()).thenReturn(path);
+    return request;
+  }
+
+}
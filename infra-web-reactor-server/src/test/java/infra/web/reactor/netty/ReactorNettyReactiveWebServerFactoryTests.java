@@ -107,6 +107,27 @@ class ReactorNettyReactiveWebServerFactoryTests extends AbstractReactiveWebServe
     });
   }
 
+  @Test
+  void fixedPathRoutesAreServedBeforeHttpHandler() {
+    ReactorNettyReactiveWebServerFactory factory = getFactory();
+    factory.addRouteProviders(new FixedPathRouteProvider()
+            .get("/fixed", (request, response) -> response.sendString(Mono.just("fixed"))));
+    this.webServer = factory.createWebServer(new EchoHandler());
+    this.webServer.start();
+    WebClient webClient = getWebClient(this.webServer.getPort()).build();
+
+    Mono<String> fixed = webClient.get().uri("/fixed").retrieve().bodyToMono(String.class);
+    assertThat(fixed.block(Duration.ofSeconds(30))).isEqualTo("fixed");
+
+    Mono<String> echo = webClient.post()
+            .uri("/fixed")
+            .contentType(MediaType.TEXT_PLAIN)
+            .body(BodyInserters.fromValue("Hello World"))
+            .retrieve()
+            .bodyToMono(String.class);
+    assertThat(echo.block(Duration.ofSeconds(30))).isEqualTo("Hello World");
+  }
+
   private void portMatchesRequirement(PortInUseException exception) {
     assertThat(exception.getPort()).isEqualTo(this.webServer.getPort());
   }
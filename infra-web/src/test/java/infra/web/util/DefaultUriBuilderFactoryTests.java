@@ -189,6 +189,27 @@ public class DefaultUriBuilderFactoryTests {
     assertThat(uri.toString()).isEqualTo("/foo/bar");
   }
 
+  @Test
+  void expandWithCompiledTemplate() {
+    DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory("https://example.com/v1");
+    Map<String, Object> vars = Map.of("hotel", "a/b", "q", "c d");
+    URI uri = factory.expand("/hotels/{hotel}?q={q}", vars);
+    assertThat(uri.toString()).isEqualTo("https://example.com/v1/hotels/a%2Fb?q=c%20d");
+
+    factory.setTemplateCacheLimit(0);
+    assertThat(factory.expand("/hotels/{hotel}?q={q}", vars)).isEqualTo(uri);
+  }
+
+  @Test
+  void encodingModeAppliesToCompiledTemplate() {
+    DefaultUriBuilderFactory factory = new DefaultUriBuilderFactory();
+    assertThat(factory.expand("/hotels/{hotel}", "a/b").toString()).isEqualTo("/hotels/a%2Fb");
+
+    factory.setEncodingMode(EncodingMode.URI_COMPONENT);
+    factory.setParsePath(false);
+    assertThat(factory.expand("/hotels/{hotel}", "a/b").toString()).isEqualTo("/hotels/a/b");
+  }
+
   @Test
     // gh-30027
   void uriTemplateString() {
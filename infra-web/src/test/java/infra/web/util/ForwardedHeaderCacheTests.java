@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+
+import infra.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class ForwardedHeaderCacheTests {
+
+  @Test
+  void sharesValuesForSameHeaders() {
+    ForwardedHeaderCache cache = new ForwardedHeaderCache(true);
+
+    ForwardedValues first = cache.get(headers("Forwarded", "proto=https;host=example.com"));
+    ForwardedValues second = cache.get(headers("Forwarded", "proto=https;host=example.com"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(first.getScheme()).isEqualTo("https");
+    assertThat(first.getHost()).isEqualTo("example.com");
+    assertThat(first.getPort("https", 8080)).isEqualTo(-1);
+  }
+
+  @Test
+  void readsXForwardedForFromEachRequest() {
+    ForwardedHeaderCache cache = new ForwardedHeaderCache(false);
+    HttpHeaders first = headers("X-Forwarded-Proto", "https");
+    first.add("X-Forwarded-For", "203.0.113.195, 70.41.3.18");
+    HttpHeaders second = headers("X-Forwarded-Proto", "https");
+    second.add("X-Forwarded-For", "2001:db8::1");
+
+    ForwardedValues values = cache.get(first);
+
+    assertThat(cache.get(second)).isSameAs(values);
+    assertThat(values.getForAddress(first, 443))
+            .isEqualTo(InetSocketAddress.createUnresolved("203.0.113.195", 443));
+    assertThat(values.getForAddress(second, 443))
+            .isEqualTo(InetSocketAddress.createUnresolved("[2001:db8::1]", 443));
+  }
+
+  @Test
+  void keepsPortOfRequestWithoutForwardedPort() {
+    ForwardedValues values = new ForwardedHeaderCache(false).get(headers("X-Forwarded-Prefix", "/api/"));
+
+    assertThat(values.getScheme()).isNull();
+    assertThat(values.getHost()).isNull();
+    assertThat(values.getPort("http", 8080)).isEqualTo(8080);
+    assertThat(values.getPrefix()).isEqualTo("/api");
+  }
+
+  @Test
+  void appliesValuesLikeParsingHeaders() {
+    HttpHeaders headers = headers("Forwarded", "for=\"[2001:db8::1]:4711\";proto=https;host=\"example.com:8443\";by=proxy");
+    URI uri = URI.create("http://localhost:8080/path?q=1");
+
+    var expected = ForwardedHeaderUtils.parseStandardHeader(uri, headers, null, null);
+    var actual = new ForwardedHeaderCache(true).get(headers).toForwardedInfo(uri, headers, null, null);
+
+    assertThat(actual.uri()).isEqualTo(URI.create("https://example.com:8443/path?q=1")).isEqualTo(expected.uri());
+    assertThat(actual.forAddress()).isEqualTo(InetSocketAddress.createUnresolved("[2001:db8::1]", 4711));
+    assertThat(actual.byAddress()).isEqualTo(InetSocketAddress.createUnresolved("proxy", 80));
+  }
+
+  @Test
+  void doesNotCacheInvalidHeaders() {
+    ForwardedHeaderCache cache = new ForwardedHeaderCache(false);
+    HttpHeaders headers = headers("X-Forwarded-Port", "invalid");
+
+    assertThatIllegalArgumentException().isThrownBy(() -> cache.get(headers));
+    assertThatIllegalArgumentException().isThrownBy(() -> cache.get(headers));
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void parsesEveryTimeWithoutCapacity() {
+    ForwardedHeaderCache cache = new ForwardedHeaderCache(true, 0);
+    HttpHeaders headers = headers("Forwarded", "proto=https");
+
+    assertThat(cache.get(headers)).isNotSameAs(cache.get(headers));
+    assertThat(cache.size()).isZero();
+  }
+
+  private static HttpHeaders headers(String name, String value) {
+    HttpHeaders headers = HttpHeaders.forWritable();
+    headers.add(name, value);
+    return headers;
+  }
+
+}
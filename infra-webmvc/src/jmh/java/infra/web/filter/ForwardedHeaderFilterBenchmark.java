@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.web.FilterChain;
+import infra.web.HttpContext;
+import infra.web.mock.MockHttpContext;
+import infra.web.mock.MockRequest;
+
+/**
+ * Per-request cost of {@link ForwardedHeaderFilter} for requests from 16
+ * clients behind a TLS-terminating proxy, with the parsed header values
+ * cached or parsed for every request, and with a handler that reads only
+ * the path or everything the filter rewrites. Run with {@code -prof gc}
+ * to see the allocation per request.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ForwardedHeaderFilterBenchmark {
+
+  private static final int CLIENTS = 16;
+
+  @Param({ "standard", "x-forwarded" })
+  public String headerFormat;
+
+  @Param({ "0", "64" })
+  public int cacheCapacity;
+
+  private ForwardedHeaderFilter filter;
+
+  private MockRequest[] requests;
+
+  private int index;
+
+  @Setup
+  public void setup() {
+    boolean standard = "standard".equals(headerFormat);
+    filter = new ForwardedHeaderFilter(standard);
+    filter.setUseForwardedPrefix(true);
+    filter.setCacheCapacity(cacheCapacity);
+
+    requests = new MockRequest[CLIENTS];
+    for (int i = 0; i < CLIENTS; i++) {
+      String client = "203.0.113." + (10 + i);
+      MockRequest request = new MockRequest("GET", "/orders/42");
+      request.setScheme("http");
+      request.setServerName("10.0.3.17");
+      request.setServerPort(8080);
+      request.setQueryString("expand=items");
+      request.addHeader("Host", "10.0.3.17:8080");
+      request.addHeader("User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0");
+      request.addHeader("Accept", "application/json");
+      if (standard) {
+        request.addHeader("Forwarded", "for=" + client + ";proto=https;host=api.example.com;by=10.0.0.2");
+      }
+      else {
+        request.addHeader("X-Forwarded-For", client + ", 10.0.0.2");
+        request.addHeader("X-Forwarded-Proto", "https");
+        request.addHeader("X-Forwarded-Host", "api.example.com");
+        request.addHeader("X-Forwarded-Port", "443");
+      }
+      request.addHeader("X-Forwarded-Prefix", "/api");
+      requests[i] = request;
+    }
+  }
+
+  @Benchmark
+  public void readPath(Blackhole bh) throws Exception {
+    filter.doFilter(nextContext(), context -> bh.consume(context.getRequestURI()));
+  }
+
+  @Benchmark
+  public void readAll(Blackhole bh) throws Exception {
+    FilterChain chain = context -> {
+      bh.consume(context.getScheme());
+      bh.consume(context.getServerName());
+      bh.consume(context.getServerPort());
+      bh.consume(context.getRequestURL());
+      bh.consume(context.getRemoteAddress());
+    };
+    filter.doFilter(nextContext(), chain);
+  }
+
+  private HttpContext nextContext() {
+    return new MockHttpContext(requests[index++ & (CLIENTS - 1)]);
+  }
+
+}
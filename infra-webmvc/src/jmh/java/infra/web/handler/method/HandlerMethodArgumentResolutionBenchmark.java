@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.handler.method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import infra.http.server.RequestPath;
+import infra.web.BindingContext;
+import infra.web.HandlerMatchingMetadata;
+import infra.web.annotation.PathVariable;
+import infra.web.annotation.RequestHeader;
+import infra.web.annotation.RequestParam;
+import infra.web.bind.resolver.ParameterResolvingRegistry;
+import infra.web.bind.resolver.PathVariableMethodArgumentResolver;
+import infra.web.bind.resolver.RequestHeaderMethodArgumentResolver;
+import infra.web.bind.resolver.RequestParamMethodArgumentResolver;
+import infra.web.mock.MockHttpContext;
+import infra.web.mock.MockRequest;
+import infra.web.mock.MockResponse;
+import infra.web.util.pattern.PathPattern;
+import infra.web.util.pattern.PathPatternParser;
+
+/**
+ * Per-request cost of resolving the arguments of a handler method with
+ * six named-value parameters and invoking it.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HandlerMethodArgumentResolutionBenchmark {
+
+  private InvocableHandlerMethod handlerMethod;
+
+  private MockHttpContext context;
+
+  @Setup
+  public void setup() throws Exception {
+    ParameterResolvingRegistry registry = new ParameterResolvingRegistry();
+    registry.addCustomizedStrategies(new PathVariableMethodArgumentResolver(),
+            new RequestHeaderMethodArgumentResolver(null), new RequestParamMethodArgumentResolver(null, false));
+
+    Method method = UserController.class.getMethod("search",
+            String.class, long.class, String.class, int.class, int.class, String.class);
+    handlerMethod = new InvocableHandlerMethod(new UserController(), method, new RegistryHandlerParameterFactory(registry));
+
+    MockRequest request = new MockRequest("GET", "/tenants/acme/users/42");
+    request.setParameter("q", "infra");
+    request.setParameter("page", "3");
+    request.addHeader("X-Trace-Id", "7f3c2a");
+
+    context = new MockHttpContext(null, request, new MockResponse());
+    context.setBinding(new BindingContext());
+
+    PathPattern pattern = PathPatternParser.defaultInstance.parse("/tenants/{tenant}/users/{id}");
+    context.setMatchingMetadata(new HandlerMatchingMetadata(new Object(), "/tenants/acme/users/42",
+            RequestPath.parse("/tenants/acme/users/42", null), pattern, PathPatternParser.defaultInstance));
+  }
+
+  @Benchmark
+  public void invokeForRequest(Blackhole bh) throws Exception {
+    bh.consume(handlerMethod.invokeForRequest(context, null, null));
+  }
+
+  public static class UserController {
+
+    public String search(@PathVariable String tenant, @PathVariable long id, @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("X-Trace-Id") String traceId) {
+      return tenant;
+    }
+
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.multipart.parsing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import infra.web.mock.MockHttpContext;
+import infra.web.mock.MockRequest;
+import infra.web.multipart.Part;
+
+/**
+ * Parsing cost of multipart uploads of one 1GB file and of one thousand
+ * 100KB files, stored as parts or consumed with a {@link PartHandler}.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MultipartParserBenchmark {
+
+  private static final String BOUNDARY = "----InfraBenchmarkBoundary7MA4YWxkTrZu0gW";
+
+  @Param({ "1x1073741824", "1000x102400" })
+  public String upload;
+
+  private int partCount;
+
+  private long partSize;
+
+  private DefaultMultipartParser parser;
+
+  @Setup
+  public void setup() {
+    int separator = upload.indexOf('x');
+    partCount = Integer.parseInt(upload.substring(0, separator));
+    partSize = Long.parseLong(upload.substring(separator + 1));
+    parser = new DefaultMultipartParser();
+    parser.setMaxFields(partCount);
+    parser.setParsingBufferSize(64 * 1024);
+  }
+
+  @Benchmark
+  public void store(Blackhole bh) throws Exception {
+    Map<String, List<Part>> parts = parser.parseRequest(createContext());
+    for (List<Part> values : parts.values()) {
+      for (Part part : values) {
+        bh.consume(part.getContentLength());
+        part.cleanup();
+      }
+    }
+  }
+
+  @Benchmark
+  public void stream(Blackhole bh) throws Exception {
+    bh.consume(parser.parseRequest(createContext(), (name, filename, headers, content) ->
+            bh.consume(content.transferTo(OutputStream.nullOutputStream()))));
+  }
+
+  private MockHttpContext createContext() {
+    MockRequest request = new MockRequest("POST", "/upload");
+    request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+    MockHttpContext context = new MockHttpContext(request);
+    context.setInputStream(new UploadInputStream(partCount, partSize));
+    return context;
+  }
+
+  /**
+   * Generates the request body on the fly, so that large uploads do not
+   * need to be held in memory.
+   */
+  static final class UploadInputStream extends InputStream {
+
+    private static final byte[] FILLER = new byte[8192];
+
+    static {
+      for (int i = 0; i < FILLER.length; i++) {
+        FILLER[i] = (byte) ('a' + i % 26);
+      }
+    }
+
+    private static final byte[] HEADER = ("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"upload.bin\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] END = ("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    private final int partCount;
+
+    private final long partSize;
+
+    private int part;
+
+    private int segment;
+
+    private long offset;
+
+    UploadInputStream(int partCount, long partSize) {
+      this.partCount = partCount;
+      this.partSize = partSize;
+    }
+
+    @Override
+    public int read() {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      for (; ; ) {
+        if (part == partCount) {
+          // all parts written, only the close-delimiter is left
+          if (offset == END.length) {
+            return -1;
+          }
+          return copy(END, b, off, len);
+        }
+        switch (segment) {
+          case 0 -> {
+            if (offset < HEADER.length) {
+              return copy(HEADER, b, off, len);
+            }
+          }
+          case 1 -> {
+            if (offset < partSize) {
+              int n = (int) Math.min(Math.min(len, FILLER.length), partSize - offset);
+              System.arraycopy(FILLER, 0, b, off, n);
+              offset += n;
+              return n;
+            }
+          }
+          default -> {
+            if (offset < CRLF.length) {
+              return copy(CRLF, b, off, len);
+            }
+          }
+        }
+        offset = 0;
+        if (++segment == 3) {
+          segment = 0;
+          part++;
+        }
+      }
+    }
+
+    private int copy(byte[] source, byte[] b, int off, int len) {
+      int n = (int) Math.min(len, source.length - offset);
+      System.arraycopy(source, (int) offset, b, off, n);
+      offset += n;
+      return n;
+    }
+
+  }
+
+}
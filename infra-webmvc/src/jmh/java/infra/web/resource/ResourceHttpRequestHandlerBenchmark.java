@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import infra.core.io.UrlResource;
+import infra.util.FileSystemUtils;
+import infra.web.mock.MockHttpContext;
+import infra.web.mock.MockRequest;
+import infra.web.mock.MockResponse;
+
+/**
+ * Throughput of serving a 10KB asset from a jar, with and without a
+ * {@link ContentCachingResourceResolver} in the resolver chain.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ResourceHttpRequestHandlerBenchmark {
+
+  @Param({ "true", "false" })
+  public boolean contentCaching;
+
+  private Path directory;
+
+  private ResourceHttpRequestHandler handler;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("resource-benchmark");
+    Path jar = directory.resolve("app.jar");
+    try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("static/"));
+      out.closeEntry();
+      out.putNextEntry(new JarEntry("static/app.js"));
+      writeScript(out, 10 * 1024);
+      out.closeEntry();
+    }
+
+    handler = new ResourceHttpRequestHandler();
+    handler.setLocations(List.of(new UrlResource("jar:" + jar.toUri() + "!/static/")));
+    if (contentCaching) {
+      handler.setResourceResolvers(List.of(new ContentCachingResourceResolver(), new PathResourceResolver()));
+    }
+    handler.afterPropertiesSet();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Benchmark
+  public void serve(Blackhole bh) throws Throwable {
+    MockResponse response = new MockResponse();
+    MockHttpContext context = new MockHttpContext(null, new MockRequest("GET", "app.js"), response);
+    handler.handleRequest(context);
+    context.flush();
+    bh.consume(response.getContentAsByteArray());
+  }
+
+  private static void writeScript(OutputStream out, int size) throws Exception {
+    StringBuilder script = new StringBuilder(size + 64);
+    int i = 0;
+    while (script.length() < size) {
+      script.append("function f").append(i).append("() { return ").append(i++).append("; }\n");
+    }
+    out.write(script.toString().getBytes());
+  }
+
+}
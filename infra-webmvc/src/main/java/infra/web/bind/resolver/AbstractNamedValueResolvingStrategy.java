@@ -106,15 +106,15 @@ public abstract class AbstractNamedValueResolvingStrategy implements ParameterRe
 
     if (arg == null) {
       if (namedValueInfo.defaultValue != null) {
-        arg = resolveEmbeddedValuesAndExpressions(namedValueInfo.defaultValue);
+        arg = resolveDefaultValue(namedValueInfo);
       }
-      else if (namedValueInfo.required && !methodParameter.isNullable()) {
+      else if (namedValueInfo.required && !parameter.isNullable()) {
         handleMissingValue(namedValueInfo.name, methodParameter, context);
       }
       arg = handleNullValue(namedValueInfo.name, arg, methodParameter.getParameterType());
     }
     else if ("".equals(arg) && namedValueInfo.defaultValue != null) {
-      arg = resolveEmbeddedValuesAndExpressions(namedValueInfo.defaultValue);
+      arg = resolveDefaultValue(namedValueInfo);
     }
 
     BindingContext bindingContext = context.getBinding();
@@ -123,10 +123,10 @@ public abstract class AbstractNamedValueResolvingStrategy implements ParameterRe
       // Check for null value after conversion of incoming argument value
       if (arg == null) {
         if (namedValueInfo.defaultValue != null) {
-          arg = resolveEmbeddedValuesAndExpressions(namedValueInfo.defaultValue);
+          arg = resolveDefaultValue(namedValueInfo);
           arg = convertIfNecessary(context, bindingContext, namedValueInfo, methodParameter, arg);
         }
-        else if (namedValueInfo.required && !methodParameter.isNullable()) {
+        else if (namedValueInfo.required && !parameter.isNullable()) {
           handleMissingValueAfterConversion(namedValueInfo.name, methodParameter, context);
         }
       }
@@ -159,6 +159,20 @@ public abstract class AbstractNamedValueResolvingStrategy implements ParameterRe
     return resolvable.getNamedValueInfo();
   }
 
+  /**
+   * Resolve the default value of the given named value. Plain literals
+   * are returned as-is, only values that contain placeholders or
+   * expressions go through the bean factory on every resolution.
+   */
+  @Nullable
+  private Object resolveDefaultValue(NamedValueInfo namedValueInfo) {
+    String defaultValue = namedValueInfo.defaultValue;
+    if (defaultValue != null && namedValueInfo.defaultValueEmbedded) {
+      return resolveEmbeddedValuesAndExpressions(defaultValue);
+    }
+    return defaultValue;
+  }
+
   /**
    * Resolve the given annotation-specified value,
    * potentially containing placeholders and expressions.
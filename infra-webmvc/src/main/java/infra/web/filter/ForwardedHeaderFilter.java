@@ -41,7 +41,9 @@ import infra.web.DecoratingHttpContext;
 import infra.web.Filter;
 import infra.web.FilterChain;
 import infra.web.HttpContext;
+import infra.web.util.ForwardedHeaderCache;
 import infra.web.util.ForwardedHeaderUtils;
+import infra.web.util.ForwardedValues;
 import infra.web.util.UriComponents;
 import infra.web.util.UriComponentsBuilder;
 
@@ -66,6 +68,12 @@ import infra.web.util.UriComponentsBuilder;
  * <p>You can configure this filter in {@link #setRemoveOnly removeOnly} mode,
  * in which case it hides the headers without using them.
  *
+ * <p>The wrapped request computes the forwarded scheme, host, port, URL, and
+ * addresses only when they are first accessed. When the header format is
+ * specified explicitly, the parsed header values are kept in a
+ * {@link ForwardedHeaderCache} and shared by all requests that carry the
+ * same values.
+ *
  * @author Rossen Stoyanchev
  * @author Eddú Meléndez
  * @author Rob Winch
@@ -94,6 +102,8 @@ public class ForwardedHeaderFilter implements Filter {
 
   private final @Nullable Boolean useStandardHeader;
 
+  private @Nullable ForwardedHeaderCache headerCache;
+
   private boolean useForwardedPrefix;
 
   private boolean removeOnly;
@@ -124,6 +134,21 @@ public class ForwardedHeaderFilter implements Filter {
    */
   public ForwardedHeaderFilter(boolean useStandardHeader) {
     this.useStandardHeader = useStandardHeader;
+    this.headerCache = new ForwardedHeaderCache(useStandardHeader);
+  }
+
+  /**
+   * Set the number of forwarded header combinations for which to keep the
+   * parsed values, or 0 to parse the headers of every request.
+   * <p>By default, {@link ForwardedHeaderCache#DEFAULT_CAPACITY} combinations
+   * are kept. Only applies if the header format was specified explicitly.
+   *
+   * @param cacheCapacity the maximum number of cached header combinations
+   */
+  public void setCacheCapacity(int cacheCapacity) {
+    if (this.useStandardHeader != null) {
+      this.headerCache = new ForwardedHeaderCache(this.useStandardHeader, cacheCapacity);
+    }
   }
 
   /**
@@ -181,7 +206,7 @@ public class ForwardedHeaderFilter implements Filter {
       else {
         HttpContext wrappedRequest;
         try {
-          wrappedRequest = new ForwardedHeaderExtractingContext(context, this.useStandardHeader, this.useForwardedPrefix);
+          wrappedRequest = new ForwardedHeaderExtractingContext(context, getForwardedValues(context), this.useForwardedPrefix);
           if (relativeRedirects) {
             wrappedRequest = RelativeRedirectResponseWrapper.wrapIfNecessary(wrappedRequest, HttpStatus.SEE_OTHER);
           }
@@ -208,6 +233,21 @@ public class ForwardedHeaderFilter implements Filter {
     return "HTTP " + request.getMethod() + " \"" + request.getRequestURI() + "\"";
   }
 
+  private ForwardedValues getForwardedValues(HttpContext context) {
+    HttpHeaders headers = context.getHeaders();
+    ForwardedHeaderCache headerCache = this.headerCache;
+    if (headerCache != null) {
+      return headerCache.get(headers);
+    }
+    var info = getForwardedInfo(this.useStandardHeader, context.getURI(), headers,
+            context.remoteAddress(), asInetSocketAddress(context.localAddress()));
+    return ForwardedValues.forInfo(info, headers.getFirst("X-Forwarded-Prefix"));
+  }
+
+  private static @Nullable InetSocketAddress asInetSocketAddress(@Nullable SocketAddress address) {
+    return (address instanceof InetSocketAddress inetSocketAddress ? inetSocketAddress : null);
+  }
+
   @SuppressWarnings("removal")
   private static ForwardedHeaderUtils.ForwardedInfo getForwardedInfo(
           @Nullable Boolean useStandardHeader, URI uri, HttpHeaders headers,
@@ -279,64 +319,78 @@ public class ForwardedHeaderFilter implements Filter {
 
     private static final String FOLDER_SEPARATOR = "/";
 
-    private final @Nullable String scheme;
-
-    private final boolean secure;
+    private final ForwardedValues values;
 
-    private final @Nullable String host;
+    private final ForwardedPrefixExtractor forwardedPrefixExtractor;
 
-    private final int port;
+    private boolean serverResolved;
 
-    private final @Nullable InetSocketAddress remoteAddress;
+    private @Nullable String scheme;
 
-    private final @Nullable InetSocketAddress localAddress;
+    private boolean secure;
 
-    private final ForwardedPrefixExtractor forwardedPrefixExtractor;
+    private @Nullable String host;
 
-    private final @Nullable Boolean useStandardHeader;
+    private int port;
 
-    ForwardedHeaderExtractingContext(HttpContext context, @Nullable Boolean useStandardHeader, boolean useForwardedPrefix) {
-      super(context);
-      this.useStandardHeader = useStandardHeader;
-      var info = getForwardedInfo(useStandardHeader, context.getURI(), context.getHeaders(),
-              context.remoteAddress(), (InetSocketAddress) context.localAddress());
+    private @Nullable String baseUrl;
 
-      UriComponents uriComponents = info.uriComponentsBuilder().build();
-      int port = uriComponents.getPort();
+    private @Nullable InetSocketAddress remoteAddress;
 
-      this.scheme = uriComponents.getScheme();
-      this.secure = "https".equals(this.scheme) || "wss".equals(this.scheme);
-      this.host = uriComponents.getHost();
-      this.port = (port == -1 ? (this.secure ? 443 : 80) : port);
+    private @Nullable InetSocketAddress localAddress;
 
-      this.remoteAddress = info.forAddress();
-      this.localAddress = info.byAddress();
+    ForwardedHeaderExtractingContext(HttpContext context, ForwardedValues values, boolean useForwardedPrefix) {
+      super(context);
+      this.values = values;
 
       // Use Supplier as Tomcat updates delegate request on FORWARD
       Supplier<HttpContext> requestSupplier = this::delegate;
 
       this.forwardedPrefixExtractor = new ForwardedPrefixExtractor(
-              requestSupplier, (this.scheme + "://" + this.host + (port == -1 ? "" : ":" + port)),
-              useForwardedPrefix);
+              requestSupplier, this::getBaseUrl, (useForwardedPrefix ? values.getPrefix() : null));
+    }
+
+    private void resolveServer() {
+      if (!this.serverResolved) {
+        URI uri = delegate().getURI();
+        String scheme = (this.values.getScheme() != null ? this.values.getScheme() : uri.getScheme());
+        int port = this.values.getPort(scheme, uri.getPort());
+
+        this.scheme = scheme;
+        this.secure = "https".equals(scheme) || "wss".equals(scheme);
+        this.host = (this.values.getHost() != null ? this.values.getHost() : uri.getHost());
+        this.port = (port == -1 ? (this.secure ? 443 : 80) : port);
+        this.baseUrl = (scheme + "://" + this.host + (port == -1 ? "" : ":" + port));
+        this.serverResolved = true;
+      }
+    }
+
+    private String getBaseUrl() {
+      resolveServer();
+      return this.baseUrl;
     }
 
     @Override
     public String getScheme() {
+      resolveServer();
       return this.scheme != null ? scheme : super.getScheme();
     }
 
     @Override
     public String getServerName() {
+      resolveServer();
       return this.host != null ? host : super.getServerName();
     }
 
     @Override
     public int getServerPort() {
+      resolveServer();
       return this.port;
     }
 
     @Override
     public boolean isSecure() {
+      resolveServer();
       return this.secure;
     }
 
@@ -352,24 +406,50 @@ public class ForwardedHeaderFilter implements Filter {
 
     @Override
     public String getRemoteAddress() {
-      return (this.remoteAddress != null ? this.remoteAddress.getHostString() : super.getRemoteAddress());
+      InetSocketAddress remoteAddress = getForwardedRemoteAddress();
+      return (remoteAddress != null ? remoteAddress.getHostString() : super.getRemoteAddress());
     }
 
     @Override
     public int getRemotePort() {
-      return (this.remoteAddress != null ? this.remoteAddress.getPort() : super.getRemotePort());
+      InetSocketAddress remoteAddress = getForwardedRemoteAddress();
+      return (remoteAddress != null ? remoteAddress.getPort() : super.getRemotePort());
     }
 
     @Override
     public SocketAddress localAddress() {
-      return this.localAddress != null ? this.localAddress : super.localAddress();
+      InetSocketAddress localAddress = getForwardedLocalAddress();
+      return localAddress != null ? localAddress : super.localAddress();
     }
 
     @Override
     public InetSocketAddress remoteAddress() {
+      InetSocketAddress remoteAddress = getForwardedRemoteAddress();
       return remoteAddress != null ? remoteAddress : super.remoteAddress();
     }
 
+    private @Nullable InetSocketAddress getForwardedRemoteAddress() {
+      InetSocketAddress remoteAddress = this.remoteAddress;
+      if (remoteAddress == null) {
+        HttpContext delegate = delegate();
+        remoteAddress = this.values.getForAddress(delegate.getHeaders(),
+                ForwardedValues.getPortToUse(delegate.remoteAddress(), delegate.getURI().getScheme()));
+        this.remoteAddress = remoteAddress;
+      }
+      return remoteAddress;
+    }
+
+    private @Nullable InetSocketAddress getForwardedLocalAddress() {
+      InetSocketAddress localAddress = this.localAddress;
+      if (localAddress == null) {
+        HttpContext delegate = delegate();
+        localAddress = this.values.getByAddress(ForwardedValues.getPortToUse(
+                asInetSocketAddress(delegate.localAddress()), delegate.getURI().getScheme()));
+        this.localAddress = localAddress;
+      }
+      return localAddress;
+    }
+
     @Override
     public void sendRedirect(String location) throws IOException {
       UriComponentsBuilder builder = UriComponentsBuilder.forURIString(location);
@@ -395,12 +475,7 @@ public class ForwardedHeaderFilter implements Filter {
                 StringUtils.applyRelativePath(getRequestURI(), path));
       }
 
-      URI uri = getURI();
-      HttpHeaders headers = getHeaders();
-
-      var info = getForwardedInfo(useStandardHeader, uri, headers, null, null);
-
-      String result = info.uriComponentsBuilder()
+      String result = this.values.applyTo(UriComponentsBuilder.forURI(getURI()))
               .replacePath(path)
               .replaceQuery(uriComponents.getQuery())
               .fragment(uriComponents.getFragment())
@@ -420,7 +495,7 @@ public class ForwardedHeaderFilter implements Filter {
 
     private final Supplier<HttpContext> delegate;
 
-    private final String baseUrl;
+    private final Supplier<String> baseUrl;
 
     private String actualRequestUri;
 
@@ -428,7 +503,7 @@ public class ForwardedHeaderFilter implements Filter {
 
     private @Nullable String requestUri;
 
-    private String requestUrl;
+    private @Nullable String requestUrl;
 
     /**
      * Constructor with required information.
@@ -436,41 +511,17 @@ public class ForwardedHeaderFilter implements Filter {
      * @param delegate supplier for the current
      * {@link DecoratingHttpContext#delegate() delegate request} which
      * may change during a forward (for example, Tomcat.
-     * @param baseUrl the host, scheme, and port based on forwarded headers
-     * @param useForwardedPrefix whether to use "X-Forwarded-Prefix"
+     * @param baseUrl supplier for the host, scheme, and port based on
+     * forwarded headers, only called when the request URL is needed
+     * @param forwardedPrefix the "X-Forwarded-Prefix" to use, if any
      */
-    public ForwardedPrefixExtractor(Supplier<HttpContext> delegate, String baseUrl, boolean useForwardedPrefix) {
+    public ForwardedPrefixExtractor(Supplier<HttpContext> delegate,
+            Supplier<String> baseUrl, @Nullable String forwardedPrefix) {
       this.delegate = delegate;
       this.baseUrl = baseUrl;
       this.actualRequestUri = delegate.get().getRequestURI();
-
-      // Keep call order
-      this.forwardedPrefix = (useForwardedPrefix ? initForwardedPrefix(delegate.get()) : null);
+      this.forwardedPrefix = forwardedPrefix;
       this.requestUri = initRequestUri();
-      this.requestUrl = initRequestUrl();
-    }
-
-    private static @Nullable String initForwardedPrefix(HttpContext request) {
-      String result = null;
-      Collection<String> names = request.getHeaderNames();
-      for (String name : names) {
-        if ("X-Forwarded-Prefix".equalsIgnoreCase(name)) {
-          result = request.getHeader(name);
-        }
-      }
-      if (result != null) {
-        StringBuilder prefix = new StringBuilder(result.length());
-        String[] rawPrefixes = StringUtils.tokenizeToStringArray(result, ",");
-        for (String rawPrefix : rawPrefixes) {
-          int endIndex = rawPrefix.length();
-          while (endIndex > 0 && rawPrefix.charAt(endIndex - 1) == '/') {
-            endIndex--;
-          }
-          prefix.append((endIndex != rawPrefix.length() ? rawPrefix.substring(0, endIndex) : rawPrefix));
-        }
-        return prefix.toString();
-      }
-      return null;
     }
 
     private @Nullable String initRequestUri() {
@@ -481,7 +532,7 @@ public class ForwardedHeaderFilter implements Filter {
     }
 
     private String initRequestUrl() {
-      return (this.baseUrl + (this.requestUri != null ? this.requestUri : this.delegate.get().getRequestURI()));
+      return (this.baseUrl.get() + (this.requestUri != null ? this.requestUri : this.delegate.get().getRequestURI()));
     }
 
     public String getRequestUri() {
@@ -494,6 +545,11 @@ public class ForwardedHeaderFilter implements Filter {
 
     public String getRequestUrl() {
       recalculatePathsIfNecessary();
+      String requestUrl = this.requestUrl;
+      if (requestUrl == null) {
+        requestUrl = initRequestUrl();
+        this.requestUrl = requestUrl;
+      }
       return requestUrl;
     }
 
@@ -501,9 +557,8 @@ public class ForwardedHeaderFilter implements Filter {
       // Path of delegate request changed, for example, FORWARD on Tomcat
       if (!this.actualRequestUri.equals(this.delegate.get().getRequestURI())) {
         this.actualRequestUri = this.delegate.get().getRequestURI();
-        // Keep call order
         this.requestUri = initRequestUri();
-        this.requestUrl = initRequestUrl();
+        this.requestUrl = null;
       }
     }
 
@@ -65,6 +65,8 @@ public class HandlerParameter extends DefaultAttributeAccessor {
 
   private @Nullable ResolvableType resolvableType;
 
+  private @Nullable Boolean nullable;
+
   /**
    * @since 3.0.1
    */
@@ -84,6 +86,7 @@ public class HandlerParameter extends DefaultAttributeAccessor {
     this.parameter = other.parameter;
     this.resolvableType = other.resolvableType;
     this.namedValueInfo = other.namedValueInfo;
+    this.nullable = other.nullable;
     this.typeDescriptor = other.typeDescriptor; // @since 3.0.1
   }
 
@@ -230,6 +233,24 @@ public class HandlerParameter extends DefaultAttributeAccessor {
     return resolvableType;
   }
 
+  /**
+   * Return whether this method parameter may be {@code null}.
+   *
+   * <p>The result is resolved lazily and cached, so that argument resolution
+   * does not have to inspect nullability annotations on every request.
+   *
+   * @see MethodParameter#isNullable()
+   * @since 5.0
+   */
+  public boolean isNullable() {
+    Boolean nullable = this.nullable;
+    if (nullable == null) {
+      nullable = parameter.isNullable();
+      this.nullable = nullable;
+    }
+    return nullable;
+  }
+
   // NamedValueInfo
 
   /**
@@ -343,7 +364,7 @@ public class HandlerParameter extends DefaultAttributeAccessor {
     }
     boolean required = info.required;
     if (required) {
-      required = !parameter.isNullable();
+      required = !isNullable();
     }
     String defaultValue = Constant.DEFAULT_NONE.equals(info.defaultValue) ? null : info.defaultValue;
     return new NamedValueInfo(name, required, defaultValue);
@@ -51,7 +51,7 @@ public final class NamedValueInfo {
     this.required = required;
     this.defaultValue = defaultValue;
     this.nameEmbedded = EmbeddedValueResolver.isEmbedded(name);
-    this.defaultValueEmbedded = EmbeddedValueResolver.isEmbedded(defaultValue);
+    this.defaultValueEmbedded = containsExpression(defaultValue);
   }
 
   public NamedValueInfo(NamedValueInfo info, @Nullable String defaultValue) {
@@ -59,7 +59,15 @@ public final class NamedValueInfo {
     this.required = info.required;
     this.defaultValue = defaultValue;
     this.nameEmbedded = info.nameEmbedded;
-    this.defaultValueEmbedded = EmbeddedValueResolver.isEmbedded(defaultValue);
+    this.defaultValueEmbedded = containsExpression(defaultValue);
+  }
+
+  /**
+   * Default values may embed placeholders or expressions anywhere,
+   * for example {@code "prefix-${suffix}"}, not only as the whole value.
+   */
+  private static boolean containsExpression(@Nullable String defaultValue) {
+    return defaultValue != null && (defaultValue.contains("${") || defaultValue.contains("#{"));
   }
 
 }
@@ -26,6 +26,8 @@ import infra.web.bind.resolver.ParameterResolvingStrategy;
 /**
  * Represents a method parameter that can be resolved using a {@link ParameterResolvingStrategy}.
  * <p>This class caches the resolved strategy to avoid repeated lookups for the same parameter.
+ * The strategy is bound eagerly when the handler method is registered, parameters
+ * without a suitable strategy are reported lazily on first resolution.
  *
  * @author TODAY 2020/9/26 20:06
  * @since 3.0
@@ -39,6 +41,7 @@ final class ParameterResolverMethodParameter extends HandlerParameter {
   ParameterResolverMethodParameter(MethodParameter parameter, ParameterResolvingRegistry resolvers) {
     super(parameter);
     this.resolvers = resolvers;
+    this.strategy = resolvers.findStrategy(this);
   }
 
   @Override
@@ -279,7 +279,6 @@ public class DefaultMultipartParser implements MultipartParser {
     MultiValueMap<String, Part> parts = MultiValueMap.forLinkedHashMap();
     boolean successful = false;
     try {
-      final byte[] buffer = new byte[StreamUtils.BUFFER_SIZE];
       var itemIterator = new FieldItemInputIterator(this, context);
       while (itemIterator.hasNext()) {
         FieldItemInput field = itemIterator.next();
@@ -299,7 +298,8 @@ public class DefaultMultipartParser implements MultipartParser {
         try {
           in = field.getInputStream();
           out = part.getOutputStream();
-          StreamUtils.copy(in, out, buffer);
+          // writes straight from the parsing buffer
+          in.transferTo(out);
         }
         catch (IOException e) {
           throw new MultipartException("Request '%s' failed: %s".formatted(context.getContentType(), e.getMessage()), e);
@@ -322,4 +322,40 @@ public class DefaultMultipartParser implements MultipartParser {
     }
   }
 
+  /**
+   * Parses an <a href="https://www.ietf.org/rfc/rfc1867.txt">RFC 1867</a> compliant
+   * {@code multipart/form-data} stream, passing each part to the given handler as
+   * it arrives instead of storing it.
+   *
+   * @param context The context for the request to be parsed.
+   * @param handler The handler to consume the parts, in the order that they were transmitted.
+   * @return The number of parts.
+   * @throws MultipartException if there are problems reading/parsing the request or handling a part.
+   * @since 5.0
+   */
+  public int parseRequest(final HttpContext context, final PartHandler handler) throws MultipartException {
+    if (!context.isMultipart()) {
+      throw new NotMultipartRequestException("the request doesn't contain a %s or %s stream, content type header is %s"
+              .formatted(MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.MULTIPART_MIXED_VALUE, context.getContentType()), null);
+    }
+
+    int count = 0;
+    try {
+      var itemIterator = new FieldItemInputIterator(this, context);
+      while (itemIterator.hasNext()) {
+        FieldItemInput field = itemIterator.next();
+        if (count == maxFields) {
+          throw new MultipartFieldCountLimitException("Request '%s' failed: Maximum file count %,d exceeded."
+                  .formatted(context.getContentType(), maxFields), maxFields, count);
+        }
+        count++;
+        handler.handlePart(field.fieldName, field.filename, field.headers, field.getInputStream());
+      }
+      return count;
+    }
+    catch (IOException e) {
+      throw new MultipartException("Request '%s' failed: %s".formatted(context.getContentType(), e.getMessage()), e);
+    }
+  }
+
 }
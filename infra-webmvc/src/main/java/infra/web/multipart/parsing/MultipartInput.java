@@ -24,8 +24,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-
-import infra.util.StreamUtils;
+import java.util.Arrays;
 
 /**
  * API for processing multipart request.
@@ -124,9 +123,9 @@ final class MultipartInput {
   private final byte[] boundary;
 
   /**
-   * The table for Knuth-Morris-Pratt search algorithm.
+   * The bad character shift table for Boyer-Moore-Horspool search algorithm.
    */
-  private final int[] boundaryTable;
+  private final int[] boundaryShifts = new int[256];
 
   /**
    * The length of the buffer used for processing the request.
@@ -188,7 +187,6 @@ final class MultipartInput {
     this.buffer = new byte[bufSize];
     this.maxPartHeaderSize = parser.getMaxHeaderSize();
     this.boundary = new byte[this.boundaryLength];
-    this.boundaryTable = new int[this.boundaryLength + 1];
     this.keepRegion = this.boundary.length;
     System.arraycopy(BOUNDARY_PREFIX, 0, this.boundary, 0, BOUNDARY_PREFIX.length);
     System.arraycopy(boundary, 0, this.boundary, BOUNDARY_PREFIX.length, boundary.length);
@@ -198,32 +196,16 @@ final class MultipartInput {
   }
 
   /**
-   * Computes the table used for Knuth-Morris-Pratt search algorithm.
+   * Computes the table used for Boyer-Moore-Horspool search algorithm.
    */
   private void computeBoundaryTable() {
-    int position = 2;
-    int candidate = 0;
-
     final byte[] boundary = this.boundary;
-    final int[] boundaryTable = this.boundaryTable;
-    final int boundaryLength = this.boundaryLength;
+    final int[] boundaryShifts = this.boundaryShifts;
+    final int last = this.boundaryLength - 1;
 
-    boundaryTable[0] = -1;
-    boundaryTable[1] = 0;
-
-    while (position <= boundaryLength) {
-      if (boundary[position - 1] == boundary[candidate]) {
-        boundaryTable[position] = candidate + 1;
-        candidate++;
-        position++;
-      }
-      else if (candidate > 0) {
-        candidate = boundaryTable[candidate];
-      }
-      else {
-        boundaryTable[position] = 0;
-        position++;
-      }
+    Arrays.fill(boundaryShifts, last + 1);
+    for (int i = 0; i < last; i++) {
+      boundaryShifts[boundary[i] & 0xFF] = last - i;
     }
   }
 
@@ -247,23 +229,22 @@ final class MultipartInput {
    * @return The position of the boundary found, counting from the beginning of the {@code buffer}, or {@code -1} if not found.
    */
   private int findSeparator() {
-    int bufferPos = this.head;
-    int tablePos = 0;
-    final int tail = this.tail;
     final byte[] buffer = this.buffer;
     final byte[] boundary = this.boundary;
-    final int[] boundaryTable = this.boundaryTable;
+    final int[] boundaryShifts = this.boundaryShifts;
     final int boundaryLength = this.boundaryLength;
+    final int last = boundaryLength - 1;
+    final byte lastByte = boundary[last];
+    final int limit = this.tail - boundaryLength;
 
-    while (bufferPos < tail) {
-      while (tablePos >= 0 && buffer[bufferPos] != boundary[tablePos]) {
-        tablePos = boundaryTable[tablePos];
-      }
-      bufferPos++;
-      tablePos++;
-      if (tablePos == boundaryLength) {
-        return bufferPos - boundaryLength;
+    int bufferPos = this.head;
+    while (bufferPos <= limit) {
+      final byte b = buffer[bufferPos + last];
+      if (b == lastByte && Arrays.equals(buffer, bufferPos, bufferPos + last, boundary, 0, last)) {
+        return bufferPos;
       }
+      // skip ahead by the distance of this byte from the end of the boundary
+      bufferPos += boundaryShifts[b & 0xFF];
     }
     return -1;
   }
@@ -292,7 +273,7 @@ final class MultipartInput {
    */
   public long readBodyData(final OutputStream output) throws MalformedStreamException, IOException {
     try (var inputStream = newInputStream()) {
-      return StreamUtils.copy(inputStream, output);
+      return inputStream.transferTo(output);
     }
   }
 
@@ -670,6 +651,32 @@ final class MultipartInput {
       return res;
     }
 
+    /**
+     * Writes the remaining bytes of the item straight from the parsing
+     * buffer to the given output stream, without an intermediate copy.
+     *
+     * @param out The output stream to write to.
+     * @return Number of bytes transferred.
+     * @throws IOException An I/O error occurred.
+     */
+    @Override
+    public long transferTo(final OutputStream out) throws IOException {
+      checkOpen();
+      long transferred = 0;
+      for (; ; ) {
+        var available = available();
+        if (available == 0) {
+          available = makeAvailable();
+          if (available == 0) {
+            return transferred;
+          }
+        }
+        out.write(buffer, head, available);
+        head += available;
+        transferred += available;
+      }
+    }
+
     /**
      * Skips the given number of bytes.
      *
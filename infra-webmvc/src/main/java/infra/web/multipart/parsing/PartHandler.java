@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.multipart.parsing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import infra.http.HttpHeaders;
+
+/**
+ * Callback for consuming the parts of a multipart request as they arrive,
+ * without storing them in memory or in temporary files.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see DefaultMultipartParser#parseRequest(infra.web.HttpContext, PartHandler)
+ * @since 5.0
+ */
+@FunctionalInterface
+public interface PartHandler {
+
+  /**
+   * Handle a single part.
+   * <p>The {@code content} stream reads directly from the request body and
+   * is only valid during this call. Content left unread is skipped before
+   * the next part is parsed.
+   *
+   * @param name the name of the part
+   * @param filename the original filename, or {@code null} for a form field
+   * @param headers the headers of the part
+   * @param content the content of the part
+   * @throws IOException in case of I/O errors
+   */
+  void handlePart(String name, @Nullable String filename, HttpHeaders headers, InputStream content) throws IOException;
+
+}
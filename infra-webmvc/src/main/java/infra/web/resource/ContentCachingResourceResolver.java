@@ -0,0 +1,348 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.resource;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import infra.core.io.ByteArrayResource;
+import infra.core.io.Resource;
+import infra.http.HttpHeaders;
+import infra.util.Assert;
+import infra.util.DataSize;
+import infra.util.DigestUtils;
+import infra.util.StringUtils;
+import infra.web.HttpContext;
+
+/**
+ * A {@link ResourceResolver} that keeps the content of small resources in
+ * memory, so that serving them no longer opens the underlying file or jar
+ * entry, nor queries its length and last-modified timestamp on every request.
+ *
+ * <p>Resolved resources up to {@link #setMaxResourceSize maxResourceSize} are
+ * read once and replaced with a {@link CachedResource} that also carries a
+ * strong ETag computed from the content. Content codings from the
+ * {@literal "Accept-Encoding"} header are part of the cache key, so encoded
+ * variants resolved by a subsequent {@link EncodedResourceResolver} are cached
+ * separately. Once the total cached size exceeds
+ * {@link #setMaxCacheSize maxCacheSize}, the least recently used resources
+ * are evicted to make room for new ones.
+ *
+ * <p>By default cached content is never refreshed, which suits packaged
+ * applications. Enable {@link #setCheckModified checkModified} during
+ * development to reload resources whose last-modified timestamp changed.
+ *
+ * <p>This resolver should be the first one in the chain.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ResourceHttpRequestHandler#setEtagGenerator
+ * @since 5.0
+ */
+public class ContentCachingResourceResolver extends AbstractResourceResolver {
+
+  /** Access-ordered, guarded by itself. */
+  private final LinkedHashMap<String, CachedResource> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+  private long cacheSize;
+
+  private final List<String> contentCodings = new ArrayList<>(EncodedResourceResolver.DEFAULT_CODINGS);
+
+  private long maxResourceSize = DataSize.ofKilobytes(64).toBytes();
+
+  private long maxCacheSize = DataSize.ofMegabytes(16).toBytes();
+
+  private boolean checkModified = false;
+
+  /**
+   * Set the maximum size of a single resource to be kept in memory.
+   * <p>The default is 64KB.
+   */
+  public void setMaxResourceSize(DataSize maxResourceSize) {
+    Assert.notNull(maxResourceSize, "maxResourceSize is required");
+    this.maxResourceSize = maxResourceSize.toBytes();
+  }
+
+  /**
+   * Return the maximum size of a single resource to be kept in memory.
+   */
+  public DataSize getMaxResourceSize() {
+    return DataSize.ofBytes(maxResourceSize);
+  }
+
+  /**
+   * Set the maximum total size of the cached content. When exceeded,
+   * the least recently used resources are evicted.
+   * <p>The default is 16MB.
+   */
+  public void setMaxCacheSize(DataSize maxCacheSize) {
+    Assert.notNull(maxCacheSize, "maxCacheSize is required");
+    this.maxCacheSize = maxCacheSize.toBytes();
+  }
+
+  /**
+   * Return the maximum total size of the cached content.
+   */
+  public DataSize getMaxCacheSize() {
+    return DataSize.ofBytes(maxCacheSize);
+  }
+
+  /**
+   * Set whether to check the last-modified timestamp of the original
+   * resource on every access, reloading the content if it changed.
+   * <p>The default is {@code false}.
+   */
+  public void setCheckModified(boolean checkModified) {
+    this.checkModified = checkModified;
+  }
+
+  /**
+   * Return whether the original resource is checked for modifications.
+   */
+  public boolean isCheckModified() {
+    return checkModified;
+  }
+
+  /**
+   * Configure the supported content codings from the
+   * {@literal "Accept-Encoding"} header for which to cache resource variations.
+   * <p>The codings configured here are generally expected to match those
+   * configured on {@link EncodedResourceResolver#setContentCodings(List)}.
+   * <p>By default this property is set to {@literal ["br", "gzip"]} based on
+   * the value of {@link EncodedResourceResolver#DEFAULT_CODINGS}.
+   *
+   * @param codings one or more supported content codings
+   */
+  public void setContentCodings(List<String> codings) {
+    Assert.notEmpty(codings, "At least one content coding expected");
+    this.contentCodings.clear();
+    this.contentCodings.addAll(codings);
+  }
+
+  /**
+   * Return a read-only list with the supported content codings.
+   */
+  public List<String> getContentCodings() {
+    return Collections.unmodifiableList(this.contentCodings);
+  }
+
+  /**
+   * Return the total size in bytes of the cached content.
+   */
+  public long getCacheSize() {
+    synchronized(cache) {
+      return cacheSize;
+    }
+  }
+
+  /**
+   * Remove all cached content.
+   */
+  public void clearCache() {
+    synchronized(cache) {
+      cache.clear();
+      cacheSize = 0;
+    }
+  }
+
+  @Override
+  protected @Nullable Resource resolveResourceInternal(@Nullable HttpContext request,
+          String requestPath, List<? extends Resource> locations, ResourceResolvingChain chain) {
+
+    String key = computeKey(request, requestPath, locations);
+    CachedResource cached;
+    synchronized(cache) {
+      cached = cache.get(key);
+    }
+    if (cached != null) {
+      if (!checkModified || !cached.isModified()) {
+        if (logger.isTraceEnabled()) {
+          logger.trace("Resource content served from memory");
+        }
+        return cached;
+      }
+      synchronized(cache) {
+        if (cache.remove(key, cached)) {
+          cacheSize -= cached.contentLength();
+        }
+      }
+    }
+
+    Resource resource = chain.resolveResource(request, requestPath, locations);
+    if (resource != null) {
+      cached = createCachedResource(resource);
+      if (cached != null) {
+        return putCachedResource(key, cached, resource);
+      }
+    }
+    return resource;
+  }
+
+  private Resource putCachedResource(String key, CachedResource cached, Resource resource) {
+    long size = cached.contentLength();
+    if (size > maxCacheSize) {
+      return resource;
+    }
+    synchronized(cache) {
+      CachedResource existing = cache.putIfAbsent(key, cached);
+      if (existing != null) {
+        return existing;
+      }
+      cacheSize += size;
+      Iterator<CachedResource> iterator = cache.values().iterator();
+      while (cacheSize > maxCacheSize && iterator.hasNext()) {
+        CachedResource eldest = iterator.next();
+        if (eldest != cached) {
+          iterator.remove();
+          cacheSize -= eldest.contentLength();
+        }
+      }
+    }
+    return cached;
+  }
+
+  @Override
+  protected @Nullable String resolveUrlPathInternal(String resourceUrlPath,
+          List<? extends Resource> locations, ResourceResolvingChain chain) {
+    return chain.resolveUrlPath(resourceUrlPath, locations);
+  }
+
+  /**
+   * Read the content of the given resource into memory, or return
+   * {@code null} if the resource is not eligible for caching.
+   */
+  protected @Nullable CachedResource createCachedResource(Resource resource) {
+    try {
+      if (!resource.isReadable()) {
+        return null;
+      }
+      long contentLength = resource.contentLength();
+      if (contentLength > maxResourceSize) {
+        return null;
+      }
+      long lastModified = resource.lastModified();
+      byte[] content = resource.getContentAsByteArray();
+      if (content.length > maxResourceSize) {
+        return null;
+      }
+      return new CachedResource(resource, content, lastModified);
+    }
+    catch (IOException ex) {
+      logger.debug("Failed to read resource content for caching: {}", resource, ex);
+      return null;
+    }
+  }
+
+  /**
+   * Compute the caching key for the given request and resource request path
+   * in the configured locations.
+   */
+  protected String computeKey(@Nullable HttpContext request, String requestPath, List<? extends Resource> locations) {
+    StringBuilder builder = new StringBuilder(requestPath.length() + 24);
+    if (!locations.isEmpty()) {
+      builder.append(Integer.toHexString(locations.hashCode())).append(':');
+    }
+    builder.append(requestPath);
+    if (request != null) {
+      List<String> acceptedCodings = EncodedResourceResolver.parseAcceptEncoding(request);
+      if (!acceptedCodings.isEmpty()) {
+        String codingKey = acceptedCodings.stream()
+                .filter(this.contentCodings::contains)
+                .sorted()
+                .reduce((a, b) -> a + ',' + b)
+                .orElse(null);
+        if (StringUtils.hasText(codingKey)) {
+          builder.append("+encoding=").append(codingKey);
+        }
+      }
+    }
+    return builder.toString();
+  }
+
+  /**
+   * In-memory copy of a resolved resource that preserves its name,
+   * last-modified timestamp and response headers, along with a strong
+   * ETag computed from the content.
+   */
+  public static class CachedResource extends ByteArrayResource implements HttpResource {
+
+    private final Resource original;
+
+    private final @Nullable String name;
+
+    private final long lastModified;
+
+    private final String eTag;
+
+    private final HttpHeaders responseHeaders;
+
+    public CachedResource(Resource original, byte[] content, long lastModified) {
+      super(content, original.toString());
+      this.original = original;
+      this.name = original.getName();
+      this.lastModified = lastModified;
+      this.eTag = DigestUtils.appendMd5DigestAsHex(content, new StringBuilder(34).append('"')).append('"').toString();
+      this.responseHeaders = original instanceof HttpResource httpResource
+              ? httpResource.getResponseHeaders().asReadOnly() : HttpHeaders.empty();
+    }
+
+    /**
+     * Return the resource this content was read from.
+     */
+    public Resource getOriginal() {
+      return original;
+    }
+
+    /**
+     * Return the strong ETag of the content, including the surrounding quotes.
+     */
+    public String getETag() {
+      return eTag;
+    }
+
+    @Override
+    public @Nullable String getName() {
+      return name;
+    }
+
+    @Override
+    public long lastModified() {
+      return lastModified;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+      return responseHeaders;
+    }
+
+    boolean isModified() {
+      try {
+        return original.lastModified() != lastModified;
+      }
+      catch (IOException ex) {
+        return true;
+      }
+    }
+
+  }
+
+}
@@ -74,6 +74,7 @@ public class EncodedResourceResolver extends AbstractResourceResolver {
   public EncodedResourceResolver() {
     this.extensions.put("gzip", ".gz");
     this.extensions.put("br", ".br");
+    this.extensions.put("zstd", ".zst");
   }
 
   /**
@@ -106,8 +107,10 @@ public class EncodedResourceResolver extends AbstractResourceResolver {
   /**
    * Configure mappings from content codings to file extensions. A dot "."
    * will be prepended in front of the extension value if not present.
-   * <p>By default this is configured with {@literal ["br" -> ".br"]} and
-   * {@literal ["gzip" -> ".gz"]}.
+   * <p>By default this is configured with {@literal ["br" -> ".br"]},
+   * {@literal ["gzip" -> ".gz"]} and {@literal ["zstd" -> ".zst"]}, so that
+   * adding {@literal "zstd"} to the {@link #setContentCodings content codings}
+   * is enough to serve pre-compressed {@code .zst} siblings.
    *
    * @param extensions the extensions to use.
    * @see #registerExtension(String, String)
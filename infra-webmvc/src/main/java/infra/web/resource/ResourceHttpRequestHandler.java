@@ -336,6 +336,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
    * <p>This function should return a String that will be used as an argument in
    * {@link HttpContext#checkNotModified(String)}, or {@code null} if no value
    * can be generated for the given resource.
+   * <p>If not set, resources served from a {@link ContentCachingResourceResolver}
+   * use the ETag precomputed from their content.
    *
    * @param etagGenerator the HTTP ETag generator function to use.
    */
@@ -575,6 +577,9 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
     if (etagGenerator != null) {
       return etagGenerator.apply(resource);
     }
+    if (resource instanceof ContentCachingResourceResolver.CachedResource cached) {
+      return cached.getETag();
+    }
     return null;
   }
 
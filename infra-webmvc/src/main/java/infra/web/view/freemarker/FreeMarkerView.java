@@ -26,6 +26,7 @@ import java.io.Serial;
 import java.nio.charset.Charset;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import freemarker.core.Environment;
 import freemarker.core.ParseException;
@@ -103,6 +104,10 @@ public class FreeMarkerView extends AbstractTemplateView {
 
   private @Nullable Locale locale;
 
+  private boolean cacheTemplate = false;
+
+  private final ConcurrentHashMap<Locale, Template> templateCache = new ConcurrentHashMap<>(4);
+
   /**
    * Set the encoding used to decode byte sequences to character sequences when
    * reading the FreeMarker template file for this view.
@@ -193,6 +198,41 @@ public class FreeMarkerView extends AbstractTemplateView {
     return locale;
   }
 
+  /**
+   * Set whether this view keeps its compiled {@link Template} per locale,
+   * instead of looking it up in the FreeMarker {@link Configuration} for
+   * every rendering. The configuration's template cache checks the template
+   * source for changes once its update delay has passed; templates cached
+   * by this view are only reloaded after {@link #clearTemplateCache()}.
+   * <p>Default is {@code false}.
+   *
+   * @see #clearTemplateCache()
+   * @since 5.0
+   */
+  public void setCacheTemplate(boolean cacheTemplate) {
+    this.cacheTemplate = cacheTemplate;
+  }
+
+  /**
+   * Return whether this view keeps its compiled templates.
+   *
+   * @since 5.0
+   */
+  public boolean isCacheTemplate() {
+    return this.cacheTemplate;
+  }
+
+  /**
+   * Discard the templates kept by this view, so that the next rendering
+   * looks them up in the FreeMarker {@link Configuration} again.
+   *
+   * @see #setCacheTemplate(boolean)
+   * @since 5.0
+   */
+  public void clearTemplateCache() {
+    this.templateCache.clear();
+  }
+
   /**
    * Invoked on startup. Looks for a single {@link FreeMarkerConfig} bean to
    * find the relevant {@link Configuration} for this view.
@@ -353,12 +393,21 @@ public class FreeMarkerView extends AbstractTemplateView {
    * @return the FreeMarker {@code Template} to render
    * @throws IOException if the template file could not be retrieved
    * @see #setUrl
+   * @see #setCacheTemplate(boolean)
    * @see #getTemplate(String, java.util.Locale)
    */
   protected Template getTemplate(Locale locale) throws IOException {
     String url = getUrl();
     Assert.state(url != null, "'url' not set");
-    return getTemplate(url, locale);
+    if (!cacheTemplate) {
+      return getTemplate(url, locale);
+    }
+    Template template = templateCache.get(locale);
+    if (template == null) {
+      template = getTemplate(url, locale);
+      templateCache.put(locale, template);
+    }
+    return template;
   }
 
   /**
@@ -383,6 +432,9 @@ public class FreeMarkerView extends AbstractTemplateView {
 
   /**
    * Process the FreeMarker template and write the result to the response.
+   * <p>The template is rendered into {@link HttpContext#getWriter()}, which
+   * on the Netty server encodes straight into the response buffers and may
+   * send large pages progressively.
    * <p>Can be overridden to customize the behavior.
    *
    * @param template the template to process
@@ -20,10 +20,10 @@ package infra.web.view.groovy;
 
 import org.jspecify.annotations.Nullable;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import groovy.text.Template;
 import groovy.text.markup.MarkupTemplateEngine;
@@ -32,6 +32,7 @@ import infra.beans.factory.BeanFactoryUtils;
 import infra.beans.factory.NoSuchBeanDefinitionException;
 import infra.context.ApplicationContext;
 import infra.context.ApplicationContextException;
+import infra.core.i18n.LocaleContextHolder;
 import infra.util.Assert;
 import infra.web.HttpContext;
 import infra.web.view.AbstractTemplateView;
@@ -55,6 +56,10 @@ public class GroovyMarkupView extends AbstractTemplateView {
   @Nullable
   private MarkupTemplateEngine engine;
 
+  private boolean cacheTemplate = false;
+
+  private final ConcurrentHashMap<Locale, Template> templateCache = new ConcurrentHashMap<>(4);
+
   /**
    * Set the MarkupTemplateEngine to use in this view.
    * <p>If not set, the engine is auto-detected by looking up a single
@@ -67,6 +72,40 @@ public class GroovyMarkupView extends AbstractTemplateView {
     this.engine = engine;
   }
 
+  /**
+   * Set whether this view keeps its compiled {@link Template} per locale,
+   * instead of resolving and looking it up in the template engine for every
+   * rendering. Cached templates are only replaced after
+   * {@link #clearTemplateCache()}.
+   * <p>Default is {@code false}.
+   *
+   * @see #clearTemplateCache()
+   * @since 5.0
+   */
+  public void setCacheTemplate(boolean cacheTemplate) {
+    this.cacheTemplate = cacheTemplate;
+  }
+
+  /**
+   * Return whether this view keeps its compiled templates.
+   *
+   * @since 5.0
+   */
+  public boolean isCacheTemplate() {
+    return this.cacheTemplate;
+  }
+
+  /**
+   * Discard the templates kept by this view, so that the next rendering
+   * obtains them from the template engine again.
+   *
+   * @see #setCacheTemplate(boolean)
+   * @since 5.0
+   */
+  public void clearTemplateCache() {
+    this.templateCache.clear();
+  }
+
   /**
    * Invoked at startup.
    * If no {@link #setTemplateEngine(MarkupTemplateEngine) templateEngine} has
@@ -117,9 +156,24 @@ public class GroovyMarkupView extends AbstractTemplateView {
     String url = getUrl();
     Assert.state(url != null, "'url' not set");
 
-    Template template = getTemplate(url);
+    Template template = obtainTemplate(url);
+    // the response writer buffers by itself
     template.make(model)
-            .writeTo(new BufferedWriter(context.getWriter()));
+            .writeTo(context.getWriter());
+  }
+
+  private Template obtainTemplate(String url) throws Exception {
+    if (!cacheTemplate) {
+      return getTemplate(url);
+    }
+    // templates are resolved for the current locale
+    Locale locale = LocaleContextHolder.getLocale();
+    Template template = templateCache.get(locale);
+    if (template == null) {
+      template = getTemplate(url);
+      templateCache.put(locale, template);
+    }
+    return template;
   }
 
   /**
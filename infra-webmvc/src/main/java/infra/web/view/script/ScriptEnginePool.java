@@ -0,0 +1,262 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.view.script;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.script.ScriptEngine;
+
+import infra.logging.Logger;
+import infra.logging.LoggerFactory;
+import infra.util.Assert;
+
+/**
+ * Bounded pool of {@link ScriptEngine} instances for script engines that are
+ * not thread-safe, lending each engine to one caller at a time.
+ *
+ * <p>Engines are created lazily through the given factory, which is expected
+ * to load the scripts, up to the maximum size, and reused afterwards. When all
+ * engines are in use, {@link #borrow()} waits for one to be
+ * {@link #release released}: indefinitely if no borrow timeout is set, up to
+ * the timeout otherwise, or not at all for a timeout of zero.
+ *
+ * <p>{@link #close() Closing} the pool discards its engines, closing those
+ * that are {@link AutoCloseable}, and fails subsequent borrows.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see ScriptTemplateConfigurer#setSharedEngine
+ * @see ScriptTemplateConfigurer#setEnginePoolSize
+ * @since 5.0
+ */
+public class ScriptEnginePool implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ScriptEnginePool.class);
+
+  private final Supplier<ScriptEngine> engineFactory;
+
+  private final int maxSize;
+
+  private final @Nullable Duration borrowTimeout;
+
+  private final ArrayBlockingQueue<ScriptEngine> idleEngines;
+
+  private final Semaphore permits;
+
+  private final AtomicInteger createdCount = new AtomicInteger();
+
+  private final LongAdder borrowCount = new LongAdder();
+
+  private final LongAdder timeoutCount = new LongAdder();
+
+  private volatile boolean closed;
+
+  /**
+   * Create a new pool.
+   *
+   * @param engineFactory the factory for new engines, with scripts loaded
+   * @param maxSize the maximum number of engines
+   * @param borrowTimeout the maximum time to wait for an engine,
+   * or {@code null} to wait indefinitely
+   */
+  public ScriptEnginePool(Supplier<ScriptEngine> engineFactory, int maxSize, @Nullable Duration borrowTimeout) {
+    Assert.notNull(engineFactory, "Engine factory is required");
+    Assert.isTrue(maxSize > 0, "'maxSize' must be positive");
+    Assert.isTrue(borrowTimeout == null || !borrowTimeout.isNegative(), "'borrowTimeout' must not be negative");
+    this.engineFactory = engineFactory;
+    this.maxSize = maxSize;
+    this.borrowTimeout = borrowTimeout;
+    this.idleEngines = new ArrayBlockingQueue<>(maxSize);
+    this.permits = new Semaphore(maxSize, true);
+  }
+
+  /**
+   * Create engines up front, until the given number of engines exists,
+   * bounded by the maximum size. Intended to be called on initialization,
+   * so that the first requests do not pay for loading the scripts.
+   *
+   * @param count the number of engines to create in total
+   */
+  public void prewarm(int count) {
+    int target = Math.min(count, maxSize);
+    for (int i = createdCount.get(); i < target; i++) {
+      idleEngines.offer(createEngine());
+    }
+  }
+
+  /**
+   * Borrow an engine for exclusive use, to be handed back through
+   * {@link #release}.
+   *
+   * @return an idle or newly created engine
+   * @throws IllegalStateException if no engine became available
+   * within the borrow timeout, the waiting thread was interrupted,
+   * or the pool has been closed
+   */
+  public ScriptEngine borrow() {
+    acquirePermit();
+    try {
+      Assert.state(!closed, "ScriptEnginePool has been closed");
+      ScriptEngine engine = idleEngines.poll();
+      if (engine == null) {
+        engine = createEngine();
+      }
+      borrowCount.increment();
+      return engine;
+    }
+    catch (RuntimeException | Error ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  /**
+   * Hand back an engine obtained from {@link #borrow()}.
+   *
+   * @param engine the engine to return to the pool
+   */
+  public void release(ScriptEngine engine) {
+    if (closed) {
+      closeEngine(engine);
+    }
+    else {
+      idleEngines.offer(engine);
+      if (closed) {
+        discardIdleEngines();
+      }
+    }
+    permits.release();
+  }
+
+  /**
+   * Close this pool, discarding the idle engines. Engines currently lent
+   * out are discarded once released, and further borrows fail.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    discardIdleEngines();
+  }
+
+  /**
+   * Return whether this pool has been closed.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private void discardIdleEngines() {
+    ScriptEngine engine;
+    while ((engine = idleEngines.poll()) != null) {
+      closeEngine(engine);
+    }
+  }
+
+  private static void closeEngine(ScriptEngine engine) {
+    if (engine instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      }
+      catch (Exception ex) {
+        logger.debug("Failed to close ScriptEngine", ex);
+      }
+    }
+  }
+
+  private void acquirePermit() {
+    Duration borrowTimeout = this.borrowTimeout;
+    try {
+      if (borrowTimeout == null) {
+        permits.acquire();
+      }
+      else if (!permits.tryAcquire(borrowTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        timeoutCount.increment();
+        throw new IllegalStateException("No ScriptEngine available within %d ms, all %d engines are in use"
+                .formatted(borrowTimeout.toMillis(), maxSize));
+      }
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a ScriptEngine", ex);
+    }
+  }
+
+  private ScriptEngine createEngine() {
+    ScriptEngine engine = engineFactory.get();
+    createdCount.incrementAndGet();
+    return engine;
+  }
+
+  /**
+   * Return the maximum number of engines.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Return the number of engines currently lent out.
+   */
+  public int getActiveCount() {
+    return maxSize - permits.availablePermits();
+  }
+
+  /**
+   * Return the number of created engines waiting to be borrowed.
+   */
+  public int getIdleCount() {
+    return idleEngines.size();
+  }
+
+  /**
+   * Return an estimate of the number of threads waiting for an engine.
+   */
+  public int getWaitingCount() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Return the number of engines created so far, each of which
+   * loaded the configured scripts once.
+   */
+  public int getCreatedCount() {
+    return createdCount.get();
+  }
+
+  /**
+   * Return the number of successful {@link #borrow()} calls.
+   */
+  public long getBorrowCount() {
+    return borrowCount.sum();
+  }
+
+  /**
+   * Return the number of {@link #borrow()} calls that gave up
+   * because of the borrow timeout.
+   */
+  public long getTimeoutCount() {
+    return timeoutCount.sum();
+  }
+
+}
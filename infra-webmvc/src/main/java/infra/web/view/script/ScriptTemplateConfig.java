@@ -21,6 +21,7 @@ package infra.web.view.script;
 import org.jspecify.annotations.Nullable;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import javax.script.Bindings;
@@ -55,12 +56,34 @@ public interface ScriptTemplateConfig {
   String getEngineName();
 
   /**
-   * Return whether to use a shared engine for all threads or whether to create
-   * thread-local engine instances for each thread.
+   * Return whether to use a shared engine for all threads or whether to
+   * lend out engine instances from a pool, one request at a time.
    */
   @Nullable
   Boolean isSharedEngine();
 
+  /**
+   * Return the maximum number of pooled engines when the engine is not shared.
+   *
+   * @since 5.0
+   */
+  @Nullable
+  default Integer getEnginePoolSize() {
+    return null;
+  }
+
+  /**
+   * Return the maximum time to wait for a pooled engine when the engine is
+   * not shared, {@link Duration#ZERO} to fail immediately, or {@code null}
+   * to wait indefinitely.
+   *
+   * @since 5.0
+   */
+  @Nullable
+  default Duration getEngineBorrowTimeout() {
+    return null;
+  }
+
   /**
    * Return the scripts to be loaded by the script engine (library or user provided).
    */
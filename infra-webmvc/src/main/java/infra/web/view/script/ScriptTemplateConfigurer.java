@@ -21,11 +21,15 @@ package infra.web.view.script;
 import org.jspecify.annotations.Nullable;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.script.Bindings;
 import javax.script.ScriptEngine;
 
+import infra.beans.factory.DisposableBean;
 import infra.core.io.ResourceLoader;
 
 /**
@@ -48,12 +52,14 @@ import infra.core.io.ResourceLoader;
  * <p><b>NOTE:</b> It is possible to use non thread-safe script engines with
  * templating libraries not designed for concurrency, like Handlebars or React running on
  * Nashorn, by setting the {@link #setSharedEngine sharedEngine} property to {@code false}.
+ * The engine pools are then shared by all views with the same configuration, and
+ * closed along with this configurer.
  *
  * @author Sebastien Deleuze
  * @see ScriptTemplateView
  * @since 4.0
  */
-public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
+public class ScriptTemplateConfigurer implements ScriptTemplateConfig, DisposableBean {
 
   @Nullable
   private ScriptEngine engine;
@@ -67,6 +73,12 @@ public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
   @Nullable
   private Boolean sharedEngine;
 
+  @Nullable
+  private Integer enginePoolSize;
+
+  @Nullable
+  private Duration engineBorrowTimeout;
+
   private String @Nullable [] scripts;
 
   @Nullable
@@ -84,6 +96,8 @@ public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
   @Nullable
   private String resourceLoaderPath;
 
+  private final ConcurrentHashMap<Object, ScriptEnginePool> enginePools = new ConcurrentHashMap<>();
+
   /**
    * Default constructor.
    */
@@ -157,14 +171,15 @@ public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
   }
 
   /**
-   * When set to {@code false}, use thread-local {@link ScriptEngine} instances instead
-   * of one single shared instance. This flag should be set to {@code false} for those
-   * using non thread-safe script engines with templating libraries not designed for
-   * concurrency, like Handlebars or React running on Nashorn for example.
+   * When set to {@code false}, use a bounded pool of {@link ScriptEngine} instances,
+   * each used by one rendering at a time, instead of one single shared instance.
+   * This flag should be set to {@code false} for those using non thread-safe script
+   * engines with templating libraries not designed for concurrency, like Handlebars
+   * or React running on Nashorn for example.
    * <p>When this flag is set to {@code false}, the script engine must be specified using
    * {@link #setEngineName(String)} or {@link #setEngineSupplier(Supplier)}.
    * Using {@link #setEngine(ScriptEngine)} is not possible because multiple instances
-   * of the script engine need to be created lazily (one per thread).
+   * of the script engine need to be created lazily (up to the pool size).
    *
    * @see <a href="https://docs.oracle.com/javase/8/docs/api/javax/script/ScriptEngineFactory.html#getParameter-java.lang.String-">THREADING ScriptEngine parameter</a>
    */
@@ -178,6 +193,43 @@ public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
     return this.sharedEngine;
   }
 
+  /**
+   * Set the maximum number of script engines created when {@code sharedEngine}
+   * is {@code false}. Each engine loads the {@link #setScripts scripts} once
+   * and serves one rendering at a time. Each view has a pool of its own.
+   * <p>Default is the number of available processors.
+   *
+   * @see #setEngineBorrowTimeout
+   * @since 5.0
+   */
+  public void setEnginePoolSize(@Nullable Integer enginePoolSize) {
+    this.enginePoolSize = enginePoolSize;
+  }
+
+  @Override
+  @Nullable
+  public Integer getEnginePoolSize() {
+    return this.enginePoolSize;
+  }
+
+  /**
+   * Set the maximum time a rendering waits for a pooled script engine when
+   * all of them are in use. {@link Duration#ZERO} fails immediately.
+   * <p>Default is to wait until an engine becomes available.
+   *
+   * @see #setEnginePoolSize
+   * @since 5.0
+   */
+  public void setEngineBorrowTimeout(@Nullable Duration engineBorrowTimeout) {
+    this.engineBorrowTimeout = engineBorrowTimeout;
+  }
+
+  @Override
+  @Nullable
+  public Duration getEngineBorrowTimeout() {
+    return this.engineBorrowTimeout;
+  }
+
   /**
    * Set the scripts to be loaded by the script engine (library or user provided).
    * Since {@code resourceLoaderPath} default value is "classpath:", you can load easily
@@ -285,4 +337,25 @@ public class ScriptTemplateConfigurer implements ScriptTemplateConfig {
     return this.resourceLoaderPath;
   }
 
+  /**
+   * Return the engine pool for the given configuration key,
+   * creating it on first access.
+   */
+  ScriptEnginePool obtainEnginePool(Object key, Function<Object, ScriptEnginePool> poolFactory) {
+    return this.enginePools.computeIfAbsent(key, poolFactory);
+  }
+
+  /**
+   * Close the engine pools created for non-shared engines.
+   *
+   * @since 5.0
+   */
+  @Override
+  public void destroy() {
+    for (ScriptEnginePool pool : this.enginePools.values()) {
+      pool.close();
+    }
+    this.enginePools.clear();
+  }
+
 }
@@ -23,8 +23,8 @@ import org.jspecify.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -38,10 +38,10 @@ import javax.script.SimpleBindings;
 
 import infra.beans.BeansException;
 import infra.beans.factory.BeanFactoryUtils;
+import infra.beans.factory.DisposableBean;
 import infra.beans.factory.NoSuchBeanDefinitionException;
 import infra.context.ApplicationContext;
 import infra.context.ApplicationContextException;
-import infra.core.NamedThreadLocal;
 import infra.core.io.Resource;
 import infra.util.Assert;
 import infra.lang.Constant;
@@ -67,6 +67,11 @@ import infra.web.view.ViewRenderingException;
  * <p>The Nashorn JavaScript engine requires Java 8+ and may require setting the
  * {@code sharedEngine} property to {@code false} in order to run properly. See
  * {@link ScriptTemplateConfigurer#setSharedEngine(Boolean)} for more details.
+ * Non-shared engines are lent out from a pool, shared with all views of the
+ * same class and engine configuration and closed along with the
+ * {@link ScriptTemplateConfigurer}. Views detecting another kind of
+ * {@link ScriptTemplateConfig} own their pool and close it when
+ * {@link #destroy() destroyed}.
  *
  * @author Sebastien Deleuze
  * @author Juergen Hoeller
@@ -75,7 +80,7 @@ import infra.web.view.ViewRenderingException;
  * @see ScriptTemplateViewResolver
  * @since 4.0
  */
-public class ScriptTemplateView extends AbstractUrlBasedView {
+public class ScriptTemplateView extends AbstractUrlBasedView implements DisposableBean {
 
   /**
    * The default content type for the view.
@@ -84,9 +89,6 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
 
   private static final String DEFAULT_RESOURCE_LOADER_PATH = "classpath:";
 
-  private static final NamedThreadLocal<@Nullable Map<Object, ScriptEngine>> enginesHolder =
-          new NamedThreadLocal<>("ScriptTemplateView engines");
-
   private @Nullable ScriptEngine engine;
 
   private @Nullable Supplier<ScriptEngine> engineSupplier;
@@ -95,6 +97,14 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
 
   private @Nullable Boolean sharedEngine;
 
+  private @Nullable Integer enginePoolSize;
+
+  private @Nullable Duration engineBorrowTimeout;
+
+  private @Nullable ScriptEnginePool enginePool;
+
+  private boolean ownsEnginePool;
+
   private String @Nullable [] scripts;
 
   private @Nullable String renderObject;
@@ -152,6 +162,25 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
     this.sharedEngine = sharedEngine;
   }
 
+  /**
+   * See {@link ScriptTemplateConfigurer#setEnginePoolSize(Integer)} documentation.
+   * <p>Each view has a pool of its own.
+   *
+   * @since 5.0
+   */
+  public void setEnginePoolSize(int enginePoolSize) {
+    this.enginePoolSize = enginePoolSize;
+  }
+
+  /**
+   * See {@link ScriptTemplateConfigurer#setEngineBorrowTimeout(Duration)} documentation.
+   *
+   * @since 5.0
+   */
+  public void setEngineBorrowTimeout(@Nullable Duration engineBorrowTimeout) {
+    this.engineBorrowTimeout = engineBorrowTimeout;
+  }
+
   /**
    * See {@link ScriptTemplateConfigurer#setScripts(String...)} documentation.
    */
@@ -231,6 +260,12 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
     if (this.sharedEngine == null && viewConfig.isSharedEngine() != null) {
       this.sharedEngine = viewConfig.isSharedEngine();
     }
+    if (this.enginePoolSize == null && viewConfig.getEnginePoolSize() != null) {
+      this.enginePoolSize = viewConfig.getEnginePoolSize();
+    }
+    if (this.engineBorrowTimeout == null && viewConfig.getEngineBorrowTimeout() != null) {
+      this.engineBorrowTimeout = viewConfig.getEngineBorrowTimeout();
+    }
 
     int engineCount = 0;
     if (this.engine != null) {
@@ -249,6 +284,7 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
       Assert.isTrue(this.engine == null,
               "When 'sharedEngine' is set to false, you should specify the " +
                       "script engine using 'engineName' or 'engineSupplier' , not 'engine'.");
+      this.enginePool = obtainEnginePool(viewConfig);
     }
     else if (this.engine != null) {
       loadScripts(this.engine);
@@ -266,28 +302,19 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
     }
   }
 
+  /**
+   * Return the script engine to render with.
+   * <p>When the engine is not shared, an engine is borrowed from the
+   * {@link #getEnginePool() engine pool} for exclusive use, and has to be
+   * handed back through {@link #releaseEngine} once rendering is done.
+   * Otherwise the shared engine is returned.
+   *
+   * @see #releaseEngine
+   */
   protected ScriptEngine getEngine() {
-    if (Boolean.FALSE.equals(sharedEngine)) {
-      Map<Object, ScriptEngine> engines = enginesHolder.get();
-      if (engines == null) {
-        engines = new HashMap<>(4);
-        enginesHolder.set(engines);
-      }
-
-      String engineName = this.engineName;
-      String name = engineName != null ? engineName : "";
-      Object engineKey = ObjectUtils.isNotEmpty(scripts) ? new EngineKey(name, scripts) : name;
-      ScriptEngine engine = engines.get(engineKey);
-      if (engine == null) {
-        if (engineName != null) {
-          engine = createEngineFromName(engineName);
-        }
-        else {
-          engine = createEngineFromSupplier();
-        }
-        engines.put(engineKey, engine);
-      }
-      return engine;
+    ScriptEnginePool enginePool = this.enginePool;
+    if (enginePool != null) {
+      return enginePool.borrow();
     }
     else {
       // Simply return the configured ScriptEngine...
@@ -296,6 +323,68 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
     }
   }
 
+  /**
+   * Hand back an engine obtained from {@link #getEngine()}.
+   * Does nothing when the engine is shared.
+   *
+   * @param engine the engine to hand back
+   * @since 5.0
+   */
+  protected void releaseEngine(ScriptEngine engine) {
+    ScriptEnginePool enginePool = this.enginePool;
+    if (enginePool != null) {
+      enginePool.release(engine);
+    }
+  }
+
+  /**
+   * Return the pool of script engines used when the engine is not shared,
+   * exposing its utilization.
+   *
+   * @return the engine pool, or {@code null} if the engine is shared
+   * @since 5.0
+   */
+  public @Nullable ScriptEnginePool getEnginePool() {
+    return this.enginePool;
+  }
+
+  /**
+   * Close the engine pool if it is owned by this view, rather than
+   * by the {@link ScriptTemplateConfigurer}.
+   *
+   * @since 5.0
+   */
+  @Override
+  public void destroy() {
+    ScriptEnginePool enginePool = this.enginePool;
+    if (enginePool != null && ownsEnginePool) {
+      enginePool.close();
+    }
+  }
+
+  private ScriptEnginePool obtainEnginePool(ScriptTemplateConfig viewConfig) {
+    Integer enginePoolSize = this.enginePoolSize;
+    int poolSize = enginePoolSize != null ? enginePoolSize : Runtime.getRuntime().availableProcessors();
+    if (viewConfig instanceof ScriptTemplateConfigurer configurer) {
+      String engineName = this.engineName;
+      EngineKey engineKey = new EngineKey(getClass(), engineName != null ? engineName : "",
+              engineName != null ? null : this.engineSupplier, this.scripts, this.resourceLoaderPaths,
+              poolSize, this.engineBorrowTimeout);
+      return configurer.obtainEnginePool(engineKey, key -> createEnginePool(poolSize));
+    }
+    this.ownsEnginePool = true;
+    return createEnginePool(poolSize);
+  }
+
+  private ScriptEnginePool createEnginePool(int poolSize) {
+    String engineName = this.engineName;
+    ScriptEnginePool pool = new ScriptEnginePool(engineName != null
+            ? () -> createEngineFromName(engineName) : this::createEngineFromSupplier, poolSize, engineBorrowTimeout);
+    // fail early on invalid engines or scripts
+    pool.prewarm(1);
+    return pool;
+  }
+
   protected ScriptEngine createEngineFromName(String engineName) {
     ScriptEngineManager scriptEngineManager = this.scriptEngineManager;
     if (scriptEngineManager == null) {
@@ -390,8 +479,8 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
 
   @Override
   protected void renderMergedOutputModel(Map<String, Object> model, HttpContext http) throws Exception {
+    ScriptEngine engine = getEngine();
     try {
-      ScriptEngine engine = getEngine();
       String url = getUrl();
       Assert.state(url != null, "'url' not set");
       String template = getTemplate(url);
@@ -428,6 +517,9 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
     catch (ScriptException ex) {
       throw new ViewRenderingException("Failed to render script template", new StandardScriptEvalException(ex));
     }
+    finally {
+      releaseEngine(engine);
+    }
   }
 
   protected String getTemplate(String path) throws IOException {
@@ -442,11 +534,13 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
   }
 
   /**
-   * Key class for the {@code enginesHolder ThreadLocal}.
-   * Only used if scripts have been specified; otherwise, the
-   * {@code engineName String} will be used as cache key directly.
+   * Key class for the engine pools of a {@link ScriptTemplateConfigurer}.
+   * Views only share a pool when all settings that affect the engines
+   * and the pool are the same, engines created by a supplier only
+   * between views with the same supplier.
    */
-  record EngineKey(String engineName, String[] scripts) {
+  record EngineKey(Class<?> viewClass, String engineName, @Nullable Supplier<ScriptEngine> engineSupplier,
+          String @Nullable [] scripts, String @Nullable [] resourceLoaderPaths, int poolSize, @Nullable Duration borrowTimeout) {
 
     @Override
     public boolean equals(@Nullable Object other) {
@@ -456,12 +550,19 @@ public class ScriptTemplateView extends AbstractUrlBasedView {
       if (!(other instanceof EngineKey otherKey)) {
         return false;
       }
-      return (this.engineName.equals(otherKey.engineName) && Arrays.equals(this.scripts, otherKey.scripts));
+      return (this.viewClass == otherKey.viewClass && this.engineName.equals(otherKey.engineName)
+              && this.engineSupplier == otherKey.engineSupplier && Arrays.equals(this.scripts, otherKey.scripts)
+              && Arrays.equals(this.resourceLoaderPaths, otherKey.resourceLoaderPaths)
+              && this.poolSize == otherKey.poolSize && ObjectUtils.nullSafeEquals(this.borrowTimeout, otherKey.borrowTimeout));
     }
 
     @Override
     public int hashCode() {
-      return this.engineName.hashCode() * 29 + Arrays.hashCode(this.scripts);
+      int result = this.viewClass.hashCode() * 29 + this.engineName.hashCode();
+      result = result * 29 + System.identityHashCode(this.engineSupplier);
+      result = result * 29 + Arrays.hashCode(this.scripts);
+      result = result * 29 + Arrays.hashCode(this.resourceLoaderPaths);
+      return result * 29 + this.poolSize;
     }
   }
 
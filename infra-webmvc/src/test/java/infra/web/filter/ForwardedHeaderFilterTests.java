@@ -104,6 +104,35 @@ class ForwardedHeaderFilterTests {
     assertThat(actual.getHeader("foo")).isEqualTo("bar");
   }
 
+  @Test
+  void forwardedRequestsWithSameHeadersShareParsedValues() throws Exception {
+    ForwardedHeaderFilter filter = new ForwardedHeaderFilter(false);
+    filter.setUseForwardedPrefix(true);
+
+    for (String client : new String[] { "203.0.113.195", "70.41.3.18" }) {
+      MockRequest request = new MockRequest();
+      request.setScheme("http");
+      request.setServerName("localhost");
+      request.setServerPort(8080);
+      request.setRequestURI("/" + client);
+      request.addHeader(X_FORWARDED_PROTO, "https");
+      request.addHeader(X_FORWARDED_HOST, "example.com");
+      request.addHeader(X_FORWARDED_PREFIX, "/prefix/");
+      request.addHeader(X_FORWARDED_FOR, client);
+
+      MockFilterChain filterChain = new MockFilterChain();
+      filter.doFilter(new MockHttpContext(request), filterChain);
+      HttpContext actual = filterChain.getContext();
+
+      assertThat(actual).isNotNull();
+      assertThat(actual.getRequestURI()).isEqualTo("/prefix/" + client);
+      assertThat(actual.getRequestURL()).isEqualTo("https://example.com/prefix/" + client);
+      assertThat(actual.getServerPort()).isEqualTo(443);
+      assertThat(actual.getRemoteAddress()).isEqualTo(client);
+      assertThat(actual.getHeader(X_FORWARDED_FOR)).isNull();
+    }
+  }
+
   @Test
   void forwardedRequestInRemoveOnlyMode() throws Exception {
     this.request.setRequestURI("/mvc-showcase");
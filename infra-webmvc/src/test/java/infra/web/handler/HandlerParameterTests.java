@@ -86,6 +86,17 @@ public class HandlerParameterTests {
 
   }
 
+  @Test
+  public void isNullable() throws NoSuchMethodException {
+    Method method = HandlerParameterTests.class.getDeclaredMethod("method", String.class);
+    HandlerParameter nullable = createParameter(0, method, "name");
+    assertThat(nullable.isNullable()).isTrue();
+    assertThat(new HandlerParameter(nullable).isNullable()).isTrue();
+
+    method = HandlerParameterTests.class.getDeclaredMethod("isRequired", String.class, int.class);
+    assertThat(createParameter(0, method, "name").isNullable()).isFalse();
+  }
+
   static HandlerParameter createParameter(int idx, Method method, String name) {
     SynthesizingMethodParameter parameter = SynthesizingMethodParameter.forExecutable(method, idx);
     return new MockHandlerParameter(parameter, name);
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.handler.method;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class NamedValueInfoTests {
+
+  @Test
+  void plainDefaultValueIsNotEmbedded() {
+    assertThat(new NamedValueInfo("page", false, "1").defaultValueEmbedded).isFalse();
+    assertThat(new NamedValueInfo("page", false, null).defaultValueEmbedded).isFalse();
+    assertThat(new NamedValueInfo("page", false, "{1}").defaultValueEmbedded).isFalse();
+  }
+
+  @Test
+  void placeholderOrExpressionDefaultValueIsEmbedded() {
+    assertThat(new NamedValueInfo("page", false, "${page.default}").defaultValueEmbedded).isTrue();
+    assertThat(new NamedValueInfo("page", false, "#{1 + 1}").defaultValueEmbedded).isTrue();
+    assertThat(new NamedValueInfo("page", false, "page-${page.default}").defaultValueEmbedded).isTrue();
+
+    NamedValueInfo info = new NamedValueInfo("page");
+    assertThat(new NamedValueInfo(info, "size-#{2}").defaultValueEmbedded).isTrue();
+    assertThat(new NamedValueInfo(info, "2").defaultValueEmbedded).isFalse();
+  }
+
+}
@@ -445,15 +445,20 @@ class MultipartInputTests {
 
     MultipartInput multipartInput = new MultipartInput(input, boundary, notifier, parser);
 
-    // Access boundaryTable via reflection
-    java.lang.reflect.Field boundaryTableField = MultipartInput.class.getDeclaredField("boundaryTable");
-    boundaryTableField.setAccessible(true);
-    int[] boundaryTable = (int[]) boundaryTableField.get(multipartInput);
-
-    // Check that the table was computed (basic check)
-    assertThat(boundaryTable).isNotNull();
-    assertThat(boundaryTable[0]).isEqualTo(-1);
-    assertThat(boundaryTable[1]).isEqualTo(0);
+    // Access boundaryShifts via reflection
+    java.lang.reflect.Field boundaryShiftsField = MultipartInput.class.getDeclaredField("boundaryShifts");
+    boundaryShiftsField.setAccessible(true);
+    int[] boundaryShifts = (int[]) boundaryShiftsField.get(multipartInput);
+
+    // searched sequence is "\r\n--boundary", 12 bytes
+    assertThat(boundaryShifts).hasSize(256);
+    assertThat(boundaryShifts['x']).isEqualTo(12);
+    assertThat(boundaryShifts['r']).isEqualTo(1);
+    assertThat(boundaryShifts['u']).isEqualTo(5);
+    assertThat(boundaryShifts['-']).isEqualTo(8);
+    assertThat(boundaryShifts['\r']).isEqualTo(11);
+    // the last byte only counts where it also appears earlier
+    assertThat(boundaryShifts['y']).isEqualTo(12);
   }
 
   @Test
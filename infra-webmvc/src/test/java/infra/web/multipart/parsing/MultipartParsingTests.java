@@ -523,6 +523,66 @@ class MultipartParsingTests {
     assertEquals(2, multipartRequest.getParts("multi").size());
   }
 
+  @Test
+  void parseRequestWithPartHandler() {
+    MockRequest request = new MockRequest("POST", "/part");
+    request.setContentType(CONTENT_TYPE);
+    request.setContent("""
+            -----1234\r
+            Content-Disposition: form-data; name="file"; filename="foo.tab"\r
+            Content-Type: text/whatever\r
+            \r
+            This is the content of the file
+            \r
+            -----1234\r
+            Content-Disposition: form-data; name="skipped"\r
+            \r
+            not read at all\r
+            -----1234\r
+            Content-Disposition: form-data; name="field"\r
+            \r
+            fieldValue\r
+            -----1234--\r
+            """.getBytes(StandardCharsets.US_ASCII));
+
+    ArrayList<String> handled = new ArrayList<>();
+    int count = multipartParser.parseRequest(new MockHttpContext(request), (name, filename, headers, content) -> {
+      if (!name.equals("skipped")) {
+        handled.add(name + ":" + filename + ":" + headers.getFirst("Content-Type") + ":"
+                + new String(content.readAllBytes(), StandardCharsets.US_ASCII));
+      }
+    });
+
+    assertThat(count).isEqualTo(3);
+    assertThat(handled).containsExactly(
+            "file:foo.tab:text/whatever:This is the content of the file\n",
+            "field:null:null:fieldValue");
+  }
+
+  @Test
+  void largeContentWithBoundaryLikeSequences() throws IOException {
+    multipartParser.setParsingBufferSize(1024);
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; content.length() < 100_000; i++) {
+      content.append("line ").append(i).append("\r\n---123\r\n--");
+    }
+    String body = "-----1234\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"big.txt\"\r\n"
+            + "\r\n"
+            + content + "\r\n"
+            + "-----1234\r\n"
+            + "Content-Disposition: form-data; name=\"field\"\r\n"
+            + "\r\n"
+            + "fieldValue\r\n"
+            + "-----1234--\r\n";
+
+    List<Part> parts = parseRequest(body);
+
+    assertThat(parts).hasSize(2);
+    assertThat(parts.get(0).getContentAsString()).isEqualTo(content.toString());
+    assertThat(parts.get(1).getContentAsString()).isEqualTo("fieldValue");
+  }
+
   private void assertHeaders(final String[] headerNames, final String[] headerValues, final Part fileItems, final int index) {
     for (var i = 0; i < headerNames.length; i++) {
       final var value = fileItems.getHeader(headerNames[i]);
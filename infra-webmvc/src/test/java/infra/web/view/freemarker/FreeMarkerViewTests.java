@@ -29,6 +29,7 @@ import java.io.Writer;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import freemarker.template.Configuration;
 import freemarker.template.SimpleHash;
@@ -203,6 +204,43 @@ public class FreeMarkerViewTests {
             .isEqualTo("myForwardUrl");
   }
 
+  @Test
+  public void cachedTemplateIsReusedUntilCleared() throws Exception {
+    AtomicInteger lookups = new AtomicInteger();
+    FreeMarkerView fv = new FreeMarkerView();
+    fv.setConfiguration(new TestConfiguration() {
+
+      @Override
+      public Template getTemplate(String name, Locale locale) throws IOException {
+        lookups.incrementAndGet();
+        return super.getTemplate(name, locale);
+      }
+    });
+    fv.setUrl("templateName");
+    fv.setCacheTemplate(true);
+
+    Template template = fv.getTemplate(Locale.US);
+    assertThat(fv.getTemplate(Locale.US)).isSameAs(template);
+    assertThat(lookups).hasValue(1);
+
+    fv.getTemplate(Locale.GERMAN);
+    assertThat(lookups).hasValue(2);
+
+    fv.clearTemplateCache();
+    assertThat(fv.getTemplate(Locale.US)).isNotSameAs(template);
+    assertThat(lookups).hasValue(3);
+  }
+
+  @Test
+  public void templateIsLookedUpForEveryRenderingByDefault() throws Exception {
+    FreeMarkerView fv = new FreeMarkerView();
+    fv.setConfiguration(new TestConfiguration());
+    fv.setUrl("templateName");
+
+    assertThat(fv.isCacheTemplate()).isFalse();
+    assertThat(fv.getTemplate(Locale.US)).isNotSameAs(fv.getTemplate(Locale.US));
+  }
+
   private static class TestConfiguration extends Configuration {
 
     TestConfiguration() {
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.view.script;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.script.ScriptEngine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class ScriptEnginePoolTests {
+
+  @Test
+  void failsFastWhenExhausted() {
+    ScriptEnginePool pool = new ScriptEnginePool(() -> mock(ScriptEngine.class), 1, Duration.ZERO);
+    ScriptEngine engine = pool.borrow();
+
+    assertThatIllegalStateException().isThrownBy(pool::borrow).withMessageContaining("all 1 engines are in use");
+    assertThat(pool.getTimeoutCount()).isEqualTo(1);
+    assertThat(pool.getActiveCount()).isEqualTo(1);
+
+    pool.release(engine);
+    assertThat(pool.borrow()).isSameAs(engine);
+  }
+
+  @Test
+  void waitsForReleasedEngine() throws Exception {
+    ScriptEnginePool pool = new ScriptEnginePool(() -> mock(ScriptEngine.class), 1, Duration.ofSeconds(5));
+    ScriptEngine engine = pool.borrow();
+    CountDownLatch waiting = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<ScriptEngine> next = executor.submit(() -> {
+        waiting.countDown();
+        return pool.borrow();
+      });
+      assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+      pool.release(engine);
+      assertThat(next.get(5, TimeUnit.SECONDS)).isSameAs(engine);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    assertThat(pool.getCreatedCount()).isEqualTo(1);
+    assertThat(pool.getTimeoutCount()).isZero();
+  }
+
+  @Test
+  void prewarmCreatesEnginesUpToMaxSize() {
+    ScriptEnginePool pool = new ScriptEnginePool(() -> mock(ScriptEngine.class), 2, null);
+    pool.prewarm(5);
+
+    assertThat(pool.getCreatedCount()).isEqualTo(2);
+    assertThat(pool.getIdleCount()).isEqualTo(2);
+    assertThat(pool.getActiveCount()).isZero();
+  }
+
+  @Test
+  void releasesPermitWhenEngineCreationFails() {
+    ScriptEnginePool pool = new ScriptEnginePool(() -> {
+      throw new IllegalStateException("Failed to evaluate script");
+    }, 1, Duration.ZERO);
+
+    assertThatIllegalStateException().isThrownBy(pool::borrow).withMessage("Failed to evaluate script");
+    assertThat(pool.getActiveCount()).isZero();
+  }
+
+  @Test
+  void closeDiscardsIdleAndReleasedEngines() throws Exception {
+    ScriptEngine idle = mock(ScriptEngine.class, withSettings().extraInterfaces(AutoCloseable.class));
+    ScriptEngine lent = mock(ScriptEngine.class, withSettings().extraInterfaces(AutoCloseable.class));
+    Iterator<ScriptEngine> engines = List.of(idle, lent).iterator();
+    ScriptEnginePool pool = new ScriptEnginePool(engines::next, 2, Duration.ZERO);
+    assertThat(pool.borrow()).isSameAs(idle);
+    assertThat(pool.borrow()).isSameAs(lent);
+    pool.release(idle);
+
+    pool.close();
+    verify((AutoCloseable) idle).close();
+    assertThatIllegalStateException().isThrownBy(pool::borrow).withMessageContaining("closed");
+
+    pool.release(lent);
+    verify((AutoCloseable) lent).close();
+    assertThat(pool.getIdleCount()).isZero();
+    assertThat(pool.getActiveCount()).isZero();
+  }
+
+}
@@ -21,12 +21,14 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import javax.script.Invocable;
@@ -37,11 +39,11 @@ import infra.context.ApplicationContextException;
 import infra.context.annotation.AnnotationConfigApplicationContext;
 import infra.context.support.StaticApplicationContext;
 import infra.http.MediaType;
-import infra.web.view.script.ScriptTemplateView.EngineKey;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.InstanceOfAssertFactories.BOOLEAN;
 import static org.mockito.BDDMockito.given;
@@ -148,7 +150,11 @@ class ScriptTemplateViewTests {
     ExecutorService executor = Executors.newFixedThreadPool(4);
     List<Future<Boolean>> results = new ArrayList<>();
     for (int i = 0; i < iterations; i++) {
-      results.add(executor.submit(() -> view.getEngine() != null));
+      results.add(executor.submit(() -> {
+        ScriptEngine engine = view.getEngine();
+        view.releaseEngine(engine);
+        return engine != null;
+      }));
     }
     assertThat(results.size()).isEqualTo(iterations);
     for (int i = 0; i < iterations; i++) {
@@ -239,15 +245,121 @@ class ScriptTemplateViewTests {
 
     DirectFieldAccessor accessor = new DirectFieldAccessor(this.view);
     this.view.setApplicationContext(this.wac);
-    ScriptEngine engine1 = this.view.getEngine();
-    ScriptEngine engine2 = this.view.getEngine();
-    assertThat(engine1).isNotNull();
-    assertThat(engine2).isNotNull();
+    ScriptEnginePool pool = this.view.getEnginePool();
+    assertThat(pool).isNotNull();
+    ScriptEngine engine = this.view.getEngine();
+    assertThat(engine).isNotNull();
+    assertThat(pool.getActiveCount()).isEqualTo(1);
+    this.view.releaseEngine(engine);
+    assertThat(pool.getActiveCount()).isZero();
     assertThat(accessor.getPropertyValue("renderObject")).isEqualTo("Template");
     assertThat(accessor.getPropertyValue("renderFunction")).isEqualTo("render");
     assertThat(accessor.getPropertyValue("sharedEngine")).asInstanceOf(BOOLEAN).isFalse();
   }
 
+  @Test
+  public void nonSharedEnginesArePooled() {
+    AtomicInteger created = new AtomicInteger();
+    this.configurer.setEngineSupplier(() -> {
+      created.incrementAndGet();
+      return mock(InvocableScriptEngine.class);
+    });
+    this.configurer.setRenderFunction("render");
+    this.configurer.setSharedEngine(false);
+    this.configurer.setEnginePoolSize(2);
+    this.configurer.setEngineBorrowTimeout(Duration.ZERO);
+
+    this.view.setApplicationContext(this.wac);
+    ScriptTemplateView other = new ScriptTemplateView();
+    other.setApplicationContext(this.wac);
+
+    ScriptEnginePool pool = this.view.getEnginePool();
+    assertThat(pool).isNotNull().isSameAs(other.getEnginePool());
+    assertThat(pool.getMaxSize()).isEqualTo(2);
+    assertThat(created).hasValue(1);
+
+    ScriptEngine engine1 = pool.borrow();
+    ScriptEngine engine2 = pool.borrow();
+    assertThat(engine1).isNotSameAs(engine2);
+    assertThat(pool.getActiveCount()).isEqualTo(2);
+    assertThatIllegalStateException().isThrownBy(pool::borrow);
+    pool.release(engine1);
+    pool.release(engine2);
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void nonSharedEnginePoolUsesSettingsOfItsView() {
+    this.configurer.setEngineSupplier(() -> mock(InvocableScriptEngine.class));
+    this.configurer.setRenderFunction("render");
+    this.configurer.setSharedEngine(false);
+
+    this.view.setEnginePoolSize(1);
+    this.view.setApplicationContext(this.wac);
+    ScriptTemplateView other = new ScriptTemplateView();
+    other.setEnginePoolSize(3);
+    other.setApplicationContext(this.wac);
+
+    assertThat(this.view.getEnginePool().getMaxSize()).isEqualTo(1);
+    assertThat(other.getEnginePool().getMaxSize()).isEqualTo(3);
+  }
+
+  @Test
+  void nonSharedEnginePoolIsNotSharedAcrossResourceLoaderPaths() {
+    this.configurer.setEngineSupplier(() -> mock(InvocableScriptEngine.class));
+    this.configurer.setRenderFunction("render");
+    this.configurer.setSharedEngine(false);
+
+    this.view.setApplicationContext(this.wac);
+    ScriptTemplateView other = new ScriptTemplateView();
+    other.setResourceLoaderPath("classpath:templates/");
+    other.setApplicationContext(this.wac);
+    ScriptTemplateView same = new ScriptTemplateView();
+    same.setApplicationContext(this.wac);
+
+    assertThat(this.view.getEnginePool()).isNotSameAs(other.getEnginePool()).isSameAs(same.getEnginePool());
+  }
+
+  @Test
+  void configurerClosesSharedEnginePools() {
+    this.configurer.setEngineSupplier(() -> mock(InvocableScriptEngine.class));
+    this.configurer.setRenderFunction("render");
+    this.configurer.setSharedEngine(false);
+    this.view.setApplicationContext(this.wac);
+
+    ScriptEnginePool pool = this.view.getEnginePool();
+    assertThat(pool.getIdleCount()).isEqualTo(1);
+    this.view.destroy();
+    assertThat(pool.isClosed()).isFalse();
+
+    this.configurer.destroy();
+    assertThat(pool.isClosed()).isTrue();
+    assertThat(pool.getIdleCount()).isZero();
+    assertThatIllegalStateException().isThrownBy(pool::borrow).withMessageContaining("closed");
+    assertThat(pool.getActiveCount()).isZero();
+  }
+
+  @Test
+  void destroyClosesEnginePoolOwnedByView() {
+    ScriptTemplateConfig config = mock(ScriptTemplateConfig.class);
+    given(config.getEngineSupplier()).willReturn(() -> mock(InvocableScriptEngine.class));
+    given(config.isSharedEngine()).willReturn(false);
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.refresh();
+    context.getBeanFactory().registerSingleton("scriptTemplateConfig", config);
+    this.view.setApplicationContext(context);
+
+    ScriptEnginePool pool = this.view.getEnginePool();
+    assertThat(pool.getIdleCount()).isEqualTo(1);
+    this.view.destroy();
+
+    assertThat(pool.isClosed()).isTrue();
+    assertThat(pool.getIdleCount()).isZero();
+    assertThatIllegalStateException().isThrownBy(pool::borrow).withMessageContaining("closed");
+    assertThat(pool.getActiveCount()).isZero();
+    context.close();
+  }
+
   private interface InvocableScriptEngine extends ScriptEngine, Invocable {
   }
 
@@ -399,63 +511,4 @@ class ScriptTemplateViewTests {
     assertThat(ScriptTemplateView.DEFAULT_CONTENT_TYPE).isEqualTo("text/html");
   }
 
-  @Test
-  void shouldCreateEngineKeyWithEqualProperties() {
-    // given
-    EngineKey key1 = new EngineKey("nashorn", new String[] { "script1.js", "script2.js" });
-    EngineKey key2 = new EngineKey("nashorn", new String[] { "script1.js", "script2.js" });
-
-    // when & then
-    assertThat(key1).isEqualTo(key2);
-    assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
-  }
-
-  @Test
-  void shouldNotEqualEngineKeyWithDifferentEngineNames() {
-    // given
-    EngineKey key1 = new EngineKey("nashorn", new String[] { "script.js" });
-    EngineKey key2 = new EngineKey("graal.js", new String[] { "script.js" });
-
-    // when & then
-    assertThat(key1).isNotEqualTo(key2);
-  }
-
-  @Test
-  void shouldNotEqualEngineKeyWithDifferentScripts() {
-    // given
-    EngineKey key1 = new EngineKey("nashorn", new String[] { "script1.js" });
-    EngineKey key2 = new EngineKey("nashorn", new String[] { "script2.js" });
-
-    // when & then
-    assertThat(key1).isNotEqualTo(key2);
-  }
-
-  @Test
-  void shouldEqualEngineKeyWithSameInstance() {
-    // given
-    EngineKey key = new EngineKey("nashorn", new String[] { "script.js" });
-
-    // when & then
-    assertThat(key).isEqualTo(key);
-  }
-
-  @Test
-  void shouldNotEqualEngineKeyWithNull() {
-    // given
-    EngineKey key = new EngineKey("nashorn", new String[] { "script.js" });
-
-    // when & then
-    assertThat(key).isNotEqualTo(null);
-  }
-
-  @Test
-  void shouldNotEqualEngineKeyWithDifferentClass() {
-    // given
-    EngineKey key = new EngineKey("nashorn", new String[] { "script.js" });
-    String differentObject = "not an EngineKey";
-
-    // when & then
-    assertThat(key).isNotEqualTo(differentObject);
-  }
-
-}
\ No newline at end of file
+}
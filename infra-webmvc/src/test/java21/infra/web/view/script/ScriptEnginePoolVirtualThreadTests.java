@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.view.script;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.ScriptEngine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class ScriptEnginePoolVirtualThreadTests {
+
+  @Test
+  void lendsEachEngineToOneVirtualThreadAtATime() throws Exception {
+    AtomicInteger scriptLoads = new AtomicInteger();
+    ScriptEnginePool pool = new ScriptEnginePool(() -> {
+      scriptLoads.incrementAndGet();
+      return mock(ScriptEngine.class);
+    }, 4, null);
+    Set<ScriptEngine> inUse = ConcurrentHashMap.newKeySet();
+    AtomicInteger overlaps = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        results.add(executor.submit(() -> {
+          ScriptEngine engine = pool.borrow();
+          try {
+            if (!inUse.add(engine)) {
+              overlaps.incrementAndGet();
+            }
+            Thread.yield();
+            inUse.remove(engine);
+          }
+          finally {
+            pool.release(engine);
+          }
+        }));
+      }
+      for (Future<?> result : results) {
+        result.get(10, TimeUnit.SECONDS);
+      }
+    }
+
+    assertThat(overlaps).hasValue(0);
+    assertThat(scriptLoads.get()).isBetween(1, 4);
+    assertThat(pool.getCreatedCount()).isEqualTo(scriptLoads.get());
+    assertThat(pool.getBorrowCount()).isEqualTo(10_000);
+    assertThat(pool.getActiveCount()).isZero();
+    assertThat(pool.getIdleCount()).isEqualTo(pool.getCreatedCount());
+  }
+
+}
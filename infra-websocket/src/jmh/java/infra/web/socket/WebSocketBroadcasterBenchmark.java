@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import infra.core.io.buffer.NettyDataBufferFactory;
+import infra.web.socket.server.support.NettyWebSocketSession;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Time to send one JSON message to 50k sessions spread over four event
+ * loops, calling {@code sendText} per session or through a
+ * {@link WebSocketBroadcaster}. Sessions are connected over in-VM channels
+ * whose peers discard the frames.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class WebSocketBroadcasterBenchmark {
+
+  private static final String MESSAGE = "{\"type\":\"price\",\"symbol\":\"ACME\",\"bid\":101.25,\"ask\":101.5,\"ts\":1700000000000}";
+
+  @Param({ "50000" })
+  public int sessions;
+
+  private DefaultEventLoopGroup eventLoops;
+
+  private Channel server;
+
+  private final List<NettyWebSocketSession> sessionList = new ArrayList<>();
+
+  private final WebSocketBroadcaster broadcaster = new WebSocketBroadcaster();
+
+  @Setup
+  public void setup() {
+    eventLoops = new DefaultEventLoopGroup(4);
+    LocalAddress address = new LocalAddress("broadcast-benchmark");
+    server = new ServerBootstrap()
+            .group(eventLoops)
+            .channel(LocalServerChannel.class)
+            .childHandler(new ChannelInitializer<LocalChannel>() {
+
+              @Override
+              protected void initChannel(LocalChannel ch) {
+                ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+
+                  @Override
+                  public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                    ReferenceCountUtil.release(msg);
+                  }
+                });
+              }
+            })
+            .bind(address).syncUninterruptibly().channel();
+
+    Bootstrap bootstrap = new Bootstrap()
+            .group(eventLoops)
+            .channel(LocalChannel.class)
+            .handler(new ChannelInboundHandlerAdapter());
+    var bufferFactory = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+    for (int i = 0; i < sessions; i++) {
+      Channel channel = bootstrap.connect(address).syncUninterruptibly().channel();
+      NettyWebSocketSession session = new NettyWebSocketSession(false, channel, bufferFactory, null);
+      sessionList.add(session);
+      broadcaster.addSession(session);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.close().syncUninterruptibly();
+    eventLoops.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  @Benchmark
+  public void sendTextPerSession() {
+    for (NettyWebSocketSession session : sessionList) {
+      session.sendText(MESSAGE);
+    }
+    // tasks run in order, so the writes are done once these have run
+    for (var eventLoop : eventLoops) {
+      ((EventLoop) eventLoop).submit(() -> { }).syncUninterruptibly();
+    }
+  }
+
+  @Benchmark
+  public void broadcast() {
+    broadcaster.sendText(MESSAGE).join();
+  }
+
+}
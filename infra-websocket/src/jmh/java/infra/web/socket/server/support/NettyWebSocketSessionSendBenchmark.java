@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket.server.support;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import infra.core.io.buffer.NettyDataBufferFactory;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Messages per second sent through a {@link NettyWebSocketSession}, with
+ * and without write coalescing. Flushes reaching the transport stand in for
+ * write syscalls; the {@code flushes} counter divided by the {@code messages}
+ * counter gives the syscalls per message.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NettyWebSocketSessionSendBenchmark {
+
+  private static final int BURST = 64;
+
+  @Param({ "false", "true" })
+  public boolean writeCoalescing;
+
+  private EmbeddedChannel channel;
+
+  private NettyWebSocketSession session;
+
+  private final FlushCounter flushCounter = new FlushCounter();
+
+  @Setup
+  public void setup() {
+    channel = new EmbeddedChannel(flushCounter);
+    session = new NettyWebSocketSession(false, channel, new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+    session.setWriteCoalescing(writeCoalescing);
+  }
+
+  @TearDown
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BURST)
+  public void sendText(Counters counters) {
+    for (int i = 0; i < BURST; i++) {
+      session.sendText("{\"type\":\"tick\",\"seq\":42,\"price\":101.25}");
+    }
+    // end of the event loop iteration
+    channel.runPendingTasks();
+
+    counters.messages += BURST;
+    counters.flushes += flushCounter.flushes;
+    flushCounter.flushes = 0;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+
+    public long messages;
+
+    public long flushes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      messages = 0;
+      flushes = 0;
+    }
+  }
+
+  /**
+   * Counts flushes and discards written frames, standing in for the socket.
+   */
+  static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+    long flushes;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      ReferenceCountUtil.release(msg);
+      promise.setSuccess();
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+      flushes++;
+    }
+  }
+
+}
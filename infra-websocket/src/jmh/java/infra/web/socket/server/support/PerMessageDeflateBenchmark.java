@@ -0,0 +1,134 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket.server.support;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import infra.web.socket.PerMessageDeflate;
+import infra.web.socket.WebSocketExtension;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+
+/**
+ * CPU cost per message and bandwidth saved by permessage-deflate when
+ * sending JSON messages round-robin to many connections. The
+ * {@code payloadBytes} and {@code wireBytes} counters give the compression
+ * ratio; with context takeover, every connection holds its own compressor,
+ * so run it with enough native memory for the number of connections.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PerMessageDeflateBenchmark {
+
+  @Param({ "10000" })
+  public int connections;
+
+  @Param({ "none", "contextTakeover", "noContextTakeover" })
+  public String mode;
+
+  private EmbeddedChannel[] channels;
+
+  private ByteBuf payload;
+
+  private int next;
+
+  @Setup
+  public void setup() {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 40; i++) {
+      json.append("{\"id\":").append(i).append(",\"symbol\":\"SYM").append(i % 7)
+              .append("\",\"bid\":").append(100 + i % 13).append(".25,\"ask\":").append(101 + i % 11)
+              .append(".5,\"exchange\":\"NASDAQ\",\"currency\":\"USD\"},");
+    }
+    json.setCharAt(json.length() - 1, ']');
+    payload = Unpooled.unreleasableBuffer(Unpooled.directBuffer().writeBytes(json.toString().getBytes(StandardCharsets.UTF_8)));
+
+    PerMessageDeflate deflate = new PerMessageDeflate();
+    deflate.setServerNoContextTakeover("noContextTakeover".equals(mode));
+    PerMessageDeflate.Negotiated negotiated = deflate.negotiate(new WebSocketExtension(PerMessageDeflate.EXTENSION_NAME));
+
+    channels = new EmbeddedChannel[connections];
+    for (int i = 0; i < connections; i++) {
+      channels[i] = "none".equals(mode) || negotiated == null
+              ? new EmbeddedChannel()
+              : new EmbeddedChannel(new PerMessageDeflateHandler(negotiated, 1 << 20));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (EmbeddedChannel channel : channels) {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  @Benchmark
+  public int send(Counters counters) {
+    EmbeddedChannel channel = channels[next];
+    next = (next + 1) % channels.length;
+
+    channel.writeOutbound(new TextWebSocketFrame(payload.duplicate()));
+    WebSocketFrame frame = channel.readOutbound();
+    int wireBytes = frame.content().readableBytes();
+    frame.release();
+
+    counters.payloadBytes += payload.readableBytes();
+    counters.wireBytes += wireBytes;
+    return wireBytes;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+
+    public long payloadBytes;
+
+    public long wireBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      payloadBytes = 0;
+      wireBytes = 0;
+    }
+  }
+
+}
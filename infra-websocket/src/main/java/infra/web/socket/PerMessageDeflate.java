@@ -0,0 +1,376 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import infra.util.Assert;
+
+/**
+ * Configuration and shared state of the
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+ * WebSocket extension.
+ *
+ * <p>An instance negotiates the extension parameters for a client offer and
+ * is shared by all connections that accepted it. With context takeover,
+ * the default, each connection keeps its own compressor and decompressor
+ * between messages, which compresses repetitive messages best but costs
+ * about 300K of native memory per connection and direction. Without
+ * context takeover, {@link Deflater} and {@link Inflater} instances are
+ * reset after each message and returned to a pool shared by all
+ * connections, so memory is bounded by the number of messages compressed
+ * concurrently rather than by the number of connections.
+ *
+ * <p>{@link Deflater} always uses a 32K window, so offers that limit the
+ * server window with {@code server_max_window_bits} below 15 are declined.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc7692">RFC 7692</a>
+ * @since 5.0
+ */
+public class PerMessageDeflate {
+
+  /**
+   * The extension name.
+   */
+  public static final String EXTENSION_NAME = "permessage-deflate";
+
+  static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+
+  static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+
+  static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+
+  static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+
+  private static final int MAX_WINDOW_BITS = 15;
+
+  private static final int MIN_WINDOW_BITS = 8;
+
+  private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+  private int clientMaxWindowBits = MAX_WINDOW_BITS;
+
+  private boolean serverNoContextTakeover;
+
+  private boolean clientNoContextTakeover;
+
+  private int minimumSize = 256;
+
+  private final ArrayBlockingQueue<Deflater> deflaters;
+
+  private final ArrayBlockingQueue<Inflater> inflaters;
+
+  private final LongAdder uncompressedBytes = new LongAdder();
+
+  private final LongAdder compressedBytes = new LongAdder();
+
+  /**
+   * Create a new instance that pools up to twice the number of available
+   * processors of {@link Deflater} and {@link Inflater} instances each.
+   */
+  public PerMessageDeflate() {
+    this(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  /**
+   * Create a new instance.
+   *
+   * @param poolSize the maximum number of idle {@link Deflater} and
+   * {@link Inflater} instances each to keep for connections without
+   * context takeover
+   */
+  public PerMessageDeflate(int poolSize) {
+    Assert.isTrue(poolSize > 0, "poolSize must be positive");
+    this.deflaters = new ArrayBlockingQueue<>(poolSize);
+    this.inflaters = new ArrayBlockingQueue<>(poolSize);
+  }
+
+  /**
+   * Set the compression level, from 0 to 9.
+   * Default is {@link Deflater#DEFAULT_COMPRESSION}.
+   */
+  public void setCompressionLevel(int compressionLevel) {
+    Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+            || (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+            "compressionLevel must be -1 or between 0 and 9");
+    this.compressionLevel = compressionLevel;
+  }
+
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Set the largest LZ77 window, as a power of two, the client may use to
+   * compress messages, if the client offers to limit it. Lower values
+   * reduce the memory the client needs per connection. Default is 15.
+   */
+  public void setClientMaxWindowBits(int clientMaxWindowBits) {
+    Assert.isTrue(clientMaxWindowBits >= MIN_WINDOW_BITS && clientMaxWindowBits <= MAX_WINDOW_BITS,
+            "clientMaxWindowBits must be between 8 and 15");
+    this.clientMaxWindowBits = clientMaxWindowBits;
+  }
+
+  public int getClientMaxWindowBits() {
+    return clientMaxWindowBits;
+  }
+
+  /**
+   * Set whether the server compresses each message on its own rather than
+   * with the context of previous messages, which allows pooling compressors
+   * across connections. Default is {@code false}.
+   */
+  public void setServerNoContextTakeover(boolean serverNoContextTakeover) {
+    this.serverNoContextTakeover = serverNoContextTakeover;
+  }
+
+  public boolean isServerNoContextTakeover() {
+    return serverNoContextTakeover;
+  }
+
+  /**
+   * Set whether to ask the client to compress each message on its own,
+   * which allows pooling decompressors across connections.
+   * Default is {@code false}.
+   */
+  public void setClientNoContextTakeover(boolean clientNoContextTakeover) {
+    this.clientNoContextTakeover = clientNoContextTakeover;
+  }
+
+  public boolean isClientNoContextTakeover() {
+    return clientNoContextTakeover;
+  }
+
+  /**
+   * Set the payload size in bytes below which messages are sent
+   * uncompressed, because the deflate overhead outweighs the savings.
+   * Default is 256.
+   */
+  public void setMinimumSize(int minimumSize) {
+    Assert.isTrue(minimumSize >= 0, "minimumSize must not be negative");
+    this.minimumSize = minimumSize;
+  }
+
+  public int getMinimumSize() {
+    return minimumSize;
+  }
+
+  /**
+   * Return the total payload size of messages sent compressed,
+   * before compression.
+   */
+  public long getUncompressedBytes() {
+    return uncompressedBytes.sum();
+  }
+
+  /**
+   * Return the total payload size of messages sent compressed,
+   * after compression.
+   */
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  /**
+   * Negotiate the extension for the given client offer.
+   *
+   * @param offer a {@code permessage-deflate} extension offered by the client
+   * @return the accepted extension to return to the client, or {@code null}
+   * if the offer contains parameters that cannot be accepted
+   */
+  public @Nullable Negotiated negotiate(WebSocketExtension offer) {
+    if (!EXTENSION_NAME.equalsIgnoreCase(offer.getName())) {
+      return null;
+    }
+    boolean serverNoContext = serverNoContextTakeover;
+    boolean clientNoContext = clientNoContextTakeover;
+    int clientWindowBits = -1;
+    boolean serverWindowBitsOffered = false;
+
+    for (Map.Entry<String, String> entry : offer.getParameters().entrySet()) {
+      String value = unquote(entry.getValue());
+      switch (entry.getKey().toLowerCase(Locale.ROOT)) {
+        case SERVER_NO_CONTEXT_TAKEOVER -> {
+          if (!value.isEmpty()) {
+            return null;
+          }
+          serverNoContext = true;
+        }
+        case CLIENT_NO_CONTEXT_TAKEOVER -> {
+          if (!value.isEmpty()) {
+            return null;
+          }
+          clientNoContext = true;
+        }
+        case SERVER_MAX_WINDOW_BITS -> {
+          if (parseWindowBits(value) != MAX_WINDOW_BITS) {
+            return null;
+          }
+          serverWindowBitsOffered = true;
+        }
+        case CLIENT_MAX_WINDOW_BITS -> {
+          if (value.isEmpty()) {
+            clientWindowBits = clientMaxWindowBits;
+          }
+          else {
+            int offered = parseWindowBits(value);
+            if (offered < 0) {
+              return null;
+            }
+            clientWindowBits = Math.min(offered, clientMaxWindowBits);
+          }
+        }
+        default -> {
+          return null;
+        }
+      }
+    }
+
+    LinkedHashMap<String, String> parameters = new LinkedHashMap<>();
+    if (serverNoContext) {
+      parameters.put(SERVER_NO_CONTEXT_TAKEOVER, "");
+    }
+    if (clientNoContext) {
+      parameters.put(CLIENT_NO_CONTEXT_TAKEOVER, "");
+    }
+    if (serverWindowBitsOffered) {
+      parameters.put(SERVER_MAX_WINDOW_BITS, Integer.toString(MAX_WINDOW_BITS));
+    }
+    if (clientWindowBits > 0 && clientWindowBits < MAX_WINDOW_BITS) {
+      parameters.put(CLIENT_MAX_WINDOW_BITS, Integer.toString(clientWindowBits));
+    }
+    return new Negotiated(this, parameters, serverNoContext, clientNoContext);
+  }
+
+  /**
+   * Obtain a raw deflate compressor from the pool, or create a new one.
+   */
+  public Deflater acquireDeflater() {
+    Deflater deflater = deflaters.poll();
+    return deflater != null ? deflater : new Deflater(compressionLevel, true);
+  }
+
+  /**
+   * Reset the given compressor and return it to the pool, or release its
+   * native memory if the pool is full.
+   */
+  public void releaseDeflater(Deflater deflater) {
+    deflater.reset();
+    if (!deflaters.offer(deflater)) {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Obtain a raw inflate decompressor from the pool, or create a new one.
+   */
+  public Inflater acquireInflater() {
+    Inflater inflater = inflaters.poll();
+    return inflater != null ? inflater : new Inflater(true);
+  }
+
+  /**
+   * Reset the given decompressor and return it to the pool, or release its
+   * native memory if the pool is full.
+   */
+  public void releaseInflater(Inflater inflater) {
+    inflater.reset();
+    if (!inflaters.offer(inflater)) {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Record a message sent compressed.
+   *
+   * @param uncompressed the payload size before compression
+   * @param compressed the payload size after compression
+   */
+  public void recordCompression(int uncompressed, int compressed) {
+    uncompressedBytes.add(uncompressed);
+    compressedBytes.add(compressed);
+  }
+
+  private static int parseWindowBits(String value) {
+    try {
+      int bits = Integer.parseInt(value);
+      return bits >= MIN_WINDOW_BITS && bits <= MAX_WINDOW_BITS ? bits : -1;
+    }
+    catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+
+  private static String unquote(String value) {
+    if (value.length() > 1 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+      return value.substring(1, value.length() - 1);
+    }
+    return value;
+  }
+
+  /**
+   * The extension as accepted for a connection, including the parameters
+   * returned to the client.
+   */
+  public static final class Negotiated extends WebSocketExtension {
+
+    private final PerMessageDeflate config;
+
+    private final boolean serverNoContextTakeover;
+
+    private final boolean clientNoContextTakeover;
+
+    Negotiated(PerMessageDeflate config, Map<String, String> parameters,
+            boolean serverNoContextTakeover, boolean clientNoContextTakeover) {
+      super(EXTENSION_NAME, parameters);
+      this.config = config;
+      this.serverNoContextTakeover = serverNoContextTakeover;
+      this.clientNoContextTakeover = clientNoContextTakeover;
+    }
+
+    /**
+     * Return the shared configuration and pools.
+     */
+    public PerMessageDeflate getConfig() {
+      return config;
+    }
+
+    /**
+     * Whether the server resets its compressor after each message.
+     */
+    public boolean isServerNoContextTakeover() {
+      return serverNoContextTakeover;
+    }
+
+    /**
+     * Whether the client resets its compressor after each message.
+     */
+    public boolean isClientNoContextTakeover() {
+      return clientNoContextTakeover;
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import infra.core.NestedRuntimeException;
+
+/**
+ * Raised through the {@code Future} of a send operation when the message
+ * would exceed the outbound high-water mark of the session, i.e. the peer
+ * does not read as fast as messages are sent. The message has not been
+ * sent; callers may retry once earlier sends have completed, drop the
+ * message, or close the session.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+public class SendBufferOverflowException extends NestedRuntimeException {
+
+  private final long pendingBytes;
+
+  public SendBufferOverflowException(String message, long pendingBytes) {
+    super(message);
+    this.pendingBytes = pendingBytes;
+  }
+
+  /**
+   * Return the number of bytes accepted but not yet written when the
+   * message was rejected.
+   */
+  public long getPendingBytes() {
+    return pendingBytes;
+  }
+
+}
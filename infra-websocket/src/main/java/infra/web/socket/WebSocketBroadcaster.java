@@ -0,0 +1,398 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import infra.core.io.buffer.DataBuffer;
+import infra.core.io.buffer.NettyDataBuffer;
+import infra.util.Assert;
+import infra.util.concurrent.Future;
+import infra.util.concurrent.Promise;
+import infra.web.socket.server.support.NettyWebSocketSession;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+
+/**
+ * Sends the same message to a group of sessions, encoding it only once.
+ *
+ * <p>For {@link NettyWebSocketSession Netty sessions}, the payload is
+ * encoded into a single reference-counted buffer, and each session is
+ * written a frame over a {@link ByteBuf#retainedDuplicate() retained
+ * duplicate} of it. Sessions are grouped by the event loop of their channel;
+ * each group is served by one task in its event loop that writes to up to
+ * {@link #setBatchSize batch size} sessions before giving the loop back to
+ * I/O. Frames go through the session, so its
+ * {@link NettyWebSocketSession#setWriteCoalescing write coalescing} and
+ * {@link NettyWebSocketSession#setOutboundHighWaterMark outbound high-water
+ * mark} apply, and they are written after messages the session has already
+ * accepted from other threads. Other sessions are sent the message one by one.
+ *
+ * <p>Sessions are removed automatically when their channel closes.
+ * Extensions such as permessage-deflate still process the frame per
+ * session.
+ *
+ * <pre>{@code
+ * WebSocketBroadcaster broadcaster = new WebSocketBroadcaster();
+ * broadcaster.setFlushPolicy(FlushPolicy.DEFERRED);
+ *
+ * // in WebSocketHandler#onOpen
+ * broadcaster.addSession(session);
+ *
+ * broadcaster.sendText(json);
+ * }</pre>
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+public class WebSocketBroadcaster {
+
+  private final ConcurrentHashMap<EventLoop, SessionGroup> groups = new ConcurrentHashMap<>();
+
+  private final Set<WebSocketSession> otherSessions = ConcurrentHashMap.newKeySet();
+
+  private final LongAdder droppedCount = new LongAdder();
+
+  private ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+
+  private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
+
+  private int batchSize = 512;
+
+  private boolean dropWhenUnwritable;
+
+  /**
+   * Set the allocator for encoding text messages.
+   * Default is {@link ByteBufAllocator#DEFAULT}.
+   */
+  public void setAllocator(ByteBufAllocator allocator) {
+    Assert.notNull(allocator, "ByteBufAllocator is required");
+    this.allocator = allocator;
+  }
+
+  /**
+   * Set when the sessions of a group are flushed.
+   * Default is {@link FlushPolicy#IMMEDIATE}.
+   */
+  public void setFlushPolicy(FlushPolicy flushPolicy) {
+    Assert.notNull(flushPolicy, "FlushPolicy is required");
+    this.flushPolicy = flushPolicy;
+  }
+
+  /**
+   * Set the maximum number of sessions an event loop task writes to before
+   * the rest of its group is continued in a new task. Default is 512.
+   */
+  public void setBatchSize(int batchSize) {
+    Assert.isTrue(batchSize > 0, "batchSize must be positive");
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Set whether to skip Netty sessions whose channel is not writable,
+   * i.e. whose outbound buffer is above the channel's write buffer
+   * high-water mark, instead of buffering more for a slow peer.
+   * Default is {@code false}.
+   * <p>Sessions with an {@link NettyWebSocketSession#setOutboundHighWaterMark
+   * outbound high-water mark} skip messages beyond it regardless.
+   *
+   * @see #getDroppedCount()
+   */
+  public void setDropWhenUnwritable(boolean dropWhenUnwritable) {
+    this.dropWhenUnwritable = dropWhenUnwritable;
+  }
+
+  /**
+   * Add a session to the group.
+   */
+  public void addSession(WebSocketSession session) {
+    Assert.notNull(session, "WebSocketSession is required");
+    if (session instanceof NettyWebSocketSession nettySession) {
+      Channel channel = nettySession.getChannel();
+      groups.computeIfAbsent(channel.eventLoop(), SessionGroup::new).sessions.add(nettySession);
+      channel.closeFuture().addListener(future -> removeSession(nettySession));
+    }
+    else {
+      otherSessions.add(session);
+    }
+  }
+
+  /**
+   * Remove a session from the group.
+   */
+  public void removeSession(WebSocketSession session) {
+    if (session instanceof NettyWebSocketSession nettySession) {
+      SessionGroup group = groups.get(nettySession.getChannel().eventLoop());
+      if (group != null) {
+        group.sessions.remove(nettySession);
+      }
+    }
+    else {
+      otherSessions.remove(session);
+    }
+  }
+
+  /**
+   * Return the number of sessions in the group.
+   */
+  public int getSessionCount() {
+    int count = otherSessions.size();
+    for (SessionGroup group : groups.values()) {
+      count += group.sessions.size();
+    }
+    return count;
+  }
+
+  /**
+   * Return the number of messages not sent to a session because its
+   * channel was not writable, or the message exceeded the session's
+   * outbound high-water mark.
+   *
+   * @see #setDropWhenUnwritable
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * Send a text message to all sessions.
+   *
+   * @param text the message
+   * @return a future that completes once the message has been written
+   * to all sessions, not necessarily flushed
+   */
+  public Future<Void> sendText(CharSequence text) {
+    ByteBuf payload = text.isEmpty() ? Unpooled.EMPTY_BUFFER : ByteBufUtil.writeUtf8(allocator, text);
+    return broadcast(payload, true, session -> session.sendText(text));
+  }
+
+  /**
+   * Send a binary message to all sessions. The payload is released once
+   * it has been written to all sessions.
+   *
+   * @param payload the message
+   * @return a future that completes once the message has been written
+   * to all sessions, not necessarily flushed
+   */
+  public Future<Void> sendBinary(DataBuffer payload) {
+    ByteBuf content = NettyDataBuffer.toByteBuf(payload);
+    if (otherSessions.isEmpty()) {
+      return broadcast(content, false, session -> Future.ok());
+    }
+    byte[] bytes = ByteBufUtil.getBytes(content);
+    return broadcast(content, false, session -> session.sendBinary(session.bufferFactory().wrap(bytes)));
+  }
+
+  private Future<Void> broadcast(ByteBuf payload, boolean text, Function<WebSocketSession, Future<Void>> fallback) {
+    try {
+      Promise<Void> promise = Future.forPromise();
+      // one extra count until all sessions and groups have been started
+      AtomicInteger remaining = new AtomicInteger(1);
+      for (WebSocketSession session : otherSessions) {
+        Future<Void> sent = fallback.apply(session);
+        if (sent.isDone()) {
+          failIfNecessary(sent, promise);
+        }
+        else {
+          remaining.incrementAndGet();
+          sent.onCompleted(future -> {
+            failIfNecessary(future, promise);
+            complete(remaining, promise);
+          });
+        }
+      }
+      for (SessionGroup group : groups.values()) {
+        if (!group.sessions.isEmpty()) {
+          remaining.incrementAndGet();
+          new Fanout(group, payload.retain(), text, remaining, promise).start();
+        }
+      }
+      complete(remaining, promise);
+      return promise;
+    }
+    finally {
+      payload.release();
+    }
+  }
+
+  private static void failIfNecessary(Future<Void> sent, Promise<Void> promise) {
+    Throwable cause = sent.getCause();
+    if (cause != null) {
+      promise.tryFailure(cause);
+    }
+  }
+
+  private static void complete(AtomicInteger remaining, Promise<Void> promise) {
+    if (remaining.decrementAndGet() == 0) {
+      promise.trySuccess(null);
+    }
+  }
+
+  /**
+   * When the sessions of a group are flushed.
+   */
+  public enum FlushPolicy {
+
+    /**
+     * Flush each session right after the message has been written to it.
+     */
+    IMMEDIATE,
+
+    /**
+     * Flush each session of a group once, after the tasks already queued in
+     * its event loop have run, so that consecutive broadcasts share a write
+     * syscall per session.
+     */
+    DEFERRED
+  }
+
+  /**
+   * Sessions sharing an event loop.
+   */
+  private final class SessionGroup implements Runnable {
+
+    private final EventLoop eventLoop;
+
+    private final Set<NettyWebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+
+    // accessed in the event loop only
+    private boolean flushScheduled;
+
+    SessionGroup(EventLoop eventLoop) {
+      this.eventLoop = eventLoop;
+    }
+
+    void scheduleFlush() {
+      if (!flushScheduled) {
+        flushScheduled = true;
+        eventLoop.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      flushScheduled = false;
+      for (NettyWebSocketSession session : sessions) {
+        session.getChannel().flush();
+      }
+    }
+  }
+
+  /**
+   * Writes one message to the sessions of a group, in batches.
+   */
+  private final class Fanout implements Runnable {
+
+    private final SessionGroup group;
+
+    private final ByteBuf payload;
+
+    private final boolean text;
+
+    private final AtomicInteger remaining;
+
+    private final Promise<Void> promise;
+
+    private final Iterator<NettyWebSocketSession> sessions;
+
+    Fanout(SessionGroup group, ByteBuf payload, boolean text, AtomicInteger remaining, Promise<Void> promise) {
+      this.group = group;
+      this.payload = payload;
+      this.text = text;
+      this.remaining = remaining;
+      this.promise = promise;
+      this.sessions = group.sessions.iterator();
+    }
+
+    void start() {
+      if (group.eventLoop.inEventLoop()) {
+        run();
+      }
+      else {
+        try {
+          group.eventLoop.execute(this);
+        }
+        catch (RejectedExecutionException ex) {
+          finish(ex);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        boolean deferFlush = flushPolicy == FlushPolicy.DEFERRED;
+        int written = 0;
+        while (written < batchSize && sessions.hasNext()) {
+          NettyWebSocketSession session = sessions.next();
+          Channel channel = session.getChannel();
+          if (!channel.isActive()) {
+            continue;
+          }
+          if (dropWhenUnwritable && !channel.isWritable()) {
+            droppedCount.increment();
+            continue;
+          }
+          ByteBuf content = payload.retainedDuplicate();
+          WebSocketFrame frame = text ? new TextWebSocketFrame(content) : new BinaryWebSocketFrame(content);
+          if (session.writeInEventLoop(frame, !deferFlush)) {
+            written++;
+          }
+          else {
+            droppedCount.increment();
+          }
+        }
+        if (deferFlush && written > 0) {
+          group.scheduleFlush();
+        }
+        if (sessions.hasNext()) {
+          // let the event loop serve I/O before the next batch
+          group.eventLoop.execute(this);
+          return;
+        }
+        finish(null);
+      }
+      catch (Throwable ex) {
+        finish(ex);
+      }
+    }
+
+    private void finish(@Nullable Throwable failure) {
+      payload.release();
+      if (failure != null) {
+        promise.tryFailure(failure);
+      }
+      complete(remaining, promise);
+    }
+  }
+
+}
@@ -119,7 +119,12 @@ public class WebSocketExtension {
   public String toString() {
     StringBuilder str = new StringBuilder();
     str.append(this.name);
-    this.parameters.forEach((key, value) -> str.append(';').append(key).append('=').append(value));
+    this.parameters.forEach((key, value) -> {
+      str.append(';').append(key);
+      if (!value.isEmpty()) {
+        str.append('=').append(value);
+      }
+    });
     return str.toString();
   }
 
@@ -163,6 +168,10 @@ public class WebSocketExtension {
           String value = parameter.substring(eqIndex + 1);
           parameters.put(attribute, value);
         }
+        else {
+          // parameter without value, such as "server_no_context_takeover"
+          parameters.put(parameter, "");
+        }
       }
     }
 
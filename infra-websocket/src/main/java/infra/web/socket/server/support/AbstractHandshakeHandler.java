@@ -42,6 +42,7 @@ import infra.util.ClassUtils;
 import infra.util.LogFormatUtils;
 import infra.util.StringUtils;
 import infra.web.HttpContext;
+import infra.web.socket.PerMessageDeflate;
 import infra.web.socket.SubProtocolCapable;
 import infra.web.socket.WebSocketExtension;
 import infra.web.socket.WebSocketHandler;
@@ -76,6 +77,9 @@ public abstract class AbstractHandshakeHandler implements HandshakeHandler {
 
   private final ArrayList<String> supportedProtocols = new ArrayList<>();
 
+  @Nullable
+  private PerMessageDeflate perMessageDeflate;
+
   /**
    * Default constructor that auto-detects and instantiates a
    * {@link RequestUpgradeStrategy} suitable for the runtime container.
@@ -129,6 +133,27 @@ public abstract class AbstractHandshakeHandler implements HandshakeHandler {
     return StringUtils.toStringArray(this.supportedProtocols);
   }
 
+  /**
+   * Enable the {@code permessage-deflate} extension with the given
+   * configuration, shared by all sessions that negotiate it. The extension
+   * is only negotiated if the {@link RequestUpgradeStrategy} lists it among
+   * its supported extensions. Default is {@code null}, not negotiating it.
+   *
+   * @since 5.0
+   */
+  public void setPerMessageDeflate(@Nullable PerMessageDeflate perMessageDeflate) {
+    this.perMessageDeflate = perMessageDeflate;
+  }
+
+  /**
+   * Return the {@code permessage-deflate} configuration, if any.
+   *
+   * @since 5.0
+   */
+  public @Nullable PerMessageDeflate getPerMessageDeflate() {
+    return this.perMessageDeflate;
+  }
+
   @Override
   public final @Nullable WebSocketSession doHandshake(HttpContext context, WebSocketHandler wsHandler, Map<String, Object> attributes)
           throws HandshakeFailureException {
@@ -299,6 +324,9 @@ public abstract class AbstractHandshakeHandler implements HandshakeHandler {
    * Filter the list of requested WebSocket extensions.
    * <p>the default implementation of this method filters the list to
    * leave only extensions that are both requested and supported.
+   * {@code permessage-deflate} offers are negotiated through the
+   * {@link #setPerMessageDeflate configured} {@link PerMessageDeflate},
+   * accepting the first acceptable offer.
    *
    * @param request the current request
    * @param requestedExtensions the list of extensions requested by the client
@@ -311,14 +339,35 @@ public abstract class AbstractHandshakeHandler implements HandshakeHandler {
       return Collections.emptyList();
     }
     ArrayList<WebSocketExtension> result = new ArrayList<>(requestedExtensions.size());
+    boolean deflateSelected = false;
     for (WebSocketExtension extension : requestedExtensions) {
-      if (supportedExtensions.contains(extension)) {
+      if (PerMessageDeflate.EXTENSION_NAME.equalsIgnoreCase(extension.getName())) {
+        // the client may offer several parameter sets, in order of preference
+        PerMessageDeflate deflate = this.perMessageDeflate;
+        if (deflate != null && !deflateSelected && supportsExtension(supportedExtensions, extension.getName())) {
+          PerMessageDeflate.Negotiated negotiated = deflate.negotiate(extension);
+          if (negotiated != null) {
+            result.add(negotiated);
+            deflateSelected = true;
+          }
+        }
+      }
+      else if (supportedExtensions.contains(extension)) {
         result.add(extension);
       }
     }
     return result;
   }
 
+  private static boolean supportsExtension(List<WebSocketExtension> supportedExtensions, String name) {
+    for (WebSocketExtension supported : supportedExtensions) {
+      if (supported.getName().equalsIgnoreCase(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static RequestUpgradeStrategy initRequestUpgradeStrategy() {
     var upgradeStrategy = TodayStrategies.findFirst(RequestUpgradeStrategy.class, null);
     if (upgradeStrategy != null) {
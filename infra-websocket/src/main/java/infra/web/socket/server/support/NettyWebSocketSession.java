@@ -21,6 +21,10 @@ import org.jspecify.annotations.Nullable;
 import java.net.InetSocketAddress;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import infra.core.io.buffer.DataBuffer;
 import infra.core.io.buffer.NettyDataBuffer;
@@ -29,20 +33,24 @@ import infra.util.Assert;
 import infra.logging.Logger;
 import infra.util.concurrent.Future;
 import infra.web.socket.CloseStatus;
+import infra.web.socket.SendBufferOverflowException;
 import infra.web.socket.WebSocketHandler;
 import infra.web.socket.WebSocketMessage;
 import infra.web.socket.WebSocketSession;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
-import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
 
 import static infra.web.socket.CloseStatus.NO_CLOSE_FRAME;
@@ -53,6 +61,19 @@ import static infra.web.socket.handler.ExceptionWebSocketHandler.tryCloseWithErr
 /**
  * Netty websocket session
  *
+ * <p>By default, every message is written and flushed on its own. With
+ * {@link #setWriteCoalescing write coalescing} enabled, messages are written
+ * to the channel without flushing, and the session flushes once per
+ * event loop iteration or as soon as the unflushed messages reach the
+ * {@link #setFlushThreshold flush threshold}. Many small messages then
+ * share a single write syscall, at the cost of a short delay.
+ *
+ * <p>An {@link #setOutboundHighWaterMark outbound high-water mark} bounds
+ * the bytes accepted but not yet written to the socket. Messages beyond it
+ * are rejected with a {@link SendBufferOverflowException} through the
+ * returned {@code Future}, so a slow peer cannot make the session buffer
+ * without limit.
+ *
  * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
  * @since 4.0 2021/5/24 21:03
  */
@@ -72,6 +93,30 @@ public class NettyWebSocketSession extends WebSocketSession {
 
   private final @Nullable String acceptedProtocol;
 
+  private boolean writeCoalescing;
+
+  private int flushThreshold = 64 * 1024;
+
+  private long outboundHighWaterMark = -1;
+
+  private final AtomicLong outboundBytes = new AtomicLong();
+
+  private final ConcurrentLinkedQueue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+  private final Runnable drainTask = this::drainPendingWrites;
+
+  private final Runnable flushTask = this::flushIfNecessary;
+
+  // accessed in the event loop only
+
+  private int unflushedWrites;
+
+  private int unflushedBytes;
+
+  private boolean flushScheduled;
+
   public NettyWebSocketSession(boolean secure, Channel channel,
           NettyDataBufferFactory allocator, @Nullable String acceptedProtocol) {
     this.secure = secure;
@@ -80,6 +125,61 @@ public class NettyWebSocketSession extends WebSocketSession {
     this.acceptedProtocol = acceptedProtocol;
   }
 
+  /**
+   * Set whether to coalesce flushes of consecutive messages, flushing once
+   * per event loop iteration instead of once per message. Default is
+   * {@code false}.
+   *
+   * @since 5.0
+   */
+  public void setWriteCoalescing(boolean writeCoalescing) {
+    this.writeCoalescing = writeCoalescing;
+  }
+
+  /**
+   * Set the number of unflushed bytes that triggers an immediate flush
+   * when {@link #setWriteCoalescing write coalescing} is enabled.
+   * Default is 64K.
+   *
+   * @since 5.0
+   */
+  public void setFlushThreshold(int flushThreshold) {
+    Assert.isTrue(flushThreshold > 0, "flushThreshold must be positive");
+    this.flushThreshold = flushThreshold;
+  }
+
+  /**
+   * Set the maximum number of bytes accepted by send operations but not
+   * yet written to the socket. A message that would exceed it fails with a
+   * {@link SendBufferOverflowException}, unless nothing else is pending.
+   * Default is -1, meaning no limit.
+   *
+   * @since 5.0
+   */
+  public void setOutboundHighWaterMark(long outboundHighWaterMark) {
+    this.outboundHighWaterMark = outboundHighWaterMark;
+  }
+
+  /**
+   * Return the number of bytes accepted by send operations but not yet
+   * written to the socket. Only tracked when an
+   * {@link #setOutboundHighWaterMark outbound high-water mark} is set.
+   *
+   * @since 5.0
+   */
+  public long getOutboundBytes() {
+    return outboundBytes.get();
+  }
+
+  /**
+   * Return the underlying Netty channel.
+   *
+   * @since 5.0
+   */
+  public Channel getChannel() {
+    return channel;
+  }
+
   @Override
   public NettyDataBufferFactory bufferFactory() {
     return allocator;
@@ -90,7 +190,8 @@ public class NettyWebSocketSession extends WebSocketSession {
     if (text.isEmpty()) {
       return send(new TextWebSocketFrame(Unpooled.EMPTY_BUFFER));
     }
-    return send(new TextWebSocketFrame(Unpooled.copiedBuffer(text, CharsetUtil.UTF_8)));
+    // encode straight into a buffer from the channel's (pooled) allocator
+    return send(new TextWebSocketFrame(ByteBufUtil.writeUtf8(allocator.getByteBufAllocator(), text)));
   }
 
   @Override
@@ -114,7 +215,139 @@ public class NettyWebSocketSession extends WebSocketSession {
   }
 
   public Future<Void> send(WebSocketFrame message) {
-    return adapt(channel.writeAndFlush(message));
+    long highWaterMark = this.outboundHighWaterMark;
+    if (highWaterMark < 0) {
+      return adapt(write(message));
+    }
+    int size = message.content().readableBytes();
+    long pending = outboundBytes.addAndGet(size);
+    if (pending > highWaterMark && pending != size) {
+      outboundBytes.addAndGet(-size);
+      ReferenceCountUtil.release(message);
+      return Future.failed(new SendBufferOverflowException(
+              "Outbound high-water mark of %d bytes exceeded for %s".formatted(highWaterMark, this), pending - size));
+    }
+    return adapt(write(message).addListener(future -> outboundBytes.addAndGet(-size)));
+  }
+
+  /**
+   * internal use only
+   * <p>Write a frame from the event loop of the channel without creating a
+   * {@code Future} for it, as when broadcasting a message to many sessions.
+   * Messages accepted from other threads are written first, and the
+   * {@link #setOutboundHighWaterMark outbound high-water mark} and
+   * {@link #setWriteCoalescing write coalescing} apply as for
+   * {@link #send(WebSocketFrame)}. Without write coalescing, the frame is
+   * flushed only if {@code flush} is set.
+   *
+   * @param frame the frame to write
+   * @param flush whether to flush the frame if not coalescing writes
+   * @return {@code true} if the frame was written, {@code false} if it
+   * exceeded the outbound high-water mark and has been released
+   * @see infra.web.socket.WebSocketBroadcaster
+   * @since 5.0
+   */
+  public boolean writeInEventLoop(WebSocketFrame frame, boolean flush) {
+    Assert.state(channel.eventLoop().inEventLoop(), "Not in the event loop of the channel");
+    ChannelPromise promise;
+    long highWaterMark = this.outboundHighWaterMark;
+    if (highWaterMark < 0) {
+      promise = channel.voidPromise();
+    }
+    else {
+      int size = frame.content().readableBytes();
+      long pending = outboundBytes.addAndGet(size);
+      if (pending > highWaterMark && pending != size) {
+        outboundBytes.addAndGet(-size);
+        ReferenceCountUtil.release(frame);
+        return false;
+      }
+      promise = channel.newPromise();
+      promise.addListener(future -> outboundBytes.addAndGet(-size));
+    }
+
+    if (writeCoalescing) {
+      // messages from other threads were accepted first
+      drainPendingWrites();
+      writeCoalesced(frame, promise);
+    }
+    else if (flush) {
+      channel.writeAndFlush(frame, promise);
+    }
+    else {
+      channel.write(frame, promise);
+    }
+    return true;
+  }
+
+  private ChannelFuture write(WebSocketFrame frame) {
+    if (!writeCoalescing) {
+      return channel.writeAndFlush(frame);
+    }
+    ChannelPromise promise = channel.newPromise();
+    EventLoop eventLoop = channel.eventLoop();
+    if (eventLoop.inEventLoop()) {
+      // messages from other threads were accepted first
+      drainPendingWrites();
+      writeCoalesced(frame, promise);
+    }
+    else {
+      pendingWrites.offer(new PendingWrite(frame, promise));
+      if (drainScheduled.compareAndSet(false, true)) {
+        try {
+          eventLoop.execute(drainTask);
+        }
+        catch (RejectedExecutionException ex) {
+          // event loop shut down, nothing will drain the queue anymore
+          drainScheduled.set(false);
+          failPendingWrites(ex);
+        }
+      }
+    }
+    return promise;
+  }
+
+  private void failPendingWrites(Throwable cause) {
+    PendingWrite write;
+    while ((write = pendingWrites.poll()) != null) {
+      ReferenceCountUtil.safeRelease(write.frame);
+      write.promise.tryFailure(cause);
+    }
+  }
+
+  private void drainPendingWrites() {
+    drainScheduled.set(false);
+    PendingWrite write;
+    while ((write = pendingWrites.poll()) != null) {
+      writeCoalesced(write.frame, write.promise);
+    }
+  }
+
+  private void writeCoalesced(WebSocketFrame frame, ChannelPromise promise) {
+    unflushedWrites++;
+    unflushedBytes += frame.content().readableBytes();
+    channel.write(frame, promise);
+    if (unflushedBytes >= flushThreshold) {
+      flush();
+    }
+    else if (!flushScheduled) {
+      // runs after the tasks and I/O events already queued in the event loop
+      flushScheduled = true;
+      channel.eventLoop().execute(flushTask);
+    }
+  }
+
+  private void flushIfNecessary() {
+    flushScheduled = false;
+    if (unflushedWrites > 0) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    unflushedWrites = 0;
+    unflushedBytes = 0;
+    channel.flush();
   }
 
   protected WebSocketFrame createFrame(WebSocketMessage message) {
@@ -153,7 +386,7 @@ public class NettyWebSocketSession extends WebSocketSession {
 
   @Override
   public Future<Void> close(CloseStatus status) {
-    return adapt(channel.writeAndFlush(new CloseWebSocketFrame(status.getCode(), status.getReason()))
+    return adapt(write(new CloseWebSocketFrame(status.getCode(), status.getReason()))
             .addListener(ChannelFutureListener.CLOSE));
   }
 
@@ -253,4 +486,8 @@ public class NettyWebSocketSession extends WebSocketSession {
     return "NettyWebSocketSession{channel=%s, secure=%s, attributes=%s}".formatted(channel, secure, attributes);
   }
 
+  private record PendingWrite(WebSocketFrame frame, ChannelPromise promise) {
+
+  }
+
 }
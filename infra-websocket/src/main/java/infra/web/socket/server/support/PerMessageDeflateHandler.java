@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket.server.support;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import infra.util.Assert;
+import infra.web.socket.PerMessageDeflate;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.CorruptedWebSocketFrameException;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+
+/**
+ * Netty handler implementing the
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+ * extension for a single connection, placed after the WebSocket frame
+ * decoder in the pipeline.
+ *
+ * <p>Outbound text and binary messages sent in a single frame are
+ * compressed once they reach the {@link PerMessageDeflate#getMinimumSize()
+ * minimum size}; fragmented and smaller messages are sent as they are.
+ * Inbound messages flagged as compressed are decompressed in any case.
+ *
+ * <p>Without context takeover in a direction, the compressor or
+ * decompressor is borrowed from the shared {@link PerMessageDeflate} pool
+ * for one message only.
+ *
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ * @since 5.0
+ */
+public class PerMessageDeflateHandler extends ChannelDuplexHandler {
+
+  /**
+   * The RSV1 bit, flagging the first frame of a compressed message.
+   */
+  static final int RSV1 = 0x04;
+
+  /**
+   * The empty stored block that ends a sync flush, stripped by the sender.
+   */
+  private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xff, (byte) 0xff };
+
+  private final PerMessageDeflate config;
+
+  private final boolean compressNoContext;
+
+  private final boolean decompressNoContext;
+
+  private final int maxFramePayloadLength;
+
+  @Nullable
+  private Deflater deflater;
+
+  @Nullable
+  private Inflater inflater;
+
+  private boolean decompressing;
+
+  /**
+   * Create a handler for the server side of a connection.
+   *
+   * @param extension the negotiated extension
+   * @param maxFramePayloadLength the maximum size of a decompressed frame
+   */
+  public PerMessageDeflateHandler(PerMessageDeflate.Negotiated extension, int maxFramePayloadLength) {
+    Assert.isTrue(maxFramePayloadLength > 0, "maxFramePayloadLength must be positive");
+    this.config = extension.getConfig();
+    this.compressNoContext = extension.isServerNoContextTakeover();
+    this.decompressNoContext = extension.isClientNoContextTakeover();
+    this.maxFramePayloadLength = maxFramePayloadLength;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+      WebSocketFrame frame = (WebSocketFrame) msg;
+      if (frame.isFinalFragment() && (frame.rsv() & RSV1) == 0
+              && frame.content().readableBytes() >= config.getMinimumSize()) {
+        msg = compress(ctx, frame);
+      }
+    }
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+    if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame) {
+      WebSocketFrame frame = (WebSocketFrame) msg;
+      decompressing = (frame.rsv() & RSV1) != 0;
+      if (decompressing) {
+        msg = decompress(ctx, frame);
+      }
+    }
+    else if (decompressing && msg instanceof ContinuationWebSocketFrame frame) {
+      msg = decompress(ctx, frame);
+    }
+    ctx.fireChannelRead(msg);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    Deflater deflater = this.deflater;
+    if (deflater != null) {
+      this.deflater = null;
+      deflater.end();
+    }
+    Inflater inflater = this.inflater;
+    if (inflater != null) {
+      this.inflater = null;
+      if (decompressNoContext) {
+        config.releaseInflater(inflater);
+      }
+      else {
+        inflater.end();
+      }
+    }
+  }
+
+  private WebSocketFrame compress(ChannelHandlerContext ctx, WebSocketFrame frame) {
+    ByteBuf content = frame.content();
+    int size = content.readableBytes();
+    Deflater deflater = compressNoContext ? config.acquireDeflater() : connectionDeflater();
+    ByteBuf out = ctx.alloc().buffer(size / 2 + 64);
+    try {
+      deflater.setInput(content.nioBuffer());
+      for (; ; ) {
+        int writable = out.writableBytes();
+        int written = deflater.deflate(out.nioBuffer(out.writerIndex(), writable), Deflater.SYNC_FLUSH);
+        out.writerIndex(out.writerIndex() + written);
+        if (written < writable) {
+          break;
+        }
+        out.ensureWritable(out.capacity());
+      }
+    }
+    catch (RuntimeException ex) {
+      out.release();
+      throw ex;
+    }
+    finally {
+      if (compressNoContext) {
+        config.releaseDeflater(deflater);
+      }
+    }
+
+    // a sync flush always ends with the empty stored block
+    out.writerIndex(out.writerIndex() - TAIL.length);
+    if (compressNoContext && out.readableBytes() >= size) {
+      // not worth it, the peer has no context to keep in sync
+      out.release();
+      return frame;
+    }
+
+    config.recordCompression(size, out.readableBytes());
+    int rsv = frame.rsv() | RSV1;
+    WebSocketFrame compressed = frame instanceof TextWebSocketFrame
+            ? new TextWebSocketFrame(true, rsv, out)
+            : new BinaryWebSocketFrame(true, rsv, out);
+    frame.release();
+    return compressed;
+  }
+
+  private WebSocketFrame decompress(ChannelHandlerContext ctx, WebSocketFrame frame) {
+    Inflater inflater = this.inflater;
+    if (inflater == null) {
+      inflater = decompressNoContext ? config.acquireInflater() : new Inflater(true);
+      this.inflater = inflater;
+    }
+
+    ByteBuf out = ctx.alloc().buffer(frame.content().readableBytes() * 2 + 64);
+    try {
+      inflate(inflater, frame.content().nioBuffer(), out);
+      if (frame.isFinalFragment()) {
+        inflate(inflater, ByteBuffer.wrap(TAIL), out);
+      }
+    }
+    catch (DataFormatException | RuntimeException ex) {
+      out.release();
+      frame.release();
+      this.inflater = null;
+      inflater.end();
+      if (ex instanceof CorruptedWebSocketFrameException corrupted) {
+        throw corrupted;
+      }
+      throw new CorruptedWebSocketFrameException(WebSocketCloseStatus.INVALID_PAYLOAD_DATA, "Invalid compressed payload", ex);
+    }
+
+    boolean finalFragment = frame.isFinalFragment();
+    if (finalFragment) {
+      decompressing = false;
+      if (decompressNoContext) {
+        this.inflater = null;
+        config.releaseInflater(inflater);
+      }
+    }
+
+    int rsv = frame.rsv() & ~RSV1;
+    WebSocketFrame decompressed;
+    if (frame instanceof TextWebSocketFrame) {
+      decompressed = new TextWebSocketFrame(finalFragment, rsv, out);
+    }
+    else if (frame instanceof BinaryWebSocketFrame) {
+      decompressed = new BinaryWebSocketFrame(finalFragment, rsv, out);
+    }
+    else {
+      decompressed = new ContinuationWebSocketFrame(finalFragment, rsv, out);
+    }
+    frame.release();
+    return decompressed;
+  }
+
+  private void inflate(Inflater inflater, ByteBuffer input, ByteBuf out) throws DataFormatException {
+    inflater.setInput(input);
+    for (; ; ) {
+      if (!out.isWritable()) {
+        out.ensureWritable(out.capacity());
+      }
+      int writable = out.writableBytes();
+      int read = inflater.inflate(out.nioBuffer(out.writerIndex(), writable));
+      out.writerIndex(out.writerIndex() + read);
+      if (out.readableBytes() > maxFramePayloadLength) {
+        throw new CorruptedWebSocketFrameException(WebSocketCloseStatus.MESSAGE_TOO_BIG,
+                "Decompressed frame exceeds " + maxFramePayloadLength + " bytes");
+      }
+      if (read < writable) {
+        if (inflater.needsDictionary()) {
+          throw new DataFormatException("Preset dictionary not supported");
+        }
+        break;
+      }
+    }
+  }
+
+  private Deflater connectionDeflater() {
+    Deflater deflater = this.deflater;
+    if (deflater == null) {
+      deflater = new Deflater(config.getCompressionLevel(), true);
+      this.deflater = deflater;
+    }
+    return deflater;
+  }
+
+}
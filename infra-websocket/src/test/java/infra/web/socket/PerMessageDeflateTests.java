@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class PerMessageDeflateTests {
+
+  private final PerMessageDeflate deflate = new PerMessageDeflate(2);
+
+  @Test
+  void negotiateOfferWithoutParameters() {
+    var negotiated = deflate.negotiate(offer("permessage-deflate"));
+
+    assertThat(negotiated).isNotNull();
+    assertThat(negotiated.getParameters()).isEmpty();
+    assertThat(negotiated.isServerNoContextTakeover()).isFalse();
+    assertThat(negotiated.isClientNoContextTakeover()).isFalse();
+    assertThat(negotiated.getConfig()).isSameAs(deflate);
+  }
+
+  @Test
+  void negotiateNoContextTakeover() {
+    deflate.setClientNoContextTakeover(true);
+
+    var negotiated = deflate.negotiate(offer("permessage-deflate; server_no_context_takeover"));
+
+    assertThat(negotiated).isNotNull();
+    assertThat(negotiated.isServerNoContextTakeover()).isTrue();
+    assertThat(negotiated.isClientNoContextTakeover()).isTrue();
+    assertThat(negotiated).hasToString("permessage-deflate;server_no_context_takeover;client_no_context_takeover");
+  }
+
+  @Test
+  void negotiateWindowBits() {
+    deflate.setClientMaxWindowBits(10);
+
+    var negotiated = deflate.negotiate(offer("permessage-deflate; client_max_window_bits=12; server_max_window_bits=15"));
+
+    assertThat(negotiated).isNotNull();
+    assertThat(negotiated.getParameters())
+            .containsOnly(entry("server_max_window_bits", "15"), entry("client_max_window_bits", "10"));
+  }
+
+  @Test
+  void clientWindowBitsOnlyReturnedWhenOffered() {
+    deflate.setClientMaxWindowBits(10);
+
+    var negotiated = deflate.negotiate(offer("permessage-deflate"));
+
+    assertThat(negotiated).isNotNull();
+    assertThat(negotiated.getParameters()).isEmpty();
+  }
+
+  @Test
+  void declineUnsupportedOffers() {
+    assertThat(deflate.negotiate(offer("permessage-deflate; server_max_window_bits=10"))).isNull();
+    assertThat(deflate.negotiate(offer("permessage-deflate; client_max_window_bits=7"))).isNull();
+    assertThat(deflate.negotiate(offer("permessage-deflate; server_no_context_takeover=1"))).isNull();
+    assertThat(deflate.negotiate(offer("permessage-deflate; unknown=1"))).isNull();
+    assertThat(deflate.negotiate(offer("x-webkit-deflate-frame"))).isNull();
+  }
+
+  @Test
+  void quotedParameterValues() {
+    var negotiated = deflate.negotiate(offer("permessage-deflate; client_max_window_bits=\"9\""));
+
+    assertThat(negotiated).isNotNull();
+    assertThat(negotiated.getParameters()).containsOnly(entry("client_max_window_bits", "9"));
+  }
+
+  @Test
+  void pooledDeflatersAreReused() {
+    Deflater first = deflate.acquireDeflater();
+    deflate.releaseDeflater(first);
+
+    assertThat(deflate.acquireDeflater()).isSameAs(first);
+    assertThat(deflate.acquireDeflater()).isNotSameAs(first);
+  }
+
+  private static WebSocketExtension offer(String header) {
+    return WebSocketExtension.parseExtensions(header).get(0);
+  }
+
+}
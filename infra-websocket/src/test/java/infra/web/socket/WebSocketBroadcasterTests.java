@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import infra.core.io.buffer.NettyDataBufferFactory;
+import infra.util.concurrent.Future;
+import infra.util.concurrent.Promise;
+import infra.web.socket.WebSocketBroadcaster.FlushPolicy;
+import infra.web.socket.handler.TestWebSocketSession;
+import infra.web.socket.server.support.NettyWebSocketSession;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class WebSocketBroadcasterTests {
+
+  private final WebSocketBroadcaster broadcaster = new WebSocketBroadcaster();
+
+  private final List<EmbeddedChannel> channels = Stream.generate(EmbeddedChannel::new).limit(3).toList();
+
+  @AfterEach
+  void releaseChannels() {
+    channels.forEach(EmbeddedChannel::finishAndReleaseAll);
+  }
+
+  @Test
+  void sendTextToAllSessions() {
+    channels.forEach(channel -> broadcaster.addSession(session(channel)));
+    TestWebSocketSession other = new TestWebSocketSession();
+    broadcaster.addSession(other);
+
+    Future<Void> future = broadcaster.sendText("hello");
+
+    assertThat(future.isSuccess()).isTrue();
+    for (EmbeddedChannel channel : channels) {
+      TextWebSocketFrame frame = channel.readOutbound();
+      assertThat(frame.text()).isEqualTo("hello");
+      frame.release();
+    }
+    assertThat(other.getSentMessages()).singleElement()
+            .satisfies(message -> assertThat(message.getPayloadAsText()).isEqualTo("hello"));
+  }
+
+  @Test
+  void sendBinaryToAllSessions() {
+    channels.forEach(channel -> broadcaster.addSession(session(channel)));
+    var bufferFactory = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+
+    broadcaster.sendBinary(bufferFactory.copiedBuffer("payload"));
+
+    for (EmbeddedChannel channel : channels) {
+      BinaryWebSocketFrame frame = channel.readOutbound();
+      assertThat(frame.content().toString(StandardCharsets.UTF_8)).isEqualTo("payload");
+      frame.release();
+    }
+  }
+
+  @Test
+  void deferredFlushIsSharedByConsecutiveBroadcasts() {
+    broadcaster.setFlushPolicy(FlushPolicy.DEFERRED);
+    EmbeddedChannel channel = channels.get(0);
+    broadcaster.addSession(session(channel));
+
+    broadcaster.sendText("first");
+    broadcaster.sendText("second");
+    assertThat(channel.outboundMessages()).isEmpty();
+
+    channel.runPendingTasks();
+
+    assertThat(channel.outboundMessages()).hasSize(2);
+  }
+
+  @Test
+  void closedSessionsAreRemoved() {
+    channels.forEach(channel -> broadcaster.addSession(session(channel)));
+    assertThat(broadcaster.getSessionCount()).isEqualTo(3);
+
+    channels.get(1).close();
+
+    assertThat(broadcaster.getSessionCount()).isEqualTo(2);
+    broadcaster.sendText("hello");
+    assertThat(channels.get(1).outboundMessages()).isEmpty();
+  }
+
+  @Test
+  void dropsMessagesForUnwritableSessions() {
+    broadcaster.setDropWhenUnwritable(true);
+    EmbeddedChannel channel = channels.get(0);
+    broadcaster.addSession(session(channel));
+    channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+    broadcaster.sendText("hello");
+
+    assertThat(channel.outboundMessages()).isEmpty();
+    assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void futureCompletesAfterOtherSessionsHaveBeenSent() {
+    broadcaster.addSession(session(channels.get(0)));
+    Promise<Void> sent = Future.forPromise(Runnable::run);
+    broadcaster.addSession(new TestWebSocketSession() {
+
+      @Override
+      public Future<Void> send(WebSocketMessage message) {
+        return sent;
+      }
+    });
+
+    Future<Void> future = broadcaster.sendText("hello");
+    assertThat(future.isDone()).isFalse();
+
+    sent.setSuccess(null);
+    assertThat(future.isSuccess()).isTrue();
+  }
+
+  @Test
+  void futureFailsWhenOtherSessionFails() {
+    IllegalStateException failure = new IllegalStateException("closed");
+    broadcaster.addSession(new TestWebSocketSession() {
+
+      @Override
+      public Future<Void> send(WebSocketMessage message) {
+        return Future.failed(failure);
+      }
+    });
+
+    Future<Void> future = broadcaster.sendText("hello");
+
+    assertThat(future.isFailed()).isTrue();
+    assertThat(future.getCause()).isSameAs(failure);
+  }
+
+  @Test
+  void outboundHighWaterMarkOfSessionApplies() {
+    EmbeddedChannel channel = channels.get(0);
+    NettyWebSocketSession session = session(channel);
+    session.setWriteCoalescing(true);
+    session.setOutboundHighWaterMark(8);
+    broadcaster.addSession(session);
+
+    broadcaster.sendText("12345");
+    broadcaster.sendText("67890");
+
+    assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+    assertThat(session.getOutboundBytes()).isEqualTo(5);
+
+    channel.runPendingTasks();
+
+    assertThat(channel.outboundMessages()).hasSize(1);
+    assertThat(session.getOutboundBytes()).isZero();
+  }
+
+  private static NettyWebSocketSession session(EmbeddedChannel channel) {
+    return new NettyWebSocketSession(false, channel, new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+  }
+
+}
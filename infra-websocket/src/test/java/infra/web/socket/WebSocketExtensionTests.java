@@ -46,6 +46,18 @@ public class WebSocketExtensionTests {
     });
   }
 
+  @Test
+  void parseHeaderWithValuelessParameter() {
+    List<WebSocketExtension> extensions =
+            WebSocketExtension.parseExtensions("permessage-deflate; client_max_window_bits; server_max_window_bits=10");
+
+    assertThat(extensions).singleElement().satisfies(extension -> {
+      assertThat(extension.getParameters())
+              .containsOnly(entry("client_max_window_bits", ""), entry("server_max_window_bits", "10"));
+      assertThat(extension).hasToString("permessage-deflate;client_max_window_bits;server_max_window_bits=10");
+    });
+  }
+
   @Test
   void parseHeaderMultiple() {
     List<WebSocketExtension> extensions =
@@ -19,18 +19,24 @@ package infra.web.socket.server.support;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import infra.core.io.buffer.DataBuffer;
 import infra.core.io.buffer.NettyDataBufferFactory;
 import infra.logging.Logger;
 import infra.util.concurrent.Future;
 import infra.web.socket.CloseStatus;
+import infra.web.socket.SendBufferOverflowException;
 import infra.web.socket.WebSocketHandler;
 import infra.web.socket.WebSocketMessage;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoop;
 import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
@@ -38,6 +44,7 @@ import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -132,6 +139,92 @@ class NettyWebSocketSessionTests {
     verify(channel).writeAndFlush(nativeMessage);
   }
 
+  @Test
+  void coalescedWritesAreFlushedOncePerEventLoopIteration() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    NettyWebSocketSession session = new NettyWebSocketSession(false, channel,
+            new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+    session.setWriteCoalescing(true);
+
+    Future<Void> first = session.sendText("first");
+    session.sendText("second");
+    session.sendPing();
+
+    assertThat(channel.outboundMessages()).isEmpty();
+    assertThat(first.isDone()).isFalse();
+
+    channel.runPendingTasks();
+
+    assertThat(channel.outboundMessages()).hasSize(3);
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(channel.<TextWebSocketFrame>readOutbound().text()).isEqualTo("first");
+    assertThat(channel.finishAndReleaseAll()).isTrue();
+  }
+
+  @Test
+  void coalescedWritesAreFlushedWhenThresholdIsReached() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    NettyWebSocketSession session = new NettyWebSocketSession(false, channel,
+            new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+    session.setWriteCoalescing(true);
+    session.setFlushThreshold(8);
+
+    session.sendText("12345");
+    assertThat(channel.outboundMessages()).isEmpty();
+
+    session.sendText("67890");
+    assertThat(channel.outboundMessages()).hasSize(2);
+    assertThat(channel.finishAndReleaseAll()).isTrue();
+  }
+
+  @Test
+  void sendFailsBeyondOutboundHighWaterMark() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    NettyWebSocketSession session = new NettyWebSocketSession(false, channel,
+            new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+    session.setWriteCoalescing(true);
+    session.setOutboundHighWaterMark(8);
+
+    Future<Void> accepted = session.sendText("12345");
+    Future<Void> rejected = session.sendText("67890");
+
+    assertThat(rejected.isFailed()).isTrue();
+    assertThat(rejected.getCause()).isInstanceOf(SendBufferOverflowException.class);
+    assertThat(((SendBufferOverflowException) rejected.getCause()).getPendingBytes()).isEqualTo(5);
+    assertThat(session.getOutboundBytes()).isEqualTo(5);
+
+    channel.runPendingTasks();
+
+    assertThat(accepted.isSuccess()).isTrue();
+    assertThat(session.getOutboundBytes()).isZero();
+    assertThat(session.sendText("67890").isFailed()).isFalse();
+    assertThat(channel.finishAndReleaseAll()).isTrue();
+  }
+
+  @Test
+  void coalescedWriteFailsWhenEventLoopIsShutDown() {
+    DefaultEventLoop eventLoop = new DefaultEventLoop();
+    eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    Channel channel = mock(Channel.class);
+    given(channel.eventLoop()).willReturn(eventLoop);
+    given(channel.newPromise()).willAnswer(invocation -> new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE));
+    NettyWebSocketSession session = new NettyWebSocketSession(false, channel,
+            new NettyDataBufferFactory(ByteBufAllocator.DEFAULT), null);
+    session.setWriteCoalescing(true);
+    session.setOutboundHighWaterMark(1024);
+
+    ByteBuf payload = Unpooled.copiedBuffer(new byte[] { 1, 2, 3 });
+    Future<Void> first = session.send(new BinaryWebSocketFrame(payload));
+    Future<Void> second = session.sendText("second");
+
+    assertThat(first.isFailed()).isTrue();
+    assertThat(first.getCause()).isInstanceOf(RejectedExecutionException.class);
+    assertThat(payload.refCnt()).isZero();
+    assertThat(second.isFailed()).isTrue();
+    assertThat(session.getOutboundBytes()).isZero();
+    verify(channel, never()).write(any(), any());
+  }
+
   @Test
   void constructorInitializesFields() {
     Channel channel = mock(Channel.class);
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.socket.server.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import infra.web.socket.PerMessageDeflate;
+import infra.web.socket.WebSocketExtension;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.CorruptedWebSocketFrameException;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class PerMessageDeflateHandlerTests {
+
+  private static final String PAYLOAD = "{\"type\":\"quote\",\"symbol\":\"ACME\",\"bid\":101.25,\"ask\":101.5}".repeat(20);
+
+  private final PerMessageDeflate deflate = new PerMessageDeflate(4);
+
+  @Test
+  void compressedMessagesRoundTrip() {
+    EmbeddedChannel server = new EmbeddedChannel(handler("permessage-deflate"));
+    EmbeddedChannel client = new EmbeddedChannel(handler("permessage-deflate"));
+
+    for (int i = 0; i < 3; i++) {
+      server.writeOutbound(new TextWebSocketFrame(PAYLOAD));
+      WebSocketFrame compressed = server.readOutbound();
+      assertThat(compressed.rsv() & PerMessageDeflateHandler.RSV1).isNotZero();
+      assertThat(compressed.content().readableBytes()).isLessThan(PAYLOAD.length() / 4);
+
+      client.writeInbound(compressed);
+      TextWebSocketFrame decompressed = client.readInbound();
+      assertThat(decompressed.rsv()).isZero();
+      assertThat(decompressed.text()).isEqualTo(PAYLOAD);
+      decompressed.release();
+    }
+
+    assertThat(deflate.getUncompressedBytes()).isEqualTo(3L * PAYLOAD.length());
+    assertThat(deflate.getCompressedBytes()).isLessThan(deflate.getUncompressedBytes() / 4);
+    server.finishAndReleaseAll();
+    client.finishAndReleaseAll();
+  }
+
+  @Test
+  void noContextTakeoverRoundTrip() {
+    deflate.setServerNoContextTakeover(true);
+    deflate.setClientNoContextTakeover(true);
+    EmbeddedChannel server = new EmbeddedChannel(handler("permessage-deflate"));
+    EmbeddedChannel client = new EmbeddedChannel(handler("permessage-deflate"));
+
+    for (int i = 0; i < 3; i++) {
+      server.writeOutbound(new BinaryWebSocketFrame(Unpooled.copiedBuffer(PAYLOAD.getBytes())));
+      client.writeInbound((Object) server.readOutbound());
+      BinaryWebSocketFrame decompressed = client.readInbound();
+      assertThat(decompressed.content().toString(StandardCharsets.UTF_8)).isEqualTo(PAYLOAD);
+      decompressed.release();
+    }
+    server.finishAndReleaseAll();
+    client.finishAndReleaseAll();
+  }
+
+  @Test
+  void smallAndFragmentedMessagesAreNotCompressed() {
+    EmbeddedChannel channel = new EmbeddedChannel(handler("permessage-deflate"));
+
+    channel.writeOutbound(new TextWebSocketFrame("small"));
+    channel.writeOutbound(new TextWebSocketFrame(false, 0, Unpooled.copiedBuffer(PAYLOAD.getBytes())));
+    channel.writeOutbound(new ContinuationWebSocketFrame(true, 0, Unpooled.copiedBuffer(PAYLOAD.getBytes())));
+
+    for (int i = 0; i < 3; i++) {
+      WebSocketFrame frame = channel.readOutbound();
+      assertThat(frame.rsv()).isZero();
+      frame.release();
+    }
+    assertThat(deflate.getUncompressedBytes()).isZero();
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void uncompressedInboundMessagesPassThrough() {
+    EmbeddedChannel channel = new EmbeddedChannel(handler("permessage-deflate"));
+
+    channel.writeInbound(new TextWebSocketFrame("plain"));
+
+    TextWebSocketFrame frame = channel.readInbound();
+    assertThat(frame.text()).isEqualTo("plain");
+    frame.release();
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void decompressedFrameSizeIsLimited() {
+    EmbeddedChannel server = new EmbeddedChannel(handler("permessage-deflate"));
+    EmbeddedChannel client = new EmbeddedChannel(new PerMessageDeflateHandler(negotiate("permessage-deflate"), 100));
+
+    server.writeOutbound(new TextWebSocketFrame(PAYLOAD));
+
+    assertThatExceptionOfType(CorruptedWebSocketFrameException.class)
+            .isThrownBy(() -> client.writeInbound((Object) server.readOutbound()));
+    server.finishAndReleaseAll();
+  }
+
+  private PerMessageDeflateHandler handler(String offer) {
+    return new PerMessageDeflateHandler(negotiate(offer), 65536);
+  }
+
+  private PerMessageDeflate.Negotiated negotiate(String offer) {
+    var negotiated = deflate.negotiate(WebSocketExtension.parseExtensions(offer).get(0));
+    assertThat(negotiated).isNotNull();
+    return negotiated;
+  }
+
+}
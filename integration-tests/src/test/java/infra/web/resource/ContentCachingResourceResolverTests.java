@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 - 2026 the TODAY authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package infra.web.resource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import infra.core.io.ClassPathResource;
+import infra.core.io.FileSystemResource;
+import infra.core.io.Resource;
+import infra.util.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author <a href="https://github.com/TAKETODAY">Harry Yang</a>
+ */
+class ContentCachingResourceResolverTests {
+
+  private ContentCachingResourceResolver cachingResolver;
+
+  private ResourceResolvingChain chain;
+
+  private List<Resource> locations;
+
+  @BeforeEach
+  void setup() {
+    this.cachingResolver = new ContentCachingResourceResolver();
+    this.chain = new DefaultResourceResolvingChain(List.of(cachingResolver, new PathResourceResolver()));
+    this.locations = List.of(new ClassPathResource("test/", getClass()));
+  }
+
+  @Test
+  void resolveResourceIntoMemory() throws Exception {
+    Resource expected = new ClassPathResource("test/bar.css", getClass());
+    Resource actual = this.chain.resolveResource(null, "bar.css", this.locations);
+
+    assertThat(actual).isInstanceOf(ContentCachingResourceResolver.CachedResource.class);
+    assertThat(actual.getName()).isEqualTo(expected.getName());
+    assertThat(actual.lastModified()).isEqualTo(expected.lastModified());
+    assertThat(actual.getContentAsByteArray()).isEqualTo(expected.getContentAsByteArray());
+    assertThat(((ContentCachingResourceResolver.CachedResource) actual).getETag()).startsWith("\"").endsWith("\"");
+    assertThat(cachingResolver.getCacheSize()).isEqualTo(expected.contentLength());
+  }
+
+  @Test
+  void resolveResourceFromCache() {
+    Resource first = this.chain.resolveResource(null, "bar.css", this.locations);
+    Resource second = this.chain.resolveResource(null, "bar.css", this.locations);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void resolveResourceNoMatch() {
+    assertThat(this.chain.resolveResource(null, "invalid.css", this.locations)).isNull();
+    assertThat(cachingResolver.getCacheSize()).isZero();
+  }
+
+  @Test
+  void skipResourceLargerThanMaxResourceSize() {
+    cachingResolver.setMaxResourceSize(DataSize.ofBytes(1));
+    Resource actual = this.chain.resolveResource(null, "bar.css", this.locations);
+
+    assertThat(actual).isEqualTo(new ClassPathResource("test/bar.css", getClass()));
+    assertThat(cachingResolver.getCacheSize()).isZero();
+  }
+
+  @Test
+  void evictLeastRecentlyUsedResourceWhenCacheIsFull() throws Exception {
+    Resource bar = new ClassPathResource("test/bar.css", getClass());
+    Resource foo = new ClassPathResource("test/foo.css", getClass());
+    cachingResolver.setMaxCacheSize(DataSize.ofBytes(Math.max(bar.contentLength(), foo.contentLength())));
+
+    Resource cachedBar = this.chain.resolveResource(null, "bar.css", this.locations);
+    assertThat(cachedBar).isInstanceOf(ContentCachingResourceResolver.CachedResource.class);
+
+    Resource cachedFoo = this.chain.resolveResource(null, "foo.css", this.locations);
+    assertThat(cachedFoo).isInstanceOf(ContentCachingResourceResolver.CachedResource.class);
+    assertThat(cachingResolver.getCacheSize()).isEqualTo(foo.contentLength());
+
+    assertThat(this.chain.resolveResource(null, "foo.css", this.locations)).isSameAs(cachedFoo);
+    assertThat(this.chain.resolveResource(null, "bar.css", this.locations))
+            .isInstanceOf(ContentCachingResourceResolver.CachedResource.class)
+            .isNotSameAs(cachedBar);
+    assertThat(cachingResolver.getCacheSize()).isEqualTo(bar.contentLength());
+  }
+
+  @Test
+  void keepRecentlyUsedResourceWhenEvicting() throws Exception {
+    Resource bar = new ClassPathResource("test/bar.css", getClass());
+    Resource foo = new ClassPathResource("test/foo.css", getClass());
+    Resource txt = new ClassPathResource("test/foo.txt", getClass());
+    cachingResolver.setMaxCacheSize(DataSize.ofBytes(bar.contentLength() + Math.max(foo.contentLength(), txt.contentLength())));
+
+    Resource cachedBar = this.chain.resolveResource(null, "bar.css", this.locations);
+    Resource cachedFoo = this.chain.resolveResource(null, "foo.css", this.locations);
+    assertThat(this.chain.resolveResource(null, "bar.css", this.locations)).isSameAs(cachedBar);
+
+    this.chain.resolveResource(null, "foo.txt", this.locations);
+
+    assertThat(this.chain.resolveResource(null, "bar.css", this.locations)).isSameAs(cachedBar);
+    assertThat(this.chain.resolveResource(null, "foo.css", this.locations)).isNotSameAs(cachedFoo);
+  }
+
+  @Test
+  void skipResourceLargerThanMaxCacheSize() throws Exception {
+    Resource resource = new ClassPathResource("test/bar.css", getClass());
+    cachingResolver.setMaxCacheSize(DataSize.ofBytes(resource.contentLength() - 1));
+
+    assertThat(this.chain.resolveResource(null, "bar.css", this.locations))
+            .isNotInstanceOf(ContentCachingResourceResolver.CachedResource.class);
+    assertThat(cachingResolver.getCacheSize()).isZero();
+  }
+
+  @Test
+  void reloadModifiedResource(@TempDir Path dir) throws Exception {
+    Path file = dir.resolve("app.js");
+    Files.writeString(file, "var a = 1;");
+    List<Resource> locations = List.of(new FileSystemResource(dir.toString() + "/"));
+    cachingResolver.setCheckModified(true);
+
+    Resource first = this.chain.resolveResource(null, "app.js", locations);
+    assertThat(this.chain.resolveResource(null, "app.js", locations)).isSameAs(first);
+
+    Files.writeString(file, "var a = 2;");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(first.lastModified() + 10_000));
+
+    Resource second = this.chain.resolveResource(null, "app.js", locations);
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("var a = 2;");
+    assertThat(((ContentCachingResourceResolver.CachedResource) second).getETag())
+            .isNotEqualTo(((ContentCachingResourceResolver.CachedResource) first).getETag());
+  }
+
+}
@@ -158,6 +158,7 @@ public class EncodedResourceResolverTests {
     assertThat(resolver.getContentCodings()).containsExactly("br", "gzip");
     assertThat(resolver.getExtensions()).containsEntry("gzip", ".gz");
     assertThat(resolver.getExtensions()).containsEntry("br", ".br");
+    assertThat(resolver.getExtensions()).containsEntry("zstd", ".zst");
   }
 
   @Test
@@ -35,6 +35,7 @@ import infra.core.io.Resource;
 import infra.core.io.UrlResource;
 import infra.http.HttpMethod;
 import infra.http.MediaType;
+import infra.util.DigestUtils;
 import infra.util.ExceptionUtils;
 import infra.util.StringUtils;
 import infra.web.HttpRequestMethodNotSupportedException;
@@ -726,6 +727,27 @@ public class ResourceHttpRequestHandlerTests {
       assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
     }
 
+    @Test
+    void contentCachingResourceResolverETag() throws Throwable {
+      this.handler.setResourceResolvers(List.of(new ContentCachingResourceResolver(), new PathResourceResolver()));
+      this.handler.afterPropertiesSet();
+      this.request.setRequestURI("foo.css");
+      this.handler.handleRequest(httpContext);
+      httpContext.flush();
+
+      String eTag = this.response.getHeader("ETag");
+      assertThat(eTag).isEqualTo("\"" + DigestUtils.md5DigestAsHex("h1 { color:red; }".getBytes()) + "\"");
+      assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
+
+      this.request = new MockRequest("GET", "foo.css");
+      this.request.addHeader("If-None-Match", eTag);
+      this.response = new MockResponse();
+      httpContext = new MockHttpContext(null, request, response);
+      this.handler.handleRequest(httpContext);
+      httpContext.flush();
+      assertThat(this.response.getStatus()).isEqualTo(304);
+    }
+
     @Test
     void shouldRespondWithNotModifiedWhenEtagAndLastModified() throws Throwable {
       this.handler.setEtagGenerator(resource -> "testEtag");
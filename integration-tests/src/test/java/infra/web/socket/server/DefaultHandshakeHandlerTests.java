@@ -27,6 +27,7 @@ import java.util.Map;
 
 import infra.http.HttpHeaders;
 import infra.web.socket.AbstractHttpRequestTests;
+import infra.web.socket.PerMessageDeflate;
 import infra.web.socket.SubProtocolCapable;
 import infra.web.socket.WebSocketExtension;
 import infra.web.socket.WebSocketHandler;
@@ -84,6 +85,29 @@ public class DefaultHandshakeHandlerTests extends AbstractHttpRequestTests {
             Collections.singletonList(extension1), handler, attributes);
   }
 
+  @Test
+  public void perMessageDeflateNegotiated() {
+    PerMessageDeflate deflate = new PerMessageDeflate();
+    deflate.setClientMaxWindowBits(12);
+    this.handshakeHandler.setPerMessageDeflate(deflate);
+
+    given(this.upgradeStrategy.getSupportedVersions()).willReturn(new String[] { "13" });
+    given(this.upgradeStrategy.getSupportedExtensions(this.request))
+            .willReturn(List.of(new WebSocketExtension(PerMessageDeflate.EXTENSION_NAME)));
+    this.mockRequest.setMethod("GET");
+    initHeaders(this.request.getHeaders()).setSecWebSocketExtensions(WebSocketExtension.parseExtensions(
+            "permessage-deflate; server_max_window_bits=10, permessage-deflate; client_max_window_bits"));
+
+    WebSocketHandler handler = new TextWebSocketHandler();
+    Map<String, Object> attributes = Collections.emptyMap();
+    this.handshakeHandler.doHandshake(this.request, handler, attributes);
+
+    // the first offer limits the server window, which is not supported
+    verify(this.upgradeStrategy).upgrade(this.request, null,
+            List.of(new WebSocketExtension(PerMessageDeflate.EXTENSION_NAME, Map.of("client_max_window_bits", "12"))),
+            handler, attributes);
+  }
+
   @Test
   public void subProtocolCapableHandler() {
     given(this.upgradeStrategy.getSupportedVersions()).willReturn(new String[] { "13" });